@@ -0,0 +1,338 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.jgrapht.alg.clique.DegeneracyOrderedGraph.*;
+
+/**
+ * Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering, using
+ * bitsets.
+ *
+ * <p>
+ * The algorithm is the same as in {@link DegeneracyBronKerboschCliqueFinder}, as described in
+ * <ul>
+ * <li>David Eppstein, Maarten Löffler and Darren Strash. Listing All Maximal Cliques in Sparse
+ * Graphs in Near-Optimal Time. Algorithms and Computation: 21st International Symposium (ISSAC),
+ * 403--414, 2010.</li>
+ * </ul>
+ *
+ * <p>
+ * and has running time $O(d n 3^{d/3})$ where $n$ is the number of vertices of the graph and $d$ is
+ * the degeneracy of the graph. The vertices are relabelled in degeneracy order and each top-level
+ * branch of the recursion, which finds the maximal cliques whose first vertex in the ordering is
+ * $v$, works on a local bitset adjacency matrix of the neighborhood of $v$. The candidate set $P$,
+ * the later neighbors of $v$, has at most $d$ vertices while the excluded set $X$, the earlier
+ * neighbors of $v$, is only represented by its adjacency towards $P$. Thus the sets of the
+ * recursion are {@code long[]} bitsets and their intersections are computed word by word, instead
+ * of using hash sets.
+ *
+ * <p>
+ * Instead of storing all maximal cliques, method {@link #forEach(Consumer)} passes them to an
+ * action as soon as they are found. If a {@link ForkJoinPool} is provided in the constructor, the
+ * top-level branches are split into tasks of the pool and the action is called from the threads of
+ * the pool, possibly concurrently. The {@link #iterator()} computes and stores all maximal cliques
+ * on its first call.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DegeneracyBronKerboschCliqueFinder
+ * @see BitsetMaxCliqueFinder
+ *
+ * @author Dimitrios Michail
+ */
+public class BitsetBronKerboschCliqueFinder<V, E>
+    implements MaximalCliqueEnumerationAlgorithm<V, E>
+{
+    /**
+     * Amount of tasks per worker thread of a parallel enumeration.
+     */
+    private static final int TASKS_PER_THREAD = 16;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+
+    private DegeneracyOrderedGraph<V> ordered;
+    private List<Set<V>> allMaximalCliques;
+
+    /**
+     * Constructs a new clique finder which runs sequentially.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public BitsetBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = null;
+    }
+
+    /**
+     * Constructs a new clique finder which runs in parallel.
+     *
+     * @param graph the input graph; must be simple
+     * @param pool the pool to execute the enumeration
+     */
+    public BitsetBronKerboschCliqueFinder(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    @Override
+    public Iterator<Set<V>> iterator()
+    {
+        if (allMaximalCliques == null) {
+            ConcurrentLinkedQueue<Set<V>> cliques = new ConcurrentLinkedQueue<>();
+            forEach(cliques::add);
+            allMaximalCliques = new ArrayList<>(cliques);
+        }
+        return allMaximalCliques.iterator();
+    }
+
+    /**
+     * Enumerate all maximal cliques without storing them. If the finder was constructed with a
+     * pool, the action is called from the threads of the pool, possibly concurrently, and the order
+     * of the cliques is unspecified.
+     *
+     * @param action the action to perform for each maximal clique
+     * @throws IllegalArgumentException if the graph is not simple
+     */
+    @Override
+    public void forEach(Consumer<? super Set<V>> action)
+    {
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (allMaximalCliques != null) {
+            allMaximalCliques.forEach(action);
+            return;
+        }
+        DegeneracyOrderedGraph<V> g = lazyOrderedGraph();
+        int n = g.size();
+        if (pool == null) {
+            Branch branch = new Branch(g, action);
+            for (int v = 0; v < n; v++) {
+                branch.run(v);
+            }
+        } else {
+            int grain = Math.max(1, n / (pool.getParallelism() * TASKS_PER_THREAD));
+            pool.invoke(new Task(g, action, grain, 0, n));
+        }
+    }
+
+    private synchronized DegeneracyOrderedGraph<V> lazyOrderedGraph()
+    {
+        if (ordered == null) {
+            if (!GraphTests.isSimple(graph)) {
+                throw new IllegalArgumentException("Graph must be simple");
+            }
+            ordered = new DegeneracyOrderedGraph<>(graph);
+        }
+        return ordered;
+    }
+
+    /**
+     * Enumerate the top-level branches of a range of vertices.
+     */
+    private class Task
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final DegeneracyOrderedGraph<V> g;
+        private final Consumer<? super Set<V>> action;
+        private final int grain;
+        private final int from;
+        private final int to;
+
+        Task(
+            DegeneracyOrderedGraph<V> g, Consumer<? super Set<V>> action, int grain, int from,
+            int to)
+        {
+            this.g = g;
+            this.action = action;
+            this.grain = grain;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > grain) {
+                int mid = from + (to - from) / 2;
+                invokeAll(
+                    new Task(g, action, grain, from, mid), new Task(g, action, grain, mid, to));
+                return;
+            }
+            Branch branch = new Branch(g, action);
+            for (int v = from; v < to; v++) {
+                branch.run(v);
+            }
+        }
+    }
+
+    /**
+     * The recursion of a top-level branch. Local vertex $j$ of $P$ is the $j$-th later neighbor of
+     * the branch vertex and local vertex $k$ of $X$ its $k$-th earlier neighbor. The excluded set
+     * is split into the vertices of $P$ which were moved to it and the vertices of $X$.
+     */
+    private class Branch
+    {
+        private final DegeneracyOrderedGraph<V> g;
+        private final Consumer<? super Set<V>> action;
+
+        private int p;
+        private int offset;
+        private long[][] adjP;
+        private long[][] adjX;
+        private long[][] xAdjP;
+        private int[] clique;
+        private long[] pivotRow;
+        private int pivotCount;
+
+        Branch(DegeneracyOrderedGraph<V> g, Consumer<? super Set<V>> action)
+        {
+            this.g = g;
+            this.action = action;
+        }
+
+        /**
+         * Enumerate the maximal cliques whose first vertex in the ordering is $v$.
+         */
+        void run(int v)
+        {
+            int s = g.start[v];
+            int f = g.forward[v];
+            int x = f - s;
+            this.p = g.start[v + 1] - f;
+            this.offset = f;
+            if (p == 0) {
+                if (x == 0) {
+                    action.accept(g.toSet(new int[] { v }, 1));
+                }
+                return;
+            }
+
+            int wp = words(p);
+            int wx = words(x);
+            adjP = new long[p][wp];
+            adjX = new long[p][wx];
+            xAdjP = new long[x][wp];
+            for (int j = 0; j < p; j++) {
+                int u = g.neighbors[f + j];
+                g.intersect(u, f, f + p, adjP[j]);
+                g.intersect(u, s, f, adjX[j]);
+                long[] row = adjX[j];
+                for (int w = 0; w < wx; w++) {
+                    long word = row[w];
+                    while (word != 0L) {
+                        int k = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        set(xAdjP[k], j);
+                    }
+                }
+            }
+
+            clique = new int[p + 1];
+            clique[0] = v;
+            long[] candidates = new long[wp];
+            setFirst(candidates, p);
+            long[] excludedX = new long[wx];
+            setFirst(excludedX, x);
+            expand(1, candidates, new long[wp], excludedX);
+        }
+
+        private void expand(int size, long[] candidates, long[] excludedP, long[] excludedX)
+        {
+            if (isEmpty(candidates)) {
+                if (isEmpty(excludedP) && isEmpty(excludedX)) {
+                    action.accept(g.toSet(clique, size));
+                }
+                return;
+            }
+
+            // choose the pivot with the most neighbors in the candidates
+            pivotCount = -1;
+            choosePivot(candidates, candidates, adjP);
+            choosePivot(candidates, excludedP, adjP);
+            choosePivot(candidates, excludedX, xAdjP);
+            long[] pivotRow = this.pivotRow;
+
+            int wp = candidates.length;
+            int wx = excludedX.length;
+            for (int w = 0; w < wp; w++) {
+                long word = candidates[w] & ~pivotRow[w];
+                while (word != 0L) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+
+                    long[] row = adjP[j];
+                    long[] nextCandidates = new long[wp];
+                    long[] nextExcludedP = new long[wp];
+                    for (int t = 0; t < wp; t++) {
+                        nextCandidates[t] = candidates[t] & row[t];
+                        nextExcludedP[t] = excludedP[t] & row[t];
+                    }
+                    row = adjX[j];
+                    long[] nextExcludedX = new long[wx];
+                    for (int t = 0; t < wx; t++) {
+                        nextExcludedX[t] = excludedX[t] & row[t];
+                    }
+
+                    clique[size] = g.neighbors[offset + j];
+                    expand(size + 1, nextCandidates, nextExcludedP, nextExcludedX);
+
+                    clear(candidates, j);
+                    set(excludedP, j);
+                }
+            }
+        }
+
+        private void choosePivot(long[] candidates, long[] set, long[][] rows)
+        {
+            for (int w = 0; w < set.length; w++) {
+                long word = set[w];
+                while (word != 0L) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    int count = intersectionSize(candidates, rows[j]);
+                    if (count > pivotCount) {
+                        pivotCount = count;
+                        pivotRow = rows[j];
+                    }
+                }
+            }
+        }
+
+        private int intersectionSize(long[] a, long[] b)
+        {
+            int count = 0;
+            for (int w = 0; w < a.length; w++) {
+                count += Long.bitCount(a[w] & b[w]);
+            }
+            return count;
+        }
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.clique.DegeneracyOrderedGraph.*;
+
+/**
+ * Exact maximum clique algorithm using bit-parallel branch and bound.
+ *
+ * <p>
+ * The branch and bound follows the MCS algorithm of Tomita et al. in the bit-parallel form of San
+ * Segundo et al., see
+ * <ul>
+ * <li>Etsuji Tomita, Yoichi Sutani, Takanori Higashi, Shinya Takahashi and Mitsuo Wakatsuki. A
+ * Simple and Faster Branch-and-Bound Algorithm for Finding a Maximum Clique. WALCOM: Algorithms
+ * and Computation, 191--203, 2010.</li>
+ * <li>Pablo San Segundo, Diego Rodríguez-Losada and Agustín Jiménez. An exact bit-parallel
+ * algorithm for the maximum clique problem. Computers &amp; Operations Research, 38(2):571--581,
+ * 2011.</li>
+ * </ul>
+ *
+ * <p>
+ * Candidate sets are {@code long[]} bitsets and each search node is bounded by a greedy coloring
+ * of its candidates, computed word by word by repeatedly removing the neighbors of a vertex from
+ * the remaining candidates. A vertex is only expanded if the size of the current clique plus its
+ * color exceeds the size of the best clique found so far.
+ *
+ * <p>
+ * The vertices are relabelled in degeneracy order, as in {@link BitsetBronKerboschCliqueFinder}.
+ * Every clique is contained in the later neighborhood of its first vertex, which has at most $d$
+ * vertices where $d$ is the degeneracy of the graph. The search is therefore run separately for
+ * each vertex on a local bitset adjacency matrix of its later neighbors, starting from the end of
+ * the ordering where the dense part of the graph lies, and skipping vertices with too few later
+ * neighbors to improve on the best clique. This keeps the bitsets small even for large sparse
+ * graphs. The running time is exponential in $d$ in the worst case.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BitsetBronKerboschCliqueFinder
+ *
+ * @author Dimitrios Michail
+ */
+public class BitsetMaxCliqueFinder<V, E>
+    implements CliqueAlgorithm<V>
+{
+    private final Graph<V, E> graph;
+    private Clique<V> maximumClique;
+
+    /**
+     * Constructs a new maximum clique finder.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public BitsetMaxCliqueFinder(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+    }
+
+    /**
+     * Computes a maximum clique of the graph.
+     *
+     * @return a maximum clique
+     * @throws IllegalArgumentException if the graph is not simple
+     */
+    @Override
+    public Clique<V> getClique()
+    {
+        if (maximumClique == null) {
+            if (!GraphTests.isSimple(graph)) {
+                throw new IllegalArgumentException("Graph must be simple");
+            }
+            DegeneracyOrderedGraph<V> g = new DegeneracyOrderedGraph<>(graph);
+            Search search = new Search(g);
+            search.run();
+            maximumClique =
+                new CliqueImpl<>(g.toSet(search.best, search.bestSize), search.bestSize);
+        }
+        return maximumClique;
+    }
+
+    /**
+     * The state of the branch and bound.
+     */
+    private static class Search
+    {
+        private final DegeneracyOrderedGraph<?> g;
+
+        private int[] best;
+        private int bestSize;
+
+        // the current top-level branch
+        private int offset;
+        private long[][] adj;
+        private int[] clique;
+
+        // workspace of each level of the recursion, reused across branches
+        private final long[][] candidates;
+        private final int[][] order;
+        private final int[][] colors;
+        private final long[] uncolored;
+        private final long[] colorClass;
+
+        Search(DegeneracyOrderedGraph<?> g)
+        {
+            this.g = g;
+            int n = g.size();
+            int maxForwardDegree = 0;
+            for (int v = 0; v < n; v++) {
+                maxForwardDegree = Math.max(maxForwardDegree, g.forwardDegree(v));
+            }
+            int words = words(maxForwardDegree);
+
+            this.best = new int[maxForwardDegree + 1];
+            this.bestSize = 0;
+            this.clique = new int[maxForwardDegree + 1];
+            this.candidates = new long[maxForwardDegree + 1][words];
+            this.order = new int[maxForwardDegree + 1][maxForwardDegree];
+            this.colors = new int[maxForwardDegree + 1][maxForwardDegree];
+            this.uncolored = new long[words];
+            this.colorClass = new long[words];
+        }
+
+        void run()
+        {
+            int n = g.size();
+            if (n > 0) {
+                best[0] = n - 1;
+                bestSize = 1;
+            }
+            for (int v = n - 1; v >= 0; v--) {
+                int p = g.forwardDegree(v);
+                if (p + 1 <= bestSize) {
+                    continue;
+                }
+
+                offset = g.forward[v];
+                int wp = words(p);
+                adj = new long[p][wp];
+                for (int j = 0; j < p; j++) {
+                    g.intersect(g.neighbors[offset + j], offset, offset + p, adj[j]);
+                }
+
+                clique[0] = v;
+                long[] root = candidates[0];
+                setFirst(root, p);
+                expand(1, root, wp);
+            }
+        }
+
+        private void expand(int size, long[] p, int wp)
+        {
+            int[] levelOrder = order[size];
+            int[] levelColors = colors[size];
+            int count = colorSort(p, wp, Math.max(1, bestSize - size + 1), levelOrder, levelColors);
+
+            long[] next = candidates[size];
+            for (int i = count - 1; i >= 0; i--) {
+                if (size + levelColors[i] <= bestSize) {
+                    return;
+                }
+                int j = levelOrder[i];
+                long[] row = adj[j];
+                boolean empty = true;
+                for (int w = 0; w < wp; w++) {
+                    next[w] = p[w] & row[w];
+                    empty &= next[w] == 0L;
+                }
+
+                clique[size] = g.neighbors[offset + j];
+                if (empty) {
+                    if (size + 1 > bestSize) {
+                        bestSize = size + 1;
+                        System.arraycopy(clique, 0, best, 0, bestSize);
+                    }
+                } else {
+                    expand(size + 1, next, wp);
+                }
+                clear(p, j);
+            }
+        }
+
+        /**
+         * Greedily color the candidates, one color class at a time. Only vertices with a color of
+         * at least {@code minColor} are stored, in order of non-decreasing color, since the rest
+         * cannot lead to a larger clique.
+         *
+         * @return the number of stored vertices
+         */
+        private int colorSort(long[] p, int wp, int minColor, int[] order, int[] colors)
+        {
+            System.arraycopy(p, 0, uncolored, 0, wp);
+            int count = 0;
+            int color = 0;
+            int first = 0;
+            while (true) {
+                while (first < wp && uncolored[first] == 0L) {
+                    first++;
+                }
+                if (first == wp) {
+                    break;
+                }
+                color++;
+                System.arraycopy(uncolored, first, colorClass, first, wp - first);
+                for (int w = first; w < wp; w++) {
+                    while (colorClass[w] != 0L) {
+                        int j = (w << 6) + Long.numberOfTrailingZeros(colorClass[w]);
+                        long[] row = adj[j];
+                        uncolored[w] &= ~(1L << j);
+                        colorClass[w] &= ~(1L << j);
+                        for (int t = w; t < wp; t++) {
+                            colorClass[t] &= ~row[t];
+                        }
+                        if (color >= minColor) {
+                            order[count] = j;
+                            colors[count] = color;
+                            count++;
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+    }
+
+}
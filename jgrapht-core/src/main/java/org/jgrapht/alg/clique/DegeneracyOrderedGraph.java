@@ -0,0 +1,328 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * An int-indexed copy of a simple graph whose vertices are relabelled in degeneracy order.
+ *
+ * <p>
+ * Vertex $i$ is the $i$-th vertex of a degeneracy ordering, computed using the bucket algorithm of
+ * Batagelj and Zaversnik in $O(n+m)$ time. The adjacency is stored in compressed sparse row format
+ * with each row sorted in increasing order. Thus the neighbors of a vertex which come later in the
+ * ordering, at most $d$ where $d$ is the degeneracy of the graph, are a suffix of its row. The
+ * representation is shared by the bitset based clique algorithms, which build small local bitset
+ * adjacency matrices over such neighborhoods.
+ *
+ * <p>
+ * Directed graphs are treated as undirected and self-loops are ignored.
+ *
+ * @param <V> the graph vertex type
+ *
+ * @author Dimitrios Michail
+ */
+final class DegeneracyOrderedGraph<V>
+{
+    private final List<V> vertices;
+
+    /*
+     * The neighbors of vertex v are stored in positions [start[v], start[v+1]) of the neighbors
+     * array. The neighbors which come after v in the ordering start at position forward[v].
+     */
+    final int[] start;
+    final int[] forward;
+    final int[] neighbors;
+
+    /**
+     * Create the representation of a graph.
+     *
+     * @param graph the input graph
+     * @param <E> the graph edge type
+     */
+    <E> DegeneracyOrderedGraph(Graph<V, E> graph)
+    {
+        int n = graph.vertexSet().size();
+        List<V> initial = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> initialIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            initialIndex.put(initial.get(i), i);
+        }
+
+        // adjacency in the initial labelling, without self-loops and duplicates
+        int[] initialStart = new int[n + 1];
+        int[] initialNeighbors = new int[2 * graph.edgeSet().size()];
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            V v = initial.get(i);
+            initialStart[i] = pos;
+            for (E e : graph.edgesOf(v)) {
+                int j = initialIndex.get(Graphs.getOppositeVertex(graph, e, v));
+                if (j != i) {
+                    initialNeighbors[pos++] = j;
+                }
+            }
+            pos = initialStart[i] + sortUnique(initialNeighbors, initialStart[i], pos);
+        }
+        initialStart[n] = pos;
+
+        int[] order = degeneracyOrder(n, initialStart, initialNeighbors);
+        int[] rank = new int[n];
+        this.vertices = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+            vertices.add(initial.get(order[i]));
+        }
+
+        // relabel
+        this.start = new int[n + 1];
+        this.forward = new int[n];
+        this.neighbors = new int[pos];
+        pos = 0;
+        for (int i = 0; i < n; i++) {
+            int v = order[i];
+            start[i] = pos;
+            for (int k = initialStart[v]; k < initialStart[v + 1]; k++) {
+                neighbors[pos++] = rank[initialNeighbors[k]];
+            }
+            Arrays.sort(neighbors, start[i], pos);
+            int f = Arrays.binarySearch(neighbors, start[i], pos, i);
+            forward[i] = -f - 1;
+        }
+        start[n] = pos;
+    }
+
+    /**
+     * Get the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    int size()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Get the vertex with a given index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Get the number of neighbors of a vertex which come later in the ordering.
+     *
+     * @param v the vertex index
+     * @return the forward degree
+     */
+    int forwardDegree(int v)
+    {
+        return start[v + 1] - forward[v];
+    }
+
+    /**
+     * Compute the neighbors of a vertex inside a sorted range $[from, to)$ of the neighbors array.
+     * For each position $k$ of the range which holds a neighbor of $v$, bit $k - from$ is set in
+     * the given bitset. The smaller of the two sorted sequences is scanned and its elements are
+     * looked up in the larger one using binary search.
+     *
+     * @param v the vertex index
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @param bits the bitset
+     */
+    void intersect(int v, int from, int to, long[] bits)
+    {
+        int a = start[v];
+        int b = start[v + 1];
+        if (b - a <= to - from) {
+            for (int k = a; k < b; k++) {
+                int pos = Arrays.binarySearch(neighbors, from, to, neighbors[k]);
+                if (pos >= 0) {
+                    set(bits, pos - from);
+                }
+            }
+        } else {
+            for (int k = from; k < to; k++) {
+                if (Arrays.binarySearch(neighbors, a, b, neighbors[k]) >= 0) {
+                    set(bits, k - from);
+                }
+            }
+        }
+    }
+
+    /**
+     * Convert a set of vertex indices to a set of vertices.
+     *
+     * @param indices the vertex indices
+     * @param size the number of indices to use
+     * @return the set of vertices
+     */
+    Set<V> toSet(int[] indices, int size)
+    {
+        Set<V> result = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            result.add(vertices.get(indices[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of words of a bitset with a given number of bits.
+     *
+     * @param bits the number of bits
+     * @return the number of words
+     */
+    static int words(int bits)
+    {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Set a bit of a bitset.
+     *
+     * @param bits the bitset
+     * @param i the bit
+     */
+    static void set(long[] bits, int i)
+    {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    /**
+     * Clear a bit of a bitset.
+     *
+     * @param bits the bitset
+     * @param i the bit
+     */
+    static void clear(long[] bits, int i)
+    {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * Set the first bits of a bitset and clear the rest.
+     *
+     * @param bits the bitset
+     * @param count the number of bits to set
+     */
+    static void setFirst(long[] bits, int count)
+    {
+        Arrays.fill(bits, 0L);
+        int w = count >>> 6;
+        Arrays.fill(bits, 0, w, -1L);
+        if ((count & 63) != 0) {
+            bits[w] = (1L << count) - 1;
+        }
+    }
+
+    /**
+     * Check whether a bitset is empty.
+     *
+     * @param bits the bitset
+     * @return true if no bit is set, false otherwise
+     */
+    static boolean isEmpty(long[] bits)
+    {
+        for (long word : bits) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sort a range of an array and remove duplicates.
+     *
+     * @return the number of unique elements, which are moved to the start of the range
+     */
+    private static int sortUnique(int[] a, int from, int to)
+    {
+        if (to - from < 2) {
+            return to - from;
+        }
+        Arrays.sort(a, from, to);
+        int last = from;
+        for (int k = from + 1; k < to; k++) {
+            if (a[k] != a[last]) {
+                a[++last] = a[k];
+            }
+        }
+        return last - from + 1;
+    }
+
+    /**
+     * Compute a degeneracy ordering by repeatedly removing a vertex of minimum degree. Vertices
+     * are kept sorted by their current degree and each removal moves its neighbors one bucket down.
+     */
+    private static int[] degeneracyOrder(int n, int[] start, int[] neighbors)
+    {
+        int maxDegree = 0;
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = start[v + 1] - start[v];
+            maxDegree = Math.max(maxDegree, degree[v]);
+        }
+
+        // bucket sort by degree
+        int[] bucketStart = new int[maxDegree + 2];
+        for (int v = 0; v < n; v++) {
+            bucketStart[degree[v] + 1]++;
+        }
+        for (int d = 0; d <= maxDegree; d++) {
+            bucketStart[d + 1] += bucketStart[d];
+        }
+        int[] order = new int[n];
+        int[] position = new int[n];
+        int[] next = Arrays.copyOf(bucketStart, maxDegree + 1);
+        for (int v = 0; v < n; v++) {
+            position[v] = next[degree[v]]++;
+            order[position[v]] = v;
+        }
+
+        for (int i = 0; i < n; i++) {
+            int v = order[i];
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                int u = neighbors[k];
+                int du = degree[u];
+                if (du > degree[v]) {
+                    // swap u with the first vertex of its bucket and shrink the bucket
+                    int pw = bucketStart[du];
+                    int w = order[pw];
+                    if (u != w) {
+                        order[position[u]] = w;
+                        position[w] = position[u];
+                        order[pw] = u;
+                        position[u] = pw;
+                    }
+                    bucketStart[du]++;
+                    degree[u]--;
+                }
+            }
+        }
+        return order;
+    }
+
+}
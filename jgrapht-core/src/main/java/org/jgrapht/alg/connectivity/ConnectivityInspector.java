@@ -18,6 +18,7 @@
 package org.jgrapht.alg.connectivity;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.event.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.traverse.*;
@@ -34,6 +35,8 @@ import java.util.*;
  * <p>
  * The inspector methods work in a lazy fashion: no computation is performed unless immediately
  * necessary. Computation are done once and results and cached within this class for future need.
+ * All connected components are computed together by mapping the vertices to consecutive integers
+ * and merging the endpoints of each edge in an {@link IntUnionFind}.
  * </p>
  *
  * <p>
@@ -214,58 +217,33 @@ public class ConnectivityInspector<V, E>
         if (connectedSets == null) {
             connectedSets = new ArrayList<>();
 
-            Set<V> vertexSet = graph.vertexSet();
-
-            if (!vertexSet.isEmpty()) {
-                BreadthFirstIterator<V, E> i = new BreadthFirstIterator<>(graph);
-                i.addTraversalListener(new MyTraversalListener());
+            // union the endpoints of all edges
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            Map<V, Integer> vertexMap = mapping.getVertexMap();
+            List<V> vertices = mapping.getIndexList();
+            int n = vertices.size();
+            IntUnionFind forest = new IntUnionFind(n);
+            for (E e : graph.edgeSet()) {
+                forest.union(
+                    vertexMap.get(graph.getEdgeSource(e)), vertexMap.get(graph.getEdgeTarget(e)));
+            }
 
-                while (i.hasNext()) {
-                    i.next();
+            // group the vertices by representative, in order of their first vertex
+            List<Set<V>> setOfRepresentative = new ArrayList<>(Collections.nCopies(n, null));
+            for (int i = 0; i < n; i++) {
+                int representative = forest.find(i);
+                Set<V> connectedSet = setOfRepresentative.get(representative);
+                if (connectedSet == null) {
+                    connectedSet = new HashSet<>();
+                    setOfRepresentative.set(representative, connectedSet);
+                    connectedSets.add(connectedSet);
                 }
+                V v = vertices.get(i);
+                connectedSet.add(v);
+                vertexToConnectedSet.put(v, connectedSet);
             }
         }
 
         return connectedSets;
     }
-
-    /**
-     * A traversal listener that groups all vertices according to to their containing connected set.
-     *
-     * @author Barak Naveh
-     */
-    private class MyTraversalListener
-        extends TraversalListenerAdapter<V, E>
-    {
-        private Set<V> currentConnectedSet;
-
-        /**
-         * @see TraversalListenerAdapter#connectedComponentFinished(ConnectedComponentTraversalEvent)
-         */
-        @Override
-        public void connectedComponentFinished(ConnectedComponentTraversalEvent e)
-        {
-            connectedSets.add(currentConnectedSet);
-        }
-
-        /**
-         * @see TraversalListenerAdapter#connectedComponentStarted(ConnectedComponentTraversalEvent)
-         */
-        @Override
-        public void connectedComponentStarted(ConnectedComponentTraversalEvent e)
-        {
-            currentConnectedSet = new HashSet<>();
-        }
-
-        /**
-         * @see TraversalListenerAdapter#vertexTraversed(VertexTraversalEvent)
-         */
-        @Override
-        public void vertexTraversed(VertexTraversalEvent<V> e)
-        {
-            V v = e.getVertex();
-            currentConnectedSet.add(v);
-            vertexToConnectedSet.put(v, currentConnectedSet);
-        }
-    }
 }
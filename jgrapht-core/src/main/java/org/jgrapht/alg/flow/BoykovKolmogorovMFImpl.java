@@ -53,6 +53,14 @@ import java.util.*;
  * <p>
  * This algorithm works with both directed and undirected networks. The algorithm doesn't have
  * internal synchronization, thus any concurrent network modification has undefined behaviour.
+ * <p>
+ * After a maximum flow has been computed, the capacities of some edges can be changed in the
+ * network and the maximum flow can be updated using {@link #updateMaximumFlow(Collection)}. The
+ * update keeps the residual network and the search trees of the previous computation. Flow which
+ * exceeds a decreased capacity is rerouted or returned to the source along short residual paths,
+ * tree vertices whose parent edges got saturated become orphans, and the endpoints of the changed
+ * edges become active. The main loop then continues from this state, thus the work is mostly
+ * proportional to the part of the network affected by the change.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -199,6 +207,15 @@ public class BoykovKolmogorovMFImpl<V, E>
         makeActive(currentSource);
         makeActive(currentSink);
 
+        growAugmentAdopt();
+    }
+
+    /**
+     * The main algorithm loop which iteratively grows the trees, augments the found path and
+     * adopts the orphans, until the trees cannot grow anymore.
+     */
+    private void growAugmentAdopt()
+    {
         for (;;) {
             AnnotatedFlowEdge boundingEdge = grow();
             if (boundingEdge == null) {
@@ -211,6 +228,244 @@ public class BoykovKolmogorovMFImpl<V, E>
         }
     }
 
+    /**
+     * Updates the maximum flow of the last invocation of {@link #getMaximumFlow(Object, Object)}
+     * after the capacities of some edges have been changed in the network. The new capacities are
+     * read from the edge weights of the network. Both increases and decreases are supported.
+     * <p>
+     * The flow of the previous invocation is used as a starting point. On each edge whose flow
+     * exceeds the new capacity, the flow is reduced to the capacity and the resulting imbalance is
+     * repaired by pushing the surplus along residual paths to vertices with a deficit, or back to
+     * the terminals. The search trees are then repaired and the algorithm continues to search for
+     * augmenting paths starting from the endpoints of the changed edges.
+     * <p>
+     * The structure of the network must not be modified between the invocations.
+     *
+     * @param changedEdges the edges whose capacity has been changed
+     * @return the updated maximum flow
+     * @throws IllegalStateException if no maximum flow has been computed before
+     * @throws IllegalArgumentException if a new capacity is negative or an edge is not part of the
+     *         network
+     */
+    public MaximumFlow<E> updateMaximumFlow(Collection<E> changedEdges)
+    {
+        if (currentSource == null) {
+            throw new IllegalStateException("Maximum flow has not been computed yet");
+        }
+
+        List<AnnotatedFlowEdge> touchedEdges = new ArrayList<>();
+        List<VertexExtension> imbalanced = new ArrayList<>();
+        for (E e : changedEdges) {
+            if (!network.containsEdge(e)) {
+                throw new IllegalArgumentException("Edge is not part of the network");
+            }
+            if (comparator.compare(network.getEdgeWeight(e), 0d) < 0) {
+                throw new IllegalArgumentException("Capacity must be non-negative");
+            }
+            AnnotatedFlowEdge edge = edgeExtensionManager.getExtension(e);
+            updateCapacity(edge, imbalanced);
+            touchedEdges.add(edge);
+            touchedEdges.add(edge.getInverse());
+        }
+
+        repairImbalances(imbalanced, touchedEdges);
+
+        // the value is the net flow leaving the source
+        maxFlowValue = 0d;
+        for (AnnotatedFlowEdge edge : currentSource.getOutgoing()) {
+            maxFlowValue += edge.flow - edge.getInverse().flow;
+        }
+
+        // repair the search trees and continue
+        nextIteration();
+        for (AnnotatedFlowEdge edge : touchedEdges) {
+            VertexExtension source = edge.getSource();
+            VertexExtension target = edge.getTarget();
+            if (!edge.hasCapacity()) {
+                if (target.isSourceTreeVertex() && target.parentEdge == edge) {
+                    target.makeOrphan();
+                    orphans.add(target);
+                }
+                if (source.isSinkTreeVertex() && source.parentEdge == edge) {
+                    source.makeOrphan();
+                    orphans.add(source);
+                }
+            }
+            if (!source.isFreeVertex()) {
+                makeActive(source);
+            }
+            if (!target.isFreeVertex()) {
+                makeActive(target);
+            }
+        }
+        adopt();
+        growAugmentAdopt();
+
+        maxFlow = composeFlow();
+        sourcePartition = null;
+        sinkPartition = null;
+        cutEdges = null;
+        return new MaximumFlowImpl<>(maxFlowValue, maxFlow);
+    }
+
+    /**
+     * Sets the capacities of an edge and its inverse from the network, keeping the net flow
+     * between its endpoints if possible. If the net flow exceeds the new capacity, it is reduced
+     * and the surplus of the tail and the deficit of the head are recorded in their excess.
+     *
+     * @param edge the edge
+     * @param imbalanced list of vertices with non-zero excess
+     */
+    private void updateCapacity(AnnotatedFlowEdge edge, List<VertexExtension> imbalanced)
+    {
+        AnnotatedFlowEdge inverse = edge.getInverse();
+        double capacity = edge.prototype == null ? 0d : network.getEdgeWeight(edge.prototype);
+        double inverseCapacity =
+            inverse.prototype == null ? 0d : network.getEdgeWeight(inverse.prototype);
+
+        double netFlow = edge.flow - inverse.flow;
+        if (comparator.compare(netFlow, capacity) > 0) {
+            addExcess(edge.getSource(), edge.getTarget(), netFlow - capacity, imbalanced);
+            netFlow = capacity;
+        } else if (comparator.compare(-netFlow, inverseCapacity) > 0) {
+            addExcess(inverse.getSource(), inverse.getTarget(), -netFlow - inverseCapacity,
+                imbalanced);
+            netFlow = -inverseCapacity;
+        }
+
+        if (netFlow >= 0) {
+            edge.flow = netFlow;
+            edge.capacity = capacity;
+            inverse.flow = 0d;
+            inverse.capacity = inverseCapacity + netFlow;
+        } else {
+            inverse.flow = -netFlow;
+            inverse.capacity = inverseCapacity;
+            edge.flow = 0d;
+            edge.capacity = capacity - netFlow;
+        }
+    }
+
+    /**
+     * Records that {@code amount} units of flow no longer go from {@code tail} to {@code head}.
+     * Terminals are not recorded since they absorb any imbalance.
+     */
+    private void addExcess(
+        VertexExtension tail, VertexExtension head, double amount,
+        List<VertexExtension> imbalanced)
+    {
+        if (tail != currentSource && tail != currentSink) {
+            tail.excess += amount;
+            imbalanced.add(tail);
+        }
+        if (head != currentSource && head != currentSink) {
+            head.excess -= amount;
+            imbalanced.add(head);
+        }
+    }
+
+    /**
+     * Removes all imbalances by pushing flow along residual paths. A vertex with a surplus sends it
+     * to the closest vertex with a deficit or terminal, and a vertex with a deficit receives from
+     * the closest vertex with a surplus or terminal. Such paths always exist since the surplus
+     * originates from the source and the deficit was sent to the sink.
+     *
+     * @param imbalanced vertices which might have non-zero excess
+     * @param touchedEdges list where the edges whose flow changed are added
+     */
+    private void repairImbalances(
+        List<VertexExtension> imbalanced, List<AnnotatedFlowEdge> touchedEdges)
+    {
+        for (boolean surplus : new boolean[] { true, false }) {
+            for (VertexExtension vertex : imbalanced) {
+                while (surplus ? comparator.compare(vertex.excess, 0d) > 0
+                    : comparator.compare(vertex.excess, 0d) < 0)
+                {
+                    List<AnnotatedFlowEdge> path = findRepairPath(vertex, surplus);
+                    if (path == null) {
+                        break;
+                    }
+
+                    double amount = Math.abs(vertex.excess);
+                    for (AnnotatedFlowEdge edge : path) {
+                        amount = Math.min(amount, edge.getResidualCapacity());
+                    }
+                    VertexExtension other =
+                        surplus ? path.get(path.size() - 1).getTarget() : path.get(0).getSource();
+                    if (other != currentSource && other != currentSink) {
+                        amount = Math.min(amount, Math.abs(other.excess));
+                    }
+
+                    for (AnnotatedFlowEdge edge : path) {
+                        pushFlowThrough(edge, amount);
+                        touchedEdges.add(edge);
+                        touchedEdges.add(edge.getInverse());
+                    }
+                    if (surplus) {
+                        vertex.excess -= amount;
+                        other.excess += amount;
+                    } else {
+                        vertex.excess += amount;
+                        other.excess -= amount;
+                    }
+                }
+            }
+        }
+        for (VertexExtension vertex : imbalanced) {
+            vertex.excess = 0d;
+        }
+        currentSource.excess = 0d;
+        currentSink.excess = 0d;
+    }
+
+    /**
+     * Breadth-first search on the residual network from a vertex with a surplus to the closest
+     * vertex with a deficit or terminal, or backwards from a vertex with a deficit to the closest
+     * vertex with a surplus or terminal.
+     *
+     * @param start the vertex with the imbalance
+     * @param surplus whether the vertex has a surplus
+     * @return the path edges in order from its start to its end, or {@code null} if no path exists
+     */
+    private List<AnnotatedFlowEdge> findRepairPath(VertexExtension start, boolean surplus)
+    {
+        Map<VertexExtension, AnnotatedFlowEdge> pred = new HashMap<>();
+        Deque<VertexExtension> queue = new ArrayDeque<>();
+        pred.put(start, null);
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            VertexExtension v = queue.poll();
+            for (AnnotatedFlowEdge edge : v.getOutgoing()) {
+                AnnotatedFlowEdge arc = surplus ? edge : edge.getInverse();
+                VertexExtension w = edge.getTarget();
+                if (!arc.hasCapacity() || pred.containsKey(w)) {
+                    continue;
+                }
+                pred.put(w, arc);
+                boolean found = w == currentSource || w == currentSink
+                    || (surplus ? comparator.compare(w.excess, 0d) < 0
+                        : comparator.compare(w.excess, 0d) > 0);
+                if (found) {
+                    LinkedList<AnnotatedFlowEdge> path = new LinkedList<>();
+                    for (VertexExtension u = w; u != start;) {
+                        AnnotatedFlowEdge e = pred.get(u);
+                        if (surplus) {
+                            path.addFirst(e);
+                            u = e.getSource();
+                        } else {
+                            path.addLast(e);
+                            u = e.getTarget();
+                        }
+                    }
+                    return path;
+                }
+                queue.add(w);
+            }
+        }
+        return null;
+    }
+
     /**
      * Augments all source-sink and source-node-sink paths. This improved performance on the
      * computer vision maximum flow networks.
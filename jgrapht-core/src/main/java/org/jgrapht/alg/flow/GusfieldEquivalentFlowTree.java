@@ -22,6 +22,8 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * This class computes an Equivalent Flow Tree (EFT) using the algorithm proposed by Dan Gusfield.
@@ -43,6 +45,12 @@ import java.util.*;
  *
  *
  * <p>
+ * When constructed with a {@link ThreadPoolExecutor}, the minimum $s-t$ cuts are computed in
+ * parallel, each task using its own instance of the minimum $s-t$ cut algorithm. Cuts are started
+ * speculatively and committed in the sequential order, thus the computed tree is identical to the
+ * one of the sequential algorithm. See {@link GusfieldGomoryHuCutTree} for details.
+ *
+ * <p>
  * Note: this class performs calculations in a lazy manner. The EFT is not calculated until the
  * first invocation of {@link GusfieldEquivalentFlowTree#getMaximumFlowValue(Object, Object)} or
  * {@link GusfieldEquivalentFlowTree#getEquivalentFlowTree()}. Moreover, this class <em>only</em>
@@ -71,6 +79,9 @@ public class GusfieldEquivalentFlowTree<V, E>
     private final int n;
     /* Algorithm used to computed the Maximum s-t flows */
     private final MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm;
+    /* Supplier of algorithm instances and executor for the parallel computation */
+    private final Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier;
+    private final ThreadPoolExecutor executor;
 
     /* Data structures for computations */
     private List<V> vertexList = new ArrayList<>();
@@ -113,12 +124,55 @@ public class GusfieldEquivalentFlowTree<V, E>
      */
     public GusfieldEquivalentFlowTree(
         Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm)
+    {
+        this(network, minimumSTCutAlgorithm, null, null);
+    }
+
+    /**
+     * Constructs a new GusfieldEquivalentFlowTree instance which computes the minimum $s-t$ cuts
+     * in parallel using {@link PushRelabelMFImpl}.
+     *
+     * @param network input graph
+     * @param epsilon precision
+     * @param executor executor which is used to compute the minimum $s-t$ cuts
+     */
+    public GusfieldEquivalentFlowTree(
+        Graph<V, E> network, double epsilon, ThreadPoolExecutor executor)
+    {
+        this(network, () -> new PushRelabelMFImpl<>(network, epsilon), executor);
+    }
+
+    /**
+     * Constructs a new GusfieldEquivalentFlowTree instance which computes the minimum $s-t$ cuts
+     * in parallel. The supplier is called at most once per concurrently running task, and must
+     * return a new algorithm instance for the network on each call.
+     *
+     * @param network input graph
+     * @param minimumSTCutAlgorithmSupplier supplier of the algorithms used to compute the minimum
+     *        $s-t$ cuts
+     * @param executor executor which is used to compute the minimum $s-t$ cuts
+     */
+    public GusfieldEquivalentFlowTree(
+        Graph<V, E> network, Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier,
+        ThreadPoolExecutor executor)
+    {
+        this(
+            network, null, Objects.requireNonNull(minimumSTCutAlgorithmSupplier),
+            Objects.requireNonNull(executor, "Executor cannot be null"));
+    }
+
+    private GusfieldEquivalentFlowTree(
+        Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm,
+        Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier,
+        ThreadPoolExecutor executor)
     {
         GraphTests.requireUndirected(network);
         this.n = network.vertexSet().size();
         if (n < 2)
             throw new IllegalArgumentException("Graph must have at least 2 vertices");
         this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
+        this.minimumSTCutAlgorithmSupplier = minimumSTCutAlgorithmSupplier;
+        this.executor = executor;
         vertexList.addAll(network.vertexSet());
         for (int i = 0; i < vertexList.size(); i++)
             indexMap.put(vertexList.get(i), i);
@@ -133,26 +187,40 @@ public class GusfieldEquivalentFlowTree<V, E>
         p = new int[n];
         neighbors = new int[n];
 
+        if (executor != null) {
+            new ParallelGusfieldCuts<>(vertexList, minimumSTCutAlgorithmSupplier, executor)
+                .run(p, this::processCut);
+            return;
+        }
+
         for (int s = 1; s < n; s++) {
             int t = p[s];
-            neighbors[s] = t;
             double flowValue =
                 minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
             Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition(); // Set X in the
                                                                                  // paper
-            for (int i = s; i < n; i++)
-                if (sourcePartition.contains(vertexList.get(i)) && p[i] == t)
-                    p[i] = s;
-
-            // populate the flow matrix
-            flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
-            for (int i = 0; i < s; i++)
-                if (i != t)
-                    flowMatrix[s][i] =
-                        flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
+            processCut(s, t, flowValue, sourcePartition);
         }
     }
 
+    /**
+     * Updates the tree and the flow matrix with the minimum cut of iteration $s$.
+     */
+    private void processCut(int s, int t, double flowValue, Set<V> sourcePartition)
+    {
+        neighbors[s] = t;
+        for (int i = s; i < n; i++)
+            if (sourcePartition.contains(vertexList.get(i)) && p[i] == t)
+                p[i] = s;
+
+        // populate the flow matrix
+        flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
+        for (int i = 0; i < s; i++)
+            if (i != t)
+                flowMatrix[s][i] =
+                    flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
+    }
+
     /**
      * Returns the Equivalent Flow Tree as an actual tree (graph). Note that this tree is not
      * necessarily unique. The edge weights represent the flow values/cut weights. This method runs
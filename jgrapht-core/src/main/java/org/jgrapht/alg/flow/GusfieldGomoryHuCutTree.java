@@ -23,6 +23,8 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * This class computes a Gomory-Hu tree (GHT) using the algorithm proposed by Dan Gusfield. For a
@@ -46,6 +48,14 @@ import java.util.*;
  *
  *
  * <p>
+ * When constructed with a {@link ThreadPoolExecutor}, the minimum $s-t$ cuts are computed in
+ * parallel, each task using its own instance of the minimum $s-t$ cut algorithm. A cut is started
+ * speculatively with the current tree neighbor of its source, and is computed again if an earlier
+ * cut changes this neighbor, see <i>Cohen, J. et al. Parallel implementations of Gusfield's cut
+ * tree algorithm. ICA3PP 2011</i>. The computed tree is identical to the one of the sequential
+ * algorithm.
+ *
+ * <p>
  * Note: this class performs calculations in a lazy manner. The GHT is not calculated until the
  * first invocation of {@link GusfieldGomoryHuCutTree#getMaximumFlowValue(Object, Object)} or
  * {@link GusfieldGomoryHuCutTree#getGomoryHuTree()}. Moreover, this class <em>only</em> calculates
@@ -75,6 +85,9 @@ public class GusfieldGomoryHuCutTree<V, E>
     private final int n;
     /* Algorithm used to computed the Maximum $s-t$ flows */
     private final MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm;
+    /* Supplier of algorithm instances and executor for the parallel computation */
+    private final Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier;
+    private final ThreadPoolExecutor executor;
 
     /* Data structures for computations */
     private List<V> vertexList = new ArrayList<>();
@@ -119,12 +132,54 @@ public class GusfieldGomoryHuCutTree<V, E>
      */
     public GusfieldGomoryHuCutTree(
         Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm)
+    {
+        this(network, minimumSTCutAlgorithm, null, null);
+    }
+
+    /**
+     * Constructs a new GusfieldGomoryHuCutTree instance which computes the minimum $s-t$ cuts in
+     * parallel using {@link PushRelabelMFImpl}.
+     *
+     * @param network input graph
+     * @param epsilon precision
+     * @param executor executor which is used to compute the minimum $s-t$ cuts
+     */
+    public GusfieldGomoryHuCutTree(Graph<V, E> network, double epsilon, ThreadPoolExecutor executor)
+    {
+        this(network, () -> new PushRelabelMFImpl<>(network, epsilon), executor);
+    }
+
+    /**
+     * Constructs a new GusfieldGomoryHuCutTree instance which computes the minimum $s-t$ cuts in
+     * parallel. The supplier is called at most once per concurrently running task, and must
+     * return a new algorithm instance for the network on each call.
+     *
+     * @param network input graph
+     * @param minimumSTCutAlgorithmSupplier supplier of the algorithms used to compute the minimum
+     *        s-t cuts
+     * @param executor executor which is used to compute the minimum $s-t$ cuts
+     */
+    public GusfieldGomoryHuCutTree(
+        Graph<V, E> network, Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier,
+        ThreadPoolExecutor executor)
+    {
+        this(
+            network, null, Objects.requireNonNull(minimumSTCutAlgorithmSupplier),
+            Objects.requireNonNull(executor, "Executor cannot be null"));
+    }
+
+    private GusfieldGomoryHuCutTree(
+        Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm,
+        Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier,
+        ThreadPoolExecutor executor)
     {
         this.network = GraphTests.requireUndirected(network);
         this.n = network.vertexSet().size();
         if (n < 2)
             throw new IllegalArgumentException("Graph must have at least 2 vertices");
         this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
+        this.minimumSTCutAlgorithmSupplier = minimumSTCutAlgorithmSupplier;
+        this.executor = executor;
         vertexList.addAll(network.vertexSet());
         for (int i = 0; i < vertexList.size(); i++)
             indexMap.put(vertexList.get(i), i);
@@ -139,31 +194,45 @@ public class GusfieldGomoryHuCutTree<V, E>
         p = new int[n];
         fl = new double[n];
 
+        if (executor != null) {
+            new ParallelGusfieldCuts<>(vertexList, minimumSTCutAlgorithmSupplier, executor)
+                .run(p, this::processCut);
+            return;
+        }
+
         for (int s = 1; s < n; s++) {
             int t = p[s];
             double flowValue =
                 minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
             Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition(); // Set X in the
                                                                                  // paper
-            fl[s] = flowValue;
-
-            for (int i = 0; i < n; i++)
-                if (i != s && sourcePartition.contains(vertexList.get(i)) && p[i] == t)
-                    p[i] = s;
-            if (sourcePartition.contains(vertexList.get(p[t]))) {
-                p[s] = p[t];
-                p[t] = s;
-                fl[s] = fl[t];
-                fl[t] = flowValue;
-            }
+            processCut(s, t, flowValue, sourcePartition);
+        }
+    }
 
-            // populate the flow matrix
-            flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
-            for (int i = 0; i < s; i++)
-                if (i != t)
-                    flowMatrix[s][i] =
-                        flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
+    /**
+     * Updates the tree and the flow matrix with the minimum cut of iteration $s$.
+     */
+    private void processCut(int s, int t, double flowValue, Set<V> sourcePartition)
+    {
+        fl[s] = flowValue;
+
+        for (int i = 0; i < n; i++)
+            if (i != s && sourcePartition.contains(vertexList.get(i)) && p[i] == t)
+                p[i] = s;
+        if (sourcePartition.contains(vertexList.get(p[t]))) {
+            p[s] = p[t];
+            p[t] = s;
+            fl[s] = fl[t];
+            fl[t] = flowValue;
         }
+
+        // populate the flow matrix
+        flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
+        for (int i = 0; i < s; i++)
+            if (i != t)
+                flowMatrix[s][i] =
+                    flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
     }
 
     /**
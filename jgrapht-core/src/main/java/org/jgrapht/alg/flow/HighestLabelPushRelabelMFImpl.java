@@ -0,0 +1,700 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Highest-label push-relabel maximum flow algorithm working on primitive arrays.
+ *
+ * <p>
+ * The implementation follows the HIPR code described in: B. V. Cherkassky and A. V. Goldberg. On
+ * Implementing the Push-Relabel Method for the Maximum Flow Problem. Algorithmica, 19:390–410,
+ * 1997. The running time is $O(n^2 \sqrt{m})$.
+ *
+ * <p>
+ * The network is copied during construction into a residual graph in compressed sparse row format.
+ * Each edge is represented by a pair of arcs whose indices point to each other, and all
+ * capacities, labels and excesses are stored in {@code int} and {@code double} arrays. Thus later
+ * modifications of the network are not reflected, but the same instance can be used to compute
+ * several flows without copying the network again. Compared to {@link PushRelabelMFImpl}, which
+ * works on objects found through maps, this greatly reduces memory consumption and improves
+ * locality on large networks.
+ *
+ * <p>
+ * The algorithm works in two phases. The first phase computes a maximum preflow, whose value is
+ * the value of the maximum flow, by always discharging an active vertex with the highest label.
+ * Vertices are kept in buckets by label. Labels are periodically recomputed as exact distances to
+ * the sink using a breadth-first search on the residual graph (global relabeling) and when some
+ * label becomes empty all vertices above it are removed since they can no longer reach the sink
+ * (gap heuristic). The second phase returns the remaining excesses to the source, converting the
+ * preflow into a flow.
+ *
+ * <p>
+ * This class also computes minimum $s-t$ cuts, using a breadth-first search from the source on the
+ * residual graph after the maximum flow has been computed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class HighestLabelPushRelabelMFImpl<V, E>
+    implements MaximumFlowAlgorithm<V, E>, MinimumSTCutAlgorithm<V, E>
+{
+    /**
+     * Default tolerance used when comparing floating-point values.
+     */
+    public static final double DEFAULT_EPSILON = MaximumFlowAlgorithmBase.DEFAULT_EPSILON;
+
+    /*
+     * Parameters of the global relabeling frequency, as in HIPR. A global relabeling is performed
+     * when the relabeling work exceeds (ALPHA * n + m) / GLOBAL_UPDATE_FREQUENCY.
+     */
+    private static final int ALPHA = 6;
+    private static final int BETA = 12;
+    private static final double GLOBAL_UPDATE_FREQUENCY = 0.5;
+
+    private final Graph<V, E> network;
+    private final boolean directed;
+    private final double epsilon;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private Map<E, Integer> edgeIndex;
+    private final List<E> edges;
+    private final int n;
+
+    /*
+     * Residual graph in compressed sparse row format. The arcs leaving vertex v are stored in
+     * positions [arcStart[v], arcStart[v+1]) and arcPair[a] is the reverse arc of arc a.
+     */
+    private final int[] arcStart;
+    private final int[] arcHead;
+    private final int[] arcPair;
+    private final double[] arcCapacity;
+    // forward arc of each edge, -1 for self-loops
+    private final int[] edgeArc;
+
+    private double[] residual;
+    private int[] label;
+    private double[] excess;
+    private int[] current;
+
+    /*
+     * Buckets of vertices by label. Active vertices are kept in singly linked lists and inactive
+     * vertices in doubly linked lists, so that they can be activated in constant time.
+     */
+    private int[] activeHead;
+    private int[] activeNext;
+    private int[] inactiveHead;
+    private int[] inactiveNext;
+    private int[] inactivePrev;
+    private int maxActive;
+    private int maxLabel;
+    private long work;
+
+    private int sourceIndex;
+    private int sinkIndex;
+    private V source;
+    private V sink;
+    private double maxFlowValue = -1;
+    private Map<E, Double> maxFlow;
+    private Set<V> sourcePartition;
+    private Set<V> sinkPartition;
+    private Set<E> cutEdges;
+
+    /**
+     * Construct a new algorithm.
+     *
+     * @param network the network
+     */
+    public HighestLabelPushRelabelMFImpl(Graph<V, E> network)
+    {
+        this(network, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Construct a new algorithm.
+     *
+     * @param network the network
+     * @param epsilon tolerance used when comparing floating-point values
+     */
+    public HighestLabelPushRelabelMFImpl(Graph<V, E> network, double epsilon)
+    {
+        this.network = Objects.requireNonNull(network, "Network cannot be null!");
+        if (epsilon <= 0) {
+            throw new IllegalArgumentException("Epsilon must be positive!");
+        }
+        this.epsilon = epsilon;
+        this.directed = network.getType().isDirected();
+
+        this.n = network.vertexSet().size();
+        this.vertices = new ArrayList<>(network.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        this.edges = new ArrayList<>(network.edgeSet());
+        int m = edges.size();
+
+        int[] tails = new int[m];
+        int[] heads = new int[m];
+        this.arcStart = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            if (network.getEdgeWeight(e) < -epsilon) {
+                throw new IllegalArgumentException("Capacity must be non-negative!");
+            }
+            tails[i] = vertexIndex.get(network.getEdgeSource(e));
+            heads[i] = vertexIndex.get(network.getEdgeTarget(e));
+            if (tails[i] != heads[i]) {
+                arcStart[tails[i] + 1]++;
+                arcStart[heads[i] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            arcStart[v + 1] += arcStart[v];
+        }
+
+        int arcs = arcStart[n];
+        this.arcHead = new int[arcs];
+        this.arcPair = new int[arcs];
+        this.arcCapacity = new double[arcs];
+        this.edgeArc = new int[m];
+        int[] pos = Arrays.copyOf(arcStart, n);
+        for (int i = 0; i < m; i++) {
+            int u = tails[i];
+            int v = heads[i];
+            if (u == v) {
+                edgeArc[i] = -1;
+                continue;
+            }
+            double capacity = Math.max(0d, network.getEdgeWeight(edges.get(i)));
+            int a = pos[u]++;
+            int b = pos[v]++;
+            arcHead[a] = v;
+            arcHead[b] = u;
+            arcPair[a] = b;
+            arcPair[b] = a;
+            arcCapacity[a] = capacity;
+            arcCapacity[b] = directed ? 0d : capacity;
+            edgeArc[i] = a;
+        }
+    }
+
+    @Override
+    public MaximumFlow<E> getMaximumFlow(V source, V sink)
+    {
+        calculateMaximumFlow(source, sink);
+        return new MaximumFlowImpl<>(maxFlowValue, getFlowMap());
+    }
+
+    /**
+     * Sets current source to <code>source</code>, current sink to <code>sink</code>, then
+     * calculates maximum flow from <code>source</code> to <code>sink</code>. Note, that
+     * <code>source</code> and <code>sink</code> must be vertices of the <code>
+     * network</code> passed to the constructor, and they must be different.
+     *
+     * @param source source vertex
+     * @param sink sink vertex
+     * @return the value of the maximum flow
+     */
+    public double calculateMaximumFlow(V source, V sink)
+    {
+        Integer s = vertexIndex.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException("Network does not contain source!");
+        }
+        Integer t = vertexIndex.get(sink);
+        if (t == null) {
+            throw new IllegalArgumentException("Network does not contain sink!");
+        }
+        if (s.equals(t)) {
+            throw new IllegalArgumentException("Source is equal to sink!");
+        }
+        this.source = source;
+        this.sink = sink;
+        this.sourceIndex = s;
+        this.sinkIndex = t;
+        this.maxFlow = null;
+        this.sourcePartition = null;
+        this.sinkPartition = null;
+        this.cutEdges = null;
+
+        initialize();
+        computeMaximumPreflow();
+        maxFlowValue = excess[sinkIndex];
+        convertPreflowToFlow();
+
+        return maxFlowValue;
+    }
+
+    /**
+     * Returns maximum flow value, that was calculated during last <code>
+     * calculateMaximumFlow</code> call.
+     *
+     * @return maximum flow value
+     */
+    public double getMaximumFlowValue()
+    {
+        return maxFlowValue;
+    }
+
+    /**
+     * Returns current source vertex, or <code>null</code> if there was no <code>
+     * calculateMaximumFlow</code> calls.
+     *
+     * @return current source
+     */
+    public V getCurrentSource()
+    {
+        return source;
+    }
+
+    /**
+     * Returns current sink vertex, or <code>null</code> if there was no <code>
+     * calculateMaximumFlow</code> calls.
+     *
+     * @return current sink
+     */
+    public V getCurrentSink()
+    {
+        return sink;
+    }
+
+    @Override
+    public Map<E, Double> getFlowMap()
+    {
+        if (maxFlow == null) {
+            Map<E, Double> flow = new HashMap<>();
+            for (int i = 0; i < edges.size(); i++) {
+                flow.put(edges.get(i), Math.abs(getNetFlow(i)));
+            }
+            maxFlow = Collections.unmodifiableMap(flow);
+        }
+        return maxFlow;
+    }
+
+    @Override
+    public V getFlowDirection(E e)
+    {
+        if (edgeIndex == null) {
+            edgeIndex = new HashMap<>();
+            for (int i = 0; i < edges.size(); i++) {
+                edgeIndex.put(edges.get(i), i);
+            }
+        }
+        Integer i = edgeIndex.get(e);
+        if (i == null) {
+            throw new IllegalArgumentException(
+                "Cannot query the flow on an edge which does not exist in the input graph!");
+        }
+        if (directed || getNetFlow(i) > 0d) {
+            return network.getEdgeTarget(e);
+        }
+        return network.getEdgeSource(e);
+    }
+
+    /**
+     * Get the flow from the source to the target of an edge, negative if the flow goes in the
+     * opposite direction.
+     */
+    private double getNetFlow(int i)
+    {
+        int a = edgeArc[i];
+        if (a < 0 || residual == null) {
+            return 0d;
+        }
+        return arcCapacity[a] - residual[a];
+    }
+
+    @Override
+    public double calculateMinCut(V source, V sink)
+    {
+        return calculateMaximumFlow(source, sink);
+    }
+
+    @Override
+    public double getCutCapacity()
+    {
+        return maxFlowValue;
+    }
+
+    @Override
+    public Set<V> getSourcePartition()
+    {
+        if (sourcePartition == null) {
+            // the source partition contains all vertices reachable from s in the residual graph
+            sourcePartition = new LinkedHashSet<>();
+            boolean[] visited = new boolean[n];
+            int[] queue = new int[n];
+            int tail = 0;
+            queue[tail++] = sourceIndex;
+            visited[sourceIndex] = true;
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                sourcePartition.add(vertices.get(v));
+                for (int a = arcStart[v], end = arcStart[v + 1]; a < end; a++) {
+                    int w = arcHead[a];
+                    if (!visited[w] && residual[a] > epsilon) {
+                        visited[w] = true;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+        return sourcePartition;
+    }
+
+    @Override
+    public Set<V> getSinkPartition()
+    {
+        if (sinkPartition == null) {
+            sinkPartition = new LinkedHashSet<>(network.vertexSet());
+            sinkPartition.removeAll(getSourcePartition());
+        }
+        return sinkPartition;
+    }
+
+    @Override
+    public Set<E> getCutEdges()
+    {
+        if (cutEdges == null) {
+            Set<V> p1 = getSourcePartition();
+            if (directed) {
+                cutEdges = p1
+                    .stream().flatMap(v -> network.outgoingEdgesOf(v).stream())
+                    .filter(e -> !p1.contains(network.getEdgeTarget(e)))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            } else {
+                cutEdges = network
+                    .edgeSet().stream()
+                    .filter(
+                        e -> p1.contains(network.getEdgeSource(e))
+                            ^ p1.contains(network.getEdgeTarget(e)))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            }
+        }
+        return cutEdges;
+    }
+
+    /**
+     * Reset the residual graph and saturate the arcs leaving the source.
+     */
+    private void initialize()
+    {
+        if (residual == null) {
+            residual = new double[arcCapacity.length];
+            label = new int[n];
+            excess = new double[n];
+            current = new int[n];
+            activeHead = new int[n];
+            activeNext = new int[n];
+            inactiveHead = new int[n];
+            inactiveNext = new int[n];
+            inactivePrev = new int[n];
+        }
+        System.arraycopy(arcCapacity, 0, residual, 0, arcCapacity.length);
+        Arrays.fill(excess, 0d);
+
+        for (int a = arcStart[sourceIndex], end = arcStart[sourceIndex + 1]; a < end; a++) {
+            double delta = residual[a];
+            if (delta > 0d) {
+                residual[a] = 0d;
+                residual[arcPair[a]] += delta;
+                excess[arcHead[a]] += delta;
+                excess[sourceIndex] -= delta;
+            }
+        }
+    }
+
+    /**
+     * First phase, compute a maximum preflow.
+     */
+    private void computeMaximumPreflow()
+    {
+        long globalUpdateThreshold = ALPHA * (long) n + arcCapacity.length / 2;
+        globalRelabel();
+
+        while (maxActive >= 0) {
+            int v = activeHead[maxActive];
+            if (v < 0) {
+                maxActive--;
+                continue;
+            }
+            activeHead[maxActive] = activeNext[v];
+            discharge(v);
+
+            if (work * GLOBAL_UPDATE_FREQUENCY > globalUpdateThreshold) {
+                globalRelabel();
+            }
+        }
+    }
+
+    /**
+     * Compute exact distances to the sink with a reverse breadth-first search on the residual
+     * graph and rebuild the buckets. Vertices which cannot reach the sink get label $n$.
+     */
+    private void globalRelabel()
+    {
+        Arrays.fill(label, n);
+        Arrays.fill(activeHead, -1);
+        Arrays.fill(inactiveHead, -1);
+        maxActive = -1;
+        maxLabel = 0;
+        work = 0;
+
+        int[] queue = activeNext;
+        int tail = 0;
+        label[sinkIndex] = 0;
+        queue[tail++] = sinkIndex;
+        for (int head = 0; head < tail; head++) {
+            int w = queue[head];
+            int d = label[w] + 1;
+            for (int a = arcStart[w], end = arcStart[w + 1]; a < end; a++) {
+                int v = arcHead[a];
+                if (label[v] == n && v != sourceIndex && residual[arcPair[a]] > epsilon) {
+                    label[v] = d;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        // the queue aliases the active lists, thus copy the vertices first
+        int[] reached = Arrays.copyOf(queue, tail);
+        for (int v : reached) {
+            current[v] = arcStart[v];
+            if (v == sinkIndex) {
+                continue;
+            }
+            if (excess[v] > epsilon) {
+                addActive(v);
+            } else {
+                addInactive(v);
+            }
+            maxLabel = Math.max(maxLabel, label[v]);
+        }
+    }
+
+    /**
+     * Push the excess of a vertex to its admissible arcs, relabeling it when none is left.
+     */
+    private void discharge(int v)
+    {
+        while (true) {
+            int d = label[v];
+            int a = current[v];
+            for (int end = arcStart[v + 1]; a < end; a++) {
+                if (residual[a] <= epsilon) {
+                    continue;
+                }
+                int w = arcHead[a];
+                if (label[w] != d - 1) {
+                    continue;
+                }
+                double delta = Math.min(excess[v], residual[a]);
+                residual[a] -= delta;
+                residual[arcPair[a]] += delta;
+                excess[v] -= delta;
+                if (w != sinkIndex && excess[w] <= epsilon) {
+                    removeInactive(w);
+                    excess[w] += delta;
+                    addActive(w);
+                } else {
+                    excess[w] += delta;
+                }
+                if (excess[v] <= epsilon) {
+                    break;
+                }
+            }
+            current[v] = a;
+
+            if (excess[v] <= epsilon) {
+                addInactive(v);
+                return;
+            }
+            relabel(v);
+            if (label[v] >= n) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Relabel a vertex and apply the gap heuristic if its old label becomes empty.
+     */
+    private void relabel(int v)
+    {
+        int oldLabel = label[v];
+        work += BETA;
+
+        int minLabel = n;
+        int minArc = -1;
+        for (int a = arcStart[v], end = arcStart[v + 1]; a < end; a++) {
+            work++;
+            if (residual[a] > epsilon && label[arcHead[a]] < minLabel) {
+                minLabel = label[arcHead[a]];
+                minArc = a;
+            }
+        }
+
+        if (minLabel + 1 < n) {
+            label[v] = minLabel + 1;
+            current[v] = minArc;
+            maxLabel = Math.max(maxLabel, label[v]);
+        } else {
+            label[v] = n;
+        }
+
+        if (activeHead[oldLabel] < 0 && inactiveHead[oldLabel] < 0) {
+            // gap, vertices above the old label cannot reach the sink
+            for (int d = oldLabel + 1; d <= maxLabel; d++) {
+                for (int w = activeHead[d]; w >= 0; w = activeNext[w]) {
+                    label[w] = n;
+                }
+                for (int w = inactiveHead[d]; w >= 0; w = inactiveNext[w]) {
+                    label[w] = n;
+                }
+                activeHead[d] = -1;
+                inactiveHead[d] = -1;
+            }
+            label[v] = n;
+            maxLabel = oldLabel - 1;
+            maxActive = Math.min(maxActive, oldLabel - 1);
+        }
+    }
+
+    private void addActive(int v)
+    {
+        int d = label[v];
+        activeNext[v] = activeHead[d];
+        activeHead[d] = v;
+        if (d > maxActive) {
+            maxActive = d;
+        }
+    }
+
+    private void addInactive(int v)
+    {
+        int d = label[v];
+        int head = inactiveHead[d];
+        inactiveNext[v] = head;
+        inactivePrev[v] = -1;
+        if (head >= 0) {
+            inactivePrev[head] = v;
+        }
+        inactiveHead[d] = v;
+    }
+
+    private void removeInactive(int v)
+    {
+        int next = inactiveNext[v];
+        int prev = inactivePrev[v];
+        if (prev >= 0) {
+            inactiveNext[prev] = next;
+        } else {
+            inactiveHead[label[v]] = next;
+        }
+        if (next >= 0) {
+            inactivePrev[next] = prev;
+        }
+    }
+
+    /**
+     * Second phase, return the excess of the vertices which cannot reach the sink back to the
+     * source. Labels are the distances to the source in the residual graph, and vertices are
+     * discharged in FIFO order.
+     */
+    private void convertPreflowToFlow()
+    {
+        int maxLabel2 = 2 * n;
+        Arrays.fill(label, maxLabel2);
+        int[] queue = activeNext;
+        int tail = 0;
+        label[sourceIndex] = 0;
+        queue[tail++] = sourceIndex;
+        for (int head = 0; head < tail; head++) {
+            int w = queue[head];
+            for (int a = arcStart[w], end = arcStart[w + 1]; a < end; a++) {
+                int v = arcHead[a];
+                if (label[v] == maxLabel2 && v != sinkIndex && residual[arcPair[a]] > epsilon) {
+                    label[v] = label[w] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        ArrayDeque<Integer> active = new ArrayDeque<>();
+        for (int v = 0; v < n; v++) {
+            current[v] = arcStart[v];
+            if (v != sourceIndex && v != sinkIndex && excess[v] > epsilon
+                && label[v] < maxLabel2)
+            {
+                active.add(v);
+            }
+        }
+
+        while (!active.isEmpty()) {
+            int v = active.poll();
+            while (excess[v] > epsilon) {
+                int d = label[v];
+                int a = current[v];
+                for (int end = arcStart[v + 1]; a < end; a++) {
+                    int w = arcHead[a];
+                    if (residual[a] <= epsilon || label[w] != d - 1) {
+                        continue;
+                    }
+                    double delta = Math.min(excess[v], residual[a]);
+                    residual[a] -= delta;
+                    residual[arcPair[a]] += delta;
+                    excess[v] -= delta;
+                    if (w != sourceIndex && excess[w] <= epsilon) {
+                        active.add(w);
+                    }
+                    excess[w] += delta;
+                    if (excess[v] <= epsilon) {
+                        break;
+                    }
+                }
+                current[v] = a;
+                if (excess[v] <= epsilon) {
+                    break;
+                }
+
+                int minLabel = maxLabel2;
+                for (int b = arcStart[v], end = arcStart[v + 1]; b < end; b++) {
+                    if (residual[b] > epsilon && label[arcHead[b]] < minLabel) {
+                        minLabel = label[arcHead[b]];
+                        current[v] = b;
+                    }
+                }
+                if (minLabel + 1 >= maxLabel2) {
+                    // only rounding errors remain
+                    label[v] = maxLabel2;
+                    break;
+                }
+                label[v] = minLabel + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Parallel scheduler of the $n-1$ minimum $s-t$ cut computations of Gusfield's algorithms.
+ *
+ * <p>
+ * The scheme follows the parallel Gusfield algorithm described in: <i>Cohen, J., Rodrigues, L. A.,
+ * Silva, F., Carmo, R., Guedes, A. L. P. and Duarte Jr., E. P. Parallel implementations of
+ * Gusfield's cut tree algorithm. Algorithms and Architectures for Parallel Processing, LNCS 7016,
+ * p258-269, 2011.</i> Iteration $s$ of Gusfield's algorithms computes a minimum cut between $s$
+ * and its current tree neighbor $p[s]$. Since $p[s]$ only changes when an earlier iteration
+ * computes a cut which separates $s$ from $p[s]$, the cut of iteration $s$ is started
+ * speculatively using the neighbor known at that time. The results are committed in the order of
+ * the sequential algorithm, and a cut whose neighbor changed before its commit is computed again.
+ * Thus the result is identical to the one of the sequential algorithm.
+ *
+ * <p>
+ * Each task uses its own minimum $s-t$ cut algorithm instance, which is reused by later tasks. The
+ * number of iterations which are started but not committed is bounded, in order to bound the
+ * memory used by pending source partitions.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+final class ParallelGusfieldCuts<V, E>
+{
+    private static final int WINDOW_FACTOR = 4;
+
+    private final List<V> vertexList;
+    private final Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier;
+    private final ThreadPoolExecutor executor;
+    private final Queue<MinimumSTCutAlgorithm<V, E>> idleAlgorithms;
+
+    /**
+     * Create a new scheduler.
+     *
+     * @param vertexList the vertices of the graph
+     * @param minimumSTCutAlgorithmSupplier supplier of the minimum $s-t$ cut algorithm instances
+     * @param executor the executor which runs the cut computations
+     */
+    ParallelGusfieldCuts(
+        List<V> vertexList, Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier,
+        ThreadPoolExecutor executor)
+    {
+        this.vertexList = vertexList;
+        this.minimumSTCutAlgorithmSupplier = minimumSTCutAlgorithmSupplier;
+        this.executor = executor;
+        this.idleAlgorithms = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Run all iterations. Iteration $s$ computes a cut between vertex $s$ and vertex $p[s]$, where
+     * {@code p} is read after all iterations before $s$ have been committed. The committer is
+     * called for iterations $1, \dots, n-1$ in this order, from the calling thread, and may modify
+     * {@code p}.
+     *
+     * @param p the tree neighbors of the vertices
+     * @param committer the committer of the iterations
+     */
+    void run(int[] p, Committer<V> committer)
+    {
+        int n = vertexList.size();
+        int parallelism = Math.max(1, executor.getMaximumPoolSize());
+        int window = WINDOW_FACTOR * parallelism;
+
+        ExecutorCompletionService<Cut<V>> completionService =
+            new ExecutorCompletionService<>(executor);
+        Map<Integer, Cut<V>> finished = new HashMap<>();
+        boolean[] running = new boolean[n];
+        int[] seen = new int[n];
+        int stamp = 0;
+        int committed = 1;
+        int runningCount = 0;
+        RuntimeException failure = null;
+
+        while (committed < n) {
+            /*
+             * Start new iterations. The neighbor p[s] of an uncommitted s only changes when an
+             * uncommitted s' < s with p[s'] == p[s] is committed, since commits only assign the
+             * index of the committed vertex. Such safe iterations are preferred, otherwise the
+             * first iteration which needs a cut is started speculatively.
+             */
+            while (failure == null && runningCount < parallelism) {
+                stamp++;
+                int safe = -1;
+                int speculative = -1;
+                for (int s = committed, end = Math.min(n, committed + window); s < end; s++) {
+                    int t = p[s];
+                    boolean isSafe = seen[t] != stamp;
+                    seen[t] = stamp;
+                    Cut<V> cut = finished.get(s);
+                    if (running[s] || (cut != null && cut.t == t)) {
+                        continue;
+                    }
+                    if (isSafe) {
+                        safe = s;
+                        break;
+                    }
+                    if (speculative == -1) {
+                        speculative = s;
+                    }
+                }
+                int s = safe != -1 ? safe : speculative;
+                if (s == -1) {
+                    break;
+                }
+                finished.remove(s);
+                running[s] = true;
+                runningCount++;
+                completionService.submit(createTask(s, p[s]));
+            }
+            if (runningCount == 0) {
+                break;
+            }
+
+            try {
+                Cut<V> cut = completionService.take().get();
+                running[cut.s] = false;
+                runningCount--;
+                finished.put(cut.s, cut);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new IllegalStateException("Interrupted", e);
+                }
+                break;
+            } catch (ExecutionException e) {
+                runningCount--;
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause() : new IllegalStateException(e);
+                }
+            }
+            if (failure != null) {
+                continue;
+            }
+
+            // commit in order, stale cuts are computed again by the loop above
+            Cut<V> cut;
+            while ((cut = finished.get(committed)) != null && cut.t == p[committed]) {
+                finished.remove(committed);
+                committer.commit(cut.s, cut.t, cut.flowValue, cut.sourcePartition);
+                committed++;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private Callable<Cut<V>> createTask(int s, int t)
+    {
+        return () -> {
+            MinimumSTCutAlgorithm<V, E> alg = idleAlgorithms.poll();
+            if (alg == null) {
+                alg = minimumSTCutAlgorithmSupplier.get();
+            }
+            try {
+                double flowValue = alg.calculateMinCut(vertexList.get(s), vertexList.get(t));
+                Set<V> sourcePartition = new HashSet<>(alg.getSourcePartition());
+                return new Cut<>(s, t, flowValue, sourcePartition);
+            } finally {
+                idleAlgorithms.add(alg);
+            }
+        };
+    }
+
+    /**
+     * Commits the result of an iteration.
+     *
+     * @param <V> the graph vertex type
+     */
+    @FunctionalInterface
+    interface Committer<V>
+    {
+        /**
+         * Commit the result of an iteration.
+         *
+         * @param s the index of the source vertex
+         * @param t the index of the sink vertex
+         * @param flowValue the value of the minimum cut
+         * @param sourcePartition the source partition of the minimum cut
+         */
+        void commit(int s, int t, double flowValue, Set<V> sourcePartition);
+    }
+
+    private static final class Cut<V>
+    {
+        final int s;
+        final int t;
+        final double flowValue;
+        final Set<V> sourcePartition;
+
+        Cut(int s, int t, double flowValue, Set<V> sourcePartition)
+        {
+            this.s = s;
+            this.t = t;
+            this.flowValue = flowValue;
+            this.sourcePartition = sourcePartition;
+        }
+    }
+}
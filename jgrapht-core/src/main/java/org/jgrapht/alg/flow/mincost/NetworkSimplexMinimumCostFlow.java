@@ -0,0 +1,977 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * This class computes a solution to a
+ * <a href="https://en.wikipedia.org/wiki/Minimum-cost_flow_problem"> minimum cost flow problem</a>
+ * using the primal network simplex algorithm. For a definition of the problem see
+ * {@link CapacityScalingMinimumCostFlow}. The arc costs are given by
+ * {@link MinimumCostFlowProblem#getArcCosts()}.
+ *
+ * <p>
+ * The implementation follows the network simplex algorithm of the LEMON graph library, see
+ * <i>Kovács, P. Minimum-cost flow algorithms: an experimental evaluation. Optimization Methods and
+ * Software, 30(1), p94-127, 2015.</i> The network is stored in primitive arrays. The spanning tree
+ * of each basic solution is represented using parent, thread and subtree size indices, which
+ * allows pivots to update the tree and the node potentials by only traversing the affected
+ * subtree. An artificial root node is connected to every vertex using an artificial arc, and a
+ * big-M cost on these arcs drives the artificial flow to zero. Entering arcs are selected using
+ * block search pivoting, i.e. the arcs are scanned in blocks of size $\sqrt{m}$ and the arc with
+ * the most negative reduced cost of the first block containing an eligible arc enters the basis.
+ * The leaving arc is selected according to the strongly feasible tree rule, which prevents
+ * cycling as long as the spanning tree is strongly feasible, i.e. every vertex can send a positive
+ * amount of flow to the root along the tree. The rule preserves this property, thus it suffices
+ * that the initial spanning tree is strongly feasible.
+ *
+ * <p>
+ * The computation can be warm-started using
+ * {@link #getMinimumCostFlow(MinimumCostFlowProblem, Map, Map)}, usually with the flow and the dual
+ * solution of a previous computation on a slightly different problem. Arcs whose flow is strictly
+ * between their bounds, and arcs with zero reduced cost with respect to the given potentials,
+ * form the initial spanning tree. Vertices whose flow balance is violated by the initial flow are
+ * connected to the root with artificial arcs carrying the imbalance. Thus, after a small change of
+ * the problem, only a few pivots are usually needed. In order to keep the initial spanning tree
+ * strongly feasible, a tree arc at one of its bounds is kept only if it is oriented such that flow
+ * can still be sent towards the root. The remaining degenerate arcs are replaced by artificial
+ * arcs, which may cost a few additional pivots and means that the given potentials are not
+ * always fully preserved in the initial solution.
+ *
+ * <p>
+ * The algorithm supports negative costs, self-loops and multiple arcs. An arc with capacity
+ * greater than or equal to {@link CapacityScalingMinimumCostFlow#CAP_INF} is considered to be an
+ * infinite capacity arc. If the problem is unbounded, i.e. there exists a cycle of negative cost
+ * consisting of infinite capacity arcs, an exception is thrown. Reduced costs are compared with a
+ * tolerance of {@code epsilon}.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ *
+ * @author Dimitrios Michail
+ * @see MinimumCostFlowProblem
+ * @see MinimumCostFlowAlgorithm
+ */
+public class NetworkSimplexMinimumCostFlow<V, E>
+    implements MinimumCostFlowAlgorithm<V, E>
+{
+    /**
+     * Default tolerance used when comparing reduced costs.
+     */
+    public static final double DEFAULT_EPSILON = 1e-9;
+
+    private static final double BLOCK_SIZE_FACTOR = 1.0;
+    private static final int MIN_BLOCK_SIZE = 10;
+    private static final long INF = Long.MAX_VALUE;
+
+    private static final int STATE_UPPER = -1;
+    private static final int STATE_TREE = 0;
+    private static final int STATE_LOWER = 1;
+    private static final int DIR_UP = 1;
+    private static final int DIR_DOWN = -1;
+
+    private final double epsilon;
+
+    private MinimumCostFlowProblem<V, E> problem;
+    private MinimumCostFlow<E> minimumCostFlow;
+    private List<V> vertices;
+    private List<E> edges;
+
+    /*
+     * Number of vertices and arcs of the network. The root has index n, the arcs [0,m) are the
+     * network arcs and the arc m + v is the artificial arc of vertex v.
+     */
+    private int n;
+    private int m;
+    private int root;
+
+    /* Arc data */
+    private int[] source;
+    private int[] target;
+    private long[] lower;
+    private long[] cap;
+    private long[] flow;
+    private double[] cost;
+    private int[] state;
+
+    /* Spanning tree data */
+    private int[] parent;
+    private int[] pred;
+    private int[] predDir;
+    private int[] thread;
+    private int[] revThread;
+    private int[] succNum;
+    private int[] lastSucc;
+    private int[] dirtyRevs;
+    private double[] pi;
+
+    /* Pivot data */
+    private int blockSize;
+    private int nextArc;
+    private int inArc;
+    private int join;
+    private int uIn;
+    private int vIn;
+    private int uOut;
+    private long delta;
+
+    /**
+     * Constructs a new instance of the algorithm.
+     */
+    public NetworkSimplexMinimumCostFlow()
+    {
+        this(DEFAULT_EPSILON);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm.
+     *
+     * @param epsilon tolerance used when comparing reduced costs
+     */
+    public NetworkSimplexMinimumCostFlow(double epsilon)
+    {
+        if (epsilon <= 0) {
+            throw new IllegalArgumentException("Epsilon must be positive");
+        }
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * Returns mapping from edge to flow value through this particular edge
+     *
+     * @return maximum flow mapping, or null if a MinimumCostFlowProblem has not yet been solved.
+     */
+    @Override
+    public Map<E, Double> getFlowMap()
+    {
+        return minimumCostFlow == null ? null : this.minimumCostFlow.getFlowMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getFlowDirection(E edge)
+    {
+        return problem.getGraph().getEdgeTarget(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumCostFlow<E> getMinimumCostFlow(
+        final MinimumCostFlowProblem<V, E> minimumCostFlowProblem)
+    {
+        return getMinimumCostFlow(minimumCostFlowProblem, null, null);
+    }
+
+    /**
+     * Computes a minimum cost flow starting from an initial flow and initial node potentials.
+     * Both are optional and typically originate from the solution of a similar problem, i.e. from
+     * {@link MinimumCostFlow#getFlowMap()} and {@link #getDualSolution()}.
+     * <p>
+     * The initial flow does not need to be feasible. Flow values are rounded to the closest
+     * integer and clipped to the arc bounds, and missing edges have zero flow. If only potentials
+     * are provided, the arcs with negative reduced cost start at their upper bound and all others
+     * at their lower bound. Missing vertices have zero potential.
+     * <p>
+     * The initial spanning tree is built from the initial flow and potentials such that it is
+     * strongly feasible, which the anti-cycling rule of the pivots requires. Hence, arcs at one of
+     * their bounds with zero reduced cost enter the initial tree only if their orientation permits
+     * it, and the initial potentials are a hint rather than a guarantee.
+     *
+     * @param minimumCostFlowProblem the problem
+     * @param initialFlow the initial flow, can be null
+     * @param initialPotentials the initial node potentials using the convention of
+     *        {@link #getDualSolution()}, can be null
+     * @return the minimum cost flow
+     */
+    public MinimumCostFlow<E> getMinimumCostFlow(
+        final MinimumCostFlowProblem<V, E> minimumCostFlowProblem, Map<E, Double> initialFlow,
+        Map<V, Double> initialPotentials)
+    {
+        this.problem = Objects.requireNonNull(minimumCostFlowProblem);
+        if (problem.getGraph().getType().isUndirected()) {
+            throw new IllegalArgumentException(
+                "The algorithm doesn't support undirected flow networks");
+        }
+        this.minimumCostFlow = null;
+
+        init(initialFlow, initialPotentials);
+
+        while (findEnteringArc()) {
+            findJoinNode();
+            boolean change = findLeavingArc();
+            if (delta == INF) {
+                throw new IllegalArgumentException("The problem is unbounded");
+            }
+            changeFlow(change);
+            if (change) {
+                updateTreeStructure();
+                updatePotential();
+            }
+        }
+
+        minimumCostFlow = finish();
+        return minimumCostFlow;
+    }
+
+    /**
+     * Returns solution to the dual linear program formulated on the network. Serves as a
+     * certificate of optimality.
+     * <p>
+     * It is represented as a mapping from graph nodes to their potentials (dual variables). Reduced
+     * cost of a arc $(a, b)$ is defined as $cost((a, b)) + potential(b) - potential(a)$. According
+     * to the reduced cost optimality conditions, a feasible solution to the minimum cost flow
+     * problem is optimal if and only if reduced cost of every non-saturated arc is greater than or
+     * equal to $0$ and the reduced cost of every arc with flow above its lower bound is less than
+     * or equal to $0$.
+     *
+     * @return solution to the dual linear program formulated on the network, or null if a
+     *         MinimumCostFlowProblem has not yet been solved.
+     */
+    public Map<V, Double> getDualSolution()
+    {
+        if (minimumCostFlow == null) {
+            return null;
+        }
+        Map<V, Double> dualVariables = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            dualVariables.put(vertices.get(i), -pi[i]);
+        }
+        return dualVariables;
+    }
+
+    /**
+     * Tests the optimality conditions after a flow of minimum cost has been computed, i.e. whether
+     * the reduced cost of every arc which is not at its upper bound is non-negative and the
+     * reduced cost of every arc which is not at its lower bound is non-positive. The test is
+     * performed with precision {@code eps}.
+     * <p>
+     * In general, this method should always return true unless the algorithm implementation has a
+     * bug.
+     *
+     * @param eps the precision to use
+     * @return true, if the computed solution is optimal, false otherwise.
+     */
+    public boolean testOptimality(double eps)
+    {
+        if (minimumCostFlow == null) {
+            throw new IllegalStateException("No minimum cost flow problem has been solved");
+        }
+        for (int e = 0; e < m; e++) {
+            double reducedCost = cost[e] + pi[source[e]] - pi[target[e]];
+            if (flow[e] < cap[e] && reducedCost < -eps) {
+                return false;
+            }
+            if (flow[e] > 0 && reducedCost > eps) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts the network into arrays and computes the initial spanning tree solution.
+     */
+    private void init(Map<E, Double> initialFlow, Map<V, Double> initialPotentials)
+    {
+        Graph<V, E> graph = problem.getGraph();
+        n = graph.vertexSet().size();
+        m = graph.edgeSet().size();
+        root = n;
+
+        vertices = new ArrayList<>(graph.vertexSet());
+        edges = new ArrayList<>(graph.edgeSet());
+        Map<V, Integer> vertexIndex = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        int arcNum = m + n;
+        source = new int[arcNum];
+        target = new int[arcNum];
+        lower = new long[m];
+        cap = new long[arcNum];
+        flow = new long[arcNum];
+        cost = new double[arcNum];
+        state = new int[arcNum];
+
+        // excess[v] is the amount of flow v still has to send
+        long[] excess = new long[n];
+        long supplySum = 0;
+        for (int i = 0; i < n; i++) {
+            excess[i] = problem.getNodeSupply().apply(vertices.get(i));
+            supplySum += excess[i];
+        }
+        if (supplySum != 0) {
+            throw new IllegalArgumentException("Total node supply isn't equal to 0");
+        }
+
+        double maxCost = 0d;
+        for (int e = 0; e < m; e++) {
+            E edge = edges.get(e);
+            int upperCap = problem.getArcCapacityUpperBounds().apply(edge);
+            int lowerCap = problem.getArcCapacityLowerBounds().apply(edge);
+            if (upperCap < 0) {
+                throw new IllegalArgumentException("Negative edge capacities are not allowed");
+            } else if (lowerCap > upperCap) {
+                throw new IllegalArgumentException(
+                    "Lower edge capacity must not exceed upper edge capacity");
+            } else if (lowerCap >= CapacityScalingMinimumCostFlow.CAP_INF) {
+                throw new IllegalArgumentException(
+                    "The problem is unbounded due to the infinite lower capacity");
+            }
+            int s = vertexIndex.get(graph.getEdgeSource(edge));
+            int t = vertexIndex.get(graph.getEdgeTarget(edge));
+            source[e] = s;
+            target[e] = t;
+            cost[e] = problem.getArcCosts().apply(edge);
+            maxCost = Math.max(maxCost, Math.abs(cost[e]));
+            lower[e] = lowerCap;
+            cap[e] = upperCap >= CapacityScalingMinimumCostFlow.CAP_INF ? INF : upperCap - lowerCap;
+            excess[s] -= lowerCap;
+            excess[t] += lowerCap;
+        }
+        double artCost = (maxCost + 1) * (n + 1);
+
+        double[] potentials = null;
+        if (initialPotentials != null) {
+            // internally the reduced cost of (a,b) is cost + pi(a) - pi(b)
+            potentials = new double[n];
+            for (int i = 0; i < n; i++) {
+                potentials[i] = -initialPotentials.getOrDefault(vertices.get(i), 0d);
+            }
+        }
+
+        // initial flow
+        for (int e = 0; e < m; e++) {
+            long f = 0;
+            if (initialFlow != null) {
+                Double value = initialFlow.get(edges.get(e));
+                if (value != null) {
+                    f = Math.max(0, Math.round(value) - lower[e]);
+                    if (cap[e] != INF) {
+                        f = Math.min(f, cap[e]);
+                    }
+                }
+            } else if (potentials != null && cap[e] != INF) {
+                double reducedCost = cost[e] + potentials[source[e]] - potentials[target[e]];
+                if (reducedCost < -epsilon) {
+                    f = cap[e];
+                }
+            }
+            flow[e] = f;
+            excess[source[e]] -= f;
+            excess[target[e]] += f;
+        }
+
+        // choose a forest of tree arcs, arcs strictly between their bounds first
+        int[] forest = new int[n];
+        Arrays.fill(forest, -1);
+        boolean[] treeArc = new boolean[m];
+        for (int e = 0; e < m; e++) {
+            if (flow[e] > 0 && flow[e] < cap[e]) {
+                if (union(forest, source[e], target[e])) {
+                    treeArc[e] = true;
+                } else {
+                    // no room in the tree, move the flow to the closest bound
+                    long f = flow[e];
+                    long bound = cap[e] == INF || f <= cap[e] - f ? 0 : cap[e];
+                    flow[e] = bound;
+                    excess[source[e]] += f - bound;
+                    excess[target[e]] -= f - bound;
+                }
+            }
+        }
+        if (potentials != null) {
+            for (int e = 0; e < m; e++) {
+                double reducedCost = cost[e] + potentials[source[e]] - potentials[target[e]];
+                if (!treeArc[e] && Math.abs(reducedCost) <= epsilon
+                    && union(forest, source[e], target[e]))
+                {
+                    treeArc[e] = true;
+                }
+            }
+        }
+        boolean[] componentRoot = routeExcess(treeArc, excess);
+
+        // artificial arcs
+        for (int v = 0; v < n; v++) {
+            int e = m + v;
+            cap[e] = INF;
+            if (excess[v] >= 0) {
+                source[e] = v;
+                target[e] = root;
+                cost[e] = 0d;
+            } else {
+                source[e] = root;
+                target[e] = v;
+                cost[e] = artCost;
+            }
+            if (componentRoot[v]) {
+                flow[e] = Math.abs(excess[v]);
+                state[e] = STATE_TREE;
+            } else {
+                assert excess[v] == 0;
+                state[e] = STATE_LOWER;
+            }
+        }
+        for (int e = 0; e < m; e++) {
+            state[e] = treeArc[e] ? STATE_TREE : flow[e] == 0 ? STATE_LOWER : STATE_UPPER;
+        }
+
+        buildTree();
+        assert isStronglyFeasible();
+
+        blockSize = Math.max(MIN_BLOCK_SIZE, (int) Math.ceil(BLOCK_SIZE_FACTOR * Math.sqrt(m)));
+        nextArc = 0;
+    }
+
+    /**
+     * Pushes the excess of the vertices along the forest of tree arcs towards the root of each
+     * tree. If an arc cannot carry the flow, it is moved to its bound and removed from the forest,
+     * and its lower endpoint becomes the root of a new tree. Finally, degenerate arcs which would
+     * make the forest not strongly feasible are removed in the same way.
+     *
+     * @param treeArc the arcs of the forest, modified
+     * @param excess the excess of the vertices, modified
+     * @return the vertices which are roots of a tree, their excess is carried by artificial arcs
+     */
+    private boolean[] routeExcess(boolean[] treeArc, long[] excess)
+    {
+        int[] start = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            if (treeArc[e]) {
+                start[source[e] + 1]++;
+                start[target[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] adjacent = new int[start[n]];
+        int[] pos = Arrays.copyOf(start, n);
+        for (int e = 0; e < m; e++) {
+            if (treeArc[e]) {
+                adjacent[pos[source[e]]++] = e;
+                adjacent[pos[target[e]]++] = e;
+            }
+        }
+
+        // breadth-first order of each tree
+        int[] order = new int[n];
+        int[] parentArc = new int[n];
+        boolean[] visited = new boolean[n];
+        boolean[] componentRoot = new boolean[n];
+        int size = 0;
+        for (int r = 0; r < n; r++) {
+            if (visited[r]) {
+                continue;
+            }
+            visited[r] = true;
+            componentRoot[r] = true;
+            parentArc[r] = -1;
+            order[size++] = r;
+            for (int head = size - 1; head < size; head++) {
+                int u = order[head];
+                for (int i = start[u]; i < start[u + 1]; i++) {
+                    int e = adjacent[i];
+                    int w = source[e] == u ? target[e] : source[e];
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        parentArc[w] = e;
+                        order[size++] = w;
+                    }
+                }
+            }
+        }
+
+        // push the excess bottom-up
+        for (int i = n - 1; i >= 0; i--) {
+            int u = order[i];
+            int e = parentArc[u];
+            if (e == -1 || excess[u] == 0) {
+                continue;
+            }
+            boolean up = source[e] == u;
+            int p = up ? target[e] : source[e];
+            long f = flow[e];
+            long newFlow = up ? f + excess[u] : f - excess[u];
+            if (newFlow < 0) {
+                newFlow = 0;
+            } else if (cap[e] != INF && newFlow > cap[e]) {
+                newFlow = cap[e];
+            }
+            long moved = up ? newFlow - f : f - newFlow;
+            flow[e] = newFlow;
+            excess[u] -= moved;
+            excess[p] += moved;
+            if (excess[u] != 0) {
+                treeArc[e] = false;
+                componentRoot[u] = true;
+            }
+        }
+
+        /*
+         * Every vertex must be able to send a positive amount of flow towards the root of its
+         * tree, i.e. an arc towards the root must be below its capacity and an arc away from the
+         * root must carry flow. Otherwise the vertex becomes the root of a new tree, which is
+         * connected to the root using an artificial arc with zero flow directed towards the root.
+         */
+        for (int u = 0; u < n; u++) {
+            int e = parentArc[u];
+            if (e == -1 || !treeArc[e]) {
+                continue;
+            }
+            boolean up = source[e] == u;
+            if (up ? cap[e] != INF && flow[e] == cap[e] : flow[e] == 0) {
+                treeArc[e] = false;
+                componentRoot[u] = true;
+            }
+        }
+        return componentRoot;
+    }
+
+    /**
+     * Computes the tree indices and the node potentials from the arcs in state tree.
+     */
+    private void buildTree()
+    {
+        int nodeNum = n + 1;
+        parent = new int[nodeNum];
+        pred = new int[nodeNum];
+        predDir = new int[nodeNum];
+        thread = new int[nodeNum];
+        revThread = new int[nodeNum];
+        succNum = new int[nodeNum];
+        lastSucc = new int[nodeNum];
+        dirtyRevs = new int[nodeNum];
+        pi = new double[nodeNum];
+
+        int[] start = new int[nodeNum + 1];
+        for (int e = 0; e < m + n; e++) {
+            if (state[e] == STATE_TREE) {
+                start[source[e] + 1]++;
+                start[target[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < nodeNum; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] adjacent = new int[start[nodeNum]];
+        int[] pos = Arrays.copyOf(start, nodeNum);
+        for (int e = 0; e < m + n; e++) {
+            if (state[e] == STATE_TREE) {
+                adjacent[pos[source[e]]++] = e;
+                adjacent[pos[target[e]]++] = e;
+            }
+        }
+
+        // iterative depth-first search from the root computing the preorder
+        int[] preorder = new int[nodeNum];
+        int[] stack = new int[nodeNum];
+        int stackSize = 0;
+        int count = 0;
+        parent[root] = -1;
+        pred[root] = -1;
+        stack[stackSize++] = root;
+        while (stackSize > 0) {
+            int u = stack[--stackSize];
+            preorder[count++] = u;
+            for (int i = start[u]; i < start[u + 1]; i++) {
+                int e = adjacent[i];
+                int w = source[e] == u ? target[e] : source[e];
+                if (w == parent[u] && e == pred[u]) {
+                    continue;
+                }
+                parent[w] = u;
+                pred[w] = e;
+                if (source[e] == w) {
+                    predDir[w] = DIR_UP;
+                    pi[w] = pi[u] - cost[e];
+                } else {
+                    predDir[w] = DIR_DOWN;
+                    pi[w] = pi[u] + cost[e];
+                }
+                stack[stackSize++] = w;
+            }
+        }
+        assert count == nodeNum;
+
+        for (int i = 0; i < nodeNum; i++) {
+            int u = preorder[i];
+            int next = preorder[(i + 1) % nodeNum];
+            thread[u] = next;
+            revThread[next] = u;
+            succNum[u] = 1;
+        }
+        for (int i = nodeNum - 1; i > 0; i--) {
+            int u = preorder[i];
+            succNum[parent[u]] += succNum[u];
+        }
+        int[] index = new int[nodeNum];
+        for (int i = 0; i < nodeNum; i++) {
+            index[preorder[i]] = i;
+        }
+        for (int u = 0; u < nodeNum; u++) {
+            lastSucc[u] = preorder[index[u] + succNum[u] - 1];
+        }
+    }
+
+    /**
+     * Tests whether every vertex can send a positive amount of flow to the root along the tree.
+     *
+     * @return true if the spanning tree is strongly feasible
+     */
+    private boolean isStronglyFeasible()
+    {
+        for (int u = 0; u < n; u++) {
+            int e = pred[u];
+            if (predDir[u] == DIR_UP ? cap[e] != INF && flow[e] == cap[e] : flow[e] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the next entering arc using block search.
+     *
+     * @return true if an entering arc was found, false if the current solution is optimal
+     */
+    private boolean findEnteringArc()
+    {
+        double min = -epsilon;
+        int cnt = blockSize;
+        inArc = -1;
+        for (int i = 0; i < m; i++) {
+            int e = nextArc + i < m ? nextArc + i : nextArc + i - m;
+            double c = state[e] * (cost[e] + pi[source[e]] - pi[target[e]]);
+            if (c < min) {
+                min = c;
+                inArc = e;
+            }
+            if (--cnt == 0) {
+                if (inArc != -1) {
+                    nextArc = e + 1 < m ? e + 1 : 0;
+                    return true;
+                }
+                cnt = blockSize;
+            }
+        }
+        return inArc != -1;
+    }
+
+    /**
+     * Find the join node, i.e. the common ancestor of the endpoints of the entering arc.
+     */
+    private void findJoinNode()
+    {
+        int u = source[inArc];
+        int v = target[inArc];
+        while (u != v) {
+            if (succNum[u] < succNum[v]) {
+                u = parent[u];
+            } else {
+                v = parent[v];
+            }
+        }
+        join = u;
+    }
+
+    /**
+     * Find the leaving arc of the cycle formed by the entering arc and the tree, using the
+     * strongly feasible tree rule.
+     *
+     * @return true if the leaving arc is not the entering arc
+     */
+    private boolean findLeavingArc()
+    {
+        int first;
+        int second;
+        if (state[inArc] == STATE_LOWER) {
+            first = source[inArc];
+            second = target[inArc];
+        } else {
+            first = target[inArc];
+            second = source[inArc];
+        }
+        delta = cap[inArc];
+        int result = 0;
+
+        // search the cycle from the first node to the join node
+        for (int u = first; u != join; u = parent[u]) {
+            int e = pred[u];
+            long d = flow[e];
+            if (predDir[u] == DIR_DOWN) {
+                d = cap[e] == INF ? INF : cap[e] - d;
+            }
+            if (d < delta) {
+                delta = d;
+                uOut = u;
+                result = 1;
+            }
+        }
+
+        // search the cycle from the second node to the join node
+        for (int u = second; u != join; u = parent[u]) {
+            int e = pred[u];
+            long d = flow[e];
+            if (predDir[u] == DIR_UP) {
+                d = cap[e] == INF ? INF : cap[e] - d;
+            }
+            if (d <= delta) {
+                delta = d;
+                uOut = u;
+                result = 2;
+            }
+        }
+
+        if (result == 1) {
+            uIn = first;
+            vIn = second;
+        } else {
+            uIn = second;
+            vIn = first;
+        }
+        return result != 0;
+    }
+
+    /**
+     * Change the flow along the cycle and the state of the entering and leaving arcs.
+     *
+     * @param change whether the leaving arc is not the entering arc
+     */
+    private void changeFlow(boolean change)
+    {
+        if (delta > 0) {
+            long val = state[inArc] * delta;
+            flow[inArc] += val;
+            for (int u = source[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] -= predDir[u] * val;
+            }
+            for (int u = target[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] += predDir[u] * val;
+            }
+        }
+        if (change) {
+            state[inArc] = STATE_TREE;
+            state[pred[uOut]] = flow[pred[uOut]] == 0 ? STATE_LOWER : STATE_UPPER;
+        } else {
+            state[inArc] = -state[inArc];
+        }
+    }
+
+    /**
+     * Update the tree indices after a pivot. The subtree of the leaving arc is reattached using
+     * the entering arc, reversing the path from {@code uIn} to {@code uOut}.
+     */
+    private void updateTreeStructure()
+    {
+        int oldRevThread = revThread[uOut];
+        int oldSuccNum = succNum[uOut];
+        int oldLastSucc = lastSucc[uOut];
+        int vOut = parent[uOut];
+
+        if (uIn == uOut) {
+            // update parent, pred and direction
+            parent[uIn] = vIn;
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+
+            // update the thread
+            if (thread[vIn] != uOut) {
+                int after = thread[oldLastSucc];
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+                after = thread[vIn];
+                thread[vIn] = uOut;
+                revThread[uOut] = vIn;
+                thread[oldLastSucc] = after;
+                revThread[after] = oldLastSucc;
+            }
+        } else {
+            // if oldRevThread is vIn then join and vOut coincide
+            int threadContinue = oldRevThread == vIn ? thread[oldLastSucc] : thread[vIn];
+
+            // update thread and parent along the stem nodes between uIn and uOut
+            int stem = uIn;
+            int parStem = vIn;
+            int last = lastSucc[uIn];
+            int after = thread[last];
+            thread[vIn] = uIn;
+            int dirtyRevsSize = 0;
+            dirtyRevs[dirtyRevsSize++] = vIn;
+            while (stem != uOut) {
+                // insert the next stem node into the thread list
+                int nextStem = parent[stem];
+                thread[last] = nextStem;
+                dirtyRevs[dirtyRevsSize++] = last;
+
+                // remove the subtree of stem from the thread list
+                int before = revThread[stem];
+                thread[before] = after;
+                revThread[after] = before;
+
+                // change the parent node and shift stem nodes
+                parent[stem] = parStem;
+                parStem = stem;
+                stem = nextStem;
+
+                // update last and after
+                last = lastSucc[stem] == lastSucc[parStem] ? revThread[parStem] : lastSucc[stem];
+                after = thread[last];
+            }
+            parent[uOut] = parStem;
+            thread[last] = threadContinue;
+            revThread[threadContinue] = last;
+            lastSucc[uOut] = last;
+
+            // remove the subtree of uOut from the thread list, unless oldRevThread is vIn
+            if (oldRevThread != vIn) {
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+            }
+
+            // update revThread using the new thread values
+            for (int i = 0; i < dirtyRevsSize; i++) {
+                int u = dirtyRevs[i];
+                revThread[thread[u]] = u;
+            }
+
+            // update pred, direction, lastSucc and succNum for the stem nodes from uOut to uIn
+            int tmpSc = 0;
+            int tmpLs = lastSucc[uOut];
+            for (int u = uOut, p = parent[u]; u != uIn; u = p, p = parent[u]) {
+                pred[u] = pred[p];
+                predDir[u] = -predDir[p];
+                tmpSc += succNum[u] - succNum[p];
+                succNum[u] = tmpSc;
+                lastSucc[p] = tmpLs;
+            }
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+            succNum[uIn] = oldSuccNum;
+        }
+
+        // update lastSucc from vIn towards the root
+        int upLimitOut = lastSucc[join] == vIn ? join : -1;
+        int lastSuccOut = lastSucc[uOut];
+        for (int u = vIn; u != -1 && lastSucc[u] == vIn; u = parent[u]) {
+            lastSucc[u] = lastSuccOut;
+        }
+
+        // update lastSucc from vOut towards the root
+        if (join != oldRevThread && vIn != oldRevThread) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = oldRevThread;
+            }
+        } else if (lastSuccOut != oldLastSucc) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = lastSuccOut;
+            }
+        }
+
+        // update succNum from vIn to join and from vOut to join
+        for (int u = vIn; u != join; u = parent[u]) {
+            succNum[u] += oldSuccNum;
+        }
+        for (int u = vOut; u != join; u = parent[u]) {
+            succNum[u] -= oldSuccNum;
+        }
+    }
+
+    /**
+     * Update the potentials of the subtree which was reattached.
+     */
+    private void updatePotential()
+    {
+        double sigma = pi[vIn] - pi[uIn] - predDir[uIn] * cost[inArc];
+        int end = thread[lastSucc[uIn]];
+        for (int u = uIn; u != end; u = thread[u]) {
+            pi[u] += sigma;
+        }
+    }
+
+    /**
+     * Checks the feasibility of the flow and creates the solution.
+     *
+     * @return the solution to the minimum cost flow problem
+     */
+    private MinimumCostFlow<E> finish()
+    {
+        for (int e = m; e < m + n; e++) {
+            if (flow[e] > 0) {
+                throw new IllegalArgumentException(
+                    "Specified flow network problem has no feasible solution");
+            }
+        }
+
+        Map<E, Double> flowMap = CollectionUtil.newHashMapWithExpectedSize(m);
+        double totalCost = 0;
+        for (int e = 0; e < m; e++) {
+            double flowOnArc = flow[e] + lower[e];
+            flowMap.put(edges.get(e), flowOnArc);
+            totalCost += flowOnArc * cost[e];
+        }
+        return new MinimumCostFlowImpl<>(totalCost, flowMap);
+    }
+
+    /**
+     * Union two sets of a union-find structure where negative entries denote roots.
+     *
+     * @return false if the elements are already in the same set
+     */
+    private static boolean union(int[] forest, int a, int b)
+    {
+        int ra = find(forest, a);
+        int rb = find(forest, b);
+        if (ra == rb) {
+            return false;
+        }
+        if (forest[ra] > forest[rb]) {
+            int tmp = ra;
+            ra = rb;
+            rb = tmp;
+        }
+        forest[ra] += forest[rb];
+        forest[rb] = ra;
+        return true;
+    }
+
+    private static int find(int[] forest, int a)
+    {
+        int r = a;
+        while (forest[r] >= 0) {
+            r = forest[r];
+        }
+        while (forest[a] >= 0) {
+            int next = forest[a];
+            forest[a] = r;
+            a = next;
+        }
+        return r;
+    }
+}
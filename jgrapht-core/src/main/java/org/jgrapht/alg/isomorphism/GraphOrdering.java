@@ -33,6 +33,12 @@ import java.util.*;
 
 final class GraphOrdering<V, E>
 {
+    /**
+     * Graphs with more vertices cache edges in sorted adjacency arrays instead of an adjacency
+     * matrix.
+     */
+    static final int DENSE_CACHE_MAX_VERTICES = 2048;
+
     private final Graph<V, E> graph;
 
     private final Map<V, Integer> mapVertexToOrder;
@@ -51,6 +57,12 @@ final class GraphOrdering<V, E>
      * </ul>
      */
     private final byte[] adjMatrix;
+    /**
+     * if sparse caching is enabled, the neighbors of the outgoing edges of each vertex sorted by
+     * their number, together with the corresponding edges. Both are computed lazily.
+     */
+    private final int[][] sortedNeighbors;
+    private final E[][] sortedEdges;
 
     private final boolean cacheEdges;
 
@@ -59,10 +71,30 @@ final class GraphOrdering<V, E>
      * @param orderByDegree should the vertices be ordered by their degree. This speeds up the VF2
      *        algorithm.
      * @param cacheEdges if true, the class creates a adjacency matrix and two arrays for incoming
-     *        and outgoing edges for fast access.
+     *        and outgoing edges for fast access. Graphs with more than
+     *        {@link #DENSE_CACHE_MAX_VERTICES} vertices use sorted adjacency arrays instead of the
+     *        adjacency matrix.
      */
-    @SuppressWarnings("unchecked")
     public GraphOrdering(Graph<V, E> graph, boolean orderByDegree, boolean cacheEdges)
+    {
+        this(
+            graph, orderByDegree, cacheEdges,
+            graph.vertexSet().size() > DENSE_CACHE_MAX_VERTICES);
+    }
+
+    /**
+     * @param graph the graph to be ordered
+     * @param orderByDegree should the vertices be ordered by their degree. This speeds up the VF2
+     *        algorithm.
+     * @param cacheEdges if true, the class creates two arrays for incoming and outgoing edges and
+     *        an edge lookup structure for fast access.
+     * @param sparseCache if true, edges are looked up using binary search in the sorted neighbors
+     *        of each vertex, which requires memory linear in the number of edges. Otherwise, an
+     *        adjacency matrix is used. Ignored if edges are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    GraphOrdering(
+        Graph<V, E> graph, boolean orderByDegree, boolean cacheEdges, boolean sparseCache)
     {
         this.graph = graph;
         this.cacheEdges = cacheEdges;
@@ -79,14 +111,24 @@ final class GraphOrdering<V, E>
         if (cacheEdges) {
             outgoingEdges = new int[vertexCount][];
             incomingEdges = new int[vertexCount][];
-            edgeCache = (E[]) new Object[vertexCount * vertexCount];
-            adjMatrix = new byte[vertexCount * vertexCount];
         } else {
             outgoingEdges = null;
             incomingEdges = null;
+        }
+        if (cacheEdges && !sparseCache) {
+            edgeCache = (E[]) new Object[vertexCount * vertexCount];
+            adjMatrix = new byte[vertexCount * vertexCount];
+        } else {
             edgeCache = null;
             adjMatrix = null;
         }
+        if (cacheEdges && sparseCache) {
+            sortedNeighbors = new int[vertexCount][];
+            sortedEdges = (E[][]) new Object[vertexCount][];
+        } else {
+            sortedNeighbors = null;
+            sortedEdges = null;
+        }
     }
 
     /**
@@ -173,9 +215,12 @@ final class GraphOrdering<V, E>
      */
     public boolean hasEdge(int v1Number, int v2Number)
     {
+        if (sortedNeighbors != null) {
+            return lookupEdge(v1Number, v2Number) != null;
+        }
 
         int cacheIndex = 0;
-        if (cacheEdges) {
+        if (adjMatrix != null) {
             cacheIndex = v1Number * vertexCount + v2Number;
             final byte cache = adjMatrix[cacheIndex];
             if (cache != 0) {
@@ -225,8 +270,11 @@ final class GraphOrdering<V, E>
      */
     public E getEdge(int v1Number, int v2Number)
     {
+        if (sortedNeighbors != null) {
+            return lookupEdge(v1Number, v2Number);
+        }
 
-        if (cacheEdges) {
+        if (adjMatrix != null) {
             final int cacheIndex = v1Number * vertexCount + v2Number;
             final byte containsEdge = adjMatrix[cacheIndex];
             if (containsEdge == 0) {
@@ -245,6 +293,99 @@ final class GraphOrdering<V, E>
         return edge;
     }
 
+    /**
+     * Fill all caches eagerly. Afterwards this ordering is never modified again and can be
+     * accessed by multiple threads concurrently, as long as the graph is not modified.
+     */
+    void precomputeCaches()
+    {
+        if (!cacheEdges) {
+            return;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            getOutEdges(v);
+            getInEdges(v);
+            if (sortedNeighbors != null) {
+                getSortedNeighbors(v);
+            }
+        }
+        if (adjMatrix != null) {
+            boolean undirected = graph.getType().isUndirected();
+            for (E edge : graph.edgeSet()) {
+                int source = mapVertexToOrder.get(graph.getEdgeSource(edge));
+                int target = mapVertexToOrder.get(graph.getEdgeTarget(edge));
+                cacheEdge(source * vertexCount + target, edge);
+                if (undirected) {
+                    cacheEdge(target * vertexCount + source, edge);
+                }
+            }
+            for (int i = 0; i < adjMatrix.length; i++) {
+                if (adjMatrix[i] == 0) {
+                    adjMatrix[i] = (byte) -1;
+                }
+            }
+        }
+    }
+
+    private void cacheEdge(int cacheIndex, E edge)
+    {
+        if (adjMatrix[cacheIndex] <= 0) {
+            adjMatrix[cacheIndex] = (byte) 1;
+            edgeCache[cacheIndex] = edge;
+        }
+    }
+
+    /**
+     * Find an edge using binary search in the sorted neighbors. For undirected graphs the vertex
+     * with the smaller degree is searched.
+     */
+    private E lookupEdge(int v1Number, int v2Number)
+    {
+        int from = v1Number;
+        int to = v2Number;
+        if (graph.getType().isUndirected()
+            && getSortedNeighbors(to).length < getSortedNeighbors(from).length)
+        {
+            from = v2Number;
+            to = v1Number;
+        }
+        int pos = Arrays.binarySearch(getSortedNeighbors(from), to);
+        return pos < 0 ? null : sortedEdges[from][pos];
+    }
+
+    @SuppressWarnings("unchecked")
+    private int[] getSortedNeighbors(int vertexNumber)
+    {
+        int[] neighbors = sortedNeighbors[vertexNumber];
+        if (neighbors != null) {
+            return neighbors;
+        }
+
+        V v = getVertex(vertexNumber);
+        Set<E> edgeSet = graph.outgoingEdgesOf(v);
+
+        // sort by neighbor number, keeping the position of the edge in the lower bits
+        Object[] edges = edgeSet.toArray();
+        long[] keys = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            E edge = (E) edges[i];
+            V source = graph.getEdgeSource(edge), target = graph.getEdgeTarget(edge);
+            long u = mapVertexToOrder.get(source.equals(v) ? target : source);
+            keys[i] = (u << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        neighbors = new int[edges.length];
+        E[] sorted = (E[]) new Object[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            neighbors[i] = (int) (keys[i] >>> 32);
+            sorted[i] = (E) edges[(int) keys[i]];
+        }
+        sortedNeighbors[vertexNumber] = neighbors;
+        sortedEdges[vertexNumber] = sorted;
+        return neighbors;
+    }
+
     public int getVertexNumber(V v)
     {
         return mapVertexToOrder.get(v);
@@ -58,26 +58,19 @@ public class IsomorphicGraphMapping<V, E>
         this.graph1 = g1.getGraph();
         this.graph2 = g2.getGraph();
 
-        this.forwardMapping =
-            CollectionUtil.newHashMapWithExpectedSize(this.graph1.vertexSet().size());
-        this.backwardMapping =
-            CollectionUtil.newHashMapWithExpectedSize(this.graph1.vertexSet().size());
-
-        for (V v : graph1.vertexSet()) {
-            int vNumber = g1.getVertexNumber(v);
-            int uNumber = core1[vNumber];
-
-            if (uNumber != NULL_NODE) {
-                forwardMapping.put(v, g2.getVertex(uNumber));
-            }
-        }
-
-        for (V v : graph2.vertexSet()) {
-            int vNumber = g2.getVertexNumber(v);
-            int uNumber = core2[vNumber];
-
-            if (uNumber != NULL_NODE) {
-                backwardMapping.put(v, g1.getVertex(uNumber));
+        // the mapping is built from the side of the (possibly much smaller) second graph
+        int n2 = g2.getVertexCount();
+        this.forwardMapping = CollectionUtil.newHashMapWithExpectedSize(n2);
+        this.backwardMapping = CollectionUtil.newHashMapWithExpectedSize(n2);
+
+        for (int uNumber = 0; uNumber < n2; uNumber++) {
+            int vNumber = core2[uNumber];
+
+            if (vNumber != NULL_NODE) {
+                V u = g2.getVertex(uNumber);
+                V v = g1.getVertex(vNumber);
+                forwardMapping.put(v, u);
+                backwardMapping.put(u, v);
             }
         }
     }
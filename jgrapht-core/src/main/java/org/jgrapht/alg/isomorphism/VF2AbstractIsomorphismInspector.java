@@ -32,6 +32,11 @@ import java.util.*;
  * <p>
  * This implementation of the VF2 algorithm does not support graphs with multiple edges.
  *
+ * <p>
+ * When edges are cached, graphs with up to 2048 vertices answer edge queries using a lazily filled
+ * adjacency matrix. Larger graphs use the neighbors of each vertex sorted by their order and
+ * binary search, which requires memory linear in the number of edges.
+ *
  * @param <V> the type of the vertices
  * @param <E> the type of the edges
  */
@@ -20,6 +20,9 @@ package org.jgrapht.alg.isomorphism;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 /**
  * This is an implementation of the VF2 algorithm using its feature of detecting subgraph
@@ -47,12 +50,31 @@ import java.util.*;
  * <p>
  * This implementation of the VF2 algorithm does not support graphs with multiple (parallel) edges.
  *
+ * <p>
+ * Caching edges is also recommended for large target graphs, since their edges are cached in
+ * sorted adjacency arrays instead of a quadratic size adjacency matrix.
+ *
+ * <p>
+ * Besides the lazy iterator returned by {@link #getMappings()}, the mappings can be enumerated in
+ * parallel. The search tree is split according to the vertex of the first graph to which the first
+ * vertex of the second graph is mapped, and the resulting subtrees are explored independently.
+ * Method {@link #forEachMapping(ForkJoinPool, long, Predicate)} explores them as work-stealing
+ * tasks of a {@link ForkJoinPool} and supports early termination, while
+ * {@link #getMappingsSpliterator()} can be used to create a parallel stream. In both cases the
+ * graphs must not be modified during the enumeration.
+ *
  * @param <V> the type of the vertices
  * @param <E> the type of the edges
  */
 public class VF2SubgraphIsomorphismInspector<V, E>
     extends VF2AbstractIsomorphismInspector<V, E>
 {
+    /**
+     * Amount of tasks per worker thread of a parallel enumeration.
+     */
+    private static final int TASKS_PER_THREAD = 16;
+
+    private boolean concurrentAccessPrepared;
 
     /**
      * Construct a new VF2 subgraph isomorphism inspector.
@@ -115,4 +137,153 @@ public class VF2SubgraphIsomorphismInspector<V, E>
         return new VF2SubgraphMappingIterator<>(
             ordering1, ordering2, vertexComparator, edgeComparator);
     }
+
+    /**
+     * Get a spliterator over all mappings. The spliterator can be split into independent parts of
+     * the search tree and is thus suitable for parallel streams, e.g.
+     * {@code StreamSupport.stream(inspector.getMappingsSpliterator(), true)}. Short-circuiting
+     * operations such as {@code findAny} or {@code limit} terminate the enumeration early. The
+     * encounter order of the mappings is the order of {@link #getMappings()}.
+     *
+     * @return a spliterator over all mappings
+     */
+    public Spliterator<GraphMapping<V, E>> getMappingsSpliterator()
+    {
+        prepareConcurrentAccess();
+        return new VF2SubgraphMappingSpliterator<>(
+            ordering1, ordering2, vertexComparator, edgeComparator, 0, ordering1.getVertexCount());
+    }
+
+    /**
+     * Enumerate the mappings in parallel using the provided pool. The search tree is split into
+     * tasks which are balanced by the work-stealing of the pool. The action is called from the
+     * threads of the pool, possibly concurrently, and the order of the mappings is unspecified.
+     *
+     * @param pool the pool to execute the enumeration
+     * @param maxMappings the maximum number of mappings which are passed to the action
+     * @param action the action to perform for each mapping. If it returns false, the enumeration
+     *        stops as soon as possible.
+     * @return the number of mappings which were passed to the action
+     * @throws IllegalArgumentException if the maximum number of mappings is negative
+     */
+    public long forEachMapping(
+        ForkJoinPool pool, long maxMappings, Predicate<? super GraphMapping<V, E>> action)
+    {
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (maxMappings < 0) {
+            throw new IllegalArgumentException("Maximum number of mappings must be non-negative");
+        }
+        if (maxMappings == 0) {
+            return 0;
+        }
+
+        prepareConcurrentAccess();
+        int n1 = ordering1.getVertexCount();
+        int grain = Math.max(1, n1 / (pool.getParallelism() * TASKS_PER_THREAD));
+        Enumeration enumeration = new Enumeration(maxMappings, action, grain);
+        pool.invoke(enumeration.new Task(0, n1));
+        return enumeration.count.get();
+    }
+
+    /**
+     * Precompute the caches of the orderings in order to allow concurrent access.
+     */
+    private synchronized void prepareConcurrentAccess()
+    {
+        if (!concurrentAccessPrepared) {
+            ordering1.precomputeCaches();
+            ordering2.precomputeCaches();
+            concurrentAccessPrepared = true;
+        }
+    }
+
+    /**
+     * The shared state of a parallel enumeration.
+     */
+    private class Enumeration
+    {
+        private final long maxMappings;
+        private final Predicate<? super GraphMapping<V, E>> action;
+        private final int grain;
+        private final AtomicLong count;
+        private volatile boolean stopped;
+
+        Enumeration(long maxMappings, Predicate<? super GraphMapping<V, E>> action, int grain)
+        {
+            this.maxMappings = maxMappings;
+            this.action = action;
+            this.grain = grain;
+            this.count = new AtomicLong();
+        }
+
+        /**
+         * Reserve a mapping, respecting the maximum number of mappings.
+         */
+        private boolean acquire()
+        {
+            while (true) {
+                if (stopped) {
+                    return false;
+                }
+                long c = count.get();
+                if (c >= maxMappings) {
+                    stopped = true;
+                    return false;
+                }
+                if (count.compareAndSet(c, c + 1)) {
+                    if (c + 1 == maxMappings) {
+                        stopped = true;
+                    }
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Enumerate the mappings where the first vertex of the second graph is mapped to a vertex
+         * of the first graph in a given range.
+         */
+        private class Task
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int from;
+            private final int to;
+
+            Task(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (stopped) {
+                    return;
+                }
+                if (to - from > grain) {
+                    int mid = from + (to - from) / 2;
+                    invokeAll(new Task(from, mid), new Task(mid, to));
+                    return;
+                }
+
+                VF2SubgraphMappingIterator<V, E> it = new VF2SubgraphMappingIterator<>(
+                    ordering1, ordering2, vertexComparator, edgeComparator, from, to,
+                    () -> stopped);
+                while (it.hasNext()) {
+                    GraphMapping<V, E> mapping = it.next();
+                    if (!acquire()) {
+                        return;
+                    }
+                    if (!action.test(mapping)) {
+                        stopped = true;
+                        return;
+                    }
+                }
+            }
+        }
+    }
 }
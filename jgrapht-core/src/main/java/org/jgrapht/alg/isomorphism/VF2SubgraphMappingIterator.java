@@ -20,6 +20,7 @@ package org.jgrapht.alg.isomorphism;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * This class is used to iterate over all existing (subgraph isomorphic) mappings between two
@@ -31,15 +32,63 @@ import java.util.*;
 class VF2SubgraphMappingIterator<V, E>
     extends VF2MappingIterator<V, E>
 {
+    /*
+     * The range of vertices of graph1 to which the first vertex of graph2 is mapped.
+     */
+    private final int rootFrom;
+    private final int rootTo;
+    private final BooleanSupplier cancelled;
+    private boolean exhausted;
+
     public VF2SubgraphMappingIterator(
         GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
         Comparator<V> vertexComparator, Comparator<E> edgeComparator)
+    {
+        this(
+            ordering1, ordering2, vertexComparator, edgeComparator, 0,
+            ordering1.getVertexCount(), () -> false);
+    }
+
+    /**
+     * Create an iterator over the part of the search tree where the first vertex of graph2 is
+     * mapped to a vertex of graph1 in the range [rootFrom, rootTo). Iterators over disjoint ranges
+     * are independent and can be used by different threads, as long as the caches of the
+     * orderings have been precomputed.
+     *
+     * @param ordering1 the ordering of graph1
+     * @param ordering2 the ordering of graph2
+     * @param vertexComparator comparator for semantic equivalence of vertices
+     * @param edgeComparator comparator for semantic equivalence of edges
+     * @param rootFrom the first vertex of the range (inclusive)
+     * @param rootTo the last vertex of the range (exclusive)
+     * @param cancelled checked during the search, if true the iteration stops
+     */
+    VF2SubgraphMappingIterator(
+        GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
+        Comparator<V> vertexComparator, Comparator<E> edgeComparator, int rootFrom, int rootTo,
+        BooleanSupplier cancelled)
     {
         super(ordering1, ordering2, vertexComparator, edgeComparator);
+        this.rootFrom = rootFrom;
+        this.rootTo = rootTo;
+        this.cancelled = cancelled;
     }
 
     @Override
     protected IsomorphicGraphMapping<V, E> match()
+    {
+        // never restart the search once it has finished or has been cancelled
+        if (exhausted) {
+            return null;
+        }
+        IsomorphicGraphMapping<V, E> mapping = search();
+        if (mapping == null) {
+            exhausted = true;
+        }
+        return mapping;
+    }
+
+    private IsomorphicGraphMapping<V, E> search()
     {
         VF2State<V, E> s;
 
@@ -56,7 +105,13 @@ class VF2SubgraphMappingIterator<V, E>
                 ordering1, ordering2, vertexComparator, edgeComparator);
 
             if (g2.vertexSet().isEmpty()) {
-                return (hadOneMapping != null) ? null : s.getCurrentMapping();
+                // the empty mapping belongs to the range of the first vertex
+                return (hadOneMapping != null || rootFrom > 0) ? null : s.getCurrentMapping();
+            }
+
+            // start right before the range, nextPair advances to its first vertex
+            if (rootFrom > 0) {
+                s.addVertex1 = rootFrom - 1;
             }
         } else {
             stateStack.pop().backtrack();
@@ -65,6 +120,13 @@ class VF2SubgraphMappingIterator<V, E>
 
         while (true) {
             while (s.nextPair()) {
+                if (cancelled.getAsBoolean()) {
+                    return null;
+                }
+                if (s.coreLen == 0 && s.addVertex1 >= rootTo) {
+                    // end of the range
+                    break;
+                }
                 if (s.isFeasiblePair()) {
                     stateStack.push(s);
                     s = new VF2SubgraphIsomorphismState<>(s);
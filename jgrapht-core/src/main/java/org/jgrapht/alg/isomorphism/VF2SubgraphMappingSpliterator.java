@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A spliterator over all existing (subgraph isomorphic) mappings between two graphs. The search
+ * tree is split by the vertex of graph1 to which the first vertex of graph2 is mapped, thus a
+ * spliterator can be split until it covers a single such vertex, as long as its traversal has not
+ * started. The encounter order is the same as the order of {@link VF2SubgraphMappingIterator}.
+ *
+ * <p>
+ * The caches of the orderings must be precomputed before the spliterator is used by multiple
+ * threads.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ *
+ * @author Dimitrios Michail
+ */
+class VF2SubgraphMappingSpliterator<V, E>
+    implements Spliterator<GraphMapping<V, E>>
+{
+    private final GraphOrdering<V, E> ordering1, ordering2;
+    private final Comparator<V> vertexComparator;
+    private final Comparator<E> edgeComparator;
+
+    private int from;
+    private final int to;
+    private VF2SubgraphMappingIterator<V, E> iterator;
+
+    VF2SubgraphMappingSpliterator(
+        GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
+        Comparator<V> vertexComparator, Comparator<E> edgeComparator, int from, int to)
+    {
+        this.ordering1 = ordering1;
+        this.ordering2 = ordering2;
+        this.vertexComparator = vertexComparator;
+        this.edgeComparator = edgeComparator;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super GraphMapping<V, E>> action)
+    {
+        if (iterator == null) {
+            iterator = new VF2SubgraphMappingIterator<>(
+                ordering1, ordering2, vertexComparator, edgeComparator, from, to, () -> false);
+        }
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<GraphMapping<V, E>> trySplit()
+    {
+        if (iterator != null || to - from < 2) {
+            return null;
+        }
+        int mid = from + (to - from) / 2;
+        Spliterator<GraphMapping<V, E>> prefix = new VF2SubgraphMappingSpliterator<>(
+            ordering1, ordering2, vertexComparator, edgeComparator, from, mid);
+        from = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize()
+    {
+        // the number of mappings is unknown, use the number of subtrees
+        return iterator == null ? to - from : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics()
+    {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,827 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Approximate betweenness centrality based on sampling shortest paths.
+ *
+ * <p>
+ * Instead of computing all shortest paths of the graph, the algorithm repeatedly samples a pair of
+ * distinct vertices $(s,t)$ uniformly at random together with one of the shortest paths from $s$
+ * to $t$ chosen uniformly at random. The fraction of samples whose path contains $v$ as an inner
+ * vertex is an unbiased estimator of $b(v) = \frac{1}{n(n-1)} \sum_{s \neq v \neq t}
+ * \frac{\sigma_{st}(v)}{\sigma_{st}}$. With probability at least $1-\delta$ all estimates are
+ * within $\epsilon$ of the true values $b(v)$. The algorithm is described in the following papers:
+ * <ul>
+ * <li>Matteo Riondato and Evgenios M. Kornaropoulos. Fast approximation of betweenness centrality
+ * through sampling. Data Mining and Knowledge Discovery, 30(2):438–475, 2016.</li>
+ * <li>Michele Borassi and Emanuele Natale. KADABRA is an ADaptive Algorithm for Betweenness via
+ * Random Approximation. ACM Journal of Experimental Algorithmics, 24:1–35, 2019.</li>
+ * </ul>
+ *
+ * <p>
+ * The maximum number of samples $\omega = \frac{c}{\epsilon^2} (\lfloor \log_2 (VD-2) \rfloor + 1
+ * + \ln \frac{2}{\delta})$ with $c = 0.5$ depends on an upper bound $VD$ of the vertex diameter of
+ * the graph, which is the maximum number of vertices of a shortest path. For undirected unweighted
+ * graphs the bound is computed using one breadth-first search per connected component, otherwise
+ * the number of vertices is used. Following KADABRA the sampling stops adaptively, usually long
+ * before $\omega$ samples, as soon as the confidence intervals of all vertices, computed with a
+ * uniform allocation of the failure probability among the vertices, have width at most $\epsilon$.
+ *
+ * <p>
+ * For unweighted graphs each sample is computed with a balanced bidirectional breadth-first search
+ * which expands the side with the smaller sum of degrees, for weighted graphs with a Dijkstra
+ * search from $s$ which stops when $t$ is settled. Thus the cost of a sample depends on the part of
+ * the graph around $s$ and $t$ which is explored and not on the total size of the graph. The
+ * auxiliary arrays are reset in time proportional to the number of explored vertices.
+ *
+ * <p>
+ * If a {@link ThreadPoolExecutor} is supplied, each of its threads computes a share of the samples
+ * of every round using its own random number generator, which is seeded from the seed of the
+ * algorithm. The results are therefore reproducible for a given seed and degree of parallelism.
+ * It is up to a user of this algorithm to handle the creation and termination of the provided
+ * executor. For utility methods to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+ *
+ * <p>
+ * The returned scores use the same scale as {@link BetweennessCentrality}, i.e. they are
+ * estimates of its (optionally normalized) scores. Note that the error guarantee is stated with
+ * respect to $b(v)$.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ApproximateBetweennessCentrality<V, E>
+    implements VertexScoringAlgorithm<V, Double>
+{
+    /**
+     * Default seed of the random number generator.
+     */
+    public static final long SEED_DEFAULT = 17L;
+
+    /**
+     * The universal constant of the sample size.
+     */
+    private static final double C = 0.5;
+
+    /**
+     * Underlying graph
+     */
+    private final Graph<V, E> graph;
+    /**
+     * The maximum additive error
+     */
+    private final double epsilon;
+    /**
+     * The failure probability
+     */
+    private final double delta;
+    /**
+     * Whether to normalize scores
+     */
+    private final boolean normalize;
+    /**
+     * Seed of the random number generators
+     */
+    private final long seed;
+    /**
+     * Executor used for parallelization, or null for a sequential execution.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The actual scores
+     */
+    private Map<V, Double> scores;
+    /**
+     * The number of samples used
+     */
+    private long numberOfSamples;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon the maximum additive error of the estimation of $b(v)$
+     * @param delta the probability that the error of some estimation is larger than
+     *        {@code epsilon}
+     */
+    public ApproximateBetweennessCentrality(Graph<V, E> graph, double epsilon, double delta)
+    {
+        this(graph, epsilon, delta, false, SEED_DEFAULT, null);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon the maximum additive error of the estimation of $b(v)$
+     * @param delta the probability that the error of some estimation is larger than
+     *        {@code epsilon}
+     * @param normalize whether to normalize the scores the same way as
+     *        {@link BetweennessCentrality}
+     * @param seed seed of the random number generator
+     */
+    public ApproximateBetweennessCentrality(
+        Graph<V, E> graph, double epsilon, double delta, boolean normalize, long seed)
+    {
+        this(graph, epsilon, delta, normalize, seed, null);
+    }
+
+    /**
+     * Construct a new instance which uses the provided {@code executor} in order to compute the
+     * samples in parallel. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code executor}.
+     *
+     * @param graph the input graph
+     * @param epsilon the maximum additive error of the estimation of $b(v)$
+     * @param delta the probability that the error of some estimation is larger than
+     *        {@code epsilon}
+     * @param normalize whether to normalize the scores the same way as
+     *        {@link BetweennessCentrality}
+     * @param seed seed of the random number generators
+     * @param executor executor which will be used for parallelization, if null the computation is
+     *        performed sequentially
+     */
+    public ApproximateBetweennessCentrality(
+        Graph<V, E> graph, double epsilon, double delta, boolean normalize, long seed,
+        ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (epsilon <= 0d || epsilon >= 1d) {
+            throw new IllegalArgumentException("Epsilon must be in (0,1)");
+        }
+        this.epsilon = epsilon;
+        if (delta <= 0d || delta >= 1d) {
+            throw new IllegalArgumentException("Delta must be in (0,1)");
+        }
+        this.delta = delta;
+        this.normalize = normalize;
+        this.seed = seed;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Get the number of shortest paths which were sampled.
+     *
+     * @return the number of samples
+     */
+    public long getNumberOfSamples()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return numberOfSamples;
+    }
+
+    /**
+     * Compute the centrality index
+     */
+    private void compute()
+    {
+        int n = graph.vertexSet().size();
+        scores = new HashMap<>();
+        if (n < 3) {
+            graph.vertexSet().forEach(v -> scores.put(v, 0d));
+            numberOfSamples = 0;
+            return;
+        }
+
+        double[] b = new Algorithm().compute();
+
+        /*
+         * Convert b(v) to the scale of BetweennessCentrality. The sum is over ordered pairs, thus
+         * for undirected graphs each pair is counted twice.
+         */
+        double factor;
+        if (normalize) {
+            factor = (double) n / (n - 2);
+        } else {
+            factor = (double) n * (n - 1);
+        }
+        if (!graph.getType().isDirected()) {
+            factor /= 2d;
+        }
+
+        int i = 0;
+        for (V v : graph.vertexSet()) {
+            scores.put(v, b[i++] * factor);
+        }
+    }
+
+    /**
+     * The actual implementation.
+     *
+     * <p>
+     * We use this pattern with the inner class in order to be able to cache the result but also
+     * allow the garbage collector to acquire all auxiliary memory used during the execution of the
+     * algorithm.
+     */
+    private class Algorithm
+    {
+        private final int n;
+        private final boolean weighted;
+
+        /*
+         * Outgoing and incoming edges in compressed sparse row format. For undirected graphs the
+         * incoming arrays are the same as the outgoing arrays.
+         */
+        private final int[] outStart;
+        private final int[] outTarget;
+        private final double[] outWeight;
+        private final int[] inStart;
+        private final int[] inSource;
+        private final double[] inWeight;
+
+        private final double omega;
+        private final double logInverseDelta;
+
+        Algorithm()
+        {
+            this.n = graph.vertexSet().size();
+            this.weighted = graph.getType().isWeighted();
+
+            Map<V, Integer> index = new HashMap<>();
+            for (V v : graph.vertexSet()) {
+                index.put(v, index.size());
+            }
+
+            this.outStart = new int[n + 1];
+            List<V> vertices = new ArrayList<>(graph.vertexSet());
+            int m = 0;
+            for (V v : vertices) {
+                m += graph.outDegreeOf(v);
+            }
+            int[] target = new int[m];
+            double[] weight = weighted ? new double[m] : null;
+            int pos = 0;
+            for (int i = 0; i < n; i++) {
+                V v = vertices.get(i);
+                outStart[i] = pos;
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    int w = index.get(Graphs.getOppositeVertex(graph, e, v));
+                    if (w == i) {
+                        // self-loops are never part of a shortest path
+                        continue;
+                    }
+                    if (weighted) {
+                        double eWeight = graph.getEdgeWeight(e);
+                        if (eWeight < 0d) {
+                            throw new IllegalArgumentException("Negative edge weight not allowed");
+                        }
+                        weight[pos] = eWeight;
+                    }
+                    target[pos++] = w;
+                }
+            }
+            outStart[n] = pos;
+            this.outTarget = Arrays.copyOf(target, pos);
+            this.outWeight = weighted ? Arrays.copyOf(weight, pos) : null;
+
+            if (graph.getType().isDirected()) {
+                // transpose
+                this.inStart = new int[n + 1];
+                for (int i = 0; i < pos; i++) {
+                    inStart[outTarget[i] + 1]++;
+                }
+                for (int i = 0; i < n; i++) {
+                    inStart[i + 1] += inStart[i];
+                }
+                this.inSource = new int[pos];
+                this.inWeight = weighted ? new double[pos] : null;
+                int[] next = Arrays.copyOf(inStart, n);
+                for (int v = 0; v < n; v++) {
+                    for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+                        int j = next[outTarget[i]]++;
+                        inSource[j] = v;
+                        if (weighted) {
+                            inWeight[j] = outWeight[i];
+                        }
+                    }
+                }
+            } else {
+                this.inStart = outStart;
+                this.inSource = outTarget;
+                this.inWeight = outWeight;
+            }
+
+            int vd = vertexDiameterUpperBound();
+            this.omega = C / (epsilon * epsilon)
+                * (Math.floor(log2(Math.max(vd - 2, 1))) + 1 + Math.log(2d / delta));
+            /*
+             * Half of the failure probability is used by the bound on omega, the other half is
+             * split uniformly among the lower and upper bounds of all vertices.
+             */
+            this.logInverseDelta = Math.log(4d * n / delta);
+        }
+
+        /**
+         * Compute the estimation of $b(v)$ for all vertices.
+         *
+         * @return the estimations
+         */
+        double[] compute()
+        {
+            int parallelism = executor == null ? 1 : executor.getMaximumPoolSize();
+            ExecutorCompletionService<Void> completionService =
+                executor == null ? null : new ExecutorCompletionService<>(executor);
+
+            List<Sampler> samplers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                samplers.add(new Sampler(new Random(seed + i)));
+            }
+
+            long maxSamples = (long) Math.ceil(omega);
+            long samplesPerRound = Math.max(100L * parallelism, maxSamples / 100);
+
+            long[] total = new long[n];
+            long tau = 0;
+            while (true) {
+                long roundSamples = Math.min(samplesPerRound, maxSamples - tau);
+                for (int i = 0; i < parallelism; i++) {
+                    Sampler sampler = samplers.get(i);
+                    sampler.samples = roundSamples / parallelism
+                        + (i < roundSamples % parallelism ? 1 : 0);
+                }
+                if (completionService == null) {
+                    samplers.get(0).run();
+                } else {
+                    for (Sampler sampler : samplers) {
+                        completionService.submit(sampler, null);
+                    }
+                    for (int i = 0; i < parallelism; i++) {
+                        try {
+                            completionService.take().get();
+                        } catch (InterruptedException | ExecutionException e) {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+                tau += roundSamples;
+
+                Arrays.fill(total, 0L);
+                for (Sampler sampler : samplers) {
+                    long[] count = sampler.count;
+                    for (int v = 0; v < n; v++) {
+                        total[v] += count[v];
+                    }
+                }
+
+                if (tau >= maxSamples || canStop(total, tau)) {
+                    break;
+                }
+            }
+
+            numberOfSamples = tau;
+            double[] b = new double[n];
+            for (int v = 0; v < n; v++) {
+                b[v] = (double) total[v] / tau;
+            }
+            return b;
+        }
+
+        /**
+         * Check whether the confidence intervals of all vertices are small enough.
+         *
+         * @param total the number of samples containing each vertex
+         * @param tau the number of samples
+         * @return true if the sampling can stop
+         */
+        private boolean canStop(long[] total, long tau)
+        {
+            double lower = omega / tau - 1d / 3;
+            double upper = omega / tau + 1d / 3;
+            for (int v = 0; v < n; v++) {
+                double b = (double) total[v] / tau;
+                double root = 2d * b * omega / logInverseDelta;
+                double f = logInverseDelta / tau * (-lower + Math.sqrt(lower * lower + root));
+                if (Math.min(f, b) > epsilon) {
+                    return false;
+                }
+                double g = logInverseDelta / tau * (upper + Math.sqrt(upper * upper + root));
+                if (Math.min(g, 1d - b) > epsilon) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Compute an upper bound on the maximum number of vertices of a shortest path.
+         *
+         * @return an upper bound of the vertex diameter
+         */
+        private int vertexDiameterUpperBound()
+        {
+            if (graph.getType().isDirected() || weighted) {
+                return n;
+            }
+
+            // one breadth-first search per connected component
+            int[] dist = new int[n];
+            Arrays.fill(dist, -1);
+            int[] queue = new int[n];
+            int bound = 1;
+            for (int s = 0; s < n; s++) {
+                if (dist[s] != -1) {
+                    continue;
+                }
+                int head = 0;
+                int tail = 0;
+                dist[s] = 0;
+                queue[tail++] = s;
+                int eccentricity = 0;
+                while (head < tail) {
+                    int v = queue[head++];
+                    eccentricity = dist[v];
+                    for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+                        int w = outTarget[i];
+                        if (dist[w] == -1) {
+                            dist[w] = dist[v] + 1;
+                            queue[tail++] = w;
+                        }
+                    }
+                }
+                bound = Math.max(bound, 2 * eccentricity + 1);
+            }
+            return bound;
+        }
+
+        private double log2(double x)
+        {
+            return Math.log(x) / Math.log(2d);
+        }
+
+        /**
+         * Computes samples using its own random number generator and auxiliary arrays.
+         */
+        private class Sampler
+            implements Runnable
+        {
+            private final Random rng;
+            private final long[] count;
+            private long samples;
+
+            /*
+             * Distances and number of shortest paths from s and to t. Unvisited vertices have
+             * distance -1 or infinity.
+             */
+            private final int[] distS;
+            private final int[] distT;
+            private final double[] distance;
+            private final int[] settleOrder;
+            private final double[] sigmaS;
+            private final double[] sigmaT;
+
+            /*
+             * Vertices visited by each side in order of non-decreasing distance.
+             */
+            private final int[] visitedS;
+            private final int[] visitedT;
+            private int sizeS;
+            private int sizeT;
+
+            private final AddressableHeap<Double, Integer> heap;
+            private final AddressableHeap.Handle<Double, Integer>[] handles;
+
+            Sampler(Random rng)
+            {
+                this.rng = rng;
+                this.count = new long[n];
+                this.sigmaS = new double[n];
+                this.visitedS = new int[n];
+                if (weighted) {
+                    this.distS = null;
+                    this.distT = null;
+                    this.sigmaT = null;
+                    this.visitedT = null;
+                    this.distance = new double[n];
+                    Arrays.fill(distance, Double.POSITIVE_INFINITY);
+                    this.settleOrder = new int[n];
+                    Arrays.fill(settleOrder, -1);
+                    this.heap = new PairingHeap<>();
+                    this.handles = TypeUtil.uncheckedCast(new AddressableHeap.Handle<?, ?>[n]);
+                } else {
+                    this.distS = new int[n];
+                    Arrays.fill(distS, -1);
+                    this.distT = new int[n];
+                    Arrays.fill(distT, -1);
+                    this.sigmaT = new double[n];
+                    this.visitedT = new int[n];
+                    this.distance = null;
+                    this.settleOrder = null;
+                    this.heap = null;
+                    this.handles = null;
+                }
+            }
+
+            @Override
+            public void run()
+            {
+                for (long i = 0; i < samples; i++) {
+                    int s = rng.nextInt(n);
+                    int t = rng.nextInt(n - 1);
+                    if (t >= s) {
+                        t++;
+                    }
+                    if (weighted) {
+                        sampleWeighted(s, t);
+                    } else {
+                        sampleUnweighted(s, t);
+                    }
+                }
+            }
+
+            /**
+             * Sample a shortest path from s to t using a balanced bidirectional breadth-first
+             * search.
+             */
+            private void sampleUnweighted(int s, int t)
+            {
+                distS[s] = 0;
+                sigmaS[s] = 1d;
+                visitedS[0] = s;
+                sizeS = 1;
+                int levelS = 0;
+                int radiusS = 0;
+
+                distT[t] = 0;
+                sigmaT[t] = 1d;
+                visitedT[0] = t;
+                sizeT = 1;
+                int levelT = 0;
+                int radiusT = 0;
+
+                boolean found = false;
+                boolean lastForward = true;
+                while (!found && levelS < sizeS && levelT < sizeT) {
+                    long degreeS = 0;
+                    for (int i = levelS; i < sizeS; i++) {
+                        int v = visitedS[i];
+                        degreeS += outStart[v + 1] - outStart[v];
+                    }
+                    long degreeT = 0;
+                    for (int i = levelT; i < sizeT; i++) {
+                        int v = visitedT[i];
+                        degreeT += inStart[v + 1] - inStart[v];
+                    }
+
+                    lastForward = degreeS <= degreeT;
+                    if (lastForward) {
+                        int end = sizeS;
+                        found = expand(
+                            levelS, end, radiusS, outStart, outTarget, distS, sigmaS, visitedS,
+                            distT, true);
+                        levelS = end;
+                        radiusS++;
+                    } else {
+                        int end = sizeT;
+                        found = expand(
+                            levelT, end, radiusT, inStart, inSource, distT, sigmaT, visitedT,
+                            distS, false);
+                        levelT = end;
+                        radiusT++;
+                    }
+                }
+
+                if (found) {
+                    // choose the vertex of the last level where the path is split
+                    int[] visited = lastForward ? visitedS : visitedT;
+                    int from = lastForward ? levelS : levelT;
+                    int to = lastForward ? sizeS : sizeT;
+                    int[] otherDist = lastForward ? distT : distS;
+
+                    double paths = 0d;
+                    for (int i = from; i < to; i++) {
+                        int w = visited[i];
+                        if (otherDist[w] != -1) {
+                            paths += sigmaS[w] * sigmaT[w];
+                        }
+                    }
+                    double r = rng.nextDouble() * paths;
+                    int middle = -1;
+                    for (int i = from; i < to; i++) {
+                        int w = visited[i];
+                        if (otherDist[w] != -1) {
+                            middle = w;
+                            r -= sigmaS[w] * sigmaT[w];
+                            if (r < 0d) {
+                                break;
+                            }
+                        }
+                    }
+
+                    if (middle != s && middle != t) {
+                        count[middle]++;
+                    }
+                    walk(middle, s, inStart, inSource, distS, sigmaS);
+                    walk(middle, t, outStart, outTarget, distT, sigmaT);
+                }
+
+                for (int i = 0; i < sizeS; i++) {
+                    int v = visitedS[i];
+                    distS[v] = -1;
+                    sigmaS[v] = 0d;
+                }
+                for (int i = 0; i < sizeT; i++) {
+                    int v = visitedT[i];
+                    distT[v] = -1;
+                    sigmaT[v] = 0d;
+                }
+            }
+
+            /**
+             * Expand one level of a breadth-first search.
+             *
+             * @return true if a vertex visited by the other search was reached
+             */
+            private boolean expand(
+                int from, int to, int radius, int[] start, int[] adjacent, int[] dist,
+                double[] sigma, int[] visited, int[] otherDist, boolean forward)
+            {
+                boolean found = false;
+                int size = to;
+                for (int i = from; i < to; i++) {
+                    int v = visited[i];
+                    for (int j = start[v]; j < start[v + 1]; j++) {
+                        int w = adjacent[j];
+                        if (dist[w] == -1) {
+                            dist[w] = radius + 1;
+                            visited[size++] = w;
+                            found |= otherDist[w] != -1;
+                        }
+                        if (dist[w] == radius + 1) {
+                            sigma[w] += sigma[v];
+                        }
+                    }
+                }
+                if (forward) {
+                    sizeS = size;
+                } else {
+                    sizeT = size;
+                }
+                return found;
+            }
+
+            /**
+             * Walk from {@code v} towards {@code end} choosing each next vertex with probability
+             * proportional to its number of shortest paths and count the inner vertices.
+             */
+            private void walk(
+                int v, int end, int[] start, int[] adjacent, int[] dist, double[] sigma)
+            {
+                while (v != end) {
+                    double r = rng.nextDouble() * sigma[v];
+                    int next = -1;
+                    for (int j = start[v]; j < start[v + 1]; j++) {
+                        int u = adjacent[j];
+                        if (dist[u] == dist[v] - 1) {
+                            next = u;
+                            r -= sigma[u];
+                            if (r < 0d) {
+                                break;
+                            }
+                        }
+                    }
+                    v = next;
+                    if (v != end) {
+                        count[v]++;
+                    }
+                }
+            }
+
+            /**
+             * Sample a shortest path from s to t using Dijkstra's algorithm which stops as soon as
+             * t is settled.
+             */
+            private void sampleWeighted(int s, int t)
+            {
+                sizeS = 0;
+                distance[s] = 0d;
+                sigmaS[s] = 1d;
+                handles[s] = heap.insert(0d, s);
+
+                while (!heap.isEmpty()) {
+                    int v = heap.deleteMin().getValue();
+                    settleOrder[v] = sizeS;
+                    visitedS[sizeS++] = v;
+                    if (v == t) {
+                        break;
+                    }
+                    double vDistance = distance[v];
+                    for (int j = outStart[v]; j < outStart[v + 1]; j++) {
+                        int w = outTarget[j];
+                        if (settleOrder[w] != -1) {
+                            continue;
+                        }
+                        double d = vDistance + outWeight[j];
+                        if (distance[w] == Double.POSITIVE_INFINITY) {
+                            distance[w] = d;
+                            sigmaS[w] = sigmaS[v];
+                            handles[w] = heap.insert(d, w);
+                        } else if (distance[w] == d) {
+                            sigmaS[w] += sigmaS[v];
+                        } else if (distance[w] > d) {
+                            distance[w] = d;
+                            sigmaS[w] = sigmaS[v];
+                            handles[w].decreaseKey(d);
+                        }
+                    }
+                }
+
+                if (settleOrder[t] != -1) {
+                    // predecessors are settled before their successors, even for zero weights
+                    int v = t;
+                    while (v != s) {
+                        double r = rng.nextDouble() * sigmaS[v];
+                        int next = -1;
+                        for (int j = inStart[v]; j < inStart[v + 1]; j++) {
+                            int u = inSource[j];
+                            if (settleOrder[u] != -1 && settleOrder[u] < settleOrder[v]
+                                && distance[u] + inWeight[j] == distance[v])
+                            {
+                                next = u;
+                                r -= sigmaS[u];
+                                if (r < 0d) {
+                                    break;
+                                }
+                            }
+                        }
+                        v = next;
+                        if (v != s) {
+                            count[v]++;
+                        }
+                    }
+                }
+
+                // reset
+                for (int i = 0; i < sizeS; i++) {
+                    int v = visitedS[i];
+                    settleOrder[v] = -1;
+                    distance[v] = Double.POSITIVE_INFINITY;
+                    sigmaS[v] = 0d;
+                    handles[v] = null;
+                }
+                while (!heap.isEmpty()) {
+                    int v = heap.deleteMin().getValue();
+                    distance[v] = Double.POSITIVE_INFINITY;
+                    sigmaS[v] = 0d;
+                    handles[v] = null;
+                }
+            }
+        }
+    }
+
+}
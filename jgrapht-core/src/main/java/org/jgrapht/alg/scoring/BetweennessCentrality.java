@@ -25,10 +25,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jheaps.AddressableHeap;
 import org.jheaps.tree.PairingHeap;
 
@@ -59,6 +61,12 @@ import org.jheaps.tree.PairingHeap;
  * allows the user to adjust whether an exception is thrown in case overflow occurs. Default
  * behavior is to ignore overflow issues.
  *
+ * <p>
+ * The single-source computations are independent of each other. If a {@link ThreadPoolExecutor} is
+ * supplied, the sources are distributed among its threads and each thread accumulates the scores
+ * into its own int-indexed arrays, which are summed up at the end. It is up to a user of this
+ * algorithm to handle the creation and termination of the provided executor. For utility methods
+ * to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -86,6 +94,11 @@ public class BetweennessCentrality<V, E>
      */
     private OverflowStrategy overflowStrategy;
 
+    /**
+     * Executor used for parallelization, or null for a sequential execution.
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * Strategy followed when counting paths.
      */
@@ -134,12 +147,32 @@ public class BetweennessCentrality<V, E>
      */
     public BetweennessCentrality(
         Graph<V, E> graph, boolean normalize, OverflowStrategy overflowStrategy)
+    {
+        this(graph, normalize, overflowStrategy, null);
+    }
+
+    /**
+     * Construct a new instance which uses the provided {@code executor} in order to perform the
+     * single-source computations in parallel. It is up to a user of this algorithm to handle the
+     * creation and termination of the provided {@code executor}.
+     * 
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param overflowStrategy strategy to use if overflow is detected
+     * @param executor executor which will be used for parallelization, if null the computation is
+     *        performed sequentially
+     */
+    public BetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, OverflowStrategy overflowStrategy,
+        ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
 
         this.scores = null;
         this.normalize = normalize;
         this.overflowStrategy = overflowStrategy;
+        this.executor = executor;
     }
 
     /**
@@ -174,12 +207,19 @@ public class BetweennessCentrality<V, E>
      */
     private void compute()
     {
-        // initialize result container
-        scores = new HashMap<>();
-        graph.vertexSet().forEach(v -> scores.put(v, 0.0));
-
-        // compute for each source
-        graph.vertexSet().forEach(this::compute);
+        if (executor != null) {
+            scores = new ParallelBrandes<>(
+                graph, false,
+                overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW), executor)
+                .getVertexScores();
+        } else {
+            // initialize result container
+            scores = new HashMap<>();
+            graph.vertexSet().forEach(v -> scores.put(v, 0.0));
+
+            // compute for each source
+            graph.vertexSet().forEach(this::compute);
+        }
 
         // For undirected graph, divide scores by two as each shortest path
         // considered twice.
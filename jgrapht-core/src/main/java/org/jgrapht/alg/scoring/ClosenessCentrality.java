@@ -52,7 +52,9 @@ import java.util.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * +n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. For unweighted graphs the distances are computed using a bit-parallel
+ * {@link MultiSourceBFS} which traverses the graph from 64 sources at once, unless a subclass
+ * overrides {@link #getShortestPathAlgorithm()}.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -168,6 +170,28 @@ public class ClosenessCentrality<V, E>
         return alg;
     }
 
+    /**
+     * Whether the distances can be computed using a {@link MultiSourceBFS}. This is the case for
+     * unweighted graphs, unless a subclass overrides {@link #getShortestPathAlgorithm()}.
+     * 
+     * @return true if the distances can be computed using a {@link MultiSourceBFS}
+     */
+    boolean useMultiSourceBFS()
+    {
+        if (graph.getType().isWeighted()) {
+            return false;
+        }
+        for (Class<?> c = getClass(); c != ClosenessCentrality.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("getShortestPathAlgorithm");
+                return false;
+            } catch (NoSuchMethodException e) {
+                // not overridden in this class
+            }
+        }
+        return true;
+    }
+
     /**
      * Compute the centrality index
      */
@@ -176,11 +200,25 @@ public class ClosenessCentrality<V, E>
         // create result container
         this.scores = new HashMap<>();
 
+        int n = graph.vertexSet().size();
+        if (useMultiSourceBFS()) {
+            MultiSourceBFS<V, E>.DistanceStatistics statistics =
+                new MultiSourceBFS<>(graph, incoming).getDistanceStatistics();
+            for (V v : graph.vertexSet()) {
+                double sum = statistics.getDistanceSum(v);
+                if (normalize) {
+                    this.scores.put(v, (n - 1) / sum);
+                } else {
+                    this.scores.put(v, 1 / sum);
+                }
+            }
+            return;
+        }
+
         // initialize shortest path algorithm
         ShortestPathAlgorithm<V, E> alg = getShortestPathAlgorithm();
 
         // compute shortest paths
-        int n = graph.vertexSet().size();
         for (V v : graph.vertexSet()) {
             double sum = 0d;
 
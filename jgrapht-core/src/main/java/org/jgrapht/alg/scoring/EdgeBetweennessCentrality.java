@@ -25,11 +25,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphTests;
 import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.EdgeScoringAlgorithm;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jheaps.AddressableHeap;
 import org.jheaps.AddressableHeap.Handle;
 import org.jheaps.tree.PairingHeap;
@@ -51,6 +53,13 @@ import org.jheaps.tree.PairingHeap;
  * allows centrality approximations in big graphs. Note that in this case, the user is responsible
  * for any normalization necessary due to duplicate shortest paths that might occur in undirected
  * graphs.
+ *
+ * <p>
+ * If a {@link ThreadPoolExecutor} is supplied, the start vertices are distributed among its
+ * threads and each thread accumulates the scores into its own int-indexed arrays, which are summed
+ * up at the end. It is up to a user of this algorithm to handle the creation and termination of
+ * the provided executor. For utility methods to manage a {@code ThreadPoolExecutor} see
+ * {@link ConcurrencyUtil}.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -65,6 +74,7 @@ public class EdgeBetweennessCentrality<V, E>
     private final boolean divideByTwo;
     private Map<E, Double> scores;
     private final OverflowStrategy overflowStrategy;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Strategy followed when counting paths.
@@ -114,6 +124,26 @@ public class EdgeBetweennessCentrality<V, E>
      */
     public EdgeBetweennessCentrality(
         Graph<V, E> graph, OverflowStrategy overflowStrategy, Iterable<V> startVertices)
+    {
+        this(graph, overflowStrategy, startVertices, null);
+    }
+
+    /**
+     * Construct a new instance which uses the provided {@code executor} in order to perform the
+     * single-source computations in parallel. It is up to a user of this algorithm to handle the
+     * creation and termination of the provided {@code executor}.
+     * 
+     * @param graph the input graph
+     * @param overflowStrategy strategy to use if overflow is detected
+     * @param startVertices vertices from which to start shortest path computations. This parameter
+     *        allows the user to compute edge centrality contributions only from a subset of the
+     *        vertices of the graph. If null the whole graph vertex set is used.
+     * @param executor executor which will be used for parallelization, if null the computation is
+     *        performed sequentially
+     */
+    public EdgeBetweennessCentrality(
+        Graph<V, E> graph, OverflowStrategy overflowStrategy, Iterable<V> startVertices,
+        ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         if (GraphTests.hasMultipleEdges(graph)) {
@@ -121,6 +151,7 @@ public class EdgeBetweennessCentrality<V, E>
         }
         this.scores = null;
         this.overflowStrategy = overflowStrategy;
+        this.executor = executor;
         if (startVertices == null) {
             this.startVertices = graph.vertexSet();
             // divide by two only if all pairs are used
@@ -136,8 +167,7 @@ public class EdgeBetweennessCentrality<V, E>
     public Map<E, Double> getScores()
     {
         if (scores == null) {
-            scores = graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
-                : new Algorithm().getScores();
+            compute();
         }
         return Collections.unmodifiableMap(scores);
     }
@@ -149,10 +179,25 @@ public class EdgeBetweennessCentrality<V, E>
             throw new IllegalArgumentException("Cannot return score of unknown edge");
         }
         if (scores == null) {
+            compute();
+        }
+        return scores.get(e);
+    }
+
+    private void compute()
+    {
+        if (executor != null) {
+            scores = new ParallelBrandes<>(
+                graph, true,
+                overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW), executor)
+                .getEdgeScores(startVertices);
+            if (divideByTwo) {
+                scores.forEach((e, score) -> scores.put(e, score / 2d));
+            }
+        } else {
             scores = graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
                 : new Algorithm().getScores();
         }
-        return scores.get(e);
     }
 
     /*
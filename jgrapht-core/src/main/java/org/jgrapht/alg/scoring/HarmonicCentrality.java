@@ -20,6 +20,7 @@ package org.jgrapht.alg.scoring;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
 
 import java.util.*;
 
@@ -49,7 +50,8 @@ import java.util.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * + n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. For unweighted graphs the distances are computed using a bit-parallel
+ * {@link MultiSourceBFS} which traverses the graph from 64 sources at once.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -89,11 +91,25 @@ public final class HarmonicCentrality<V, E>
         // create result container
         this.scores = new HashMap<>();
 
+        int n = graph.vertexSet().size();
+        if (!graph.getType().isWeighted()) {
+            MultiSourceBFS<V, E>.DistanceStatistics statistics =
+                new MultiSourceBFS<>(graph, incoming).getDistanceStatistics();
+            for (V v : graph.vertexSet()) {
+                double sum = statistics.getInverseDistanceSum(v);
+                if (normalize && n > 1) {
+                    this.scores.put(v, sum / (n - 1));
+                } else {
+                    this.scores.put(v, sum);
+                }
+            }
+            return;
+        }
+
         // initialize shortest path algorithm
         ShortestPathAlgorithm<V, E> alg = getShortestPathAlgorithm();
 
         // compute shortest paths
-        int n = graph.vertexSet().size();
         for (V v : graph.vertexSet()) {
             double sum = 0d;
 
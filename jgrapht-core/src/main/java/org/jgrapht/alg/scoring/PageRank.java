@@ -19,8 +19,10 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * PageRank implementation.
@@ -51,6 +53,16 @@ import java.util.*;
  * an edge e out of node $v$ is equal to the weight of $e$ over the sum of weights of all outgoing
  * edges of $v$.
  * </p>
+ *
+ * <p>
+ * The graph is copied into a compressed sparse row representation of the incoming neighbours of
+ * each vertex before the iterations start. If a {@link ThreadPoolExecutor} is supplied, each
+ * iteration is split into contiguous ranges of vertices which are processed in parallel. The
+ * partial results of the ranges are always combined in the same order, therefore the computed
+ * scores do not depend on the scheduling of the threads. It is up to a user of this algorithm to
+ * handle the creation and termination of the provided executor. For utility methods to manage a
+ * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+ * </p>
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -97,6 +109,11 @@ public final class PageRank<V, E>
      */
     private final double tolerance;
 
+    /**
+     * Executor used to parallelize the iterations, or null for a sequential execution
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * The result
      */
@@ -145,6 +162,26 @@ public final class PageRank<V, E>
      *        iterations change less than this value
      */
     public PageRank(Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this(graph, dampingFactor, maxIterations, tolerance, null);
+    }
+
+    /**
+     * Create and execute an instance of PageRank which uses the provided {@code executor} in order
+     * to perform each iteration in parallel. It is up to a user of this algorithm to handle the
+     * creation and termination of the provided {@code executor}.
+     * 
+     * @param graph the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param executor executor which will be used for parallelization, if null the computation is
+     *        performed sequentially
+     */
+    public PageRank(
+        Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance,
+        ThreadPoolExecutor executor)
     {
         this.graph = graph;
 
@@ -162,6 +199,8 @@ public final class PageRank<V, E>
             throw new IllegalArgumentException("Tolerance not valid, must be positive");
         }
         this.tolerance = tolerance;
+
+        this.executor = executor;
     }
 
     /**
@@ -213,8 +252,21 @@ public final class PageRank<V, E>
         private double[] curScore;
         private double[] nextScore;
         private int[] outDegree;
-        private ArrayList<int[]> adjList;
-        private ArrayList<double[]> weightsList;
+
+        /*
+         * Incoming neighbours in compressed sparse row format: the incoming neighbours of vertex i
+         * are stored in positions [inStart[i], inStart[i+1]) of inNeighbors.
+         */
+        private int[] inStart;
+        private int[] inNeighbors;
+        private double[] inWeights;
+
+        /*
+         * Parallel execution
+         */
+        private int parallelism;
+        private ExecutorCompletionService<Void> completionService;
+        private List<RangeTask> tasks;
 
         @SuppressWarnings("unchecked")
         public Algorithm()
@@ -230,50 +282,50 @@ public final class PageRank<V, E>
             this.vertexIndexMap = new HashMap<>();
             this.vertexMap = (V[]) new Object[totalVertices];
             this.outDegree = new int[totalVertices];
-            this.adjList = new ArrayList<>(totalVertices);
+            this.inStart = new int[totalVertices + 1];
 
             double initScore = 1.0d / totalVertices;
             int i = 0;
+            int totalInDegree = 0;
             for (V v : graph.vertexSet()) {
                 vertexIndexMap.put(v, i);
                 vertexMap[i] = v;
                 outDegree[i] = graph.outDegreeOf(v);
                 curScore[i] = initScore;
+                inStart[i] = totalInDegree;
+                totalInDegree += graph.inDegreeOf(v);
                 i++;
             }
+            inStart[totalVertices] = totalInDegree;
 
+            this.inNeighbors = new int[totalInDegree];
             if (isWeighted) {
                 this.weightSum = new double[totalVertices];
-                this.weightsList = new ArrayList<>(totalVertices);
-
-                for (i = 0; i < totalVertices; i++) {
-                    V v = vertexMap[i];
-                    int[] inNeighbors = new int[graph.inDegreeOf(v)];
-                    double[] edgeWeights = new double[graph.inDegreeOf(v)];
-
-                    int j = 0;
-                    for (E e : graph.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(graph, e, v);
-                        Integer mappedVertexId = vertexIndexMap.get(w);
-                        inNeighbors[j] = mappedVertexId;
+                this.inWeights = new double[totalInDegree];
+            }
+
+            for (i = 0; i < totalVertices; i++) {
+                V v = vertexMap[i];
+                int j = inStart[i];
+                for (E e : graph.incomingEdgesOf(v)) {
+                    V w = Graphs.getOppositeVertex(graph, e, v);
+                    int mappedVertexId = vertexIndexMap.get(w);
+                    inNeighbors[j] = mappedVertexId;
+                    if (isWeighted) {
                         double edgeWeight = graph.getEdgeWeight(e);
-                        edgeWeights[j] += edgeWeight;
+                        inWeights[j] = edgeWeight;
                         weightSum[mappedVertexId] += edgeWeight;
-                        j++;
                     }
-                    weightsList.add(edgeWeights);
-                    adjList.add(inNeighbors);
+                    j++;
                 }
-            } else {
-                for (i = 0; i < totalVertices; i++) {
-                    V v = vertexMap[i];
-                    int[] inNeighbors = new int[graph.inDegreeOf(v)];
-                    int j = 0;
-                    for (E e : graph.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(graph, e, v);
-                        inNeighbors[j++] = vertexIndexMap.get(w);
-                    }
-                    adjList.add(inNeighbors);
+            }
+
+            if (executor != null) {
+                this.parallelism = executor.getMaximumPoolSize();
+                this.completionService = new ExecutorCompletionService<>(executor);
+                this.tasks = new ArrayList<>(parallelism);
+                for (i = 0; i < parallelism; i++) {
+                    tasks.add(new RangeTask(i));
                 }
             }
         }
@@ -281,11 +333,7 @@ public final class PageRank<V, E>
         public Map<V, Double> getScores()
         {
             // compute
-            if (isWeighted) {
-                runWeighted();
-            } else {
-                run();
-            }
+            run();
 
             // make results user friendly
             Map<V, Double> scores = new HashMap<>();
@@ -302,19 +350,23 @@ public final class PageRank<V, E>
             int iterations = maxIterations;
 
             while (iterations > 0 && maxChange >= tolerance) {
-                double r = teleProp();
-
-                maxChange = 0d;
-                for (int i = 0; i < totalVertices; i++) {
-                    double contribution = 0d;
-                    for (int w : adjList.get(i)) {
-                        contribution += dampingFactor * curScore[w] / outDegree[w];
+                if (tasks == null) {
+                    double r = teleProp(0, totalVertices) / totalVertices;
+                    maxChange = isWeighted ? updateWeighted(0, totalVertices, r)
+                        : update(0, totalVertices, r);
+                } else {
+                    double r = 0d;
+                    submitTasks(true, 0d);
+                    for (RangeTask task : tasks) {
+                        r += task.result;
                     }
+                    r /= totalVertices;
 
-                    double vOldValue = curScore[i];
-                    double vNewValue = r + contribution;
-                    maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                    nextScore[i] = vNewValue;
+                    maxChange = 0d;
+                    submitTasks(false, r);
+                    for (RangeTask task : tasks) {
+                        maxChange = Math.max(maxChange, task.result);
+                    }
                 }
 
                 // progress
@@ -323,48 +375,76 @@ public final class PageRank<V, E>
             }
         }
 
-        private void runWeighted()
+        /**
+         * Compute the new scores of the vertices in [from, to) of an unweighted graph.
+         *
+         * @param from first vertex inclusive
+         * @param to last vertex exclusive
+         * @param r the teleport probability
+         * @return the maximum change of the score of a vertex in the range
+         */
+        private double update(int from, int to, double r)
         {
-            double maxChange = tolerance;
-            int iterations = maxIterations;
-
-            while (iterations > 0 && maxChange >= tolerance) {
-                double r = teleProp();
-
-                maxChange = 0d;
-                for (int i = 0; i < totalVertices; i++) {
-                    double contribution = 0d;
+            double maxChange = 0d;
+            for (int i = from; i < to; i++) {
+                double contribution = 0d;
+                for (int j = inStart[i], end = inStart[i + 1]; j < end; j++) {
+                    int w = inNeighbors[j];
+                    contribution += dampingFactor * curScore[w] / outDegree[w];
+                }
 
-                    int[] neighbors = adjList.get(i);
-                    double[] weights = weightsList.get(i);
-                    for (int j = 0, getLength = neighbors.length; j < getLength; j++) {
-                        int w = neighbors[j];
-                        contribution += dampingFactor * curScore[w] * weights[j] / weightSum[w];
-                    }
+                double vOldValue = curScore[i];
+                double vNewValue = r + contribution;
+                maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
+                nextScore[i] = vNewValue;
+            }
+            return maxChange;
+        }
 
-                    double vOldValue = curScore[i];
-                    double vNewValue = r + contribution;
-                    maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                    nextScore[i] = vNewValue;
+        /**
+         * Compute the new scores of the vertices in [from, to) of a weighted graph.
+         *
+         * @param from first vertex inclusive
+         * @param to last vertex exclusive
+         * @param r the teleport probability
+         * @return the maximum change of the score of a vertex in the range
+         */
+        private double updateWeighted(int from, int to, double r)
+        {
+            double maxChange = 0d;
+            for (int i = from; i < to; i++) {
+                double contribution = 0d;
+                for (int j = inStart[i], end = inStart[i + 1]; j < end; j++) {
+                    int w = inNeighbors[j];
+                    contribution += dampingFactor * curScore[w] * inWeights[j] / weightSum[w];
                 }
 
-                // progress
-                swapScores();
-                iterations--;
+                double vOldValue = curScore[i];
+                double vNewValue = r + contribution;
+                maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
+                nextScore[i] = vNewValue;
             }
+            return maxChange;
         }
 
-        private double teleProp()
+        /**
+         * Compute the teleport contribution of the vertices in [from, to), not yet divided by the
+         * number of vertices.
+         *
+         * @param from first vertex inclusive
+         * @param to last vertex exclusive
+         * @return the teleport contribution of the range
+         */
+        private double teleProp(int from, int to)
         {
             double r = 0d;
-            for (int i = 0; i < totalVertices; i++) {
+            for (int i = from; i < to; i++) {
                 if (outDegree[i] > 0) {
                     r += (1d - dampingFactor) * curScore[i];
                 } else {
                     r += curScore[i];
                 }
             }
-            r /= totalVertices;
             return r;
         }
 
@@ -375,6 +455,60 @@ public final class PageRank<V, E>
             nextScore = tmp;
         }
 
+        /**
+         * Submit one task per thread and wait for all of them to finish.
+         *
+         * @param teleport whether to compute the teleport contribution or the new scores
+         * @param r the teleport probability used when computing the new scores
+         */
+        private void submitTasks(boolean teleport, double r)
+        {
+            for (RangeTask task : tasks) {
+                task.teleport = teleport;
+                task.r = r;
+                completionService.submit(task, null);
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException | ExecutionException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        /**
+         * A task which processes a contiguous range of the vertices. The range of the task with
+         * id $i$ is $[in/p, (i+1)n/p)$ where $p$ is the number of tasks.
+         */
+        private class RangeTask
+            implements Runnable
+        {
+            private final int from;
+            private final int to;
+            private boolean teleport;
+            private double r;
+            private double result;
+
+            RangeTask(int taskId)
+            {
+                this.from = (int) ((long) totalVertices * taskId / parallelism);
+                this.to = (int) ((long) totalVertices * (taskId + 1) / parallelism);
+            }
+
+            @Override
+            public void run()
+            {
+                if (teleport) {
+                    result = teleProp(from, to);
+                } else if (isWeighted) {
+                    result = updateWeighted(from, to, r);
+                } else {
+                    result = update(from, to, r);
+                }
+            }
+        }
+
     }
 
 }
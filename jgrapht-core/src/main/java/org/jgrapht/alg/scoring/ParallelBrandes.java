@@ -0,0 +1,448 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parallel implementation of Brandes' algorithm which is shared by {@link BetweennessCentrality}
+ * and {@link EdgeBetweennessCentrality}.
+ *
+ * <p>
+ * The graph is first copied into an int-indexed compressed sparse row representation of its
+ * outgoing edges. The single-source shortest path computations are independent and are
+ * distributed among the threads of the supplied {@link ThreadPoolExecutor}: source with index $i$
+ * is handled by the task with id $i \bmod p$ where $p$ is the number of tasks. Each task owns its
+ * own distance, path counter, dependency and predecessor arrays as well as its own score
+ * accumulator. The accumulators are summed up in task order at the end, thus the result does not
+ * depend on the scheduling of the threads.
+ *
+ * <p>
+ * The predecessors of a vertex $w$ are stored as positions in the edge arrays, in the slice of a
+ * shared predecessor array which has the size of the in-degree of $w$. Therefore the memory of
+ * each task is $O(n + m)$.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+class ParallelBrandes<V, E>
+{
+    private final boolean weighted;
+    private final boolean edgeScores;
+    private final boolean checkOverflow;
+    private final ThreadPoolExecutor executor;
+
+    private final int n;
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final List<E> edges;
+
+    /*
+     * Outgoing edges in compressed sparse row format. The outgoing edges of vertex v are stored in
+     * positions [outStart[v], outStart[v+1]).
+     */
+    private final int[] outStart;
+    private final int[] outSource;
+    private final int[] outTarget;
+    private final double[] outWeight;
+    private final int[] outEdge;
+
+    /*
+     * Start of the predecessor slice of each vertex.
+     */
+    private final int[] predStart;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param edgeScores whether to compute edge scores instead of vertex scores. In this case
+     *        self-loops are ignored.
+     * @param checkOverflow whether to throw an {@link ArithmeticException} if a path counter
+     *        overflows
+     * @param executor executor which will be used for parallelization
+     */
+    ParallelBrandes(
+        Graph<V, E> graph, boolean edgeScores, boolean checkOverflow,
+        ThreadPoolExecutor executor)
+    {
+        this.weighted = graph.getType().isWeighted();
+        this.edgeScores = edgeScores;
+        this.checkOverflow = checkOverflow;
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+
+        this.n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        Map<E, Integer> edgeIndex = null;
+        if (edgeScores) {
+            this.edges = new ArrayList<>(graph.edgeSet());
+            edgeIndex = new HashMap<>();
+            for (int i = 0; i < edges.size(); i++) {
+                edgeIndex.put(edges.get(i), i);
+            }
+        } else {
+            this.edges = null;
+        }
+
+        int m = 0;
+        for (V v : vertices) {
+            m += graph.outDegreeOf(v);
+        }
+
+        this.outStart = new int[n + 1];
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = weighted ? new double[m] : null;
+        int[] edge = edgeScores ? new int[m] : null;
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            outStart[i] = pos;
+            for (E e : graph.outgoingEdgesOf(v)) {
+                int w = vertexIndex.get(Graphs.getOppositeVertex(graph, e, v));
+                if (edgeScores && w == i) {
+                    // ignore self-loops
+                    continue;
+                }
+                if (weighted) {
+                    double eWeight = graph.getEdgeWeight(e);
+                    if (eWeight < 0d) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    weight[pos] = eWeight;
+                }
+                if (edgeScores) {
+                    edge[pos] = edgeIndex.get(e);
+                }
+                source[pos] = i;
+                target[pos] = w;
+                pos++;
+            }
+        }
+        outStart[n] = pos;
+
+        this.outSource = pos == m ? source : Arrays.copyOf(source, pos);
+        this.outTarget = pos == m ? target : Arrays.copyOf(target, pos);
+        this.outWeight = weight == null || pos == m ? weight : Arrays.copyOf(weight, pos);
+        this.outEdge = edge == null || pos == m ? edge : Arrays.copyOf(edge, pos);
+
+        this.predStart = new int[n + 1];
+        for (int i = 0; i < pos; i++) {
+            predStart[outTarget[i] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            predStart[i + 1] += predStart[i];
+        }
+    }
+
+    /**
+     * Compute the (not normalized) betweenness of all vertices using all vertices as sources.
+     *
+     * @return the vertex scores
+     */
+    Map<V, Double> getVertexScores()
+    {
+        double[] total = compute(allSources());
+
+        Map<V, Double> scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            scores.put(vertices.get(i), total[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * Compute the (not normalized) betweenness of all edges.
+     *
+     * @param startVertices the vertices to use as sources
+     * @return the edge scores
+     */
+    Map<E, Double> getEdgeScores(Iterable<V> startVertices)
+    {
+        int[] sources;
+        if (startVertices == null) {
+            sources = allSources();
+        } else {
+            List<Integer> list = new ArrayList<>();
+            for (V v : startVertices) {
+                list.add(vertexIndex.get(v));
+            }
+            sources = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        double[] total = compute(sources);
+
+        Map<E, Double> scores = new HashMap<>();
+        for (int i = 0; i < edges.size(); i++) {
+            scores.put(edges.get(i), total[i]);
+        }
+        return scores;
+    }
+
+    private int[] allSources()
+    {
+        int[] sources = new int[n];
+        for (int i = 0; i < n; i++) {
+            sources[i] = i;
+        }
+        return sources;
+    }
+
+    private double[] compute(int[] sources)
+    {
+        int parallelism = executor.getMaximumPoolSize();
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+
+        List<Worker> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Worker worker = new Worker(sources, i, parallelism);
+            workers.add(worker);
+            completionService.submit(worker, null);
+        }
+
+        RuntimeException failure = null;
+        for (int i = 0; i < parallelism; i++) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof RuntimeException)) {
+                    e.printStackTrace();
+                } else if (failure == null) {
+                    // report the first failure, e.g. an overflow of a path counter
+                    failure = (RuntimeException) e.getCause();
+                    workers.forEach(w -> w.cancelled = true);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        double[] total = new double[edgeScores ? edges.size() : n];
+        for (Worker worker : workers) {
+            double[] scores = worker.scores;
+            for (int i = 0; i < total.length; i++) {
+                total[i] += scores[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * A task which performs the single-source computations of a subset of the sources and keeps
+     * its own copy of all auxiliary arrays.
+     */
+    private class Worker
+        implements Runnable
+    {
+        private final int[] sources;
+        private final int first;
+        private final int step;
+
+        private double[] scores;
+        private volatile boolean cancelled;
+
+        private double[] dist;
+        private long[] sigma;
+        private double[] delta;
+        private int[] predCount;
+        private int[] pred;
+        private int[] stack;
+        private int[] queue;
+        private AddressableHeap<Double, Integer> heap;
+        private AddressableHeap.Handle<Double, Integer>[] handles;
+
+        Worker(int[] sources, int first, int step)
+        {
+            this.sources = sources;
+            this.first = first;
+            this.step = step;
+        }
+
+        @Override
+        public void run()
+        {
+            scores = new double[edgeScores ? edges.size() : n];
+            if (first >= sources.length) {
+                return;
+            }
+
+            dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            sigma = new long[n];
+            delta = new double[n];
+            predCount = new int[n];
+            pred = new int[outTarget.length];
+            stack = new int[n];
+            if (weighted) {
+                heap = new PairingHeap<>();
+                handles = TypeUtil.uncheckedCast(new AddressableHeap.Handle<?, ?>[n]);
+            } else {
+                queue = new int[n];
+            }
+
+            for (int i = first; i < sources.length && !cancelled; i += step) {
+                int size = weighted ? shortestPaths(sources[i]) : bfs(sources[i]);
+                accumulate(sources[i], size);
+            }
+        }
+
+        /**
+         * Compute the number of shortest paths from {@code s} using breadth-first search.
+         *
+         * @param s the source
+         * @return the number of vertices pushed in the stack
+         */
+        private int bfs(int s)
+        {
+            int size = 0;
+            int head = 0;
+            int tail = 0;
+
+            dist[s] = 0d;
+            sigma[s] = 1;
+            queue[tail++] = s;
+
+            while (head < tail) {
+                int v = queue[head++];
+                stack[size++] = v;
+                double d = dist[v] + 1d;
+
+                for (int i = outStart[v], end = outStart[v + 1]; i < end; i++) {
+                    int w = outTarget[i];
+                    if (dist[w] == Double.POSITIVE_INFINITY) {
+                        dist[w] = d;
+                        queue[tail++] = w;
+                    }
+                    if (dist[w] == d) {
+                        addPath(v, w, i);
+                    }
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Compute the number of shortest paths from {@code s} using Dijkstra's algorithm.
+         *
+         * @param s the source
+         * @return the number of vertices pushed in the stack
+         */
+        private int shortestPaths(int s)
+        {
+            int size = 0;
+
+            dist[s] = 0d;
+            sigma[s] = 1;
+            handles[s] = heap.insert(0d, s);
+
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin().getValue();
+                stack[size++] = v;
+                double vDistance = dist[v];
+
+                for (int i = outStart[v], end = outStart[v + 1]; i < end; i++) {
+                    int w = outTarget[i];
+                    double d = vDistance + outWeight[i];
+                    if (dist[w] == Double.POSITIVE_INFINITY) {
+                        dist[w] = d;
+                        handles[w] = heap.insert(d, w);
+                        addPath(v, w, i);
+                    } else if (dist[w] == d) {
+                        addPath(v, w, i);
+                    } else if (dist[w] > d) {
+                        dist[w] = d;
+                        handles[w].decreaseKey(d);
+                        sigma[w] = 0;
+                        predCount[w] = 0;
+                        addPath(v, w, i);
+                    }
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Record that the shortest paths to {@code v} extended by the edge at position
+         * {@code slot} are shortest paths to {@code w}.
+         */
+        private void addPath(int v, int w, int slot)
+        {
+            long sum = sigma[w] + sigma[v];
+            if (checkOverflow && sum < 0) {
+                throw new ArithmeticException("long overflow");
+            }
+            sigma[w] = sum;
+            pred[predStart[w] + predCount[w]++] = slot;
+        }
+
+        /**
+         * Sum all pair dependencies and reset the auxiliary arrays of the visited vertices.
+         *
+         * @param s the source
+         * @param size the number of vertices in the stack
+         */
+        private void accumulate(int s, int size)
+        {
+            // the stack contains vertices in order of non-decreasing distance from s
+            for (int k = size - 1; k >= 0; k--) {
+                int w = stack[k];
+                for (int i = predStart[w], end = i + predCount[w]; i < end; i++) {
+                    int slot = pred[i];
+                    int v = outSource[slot];
+                    double c = ((double) sigma[v] / (double) sigma[w]) * (1d + delta[w]);
+                    delta[v] += c;
+                    if (edgeScores) {
+                        scores[outEdge[slot]] += c;
+                    }
+                }
+                if (!edgeScores && w != s) {
+                    scores[w] += delta[w];
+                }
+            }
+
+            for (int k = 0; k < size; k++) {
+                int w = stack[k];
+                dist[w] = Double.POSITIVE_INFINITY;
+                sigma[w] = 0;
+                delta[w] = 0d;
+                predCount[w] = 0;
+                if (weighted) {
+                    handles[w] = null;
+                }
+            }
+        }
+    }
+
+}
@@ -19,9 +19,6 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
-import org.jgrapht.alg.util.*;
-import org.jgrapht.graph.*;
 
 import java.util.*;
 
@@ -59,7 +56,9 @@ import java.util.*;
  * <p>
  * In general more landmarks will speed up A* but will need more space. Given an A* query with
  * vertices source and target, a good landmark appears "before" source or "after" target where
- * before and after are relative to the "direction" from source to target.
+ * before and after are relative to the "direction" from source to target. Landmarks can be selected
+ * automatically, and the distances computed in parallel and stored compactly, using
+ * {@link LandmarkTables.Builder}.
  *
  * @author Dimitrios Michail
  *
@@ -69,11 +68,7 @@ import java.util.*;
 public class ALTAdmissibleHeuristic<V, E>
     implements AStarAdmissibleHeuristic<V>
 {
-    private final Graph<V, E> graph;
-    private final Comparator<Double> comparator;
-    private final Map<V, Map<V, Double>> fromLandmark;
-    private final Map<V, Map<V, Double>> toLandmark;
-    private final boolean directed;
+    private final LandmarkTables<V> tables;
 
     /**
      * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
@@ -86,32 +81,24 @@ public class ALTAdmissibleHeuristic<V, E>
      */
     public ALTAdmissibleHeuristic(Graph<V, E> graph, Set<V> landmarks)
     {
-        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(graph, "Graph cannot be null");
         Objects.requireNonNull(landmarks, "Landmarks cannot be null");
         if (landmarks.isEmpty()) {
             throw new IllegalArgumentException("At least one landmark must be provided");
         }
-        this.fromLandmark = new HashMap<>();
-        if (graph.getType().isDirected()) {
-            this.directed = true;
-            this.toLandmark = new HashMap<>();
-        } else if (graph.getType().isUndirected()) {
-            this.directed = false;
-            this.toLandmark = this.fromLandmark;
-        } else {
-            throw new IllegalArgumentException("Graph must be directed or undirected");
-        }
-        this.comparator = new ToleranceDoubleComparator();
+        this.tables = new LandmarkTables.Builder<>(graph).landmarks(landmarks).build();
+    }
 
-        // precomputation and validation
-        for (V v : landmarks) {
-            for (E e : graph.edgesOf(v)) {
-                if (comparator.compare(graph.getEdgeWeight(e), 0d) < 0) {
-                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
-                }
-            }
-            precomputeToFromLandmark(v);
-        }
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using precomputed landmark tables. This
+     * allows the landmarks to be selected automatically, the tables to be computed in parallel or
+     * loaded from a file, and the same tables to be shared by several heuristics.
+     *
+     * @param tables the landmark tables, computed for the graph used by the A* algorithm
+     */
+    public ALTAdmissibleHeuristic(LandmarkTables<V> tables)
+    {
+        this.tables = Objects.requireNonNull(tables, "Tables cannot be null");
     }
 
     /**
@@ -126,78 +113,7 @@ public class ALTAdmissibleHeuristic<V, E>
     @Override
     public double getCostEstimate(V u, V t)
     {
-        double maxEstimate = 0d;
-
-        /*
-         * Special case, source equals target
-         */
-        if (u.equals(t)) {
-            return maxEstimate;
-        }
-
-        /*
-         * Special case, source is landmark
-         */
-        if (fromLandmark.containsKey(u)) {
-            return fromLandmark.get(u).get(t);
-        }
-
-        /*
-         * Special case, target is landmark
-         */
-        if (toLandmark.containsKey(t)) {
-            return toLandmark.get(t).get(u);
-        }
-
-        /*
-         * Compute from landmarks
-         */
-        for (V l : fromLandmark.keySet()) {
-            double estimate;
-            Map<V, Double> from = fromLandmark.get(l);
-            if (directed) {
-                Map<V, Double> to = toLandmark.get(l);
-                estimate = Math.max(to.get(u) - to.get(t), from.get(t) - from.get(u));
-            } else {
-                estimate = Math.abs(from.get(u) - from.get(t));
-            }
-
-            // max over all landmarks
-            if (Double.isFinite(estimate)) {
-                maxEstimate = Math.max(maxEstimate, estimate);
-            }
-        }
-
-        return maxEstimate;
-    }
-
-    /**
-     * Compute all distances to and from a landmark
-     *
-     * @param landmark the landmark
-     */
-    private void precomputeToFromLandmark(V landmark)
-    {
-        // compute distances from landmark
-        SingleSourcePaths<V, E> fromLandmarkPaths =
-            new DijkstraShortestPath<>(graph).getPaths(landmark);
-        Map<V, Double> fromLandMarkDistances = new HashMap<>();
-        for (V v : graph.vertexSet()) {
-            fromLandMarkDistances.put(v, fromLandmarkPaths.getWeight(v));
-        }
-        fromLandmark.put(landmark, fromLandMarkDistances);
-
-        // compute distances to landmark (using reverse graph)
-        if (directed) {
-            Graph<V, E> reverseGraph = new EdgeReversedGraph<>(graph);
-            SingleSourcePaths<V, E> toLandmarkPaths =
-                new DijkstraShortestPath<>(reverseGraph).getPaths(landmark);
-            Map<V, Double> toLandMarkDistances = new HashMap<>();
-            for (V v : graph.vertexSet()) {
-                toLandMarkDistances.put(v, toLandmarkPaths.getWeight(v));
-            }
-            toLandmark.put(landmark, toLandMarkDistances);
-        }
+        return tables.getCostEstimate(u, t);
     }
 
     /**
@@ -218,7 +218,7 @@ public class AStarShortestPath<V, E>
                     // open list, since we discovered a shorter
                     // path to this node
                     closedList.remove(successor);
-                    openList.insert(fScore, vertexToHeapNodeMap.get(successor).getValue());
+                    vertexToHeapNodeMap.put(successor, openList.insert(fScore, successor));
                 } else { // It's in the open list
                     vertexToHeapNodeMap.get(successor).decreaseKey(fScore);
                 }
@@ -39,6 +39,11 @@ import java.util.function.*;
  * This iterator can use a custom heap implementation, which can specified during the construction
  * time. Pairing heap is used by default
  *
+ * <p>
+ * When many queries are executed against the same graph, a {@link DijkstraWorkspace} can be
+ * provided during construction. Both frontiers then reuse the arrays and heaps of the workspace
+ * instead of allocating new ones. Such an instance is not thread-safe.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Dimitrios Michail
@@ -49,6 +54,8 @@ public final class BidirectionalDijkstraShortestPath<V, E>
 {
     private double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
+    private final DijkstraWorkspace<V, E> workspace;
+    private final Graph<V, E> reversedGraph;
 
     /**
      * Constructs a new instance for a specified graph.
@@ -102,6 +109,34 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         }
         this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
         this.radius = radius;
+        this.workspace = null;
+        this.reversedGraph = null;
+    }
+
+    /**
+     * Constructs a new instance for a specified graph which performs all queries using a reusable
+     * workspace. The workspace must have been created for the same graph.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param workspace the workspace
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, DijkstraWorkspace<V, E> workspace)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+        if (workspace.getGraph() != graph) {
+            throw new IllegalArgumentException("Workspace must be created for the same graph");
+        }
+        this.heapSupplier = null;
+        this.radius = radius;
+        this.workspace = workspace;
+        this.reversedGraph =
+            graph.getType().isDirected() ? new EdgeReversedGraph<>(graph) : graph;
     }
 
     /**
@@ -135,6 +170,10 @@ public final class BidirectionalDijkstraShortestPath<V, E>
             return createEmptyPath(source, sink);
         }
 
+        if (workspace != null) {
+            return getPathUsingWorkspace(source, sink);
+        }
+
         // create frontiers
         DijkstraSearchFrontier<V, E> forwardFrontier =
             new DijkstraSearchFrontier<>(graph, heapSupplier);
@@ -206,6 +245,95 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         }
     }
 
+    private GraphPath<V, E> getPathUsingWorkspace(V source, V sink)
+    {
+        WorkspaceSearchFrontier<V, E> forwardFrontier =
+            new WorkspaceSearchFrontier<>(graph, workspace.forward());
+        WorkspaceSearchFrontier<V, E> backwardFrontier =
+            new WorkspaceSearchFrontier<>(reversedGraph, workspace.backward());
+
+        forwardFrontier.space.start(source);
+        backwardFrontier.space.start(sink);
+
+        double bestPath = Double.POSITIVE_INFINITY;
+        V bestPathCommonVertex = null;
+
+        WorkspaceSearchFrontier<V, E> frontier = forwardFrontier;
+        WorkspaceSearchFrontier<V, E> otherFrontier = backwardFrontier;
+
+        while (true) {
+            // stopping condition
+            if (frontier.space.isEmpty() || otherFrontier.space.isEmpty()
+                || frontier.space.minDistance() + otherFrontier.space.minDistance() >= bestPath)
+            {
+                break;
+            }
+
+            // frontier scan
+            double vDistance = frontier.space.minDistance();
+            V v = frontier.space.deleteMin();
+
+            for (E e : frontier.graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(frontier.graph, e, v);
+
+                double eWeight = frontier.graph.getEdgeWeight(e);
+
+                frontier.space.updateDistance(u, e, vDistance + eWeight);
+
+                // check path with u's distance from the other frontier
+                double pathDistance = vDistance + eWeight + otherFrontier.getDistance(u);
+
+                if (pathDistance < bestPath) {
+                    bestPath = pathDistance;
+                    bestPathCommonVertex = u;
+                }
+            }
+
+            // swap frontiers
+            WorkspaceSearchFrontier<V, E> tmpFrontier = frontier;
+            frontier = otherFrontier;
+            otherFrontier = tmpFrontier;
+        }
+
+        // create path if found
+        if (Double.isFinite(bestPath) && bestPath <= radius) {
+            return createPath(
+                forwardFrontier, backwardFrontier, bestPath, source, bestPathCommonVertex, sink);
+        } else {
+            return createEmptyPath(source, sink);
+        }
+    }
+
+    /**
+     * Search frontier backed by a search space of a {@link DijkstraWorkspace}.
+     *
+     * @param <V> vertices type
+     * @param <E> edges type
+     */
+    static class WorkspaceSearchFrontier<V, E>
+        extends BaseSearchFrontier<V, E>
+    {
+        final DijkstraWorkspace<V, E>.SearchSpace space;
+
+        WorkspaceSearchFrontier(Graph<V, E> graph, DijkstraWorkspace<V, E>.SearchSpace space)
+        {
+            super(graph);
+            this.space = space;
+        }
+
+        @Override
+        double getDistance(V v)
+        {
+            return space.getDistance(v);
+        }
+
+        @Override
+        E getTreeEdge(V v)
+        {
+            return space.getTreeEdge(v);
+        }
+    }
+
     /**
      * Maintains search frontier during shortest path computation.
      *
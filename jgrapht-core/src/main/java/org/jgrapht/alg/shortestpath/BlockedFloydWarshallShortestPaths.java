@@ -0,0 +1,675 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A blocked and parallel variant of the Floyd-Warshall algorithm.
+ *
+ * <p>
+ * The algorithm computes all shortest paths in $O(n^3)$ time, similarly to
+ * {@link FloydWarshallShortestPaths}, but organizes the computation in order to be cache friendly
+ * and to run in parallel. The distance matrix is split into square tiles of size $b \times b$, and
+ * each phase $k$ of the computation first updates the diagonal tile $(k,k)$, then the tiles of row
+ * $k$ and column $k$, and finally all remaining tiles. The tiles of each of the last two steps are
+ * independent and are processed in parallel using a {@link ForkJoinPool}. See the following paper
+ * for details:
+ * <ul>
+ * <li>Gayathri Venkataraman, Sartaj Sahni and Srabani Mukhopadhyaya. A Blocked All-Pairs
+ * Shortest-Paths Algorithm. Journal of Experimental Algorithmics, 8, 2003.</li>
+ * </ul>
+ *
+ * <p>
+ * Distances are stored in a flat array, tile after tile, either in double or in single precision.
+ * Single precision halves the required space, but distances are rounded after each update and thus
+ * are only approximate. Instead of a matrix of edges, the first edge of each shortest path is
+ * stored as an index in an {@code int} array. For large graphs the matrices can be stored in a
+ * memory-mapped file instead of the heap, in which case the operating system pages tiles in and
+ * out of main memory as needed. Each tile which is updated is copied to a small buffer, so the
+ * working set of a thread during a step is just three tiles. The file is created or truncated when
+ * the computation starts, and is not deleted by this class.
+ *
+ * <p>
+ * The graph may contain negative edge weights but not negative cycles. Note that during
+ * construction time, no computations are performed! All computations are performed the first time
+ * one of the member methods of this class is invoked. Later modifications of the graph are not
+ * reflected.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class BlockedFloydWarshallShortestPaths<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default tile size
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int blockSize;
+    private final boolean singlePrecision;
+    private final Path spillFile;
+    private final ForkJoinPool pool;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndices;
+    private final List<E> edges;
+    private final int numberOfBlocks;
+
+    private TileStorage storage;
+
+    /**
+     * Create a new instance which stores the distances in double precision on the heap and uses
+     * the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param graph the input graph
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, DEFAULT_BLOCK_SIZE, false, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance which stores the distances in double precision on the heap.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to process tiles in parallel, or null to process them sequentially
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, DEFAULT_BLOCK_SIZE, false, null, pool);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param blockSize the size of the tiles
+     * @param singlePrecision whether to store the distances in single precision
+     * @param spillFile a file where the matrices are memory-mapped, or null to store them on the
+     *        heap
+     * @param pool the pool used to process tiles in parallel, or null to process them sequentially
+     * @throws IllegalArgumentException if the block size is not positive
+     * @throws IllegalArgumentException if the matrices are too large to be stored
+     */
+    public BlockedFloydWarshallShortestPaths(
+        Graph<V, E> graph, int blockSize, boolean singlePrecision, Path spillFile,
+        ForkJoinPool pool)
+    {
+        super(graph);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.singlePrecision = singlePrecision;
+        this.spillFile = spillFile;
+        this.pool = pool;
+
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndices = CollectionUtil.newHashMapWithExpectedSize(vertices.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndices.put(vertices.get(i), i);
+        }
+        this.edges = new ArrayList<>(graph.edgeSet());
+
+        int n = vertices.size();
+        this.blockSize = Math.max(1, Math.min(blockSize, n));
+        this.numberOfBlocks = (n + this.blockSize - 1) / this.blockSize;
+
+        long size = (long) numberOfBlocks * numberOfBlocks * this.blockSize * this.blockSize;
+        if (spillFile == null && size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                "Matrix too large for the heap, a spill file must be used");
+        }
+        long rowBytes = (long) numberOfBlocks * this.blockSize * this.blockSize * Double.BYTES;
+        if (spillFile != null && rowBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Block size too large for a memory-mapped matrix");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        lazyCalculateMatrix();
+
+        int j = vertexIndices.get(sink);
+        if (source.equals(sink) || storage.getNext(position(vertexIndices.get(source), j)) < 0) {
+            return createEmptyPath(source, sink);
+        }
+
+        // Reconstruct the path
+        List<E> pathEdges = new ArrayList<>();
+        double weight = 0d;
+        V u = source;
+        while (!u.equals(sink)) {
+            E e = edges.get(storage.getNext(position(vertexIndices.get(u), j)));
+            pathEdges.add(e);
+            weight += graph.getEdgeWeight(e);
+            u = Graphs.getOppositeVertex(graph, e, u);
+        }
+        return new GraphWalk<>(graph, source, sink, null, pathEdges, weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        lazyCalculateMatrix();
+
+        return storage
+            .getDistance(position(vertexIndices.get(source), vertexIndices.get(sink)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new BlockedFloydWarshallSingleSourcePaths(source);
+    }
+
+    /**
+     * Returns the first hop, i.e., the second node on the shortest path from $a$ to $b$. Lookup
+     * time is $O(1)$.
+     *
+     * @param a source vertex
+     * @param b target vertex
+     * @return next hop on the shortest path from a to b, or null when there exists no path from $a$
+     *         to $b$.
+     */
+    public V getFirstHop(V a, V b)
+    {
+        lazyCalculateMatrix();
+
+        int next = storage.getNext(position(vertexIndices.get(a), vertexIndices.get(b)));
+        if (next < 0) { // No path exists
+            return null;
+        }
+        return Graphs.getOppositeVertex(graph, edges.get(next), a);
+    }
+
+    /**
+     * Position of an entry of the matrices.
+     */
+    private long position(int i, int j)
+    {
+        int b = blockSize;
+        return ((long) (i / b) * numberOfBlocks + j / b) * b * b + (i % b) * b + j % b;
+    }
+
+    /**
+     * Position of the first entry of a tile.
+     */
+    private long tilePosition(int row, int column)
+    {
+        return ((long) row * numberOfBlocks + column) * blockSize * blockSize;
+    }
+
+    /**
+     * Calculates the matrix of all shortest paths.
+     */
+    private void lazyCalculateMatrix()
+    {
+        if (storage != null) {
+            // already done
+            return;
+        }
+
+        TileStorage storage;
+        try {
+            storage = spillFile != null ? new MappedTileStorage() : new HeapTileStorage();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // initialize all tiles
+        int b = blockSize;
+        double[] dist = new double[b * b];
+        int[] next = new int[b * b];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+        for (int row = 0; row < numberOfBlocks; row++) {
+            for (int column = 0; column < numberOfBlocks; column++) {
+                storage.write(tilePosition(row, column), dist, next);
+            }
+        }
+        for (int i = 0; i < numberOfBlocks * b; i++) {
+            storage.set(position(i, i), 0d, -1);
+        }
+
+        // initialize edges
+        Map<E, Integer> edgeIndices = CollectionUtil.newHashMapWithExpectedSize(edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            edgeIndices.put(edges.get(i), i);
+        }
+        for (int i = 0; i < vertices.size(); i++) {
+            V v = vertices.get(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                if (!v.equals(u)) {
+                    long pos = position(i, vertexIndices.get(u));
+                    double edgeWeight = graph.getEdgeWeight(e);
+                    if (Double.compare(edgeWeight, storage.getDistance(pos)) < 0) {
+                        storage.set(pos, edgeWeight, edgeIndices.get(e));
+                    }
+                }
+            }
+        }
+
+        // run the phases
+        for (int k = 0; k < numberOfBlocks; k++) {
+            int pivot = k;
+
+            // diagonal tile
+            storage.read(tilePosition(k, k), dist, next);
+            relax(dist, next, dist, next, dist);
+            storage.write(tilePosition(k, k), dist, next);
+
+            // row and column tiles
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int other = 0; other < numberOfBlocks; other++) {
+                if (other == k) {
+                    continue;
+                }
+                int o = other;
+                tasks.add(() -> {
+                    double[] diagonal = new double[b * b];
+                    int[] diagonalNext = new int[b * b];
+                    double[] tile = new double[b * b];
+                    int[] tileNext = new int[b * b];
+                    storage.read(tilePosition(pivot, pivot), diagonal, diagonalNext);
+
+                    storage.read(tilePosition(pivot, o), tile, tileNext);
+                    relax(tile, tileNext, diagonal, diagonalNext, tile);
+                    storage.write(tilePosition(pivot, o), tile, tileNext);
+
+                    storage.read(tilePosition(o, pivot), tile, tileNext);
+                    relax(tile, tileNext, tile, tileNext, diagonal);
+                    storage.write(tilePosition(o, pivot), tile, tileNext);
+                    return null;
+                });
+            }
+            run(tasks);
+
+            // remaining tiles, one task per row of tiles
+            tasks.clear();
+            for (int row = 0; row < numberOfBlocks; row++) {
+                if (row == k) {
+                    continue;
+                }
+                int r = row;
+                tasks.add(() -> {
+                    double[] column = new double[b * b];
+                    int[] columnNext = new int[b * b];
+                    double[] tile = new double[b * b];
+                    int[] tileNext = new int[b * b];
+                    double[] pivotRow = new double[b * b];
+                    int[] pivotRowNext = new int[b * b];
+                    storage.read(tilePosition(r, pivot), column, columnNext);
+                    for (int c = 0; c < numberOfBlocks; c++) {
+                        if (c == pivot) {
+                            continue;
+                        }
+                        storage.read(tilePosition(pivot, c), pivotRow, pivotRowNext);
+                        storage.read(tilePosition(r, c), tile, tileNext);
+                        relax(tile, tileNext, column, columnNext, pivotRow);
+                        storage.write(tilePosition(r, c), tile, tileNext);
+                    }
+                    return null;
+                });
+            }
+            run(tasks);
+        }
+
+        this.storage = storage;
+    }
+
+    /**
+     * Relax the paths of tile $c$ through the vertices of a pivot tile, given the paths to the
+     * pivot vertices in tile $a$ and the paths from the pivot vertices in tile $b$. Tile $c$ may be
+     * the same as tile $a$ or tile $b$.
+     */
+    private void relax(double[] c, int[] cNext, double[] a, int[] aNext, double[] b)
+    {
+        int size = blockSize;
+        for (int k = 0; k < size; k++) {
+            int bRow = k * size;
+            for (int i = 0; i < size; i++) {
+                double aik = a[i * size + k];
+                if (aik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int aNextIK = aNext[i * size + k];
+                int cRow = i * size;
+                for (int j = 0; j < size; j++) {
+                    double sum = aik + b[bRow + j];
+                    if (sum < c[cRow + j]) {
+                        c[cRow + j] = sum;
+                        cNext[cRow + j] = aNextIK;
+                    }
+                }
+            }
+        }
+        if (singlePrecision) {
+            // keep the values consistent with the storage
+            for (int i = 0; i < c.length; i++) {
+                c[i] = (float) c[i];
+            }
+        }
+    }
+
+    /**
+     * Run independent tasks, in parallel if a pool is available.
+     */
+    private void run(List<Callable<Void>> tasks)
+    {
+        if (pool == null) {
+            for (Callable<Void> task : tasks) {
+                try {
+                    task.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return;
+        }
+
+        RuntimeException failure = null;
+        for (Future<Void> future : pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof RuntimeException)) {
+                    e.printStackTrace();
+                } else if (failure == null) {
+                    failure = (RuntimeException) e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Storage of the distance and first edge matrices. Tiles are stored contiguously. Distinct
+     * tiles may be read and written concurrently.
+     */
+    private abstract class TileStorage
+    {
+        abstract double getDistance(long pos);
+
+        abstract int getNext(long pos);
+
+        abstract void set(long pos, double distance, int next);
+
+        abstract void read(long pos, double[] distance, int[] next);
+
+        abstract void write(long pos, double[] distance, int[] next);
+    }
+
+    /**
+     * Storage in arrays on the heap.
+     */
+    private class HeapTileStorage
+        extends TileStorage
+    {
+        private final double[] distances;
+        private final float[] floatDistances;
+        private final int[] nexts;
+
+        HeapTileStorage()
+        {
+            int size = numberOfBlocks * numberOfBlocks * blockSize * blockSize;
+            this.distances = singlePrecision ? null : new double[size];
+            this.floatDistances = singlePrecision ? new float[size] : null;
+            this.nexts = new int[size];
+        }
+
+        @Override
+        double getDistance(long pos)
+        {
+            return singlePrecision ? floatDistances[(int) pos] : distances[(int) pos];
+        }
+
+        @Override
+        int getNext(long pos)
+        {
+            return nexts[(int) pos];
+        }
+
+        @Override
+        void set(long pos, double distance, int next)
+        {
+            if (singlePrecision) {
+                floatDistances[(int) pos] = (float) distance;
+            } else {
+                distances[(int) pos] = distance;
+            }
+            nexts[(int) pos] = next;
+        }
+
+        @Override
+        void read(long pos, double[] distance, int[] next)
+        {
+            int offset = (int) pos;
+            if (singlePrecision) {
+                for (int i = 0; i < distance.length; i++) {
+                    distance[i] = floatDistances[offset + i];
+                }
+            } else {
+                System.arraycopy(distances, offset, distance, 0, distance.length);
+            }
+            System.arraycopy(nexts, offset, next, 0, next.length);
+        }
+
+        @Override
+        void write(long pos, double[] distance, int[] next)
+        {
+            int offset = (int) pos;
+            if (singlePrecision) {
+                for (int i = 0; i < distance.length; i++) {
+                    floatDistances[offset + i] = (float) distance[i];
+                }
+            } else {
+                System.arraycopy(distance, 0, distances, offset, distance.length);
+            }
+            System.arraycopy(next, 0, nexts, offset, next.length);
+        }
+    }
+
+    /**
+     * Storage in a memory-mapped file. Each row of tiles is mapped separately, since a single
+     * mapping is limited to 2GB.
+     */
+    private class MappedTileStorage
+        extends TileStorage
+    {
+        private final int rowSize;
+        private final ByteBuffer[] distanceRows;
+        private final ByteBuffer[] nextRows;
+        private final int distanceBytes;
+
+        MappedTileStorage()
+            throws IOException
+        {
+            this.rowSize = numberOfBlocks * blockSize * blockSize;
+            this.distanceBytes = singlePrecision ? Float.BYTES : Double.BYTES;
+            this.distanceRows = new ByteBuffer[numberOfBlocks];
+            this.nextRows = new ByteBuffer[numberOfBlocks];
+
+            long distanceRowBytes = (long) rowSize * distanceBytes;
+            long nextRowBytes = (long) rowSize * Integer.BYTES;
+            try (FileChannel channel = FileChannel.open(
+                spillFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+            {
+                long offset = 0;
+                for (int row = 0; row < numberOfBlocks; row++) {
+                    distanceRows[row] =
+                        channel.map(FileChannel.MapMode.READ_WRITE, offset, distanceRowBytes);
+                    offset += distanceRowBytes;
+                    nextRows[row] =
+                        channel.map(FileChannel.MapMode.READ_WRITE, offset, nextRowBytes);
+                    offset += nextRowBytes;
+                }
+            }
+        }
+
+        @Override
+        double getDistance(long pos)
+        {
+            ByteBuffer row = distanceRows[(int) (pos / rowSize)];
+            int index = (int) (pos % rowSize) * distanceBytes;
+            return singlePrecision ? row.getFloat(index) : row.getDouble(index);
+        }
+
+        @Override
+        int getNext(long pos)
+        {
+            return nextRows[(int) (pos / rowSize)].getInt((int) (pos % rowSize) * Integer.BYTES);
+        }
+
+        @Override
+        void set(long pos, double distance, int next)
+        {
+            ByteBuffer row = distanceRows[(int) (pos / rowSize)];
+            int index = (int) (pos % rowSize);
+            if (singlePrecision) {
+                row.putFloat(index * Float.BYTES, (float) distance);
+            } else {
+                row.putDouble(index * Double.BYTES, distance);
+            }
+            nextRows[(int) (pos / rowSize)].putInt(index * Integer.BYTES, next);
+        }
+
+        @Override
+        void read(long pos, double[] distance, int[] next)
+        {
+            int row = (int) (pos / rowSize);
+            int index = (int) (pos % rowSize);
+            ByteBuffer d = distanceRows[row].duplicate();
+            d.position(index * distanceBytes);
+            if (singlePrecision) {
+                FloatBuffer floats = d.asFloatBuffer();
+                for (int i = 0; i < distance.length; i++) {
+                    distance[i] = floats.get(i);
+                }
+            } else {
+                d.asDoubleBuffer().get(distance);
+            }
+            ByteBuffer nx = nextRows[row].duplicate();
+            nx.position(index * Integer.BYTES);
+            nx.asIntBuffer().get(next);
+        }
+
+        @Override
+        void write(long pos, double[] distance, int[] next)
+        {
+            int row = (int) (pos / rowSize);
+            int index = (int) (pos % rowSize);
+            ByteBuffer d = distanceRows[row].duplicate();
+            d.position(index * distanceBytes);
+            if (singlePrecision) {
+                FloatBuffer floats = d.asFloatBuffer();
+                for (int i = 0; i < distance.length; i++) {
+                    floats.put(i, (float) distance[i]);
+                }
+            } else {
+                d.asDoubleBuffer().put(distance);
+            }
+            ByteBuffer nx = nextRows[row].duplicate();
+            nx.position(index * Integer.BYTES);
+            nx.asIntBuffer().put(next);
+        }
+    }
+
+    class BlockedFloydWarshallSingleSourcePaths
+        implements SingleSourcePaths<V, E>
+    {
+        private final V source;
+
+        BlockedFloydWarshallSingleSourcePaths(V source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPathWeight(source, sink);
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPath(source, sink);
+        }
+    }
+
+}
@@ -0,0 +1,432 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.util.*;
+
+/**
+ * Computes eccentricity based metrics by maintaining a lower and an upper bound on the eccentricity
+ * of every vertex.
+ *
+ * <p>
+ * The algorithm is described in the papers: Frank W. Takes and Walter A. Kosters. Determining the
+ * diameter of small world networks. Proceedings of the 20th ACM International Conference on
+ * Information and Knowledge Management, 1191–1196, 2011, and Frank W. Takes and Walter A. Kosters.
+ * Computing the Eccentricity Distribution of Large Graphs. Algorithms, 6(1):100–118, 2013.
+ *
+ * <p>
+ * After computing the distances $d(v, \cdot)$ from and $d(\cdot, v)$ to a vertex $v$, the bounds of
+ * every vertex $w$ are tightened using $\max(\epsilon(v) - d(v,w), d(w,v)) \le \epsilon(w) \le
+ * \epsilon(v) + d(w,v)$. Vertices are selected alternately with the largest upper bound and the
+ * smallest lower bound, breaking ties by degree. A vertex stops being a candidate once its bounds
+ * determine whether it belongs to the center and to the periphery, or, if all eccentricities are
+ * requested, once its bounds coincide. On real-world graphs this usually happens after a small
+ * number of traversals.
+ *
+ * <p>
+ * Distances are computed by breadth-first search on unweighted graphs and by Dijkstra on weighted
+ * graphs. For undirected graphs $d(v,w) = d(w,v)$ and a single traversal is needed per selected
+ * vertex, otherwise two.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+class BoundingEccentricities<V, E>
+{
+    private static final double EPSILON = ToleranceDoubleComparator.DEFAULT_EPSILON;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final boolean undirected;
+    private final boolean weighted;
+
+    /*
+     * Adjacency in compressed sparse row format. For undirected graphs the incoming arrays are the
+     * same as the outgoing.
+     */
+    private final int[] outStart;
+    private final int[] outTarget;
+    private final double[] outWeight;
+    private final int[] inStart;
+    private final int[] inSource;
+    private final double[] inWeight;
+
+    private final double[] lower;
+    private final double[] upper;
+    private final double[] distanceFrom;
+    private final double[] distanceTo;
+    private final int[] queue;
+    private final AddressableHeap<Double, Integer> heap;
+    private final AddressableHeap.Handle<Double, Integer>[] handles;
+
+    private boolean selectLargestUpper;
+    private int traversals;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    BoundingEccentricities(Graph<V, E> graph)
+    {
+        this.undirected = graph.getType().isUndirected();
+        this.weighted = graph.getType().isWeighted();
+
+        int n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        this.outStart = new int[n + 1];
+        int[] outDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            outDegree[i] = graph.outgoingEdgesOf(vertices.get(i)).size();
+            outStart[i + 1] = outStart[i] + outDegree[i];
+        }
+        this.outTarget = new int[outStart[n]];
+        this.outWeight = weighted ? new double[outStart[n]] : null;
+        fill(graph, true, outStart, outTarget, outWeight);
+
+        if (undirected) {
+            this.inStart = outStart;
+            this.inSource = outTarget;
+            this.inWeight = outWeight;
+        } else {
+            this.inStart = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                inStart[i + 1] = inStart[i] + graph.incomingEdgesOf(vertices.get(i)).size();
+            }
+            this.inSource = new int[inStart[n]];
+            this.inWeight = weighted ? new double[inStart[n]] : null;
+            fill(graph, false, inStart, inSource, inWeight);
+        }
+
+        this.lower = new double[n];
+        this.upper = new double[n];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        this.distanceFrom = new double[n];
+        this.distanceTo = undirected ? distanceFrom : new double[n];
+        if (weighted) {
+            this.queue = null;
+            this.heap = new PairingHeap<>();
+            this.handles = TypeUtil.uncheckedCast(new AddressableHeap.Handle<?, ?>[n]);
+        } else {
+            this.queue = new int[n];
+            this.heap = null;
+            this.handles = null;
+        }
+        this.selectLargestUpper = true;
+        this.traversals = 0;
+    }
+
+    private void fill(Graph<V, E> graph, boolean outgoing, int[] start, int[] other, double[] w)
+    {
+        for (int i = 0; i < vertices.size(); i++) {
+            V v = vertices.get(i);
+            int pos = start[i];
+            for (E e : outgoing ? graph.outgoingEdgesOf(v) : graph.incomingEdgesOf(v)) {
+                other[pos] = vertexIndex.get(Graphs.getOppositeVertex(graph, e, v));
+                if (w != null) {
+                    double weight = graph.getEdgeWeight(e);
+                    if (weight < 0.0) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    w[pos] = weight;
+                }
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Refine the bounds until the diameter, the radius, the center and the periphery are known.
+     */
+    void computeExtremal()
+    {
+        refine(false);
+    }
+
+    /**
+     * Refine the bounds until the eccentricity of every vertex is known.
+     */
+    void computeAll()
+    {
+        refine(true);
+    }
+
+    /**
+     * Get the number of single-source traversals performed so far.
+     *
+     * @return the number of traversals
+     */
+    int getNumberOfTraversals()
+    {
+        return traversals;
+    }
+
+    /**
+     * Get the diameter. Valid after {@link #computeExtremal()} or {@link #computeAll()}.
+     *
+     * @return the diameter
+     */
+    double getDiameter()
+    {
+        double diameter = 0d;
+        for (double l : lower) {
+            diameter = Math.max(diameter, l);
+        }
+        return diameter;
+    }
+
+    /**
+     * Get the radius. Valid after {@link #computeExtremal()} or {@link #computeAll()}.
+     *
+     * @return the radius
+     */
+    double getRadius()
+    {
+        if (vertices.isEmpty()) {
+            return 0d;
+        }
+        double radius = Double.POSITIVE_INFINITY;
+        for (double u : upper) {
+            radius = Math.min(radius, u);
+        }
+        return radius;
+    }
+
+    /**
+     * Get the center. Valid after {@link #computeExtremal()} or {@link #computeAll()}.
+     *
+     * @return the center
+     */
+    Set<V> getCenter()
+    {
+        double radius = getRadius();
+        Set<V> center = new LinkedHashSet<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            if (compare(upper[i], radius) <= 0) {
+                center.add(vertices.get(i));
+            }
+        }
+        return center;
+    }
+
+    /**
+     * Get the periphery. Valid after {@link #computeExtremal()} or {@link #computeAll()}.
+     *
+     * @return the periphery
+     */
+    Set<V> getPeriphery()
+    {
+        double diameter = getDiameter();
+        Set<V> periphery = new LinkedHashSet<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            if (compare(lower[i], diameter) >= 0) {
+                periphery.add(vertices.get(i));
+            }
+        }
+        return periphery;
+    }
+
+    /**
+     * Get the eccentricity of a vertex. Valid after {@link #computeAll()}.
+     *
+     * @param v the vertex
+     * @return the eccentricity
+     */
+    double getEccentricity(V v)
+    {
+        return lower[vertexIndex.get(v)];
+    }
+
+    /**
+     * Decide whether a vertex is pseudo-peripheral, using one traversal. Valid after
+     * {@link #computeAll()}.
+     *
+     * @param v the vertex
+     * @return whether the vertex is pseudo-peripheral
+     */
+    boolean isPseudoPeripheral(V v)
+    {
+        int u = vertexIndex.get(v);
+        traverse(u, true, distanceFrom);
+        for (int w = 0; w < vertices.size(); w++) {
+            if (compare(distanceFrom[w], lower[u]) == 0 && compare(lower[u], lower[w]) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void refine(boolean all)
+    {
+        int n = vertices.size();
+        while (true) {
+            double maxLower = 0d;
+            double maxUpper = 0d;
+            double minLower = Double.POSITIVE_INFINITY;
+            double minUpper = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                maxLower = Math.max(maxLower, lower[i]);
+                maxUpper = Math.max(maxUpper, upper[i]);
+                minLower = Math.min(minLower, lower[i]);
+                minUpper = Math.min(minUpper, upper[i]);
+            }
+
+            int selected = -1;
+            for (int i = 0; i < n; i++) {
+                if (compare(lower[i], upper[i]) >= 0) {
+                    continue;
+                }
+                if (!all) {
+                    boolean peripheryDecided =
+                        compare(upper[i], maxLower) < 0 || compare(lower[i], maxUpper) >= 0;
+                    boolean centerDecided =
+                        compare(lower[i], minUpper) > 0 || compare(upper[i], minLower) <= 0;
+                    if (peripheryDecided && centerDecided) {
+                        continue;
+                    }
+                }
+                if (selected == -1 || isBetter(i, selected)) {
+                    selected = i;
+                }
+            }
+            if (selected == -1) {
+                break;
+            }
+
+            updateBounds(selected);
+            selectLargestUpper = !selectLargestUpper;
+        }
+    }
+
+    private boolean isBetter(int i, int j)
+    {
+        int c = selectLargestUpper ? Double.compare(upper[i], upper[j])
+            : Double.compare(lower[j], lower[i]);
+        if (c != 0) {
+            return c > 0;
+        }
+        return degree(i) > degree(j);
+    }
+
+    private int degree(int v)
+    {
+        int degree = outStart[v + 1] - outStart[v];
+        if (!undirected) {
+            degree += inStart[v + 1] - inStart[v];
+        }
+        return degree;
+    }
+
+    private void updateBounds(int v)
+    {
+        double eccentricity = traverse(v, true, distanceFrom);
+        if (!undirected) {
+            traverse(v, false, distanceTo);
+        }
+        for (int w = 0; w < vertices.size(); w++) {
+            double l = Math.max(lower[w], distanceTo[w]);
+            if (distanceFrom[w] != Double.POSITIVE_INFINITY) {
+                l = Math.max(l, eccentricity - distanceFrom[w]);
+            }
+            lower[w] = l;
+            upper[w] = Math.min(upper[w], eccentricity + distanceTo[w]);
+        }
+        lower[v] = eccentricity;
+        upper[v] = eccentricity;
+    }
+
+    /**
+     * Compute the distances from (or to) a source and return the maximum, which is infinite if some
+     * vertex is not reachable.
+     */
+    private double traverse(int source, boolean forward, double[] distance)
+    {
+        traversals++;
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        int[] start = forward ? outStart : inStart;
+        int[] other = forward ? outTarget : inSource;
+
+        int reached = 0;
+        double max = 0d;
+        if (!weighted) {
+            distance[source] = 0d;
+            queue[0] = source;
+            int size = 1;
+            while (reached < size) {
+                int u = queue[reached++];
+                double d = distance[u] + 1d;
+                for (int j = start[u], end = start[u + 1]; j < end; j++) {
+                    int w = other[j];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = d;
+                        queue[size++] = w;
+                    }
+                }
+            }
+            max = distance[queue[reached - 1]];
+        } else {
+            double[] weight = forward ? outWeight : inWeight;
+            distance[source] = 0d;
+            handles[source] = heap.insert(0d, source);
+            while (!heap.isEmpty()) {
+                AddressableHeap.Handle<Double, Integer> min = heap.deleteMin();
+                int u = min.getValue();
+                double du = min.getKey();
+                handles[u] = null;
+                reached++;
+                max = du;
+                for (int j = start[u], end = start[u + 1]; j < end; j++) {
+                    int w = other[j];
+                    double d = du + weight[j];
+                    if (d < distance[w]) {
+                        distance[w] = d;
+                        if (handles[w] == null) {
+                            handles[w] = heap.insert(d, w);
+                        } else {
+                            handles[w].decreaseKey(d);
+                        }
+                    }
+                }
+            }
+        }
+        return reached < vertices.size() ? Double.POSITIVE_INFINITY : max;
+    }
+
+    private static int compare(double a, double b)
+    {
+        if (Math.abs(a - b) < EPSILON) {
+            return 0;
+        }
+        return Double.compare(a, b);
+    }
+
+}
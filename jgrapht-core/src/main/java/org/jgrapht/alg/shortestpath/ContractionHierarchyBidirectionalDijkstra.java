@@ -20,15 +20,15 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
-import org.jgrapht.util.ConcurrencyUtil;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
 import java.util.*;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.*;
 import java.util.function.*;
 
-import static org.jgrapht.alg.shortestpath.BidirectionalDijkstraShortestPath.DijkstraSearchFrontier;
+import static org.jgrapht.alg.shortestpath.BaseBidirectionalShortestPathAlgorithm.BaseSearchFrontier;
 import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
 
 /**
@@ -79,6 +79,14 @@ import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
  * further query performance improvement is needed take a look at
  * {@link TransitNodeRoutingShortestPath}.
  *
+ * <p>
+ * Queries are re-entrant and an instance can be shared by many threads, provided that neither the
+ * graph nor the contraction hierarchy is modified. The search state of a query is kept in a
+ * workspace which is taken from a pool of the instance and returned to it after the query. A
+ * workspace holds arrays indexed by the contraction vertices and is reset in time proportional to
+ * the number of vertices touched by the previous query. Thus the pool never grows beyond the
+ * maximum number of concurrent queries, which also makes it suitable for virtual threads.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -113,6 +121,20 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
      */
     private double radius;
 
+    /**
+     * Upward part of the contraction graph, which is used by the forward searches.
+     */
+    private Graph<ContractionVertex<V>, ContractionEdge<E>> upwardGraph;
+    /**
+     * Reversed downward part of the contraction graph, which is used by the backward searches.
+     */
+    private Graph<ContractionVertex<V>, ContractionEdge<E>> downwardGraph;
+
+    /**
+     * Workspaces which are not used by any query at the moment.
+     */
+    private final Queue<QueryWorkspace> workspaces;
+
     /**
      * Constructs a new instance of the algorithm for a given {@code graph} and {@code executor}. It
      * is up to a user of this algorithm to handle the creation and termination of the provided
@@ -157,6 +179,10 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
         this.contractionMapping = hierarchy.getContractionMapping();
         this.radius = radius;
         this.heapSupplier = heapSupplier;
+        this.upwardGraph = new MaskSubgraph<>(contractionGraph, v -> false, e -> !e.isUpward);
+        this.downwardGraph = new MaskSubgraph<>(
+            new EdgeReversedGraph<>(contractionGraph), v -> false, e -> e.isUpward);
+        this.workspaces = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -180,16 +206,34 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
         ContractionVertex<V> contractedSource = contractionMapping.get(source);
         ContractionVertex<V> contractedSink = contractionMapping.get(sink);
 
-        // create frontiers
-        ContractionSearchFrontier<ContractionVertex<V>, ContractionEdge<E>> forwardFrontier =
-            new ContractionSearchFrontier<>(
-                new MaskSubgraph<>(contractionGraph, v -> false, e -> !e.isUpward), heapSupplier);
+        QueryWorkspace workspace = workspaces.poll();
+        if (workspace == null) {
+            workspace = new QueryWorkspace();
+        }
+        try {
+            return getPath(workspace, contractedSource, contractedSink);
+        } finally {
+            workspace.forwardFrontier.reset();
+            workspace.backwardFrontier.reset();
+            workspaces.offer(workspace);
+        }
+    }
 
-        ContractionSearchFrontier<ContractionVertex<V>,
-            ContractionEdge<E>> backwardFrontier = new ContractionSearchFrontier<>(
-                new MaskSubgraph<>(
-                    new EdgeReversedGraph<>(contractionGraph), v -> false, e -> e.isUpward),
-                heapSupplier);
+    /**
+     * Computes the shortest path between {@code contractedSource} and {@code contractedSink}
+     * using the search frontiers of the given workspace.
+     *
+     * @param workspace the workspace of the query
+     * @param contractedSource path source
+     * @param contractedSink path sink
+     * @return unpacked shortest path between source and sink
+     */
+    private GraphPath<V, E> getPath(
+        QueryWorkspace workspace, ContractionVertex<V> contractedSource,
+        ContractionVertex<V> contractedSink)
+    {
+        ContractionSearchFrontier<V, E> forwardFrontier = workspace.forwardFrontier;
+        ContractionSearchFrontier<V, E> backwardFrontier = workspace.backwardFrontier;
 
         // initialize both frontiers
         forwardFrontier.updateDistance(contractedSource, null, 0d);
@@ -199,10 +243,8 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
         double bestPath = Double.POSITIVE_INFINITY;
         ContractionVertex<V> bestPathCommonVertex = null;
 
-        ContractionSearchFrontier<ContractionVertex<V>, ContractionEdge<E>> frontier =
-            forwardFrontier;
-        ContractionSearchFrontier<ContractionVertex<V>, ContractionEdge<E>> otherFrontier =
-            backwardFrontier;
+        ContractionSearchFrontier<V, E> frontier = forwardFrontier;
+        ContractionSearchFrontier<V, E> otherFrontier = backwardFrontier;
 
         while (true) {
             if (frontier.heap.isEmpty()) {
@@ -248,8 +290,7 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
 
             // swap frontiers only if the other frontier is not yet finished
             if (!otherFrontier.isFinished) {
-                ContractionSearchFrontier<ContractionVertex<V>, ContractionEdge<E>> tmpFrontier =
-                    frontier;
+                ContractionSearchFrontier<V, E> tmpFrontier = frontier;
                 frontier = otherFrontier;
                 otherFrontier = tmpFrontier;
             }
@@ -261,7 +302,7 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
                 forwardFrontier, backwardFrontier, bestPath, contractedSource, bestPathCommonVertex,
                 contractedSink);
         } else {
-            return createEmptyPath(source, sink);
+            return createEmptyPath(contractedSource.vertex, contractedSink.vertex);
         }
     }
 
@@ -278,8 +319,8 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
      * @return unpacked shortest path between source and sink
      */
     private GraphPath<V, E> createPath(
-        ContractionSearchFrontier<ContractionVertex<V>, ContractionEdge<E>> forwardFrontier,
-        ContractionSearchFrontier<ContractionVertex<V>, ContractionEdge<E>> backwardFrontier,
+        ContractionSearchFrontier<V, E> forwardFrontier,
+        ContractionSearchFrontier<V, E> backwardFrontier,
         double weight, ContractionVertex<V> source, ContractionVertex<V> commonVertex,
         ContractionVertex<V> sink)
     {
@@ -320,27 +361,100 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
     }
 
     /**
-     * Maintains search frontier during shortest path computation.
+     * Search state of a single query.
+     */
+    private class QueryWorkspace
+    {
+        final ContractionSearchFrontier<V, E> forwardFrontier;
+        final ContractionSearchFrontier<V, E> backwardFrontier;
+
+        QueryWorkspace()
+        {
+            int n = contractionGraph.vertexSet().size();
+            this.forwardFrontier =
+                new ContractionSearchFrontier<>(upwardGraph, heapSupplier.get(), n);
+            this.backwardFrontier =
+                new ContractionSearchFrontier<>(downwardGraph, heapSupplier.get(), n);
+        }
+    }
+
+    /**
+     * Maintains search frontier during shortest path computation. The heap handles of the
+     * vertices are stored in an array indexed by the vertex ids, and the frontier can be reused
+     * after a {@link #reset()}.
      *
-     * @param <V> vertices type
-     * @param <E> edges type
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
      */
     static class ContractionSearchFrontier<V, E>
-        extends DijkstraSearchFrontier<V, E>
+        extends BaseSearchFrontier<ContractionVertex<V>, ContractionEdge<E>>
     {
+        final AddressableHeap<Double, Pair<ContractionVertex<V>, ContractionEdge<E>>> heap;
         boolean isFinished;
 
+        private final AddressableHeap.Handle<Double,
+            Pair<ContractionVertex<V>, ContractionEdge<E>>>[] seen;
+        private final int[] touched;
+        private int touchedSize;
+
         /**
-         * Constructs an instance of a search frontier for the given graph, heap supplier and
-         * {@code isDownwardEdge} function.
+         * Constructs an instance of a search frontier for the given graph, heap and number of
+         * vertices.
          *
          * @param graph the graph
-         * @param heapSupplier supplier for the preferable heap implementation
+         * @param heap the heap of the frontier
+         * @param n the number of vertices of the graph
          */
         ContractionSearchFrontier(
-            Graph<V, E> graph, Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier)
+            Graph<ContractionVertex<V>, ContractionEdge<E>> graph,
+            AddressableHeap<Double, Pair<ContractionVertex<V>, ContractionEdge<E>>> heap, int n)
+        {
+            super(graph);
+            this.heap = heap;
+            this.seen = TypeUtil.uncheckedCast(new AddressableHeap.Handle<?, ?>[n]);
+            this.touched = new int[n];
+        }
+
+        void updateDistance(ContractionVertex<V> v, ContractionEdge<E> e, double distance)
+        {
+            AddressableHeap.Handle<Double, Pair<ContractionVertex<V>, ContractionEdge<E>>> node =
+                seen[v.vertexId];
+            if (node == null) {
+                seen[v.vertexId] = heap.insert(distance, Pair.of(v, e));
+                touched[touchedSize++] = v.vertexId;
+            } else if (distance < node.getKey()) {
+                node.decreaseKey(distance);
+                node.setValue(Pair.of(v, e));
+            }
+        }
+
+        @Override
+        double getDistance(ContractionVertex<V> v)
+        {
+            AddressableHeap.Handle<Double, Pair<ContractionVertex<V>, ContractionEdge<E>>> node =
+                seen[v.vertexId];
+            return node == null ? Double.POSITIVE_INFINITY : node.getKey();
+        }
+
+        @Override
+        ContractionEdge<E> getTreeEdge(ContractionVertex<V> v)
         {
-            super(graph, heapSupplier);
+            AddressableHeap.Handle<Double, Pair<ContractionVertex<V>, ContractionEdge<E>>> node =
+                seen[v.vertexId];
+            return node == null ? null : node.getValue().getSecond();
+        }
+
+        /**
+         * Clears the frontier in time proportional to the number of vertices it has touched.
+         */
+        void reset()
+        {
+            for (int i = 0; i < touchedSize; i++) {
+                seen[touched[i]] = null;
+            }
+            touchedSize = 0;
+            heap.clear();
+            isFinished = false;
         }
     }
 }
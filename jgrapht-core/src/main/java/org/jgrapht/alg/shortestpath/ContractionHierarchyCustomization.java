@@ -0,0 +1,382 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+
+/**
+ * Customization of a contraction hierarchy for changed edge weights.
+ *
+ * <p>
+ * The customization keeps the vertex order and the shortcut topology of a hierarchy and only
+ * recomputes the weights of its edges, as in customizable contraction hierarchies. The technique is
+ * described in: Julian Dibbelt, Ben Strasser and Dorothea Wagner. Customizable Contraction
+ * Hierarchies. ACM Journal of Experimental Algorithmics, 21(1):1.5:1–1.5:49, 2016.
+ *
+ * <p>
+ * Each edge $(u, w)$ of the contracted graph gets the minimum of the weight of the original edges
+ * from $u$ to $w$ and the weights of all paths $\langle u, v, w\rangle$ in the contracted graph,
+ * where $v$ has a lower contraction level than both $u$ and $w$. The edge is updated to represent
+ * the best alternative, so that paths are unpacked correctly. Computed distances are exact only if
+ * the hierarchy is metric-independent, i.e. it has been computed by
+ * {@link ContractionHierarchyPrecomputation} without witness searches. For a hierarchy computed
+ * with witness searches for other weights, the computed distances are only upper bounds.
+ *
+ * <p>
+ * The weight of an edge only depends on edges whose lower endpoint is a vertex with a lower
+ * height, where the height of a vertex is the length of the longest path to it in the hierarchy
+ * that ascends in contraction levels. Edges are processed in order of the height of their lower
+ * endpoint and the edges of the same height are processed in parallel. When updating a batch of
+ * edge weights, only the edges which depend on a changed weight are recomputed.
+ *
+ * <p>
+ * Queries by {@link ContractionHierarchyBidirectionalDijkstra} and
+ * {@link CHManyToManyShortestPaths}, which search the hierarchy directly, reflect the new weights
+ * without being recreated. However, the hierarchy must not be queried while a customization is in
+ * progress. This does not hold for transit node routing: the distance table, the access vertices
+ * and the locality filter of a {@link TransitNodeRoutingShortestPath} are computed once from the
+ * weights at the time of its precomputation. A transit node routing built on the hierarchy must
+ * therefore be recomputed after {@link #customize()} or {@link #updateEdgeWeights(Map)}, otherwise
+ * it returns wrong distances and paths.
+ *
+ * <p>
+ * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
+ * supplied to this algorithm from outside.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ContractionHierarchyCustomization<V, E>
+{
+    private final Graph<V, E> graph;
+    private final Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph;
+    private final Map<V, ContractionVertex<V>> contractionMapping;
+
+    /*
+     * Height of each contracted vertex, indexed by the vertex id.
+     */
+    private final int[] height;
+    /*
+     * Edges of the contracted graph grouped by the height of their lower endpoint.
+     */
+    private final List<List<ContractionEdge<E>>> edgesByHeight;
+
+    private final int parallelism;
+    private final ExecutorCompletionService<List<ContractionEdge<E>>> completionService;
+
+    /**
+     * Constructs a new instance for the given {@code hierarchy} and {@code executor}. It is up to
+     * a user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param executor executor which will be used for parallelization
+     */
+    public ContractionHierarchyCustomization(
+        ContractionHierarchy<V, E> hierarchy, ThreadPoolExecutor executor)
+    {
+        this.graph = hierarchy.getGraph();
+        this.contractionGraph = hierarchy.getContractionGraph();
+        this.contractionMapping = hierarchy.getContractionMapping();
+        this.parallelism = executor.getMaximumPoolSize();
+        this.completionService = new ExecutorCompletionService<>(executor);
+
+        // compute heights in order of contraction levels
+        List<ContractionVertex<V>> vertices = new ArrayList<>(contractionGraph.vertexSet());
+        vertices.sort(Comparator.comparingInt(v -> v.contractionLevel));
+        this.height = new int[vertices.size()];
+        int maxHeight = 0;
+        for (ContractionVertex<V> v : vertices) {
+            int h = 0;
+            for (ContractionEdge<E> e : contractionGraph.edgesOf(v)) {
+                ContractionVertex<V> u = Graphs.getOppositeVertex(contractionGraph, e, v);
+                if (u.contractionLevel < v.contractionLevel) {
+                    h = Math.max(h, height[u.vertexId] + 1);
+                }
+            }
+            height[v.vertexId] = h;
+            maxHeight = Math.max(maxHeight, h);
+        }
+
+        this.edgesByHeight = new ArrayList<>(maxHeight + 1);
+        for (int h = 0; h <= maxHeight; h++) {
+            edgesByHeight.add(new ArrayList<>());
+        }
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            edgesByHeight.get(getHeight(e)).add(e);
+        }
+    }
+
+    /**
+     * Recomputes the weights of all edges of the hierarchy using the current edge weights of the
+     * graph.
+     *
+     * @throws IllegalArgumentException if the graph contains a negative edge weight
+     */
+    public void customize()
+    {
+        for (E e : graph.edgeSet()) {
+            if (graph.getEdgeWeight(e) < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+        for (List<ContractionEdge<E>> edges : edgesByHeight) {
+            recompute(edges);
+        }
+    }
+
+    /**
+     * Sets the weights of a batch of edges of the graph and updates the hierarchy accordingly.
+     * Only the edges of the hierarchy whose weight depends on a changed edge are recomputed.
+     *
+     * @param weights the new weights of the edges
+     * @throws IllegalArgumentException if an edge is not part of the graph or a weight is negative
+     */
+    public void updateEdgeWeights(Map<E, Double> weights)
+    {
+        for (Map.Entry<E, Double> entry : weights.entrySet()) {
+            if (!graph.containsEdge(entry.getKey())) {
+                throw new IllegalArgumentException("Graph must contain the edge!");
+            }
+            if (entry.getValue() < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+
+        List<Set<ContractionEdge<E>>> pending = new ArrayList<>(edgesByHeight.size());
+        for (int h = 0; h < edgesByHeight.size(); h++) {
+            pending.add(null);
+        }
+        for (Map.Entry<E, Double> entry : weights.entrySet()) {
+            E e = entry.getKey();
+            graph.setEdgeWeight(e, entry.getValue());
+
+            ContractionVertex<V> source = contractionMapping.get(graph.getEdgeSource(e));
+            ContractionVertex<V> target = contractionMapping.get(graph.getEdgeTarget(e));
+            addPending(pending, contractionGraph.getEdge(source, target));
+            if (graph.getType().isUndirected()) {
+                addPending(pending, contractionGraph.getEdge(target, source));
+            }
+        }
+
+        for (int h = 0; h < pending.size(); h++) {
+            Set<ContractionEdge<E>> edges = pending.get(h);
+            if (edges == null) {
+                continue;
+            }
+            for (ContractionEdge<E> e : recompute(new ArrayList<>(edges))) {
+                addDependentEdges(pending, e);
+            }
+            pending.set(h, null);
+        }
+    }
+
+    /**
+     * Recomputes in parallel the weights of edges which do not depend on each other.
+     *
+     * @param edges the edges
+     * @return the edges whose weight or unpacking information changed
+     */
+    private List<ContractionEdge<E>> recompute(List<ContractionEdge<E>> edges)
+    {
+        int numOfTasks = Math.min(parallelism, edges.size());
+        for (int taskId = 0; taskId < numOfTasks; taskId++) {
+            int start = edges.size() * taskId / numOfTasks;
+            int end = edges.size() * (taskId + 1) / numOfTasks;
+            completionService.submit(() -> {
+                List<ContractionEdge<E>> changed = new ArrayList<>();
+                for (int i = start; i < end; i++) {
+                    ContractionEdge<E> e = edges.get(i);
+                    if (recompute(e)) {
+                        changed.add(e);
+                    }
+                }
+                return changed;
+            });
+        }
+
+        List<ContractionEdge<E>> changed = new ArrayList<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < numOfTasks; i++) {
+            try {
+                changed.addAll(completionService.take().get());
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof RuntimeException)) {
+                    e.printStackTrace();
+                } else if (failure == null) {
+                    failure = (RuntimeException) e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return changed;
+    }
+
+    /**
+     * Recomputes the weight of an edge from the original edges and the lower triangles.
+     *
+     * @param e the edge
+     * @return whether the weight or the unpacking information of the edge changed
+     */
+    private boolean recompute(ContractionEdge<E> e)
+    {
+        ContractionVertex<V> u = contractionGraph.getEdgeSource(e);
+        ContractionVertex<V> w = contractionGraph.getEdgeTarget(e);
+
+        double bestWeight = Double.POSITIVE_INFINITY;
+        E bestEdge = null;
+        for (E original : graph.getAllEdges(u.vertex, w.vertex)) {
+            double weight = graph.getEdgeWeight(original);
+            if (weight < bestWeight) {
+                bestWeight = weight;
+                bestEdge = original;
+            }
+        }
+
+        // lower triangles are enumerated from the lower endpoint
+        Pair<ContractionEdge<E>, ContractionEdge<E>> bestBypass = null;
+        if (u.contractionLevel < w.contractionLevel) {
+            for (ContractionEdge<E> first : contractionGraph.outgoingEdgesOf(u)) {
+                ContractionVertex<V> v = contractionGraph.getEdgeTarget(first);
+                if (v.contractionLevel >= u.contractionLevel) {
+                    continue;
+                }
+                ContractionEdge<E> second = contractionGraph.getEdge(v, w);
+                if (second != null) {
+                    double weight = contractionGraph.getEdgeWeight(first)
+                        + contractionGraph.getEdgeWeight(second);
+                    if (weight < bestWeight) {
+                        bestWeight = weight;
+                        bestBypass = Pair.of(first, second);
+                    }
+                }
+            }
+        } else {
+            for (ContractionEdge<E> second : contractionGraph.incomingEdgesOf(w)) {
+                ContractionVertex<V> v = contractionGraph.getEdgeSource(second);
+                if (v.contractionLevel >= w.contractionLevel) {
+                    continue;
+                }
+                ContractionEdge<E> first = contractionGraph.getEdge(u, v);
+                if (first != null) {
+                    double weight = contractionGraph.getEdgeWeight(first)
+                        + contractionGraph.getEdgeWeight(second);
+                    if (weight < bestWeight) {
+                        bestWeight = weight;
+                        bestBypass = Pair.of(first, second);
+                    }
+                }
+            }
+        }
+
+        if (bestEdge == null && bestBypass == null) {
+            // keep the unpacking information of an unreachable edge
+            boolean changed = contractionGraph.getEdgeWeight(e) != bestWeight;
+            contractionGraph.setEdgeWeight(e, bestWeight);
+            return changed;
+        }
+
+        boolean changed = contractionGraph.getEdgeWeight(e) != bestWeight;
+        if (bestBypass != null) {
+            changed |= e.bypassedEdges == null
+                || e.bypassedEdges.getFirst() != bestBypass.getFirst()
+                || e.bypassedEdges.getSecond() != bestBypass.getSecond();
+            e.edge = null;
+            e.bypassedEdges = bestBypass;
+            e.originalEdges =
+                bestBypass.getFirst().originalEdges + bestBypass.getSecond().originalEdges;
+        } else {
+            changed |= e.bypassedEdges != null || e.edge != bestEdge;
+            e.edge = bestEdge;
+            e.bypassedEdges = null;
+            e.originalEdges = 1;
+        }
+        contractionGraph.setEdgeWeight(e, bestWeight);
+        return changed;
+    }
+
+    /**
+     * Marks for recomputation the edges which form a lower triangle with edge {@code e}.
+     *
+     * @param pending the edges to recompute grouped by height
+     * @param e the edge
+     */
+    private void addDependentEdges(List<Set<ContractionEdge<E>>> pending, ContractionEdge<E> e)
+    {
+        ContractionVertex<V> a = contractionGraph.getEdgeSource(e);
+        ContractionVertex<V> b = contractionGraph.getEdgeTarget(e);
+        if (a.contractionLevel < b.contractionLevel) {
+            // e is the second part of paths u, a, b
+            for (ContractionEdge<E> first : contractionGraph.incomingEdgesOf(a)) {
+                ContractionVertex<V> u = contractionGraph.getEdgeSource(first);
+                if (u.contractionLevel > a.contractionLevel && u != b) {
+                    addPending(pending, contractionGraph.getEdge(u, b));
+                }
+            }
+        } else {
+            // e is the first part of paths a, b, w
+            for (ContractionEdge<E> second : contractionGraph.outgoingEdgesOf(b)) {
+                ContractionVertex<V> w = contractionGraph.getEdgeTarget(second);
+                if (w.contractionLevel > b.contractionLevel && w != a) {
+                    addPending(pending, contractionGraph.getEdge(a, w));
+                }
+            }
+        }
+    }
+
+    private void addPending(List<Set<ContractionEdge<E>>> pending, ContractionEdge<E> e)
+    {
+        if (e == null) {
+            return;
+        }
+        int h = getHeight(e);
+        Set<ContractionEdge<E>> edges = pending.get(h);
+        if (edges == null) {
+            edges = new HashSet<>();
+            pending.set(h, edges);
+        }
+        edges.add(e);
+    }
+
+    /**
+     * Returns the height of the lower endpoint of an edge.
+     *
+     * @param e the edge
+     * @return the height of the edge
+     */
+    private int getHeight(ContractionEdge<E> e)
+    {
+        ContractionVertex<V> u = contractionGraph.getEdgeSource(e);
+        ContractionVertex<V> w = contractionGraph.getEdgeTarget(e);
+        return height[(u.contractionLevel < w.contractionLevel ? u : w).vertexId];
+    }
+}
@@ -85,6 +85,14 @@ import java.util.function.Supplier;
  * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
  * supplied to this algorithm from outside.
  *
+ * <p>
+ * Optionally a metric-independent hierarchy can be computed. In this case no witness searches are
+ * performed and contracting a vertex adds a shortcut between every pair of its neighbours in the
+ * overlay graph. The resulting hierarchy is larger, but its shortcuts remain sufficient for any
+ * edge weights. Thus after the weights of the graph change, only the weights of the shortcuts need
+ * to be recomputed using {@link ContractionHierarchyCustomization}, instead of computing the
+ * hierarchy from scratch.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -136,6 +144,10 @@ public class ContractionHierarchyPrecomputation<V, E>
      * Supplier for the preferable heap implementation.
      */
     private Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier;
+    /**
+     * Whether witness searches are skipped and all shortcuts are added during contraction.
+     */
+    private boolean metricIndependent;
 
     /**
      * Decorator for {@link ThreadPoolExecutor} supplied to this algorithm that enables to keep
@@ -206,6 +218,23 @@ public class ContractionHierarchyPrecomputation<V, E>
         this(graph, randomSupplier, PairingHeap::new, executor);
     }
 
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph}, {@code executor} and
+     * {@code metricIndependent} flag. A metric-independent hierarchy can be customized for new edge
+     * weights using {@link ContractionHierarchyCustomization}. It is up to a user of this algorithm
+     * to handle the creation and termination of the provided {@code executor}. For utility methods
+     * to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param metricIndependent whether to compute a metric-independent hierarchy
+     * @param executor executor which will be used for parallelization
+     */
+    public ContractionHierarchyPrecomputation(
+        Graph<V, E> graph, boolean metricIndependent, ThreadPoolExecutor executor)
+    {
+        this(graph, Random::new, PairingHeap::new, metricIndependent, executor);
+    }
+
     /**
      * Constructs a new instance of the algorithm for a given {@code graph}, {@code parallelism},
      * {@code randomSupplier}, {@code shortcutsSearchHeapSupplier} and {@code executor}. Provided
@@ -223,8 +252,31 @@ public class ContractionHierarchyPrecomputation<V, E>
         Graph<V, E> graph, Supplier<Random> randomSupplier,
         Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier,
         ThreadPoolExecutor executor)
+    {
+        this(graph, randomSupplier, shortcutsSearchHeapSupplier, false, executor);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph},
+     * {@code randomSupplier}, {@code shortcutsSearchHeapSupplier}, {@code metricIndependent} flag
+     * and {@code executor}. Provided {@code randomSupplier} should return different random
+     * generators instances, because they are used by different threads. It is up to a user of this
+     * algorithm to handle the creation and termination of the provided {@code executor}. For
+     * utility methods to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param randomSupplier supplier for preferable instances of {@link Random}
+     * @param shortcutsSearchHeapSupplier supplier for the preferable heap implementation.
+     * @param metricIndependent whether to compute a metric-independent hierarchy
+     * @param executor executor which will be used for parallelization
+     */
+    public ContractionHierarchyPrecomputation(
+        Graph<V, E> graph, Supplier<Random> randomSupplier,
+        Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier,
+        boolean metricIndependent, ThreadPoolExecutor executor)
     {
         init(graph, randomSupplier, shortcutsSearchHeapSupplier, executor);
+        this.metricIndependent = metricIndependent;
     }
 
     /**
@@ -533,6 +585,10 @@ public class ContractionHierarchyPrecomputation<V, E>
             } else { // update weight of already existing edge
                 ContractionEdge<E> originalEdge =
                     contractionGraph.getEdge(shortcutSource, shortcutTarget);
+                if (contractionGraph.getEdgeWeight(originalEdge) <= shortcutWeight) {
+                    // only possible without witness searches
+                    continue;
+                }
                 originalEdge.edge = null;
                 originalEdge.bypassedEdges = shortcut;
                 originalEdge.originalEdges =
@@ -675,9 +731,10 @@ public class ContractionHierarchyPrecomputation<V, E>
 
             Map<ContractionVertex<V>,
                 AddressableHeap.Handle<Double, ContractionVertex<V>>> distances =
-                    iterateToSuccessors(
-                        maskedContractionGraph, predecessor, successors, vertex,
-                        contractionGraph.getEdgeWeight(inEdge) + maxOutgoingEdgeWeight);
+                    metricIndependent ? Collections.emptyMap()
+                        : iterateToSuccessors(
+                            maskedContractionGraph, predecessor, successors, vertex,
+                            contractionGraph.getEdgeWeight(inEdge) + maxOutgoingEdgeWeight);
 
             for (ContractionVertex<V> successor : successors) {
                 ContractionEdge<E> outEdge = contractionGraph.getEdge(vertex, successor);
@@ -0,0 +1,644 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.jgrapht.alg.shortestpath.DefaultManyToManyShortestPaths.DefaultManyToManyShortestPathsImpl;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.*;
+
+/**
+ * Binary serialization of the {@link ContractionHierarchy} and transit node routing
+ * precomputations, which allows to reuse them without repeating the expensive computation. A
+ * transit node routing is saved and loaded through
+ * {@link TransitNodeRoutingShortestPath#save(Path)} and
+ * {@link TransitNodeRoutingShortestPath#load(Graph, Path)}.
+ *
+ * <p>
+ * A serializer is created for a base graph. Vertices and edges of the base graph are identified in
+ * the binary format by their position in the iteration order of {@link Graph#vertexSet()} and
+ * {@link Graph#edgeSet()}. Therefore data can only be loaded for a graph which has the same
+ * vertices and edges, in the same iteration order, as the graph used when saving. The format stores
+ * a checksum of the structure of the graph, i.e. the endpoints and the weight of each edge, which
+ * is validated when loading.
+ *
+ * <p>
+ * The format consists of a header, the contracted graph and, for a transit node routing, the
+ * transit vertices, the Voronoi diagram, the paths between transit vertices, the access vertices
+ * and the locality filter. The contracted graph is stored as the base vertex and contraction level
+ * of each contracted vertex, followed by the edges of the contracted graph. Each edge stores either
+ * the base graph edge it represents or the two contracted edges it bypasses, which is the data
+ * required to unpack shortcuts. All values are stored in big-endian order.
+ *
+ * <p>
+ * Data can be loaded from a file, which is memory-mapped, or from any {@link ByteBuffer}. Loading
+ * only rebuilds the object representation and avoids any shortest path computation.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ContractionHierarchySerializer<V, E>
+{
+    private static final int MAGIC = 0x4A474348;
+    private static final int VERSION = 1;
+    private static final byte CONTRACTION_HIERARCHY = 0;
+    private static final byte TRANSIT_NODE_ROUTING = 1;
+
+    private final Graph<V, E> graph;
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final List<E> edges;
+    private final Map<E, Integer> edgeIndex;
+    private final long checksum;
+
+    /**
+     * Constructs a new serializer for the given base graph.
+     *
+     * @param graph the base graph
+     */
+    public ContractionHierarchySerializer(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        this.edges = new ArrayList<>(graph.edgeSet());
+        this.edgeIndex = new HashMap<>();
+        for (int i = 0; i < edges.size(); i++) {
+            edgeIndex.put(edges.get(i), i);
+        }
+        this.checksum = computeChecksum(graph, vertexIndex);
+    }
+
+    /**
+     * Writes a contraction hierarchy to a file.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the hierarchy was not computed for the base graph
+     */
+    public void writeContractionHierarchy(ContractionHierarchy<V, E> hierarchy, Path file)
+        throws IOException
+    {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeContractionHierarchy(hierarchy, out);
+        }
+    }
+
+    /**
+     * Writes a contraction hierarchy to an output stream. The stream is not closed.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param out the output stream
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the hierarchy was not computed for the base graph
+     */
+    public void writeContractionHierarchy(ContractionHierarchy<V, E> hierarchy, OutputStream out)
+        throws IOException
+    {
+        assertBaseGraph(hierarchy);
+        DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(out));
+        writeHeader(dout, CONTRACTION_HIERARCHY);
+        writeContractionGraph(dout, hierarchy);
+        dout.flush();
+    }
+
+    /**
+     * Reads a contraction hierarchy from a file. The file is memory-mapped.
+     *
+     * @param file the file
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error or if the file is not a valid contraction
+     *         hierarchy
+     * @throws IllegalArgumentException if the file was not written for the base graph
+     */
+    public ContractionHierarchy<V, E> readContractionHierarchy(Path file)
+        throws IOException
+    {
+        return readContractionHierarchy(map(file));
+    }
+
+    /**
+     * Reads a contraction hierarchy from a buffer, starting at its current position.
+     *
+     * @param buffer the buffer
+     * @return the contraction hierarchy
+     * @throws IOException if the buffer does not contain a valid contraction hierarchy
+     * @throws IllegalArgumentException if the data was not written for the base graph
+     */
+    public ContractionHierarchy<V, E> readContractionHierarchy(ByteBuffer buffer)
+        throws IOException
+    {
+        try {
+            readHeader(buffer, CONTRACTION_HIERARCHY);
+            return readContractionGraph(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Unexpected end of data", e);
+        }
+    }
+
+    /**
+     * Writes a transit node routing, including its contraction hierarchy, to a file.
+     *
+     * @param routing the transit node routing
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the routing was not computed for the base graph
+     */
+    void writeTransitNodeRouting(TransitNodeRouting<V, E> routing, Path file)
+        throws IOException
+    {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeTransitNodeRouting(routing, out);
+        }
+    }
+
+    /**
+     * Writes a transit node routing, including its contraction hierarchy, to an output stream. The
+     * stream is not closed.
+     *
+     * @param routing the transit node routing
+     * @param out the output stream
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the routing was not computed for the base graph
+     */
+    void writeTransitNodeRouting(TransitNodeRouting<V, E> routing, OutputStream out)
+        throws IOException
+    {
+        ContractionHierarchy<V, E> hierarchy = routing.getContractionHierarchy();
+        assertBaseGraph(hierarchy);
+        DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(out));
+        writeHeader(dout, TRANSIT_NODE_ROUTING);
+        ContractionVertex<V>[] contractedVertices = writeContractionGraph(dout, hierarchy);
+
+        // transit vertices
+        List<ContractionVertex<V>> transitVertices = new ArrayList<>(routing.getTransitVertices());
+        dout.writeInt(transitVertices.size());
+        for (ContractionVertex<V> v : transitVertices) {
+            dout.writeInt(v.vertexId);
+        }
+
+        // Voronoi diagram
+        VoronoiDiagram<V> voronoiDiagram = routing.getVoronoiDiagram();
+        for (ContractionVertex<V> v : contractedVertices) {
+            dout.writeInt(voronoiDiagram.getVoronoiCellId(v));
+        }
+
+        // paths between transit vertices
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<V, E> transitPaths =
+            routing.getTransitVerticesPaths();
+        for (ContractionVertex<V> s : transitVertices) {
+            for (ContractionVertex<V> t : transitVertices) {
+                writePath(dout, transitPaths.getPath(s.vertex, t.vertex));
+            }
+        }
+
+        // access vertices
+        AccessVertices<V, E> accessVertices = routing.getAccessVertices();
+        for (ContractionVertex<V> v : contractedVertices) {
+            writeAccessVertices(dout, accessVertices.getForwardAccessVertices(v));
+            writeAccessVertices(dout, accessVertices.getBackwardAccessVertices(v));
+        }
+
+        // locality filter
+        LocalityFilter<V> localityFilter = routing.getLocalityFilter();
+        for (ContractionVertex<V> v : contractedVertices) {
+            writeIntSet(dout, localityFilter.getVisitedForwardVoronoiCells(v));
+            writeIntSet(dout, localityFilter.getVisitedBackwardVoronoiCells(v));
+        }
+        dout.flush();
+    }
+
+    /**
+     * Reads a transit node routing from a file. The file is memory-mapped.
+     *
+     * @param file the file
+     * @return the transit node routing
+     * @throws IOException in case of an I/O error or if the file is not a valid transit node
+     *         routing
+     * @throws IllegalArgumentException if the file was not written for the base graph
+     */
+    TransitNodeRouting<V, E> readTransitNodeRouting(Path file)
+        throws IOException
+    {
+        return readTransitNodeRouting(map(file));
+    }
+
+    /**
+     * Reads a transit node routing from a buffer, starting at its current position.
+     *
+     * @param buffer the buffer
+     * @return the transit node routing
+     * @throws IOException if the buffer does not contain a valid transit node routing
+     * @throws IllegalArgumentException if the data was not written for the base graph
+     */
+    TransitNodeRouting<V, E> readTransitNodeRouting(ByteBuffer buffer)
+        throws IOException
+    {
+        try {
+            readHeader(buffer, TRANSIT_NODE_ROUTING);
+            ContractionHierarchy<V, E> hierarchy = readContractionGraph(buffer);
+            int n = vertices.size();
+            List<ContractionVertex<V>> contractedVertices = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                contractedVertices.add(null);
+            }
+            for (ContractionVertex<V> v : hierarchy.getContractionGraph().vertexSet()) {
+                contractedVertices.set(v.vertexId, v);
+            }
+
+            // transit vertices
+            int k = readSize(buffer, n);
+            Set<ContractionVertex<V>> transitVertices = new LinkedHashSet<>();
+            List<V> transitVerticesList = new ArrayList<>(k);
+            for (int i = 0; i < k; i++) {
+                ContractionVertex<V> v = contractedVertices.get(readIndex(buffer, n));
+                transitVertices.add(v);
+                transitVerticesList.add(v.vertex);
+            }
+            Set<V> transitVerticesSet = new HashSet<>(transitVerticesList);
+
+            // Voronoi diagram
+            int[] voronoiCells = new int[n];
+            for (int i = 0; i < n; i++) {
+                voronoiCells[i] = buffer.getInt();
+            }
+
+            // paths between transit vertices
+            Map<V, Map<V, GraphPath<V, E>>> pathsMap = new HashMap<>();
+            for (V s : transitVerticesList) {
+                Map<V, GraphPath<V, E>> targetToPathsMap = new HashMap<>();
+                for (V t : transitVerticesList) {
+                    targetToPathsMap.put(t, readPath(buffer));
+                }
+                pathsMap.put(s, targetToPathsMap);
+            }
+
+            // access vertices
+            List<List<AccessVertex<V, E>>> forwardAccessVertices = new ArrayList<>(n);
+            List<List<AccessVertex<V, E>>> backwardAccessVertices = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                forwardAccessVertices.add(readAccessVertices(buffer));
+                backwardAccessVertices.add(readAccessVertices(buffer));
+            }
+
+            // locality filter
+            List<Set<Integer>> visitedForwardVoronoiCells = new ArrayList<>(n);
+            List<Set<Integer>> visitedBackwardVoronoiCells = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                visitedForwardVoronoiCells.add(readIntSet(buffer));
+                visitedBackwardVoronoiCells.add(readIntSet(buffer));
+            }
+
+            return new TransitNodeRouting<>(
+                hierarchy, transitVertices,
+                new DefaultManyToManyShortestPathsImpl<>(
+                    transitVerticesSet, transitVerticesSet, pathsMap),
+                new VoronoiDiagram<>(voronoiCells),
+                new AccessVertices<>(forwardAccessVertices, backwardAccessVertices),
+                new LocalityFilter<>(
+                    hierarchy.getContractionMapping(), visitedForwardVoronoiCells,
+                    visitedBackwardVoronoiCells));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Unexpected end of data", e);
+        }
+    }
+
+    private void assertBaseGraph(ContractionHierarchy<V, E> hierarchy)
+    {
+        if (hierarchy.getGraph() != graph) {
+            throw new IllegalArgumentException(
+                "Contraction hierarchy must be computed for the same graph");
+        }
+    }
+
+    private void writeHeader(DataOutputStream out, byte kind)
+        throws IOException
+    {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeByte(kind);
+        out.writeInt(vertices.size());
+        out.writeInt(edges.size());
+        out.writeLong(checksum);
+    }
+
+    private void readHeader(ByteBuffer buffer, byte kind)
+        throws IOException
+    {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a contraction hierarchy file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        if (buffer.get() != kind) {
+            throw new IOException(
+                kind == CONTRACTION_HIERARCHY ? "Not a contraction hierarchy"
+                    : "Not a transit node routing");
+        }
+        int n = buffer.getInt();
+        int m = buffer.getInt();
+        long storedChecksum = buffer.getLong();
+        if (n != vertices.size() || m != edges.size() || storedChecksum != checksum) {
+            throw new IllegalArgumentException("Data was not computed for this graph");
+        }
+    }
+
+    /**
+     * Writes the contracted vertices and edges.
+     *
+     * @return the contracted vertices indexed by their id
+     */
+    private ContractionVertex<V>[] writeContractionGraph(
+        DataOutputStream out, ContractionHierarchy<V, E> hierarchy)
+        throws IOException
+    {
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            hierarchy.getContractionGraph();
+        int n = vertices.size();
+
+        ContractionVertex<V>[] contractedVertices =
+            TypeUtil.uncheckedCast(new ContractionVertex<?>[n]);
+        for (ContractionVertex<V> v : contractionGraph.vertexSet()) {
+            contractedVertices[v.vertexId] = v;
+        }
+        for (ContractionVertex<V> v : contractedVertices) {
+            out.writeInt(vertexIndex.get(v.vertex));
+            out.writeInt(v.contractionLevel);
+        }
+
+        Map<ContractionEdge<E>, Integer> contractedEdgeIndex = new HashMap<>();
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            contractedEdgeIndex.put(e, contractedEdgeIndex.size());
+        }
+        out.writeInt(contractedEdgeIndex.size());
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            out.writeInt(contractionGraph.getEdgeSource(e).vertexId);
+            out.writeInt(contractionGraph.getEdgeTarget(e).vertexId);
+            out.writeDouble(contractionGraph.getEdgeWeight(e));
+            out.writeBoolean(e.isUpward);
+            out.writeInt(e.originalEdges);
+            if (e.bypassedEdges == null) {
+                out.writeInt(edgeIndex.get(e.edge));
+                out.writeInt(-1);
+            } else {
+                out.writeInt(-1 - contractedEdgeIndex.get(e.bypassedEdges.getFirst()));
+                out.writeInt(contractedEdgeIndex.get(e.bypassedEdges.getSecond()));
+            }
+        }
+        return contractedVertices;
+    }
+
+    private ContractionHierarchy<V, E> readContractionGraph(ByteBuffer buffer)
+        throws IOException
+    {
+        int n = vertices.size();
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+
+        List<ContractionVertex<V>> contractedVertices = new ArrayList<>(n);
+        for (int id = 0; id < n; id++) {
+            V v = vertices.get(readIndex(buffer, n));
+            ContractionVertex<V> contractedVertex = new ContractionVertex<>(v, id);
+            contractedVertex.contractionLevel = buffer.getInt();
+            if (contractionMapping.put(v, contractedVertex) != null) {
+                throw new IOException("Duplicate contracted vertex");
+            }
+            contractionGraph.addVertex(contractedVertex);
+            contractedVertices.add(contractedVertex);
+        }
+
+        // edges are created first and shortcuts are linked to their bypassed edges afterwards
+        int numberOfEdges = buffer.getInt();
+        if (numberOfEdges < 0) {
+            throw new IOException("Invalid number of edges");
+        }
+        List<ContractionEdge<E>> contractedEdges = new ArrayList<>(numberOfEdges);
+        int[] bypassed = new int[2 * numberOfEdges];
+        for (int i = 0; i < numberOfEdges; i++) {
+            ContractionVertex<V> source = contractedVertices.get(readIndex(buffer, n));
+            ContractionVertex<V> target = contractedVertices.get(readIndex(buffer, n));
+            double weight = buffer.getDouble();
+            boolean isUpward = buffer.get() != 0;
+            int originalEdges = buffer.getInt();
+            int first = buffer.getInt();
+            int second = buffer.getInt();
+
+            E original = null;
+            if (first >= 0) {
+                if (first >= edges.size()) {
+                    throw new IOException("Invalid edge index " + first);
+                }
+                original = edges.get(first);
+            }
+            ContractionEdge<E> e = new ContractionEdge<>(original);
+            e.isUpward = isUpward;
+            e.originalEdges = originalEdges;
+            bypassed[2 * i] = first;
+            bypassed[2 * i + 1] = second;
+
+            if (!contractionGraph.addEdge(source, target, e)) {
+                throw new IOException("Invalid contracted edge");
+            }
+            contractionGraph.setEdgeWeight(e, weight);
+            contractedEdges.add(e);
+        }
+        for (int i = 0; i < numberOfEdges; i++) {
+            int first = bypassed[2 * i];
+            if (first < 0) {
+                int second = bypassed[2 * i + 1];
+                first = -1 - first;
+                if (first >= numberOfEdges || second < 0 || second >= numberOfEdges) {
+                    throw new IOException("Invalid bypassed edge index");
+                }
+                contractedEdges.get(i).bypassedEdges =
+                    Pair.of(contractedEdges.get(first), contractedEdges.get(second));
+            }
+        }
+
+        return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+    }
+
+    private void writePath(DataOutputStream out, GraphPath<V, E> path)
+        throws IOException
+    {
+        if (path == null) {
+            out.writeInt(-1);
+            return;
+        }
+        List<V> pathVertices = path.getVertexList();
+        out.writeInt(pathVertices.size());
+        for (V v : pathVertices) {
+            out.writeInt(vertexIndex.get(v));
+        }
+        List<E> pathEdges = path.getEdgeList();
+        out.writeInt(pathEdges.size());
+        for (E e : pathEdges) {
+            out.writeInt(edgeIndex.get(e));
+        }
+        out.writeDouble(path.getWeight());
+    }
+
+    private GraphPath<V, E> readPath(ByteBuffer buffer)
+        throws IOException
+    {
+        int numberOfVertices = buffer.getInt();
+        if (numberOfVertices < 0) {
+            return null;
+        }
+        if (numberOfVertices == 0 || numberOfVertices > buffer.remaining() / Integer.BYTES) {
+            throw new IOException("Invalid path");
+        }
+        List<V> pathVertices = new ArrayList<>(numberOfVertices);
+        for (int i = 0; i < numberOfVertices; i++) {
+            pathVertices.add(vertices.get(readIndex(buffer, vertices.size())));
+        }
+        int numberOfEdges = readSize(buffer, buffer.remaining() / Integer.BYTES);
+        List<E> pathEdges = new ArrayList<>(numberOfEdges);
+        for (int i = 0; i < numberOfEdges; i++) {
+            pathEdges.add(edges.get(readIndex(buffer, edges.size())));
+        }
+        double weight = buffer.getDouble();
+        return new GraphWalk<>(
+            graph, pathVertices.get(0), pathVertices.get(numberOfVertices - 1), pathVertices,
+            pathEdges, weight);
+    }
+
+    private void writeAccessVertices(
+        DataOutputStream out, List<AccessVertex<V, E>> accessVertices)
+        throws IOException
+    {
+        out.writeInt(accessVertices.size());
+        for (AccessVertex<V, E> accessVertex : accessVertices) {
+            out.writeInt(vertexIndex.get(accessVertex.getVertex()));
+            writePath(out, accessVertex.getPath());
+        }
+    }
+
+    private List<AccessVertex<V, E>> readAccessVertices(ByteBuffer buffer)
+        throws IOException
+    {
+        int size = readSize(buffer, buffer.remaining() / Integer.BYTES);
+        List<AccessVertex<V, E>> accessVertices = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            V v = vertices.get(readIndex(buffer, vertices.size()));
+            accessVertices.add(new AccessVertex<>(v, readPath(buffer)));
+        }
+        return accessVertices;
+    }
+
+    private static void writeIntSet(DataOutputStream out, Set<Integer> set)
+        throws IOException
+    {
+        out.writeInt(set.size());
+        for (Integer i : set) {
+            out.writeInt(i);
+        }
+    }
+
+    private static Set<Integer> readIntSet(ByteBuffer buffer)
+        throws IOException
+    {
+        int size = readSize(buffer, buffer.remaining() / Integer.BYTES);
+        Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            set.add(buffer.getInt());
+        }
+        return set;
+    }
+
+    private static int readIndex(ByteBuffer buffer, int bound)
+        throws IOException
+    {
+        int index = buffer.getInt();
+        if (index < 0 || index >= bound) {
+            throw new IOException("Invalid index " + index);
+        }
+        return index;
+    }
+
+    private static int readSize(ByteBuffer buffer, int bound)
+        throws IOException
+    {
+        int size = buffer.getInt();
+        if (size < 0 || size > bound) {
+            throw new IOException("Invalid size " + size);
+        }
+        return size;
+    }
+
+    private static ByteBuffer map(Path file)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Computes a checksum of the vertex and edge identity mapping of a graph. Each edge, in the
+     * iteration order of the edge set, contributes the positions of its endpoints and its weight.
+     *
+     * @param graph the graph
+     * @param vertexIndex the position of each vertex in the iteration order of the vertex set
+     * @return the checksum
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    static <V, E> long computeChecksum(Graph<V, E> graph, Map<V, Integer> vertexIndex)
+    {
+        long h = 0xcbf29ce484222325L;
+        h = mix(h, graph.getType().isDirected() ? 1 : 0);
+        h = mix(h, graph.vertexSet().size());
+        h = mix(h, graph.edgeSet().size());
+        for (E e : graph.edgeSet()) {
+            h = mix(h, vertexIndex.get(graph.getEdgeSource(e)));
+            h = mix(h, vertexIndex.get(graph.getEdgeTarget(e)));
+            h = mix(h, Double.doubleToLongBits(graph.getEdgeWeight(e)));
+        }
+        return h;
+    }
+
+    private static long mix(long h, long value)
+    {
+        h ^= value;
+        h *= 0x100000001b3L;
+        return h ^ (h >>> 32);
+    }
+}
@@ -23,7 +23,8 @@ import org.jgrapht.alg.util.*;
 
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 /**
  * Parallel implementation of a single-source shortest path algorithm: the delta-stepping algorithm.
@@ -64,6 +65,23 @@ import java.util.function.Supplier;
  * </ul>
  *
  * <p>
+ * This implementation copies the graph into an int-indexed compressed sparse row representation at
+ * the beginning of each computation. Tentative distances are kept in a primitive array and are
+ * updated using atomic compare-and-set operations, without any locking. The vertices of each phase
+ * are split into chunks which are relaxed in parallel. Every chunk records its successful updates
+ * in a private buffer. At the end of the phase the updates which survived determine the
+ * predecessor edges, and the updated vertices are merged into the buckets, which are plain
+ * growable arrays of vertex indices. Entries of vertices which later moved to another bucket are
+ * skipped lazily when the bucket is processed.
+ *
+ * <p>
+ * If no bucket width is provided, an initial value is computed as the maximum edge weight divided
+ * by the maximum out-degree, and is tuned during the execution. The width is halved when the
+ * vertices of a bucket require too many light phases, which indicates a lot of re-insertions, and
+ * it is doubled when buckets are too small to keep the threads busy. A bucket width provided by
+ * the user is never changed.
+ *
+ * <p>
  * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
  * supplied to this algorithm from outside.
  *
@@ -89,69 +107,38 @@ public class DeltaSteppingShortestPath<V, E>
      */
     private static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
     /**
-     * Empirically computed amount of tasks per worker thread in the {@link ForkJoinPool} that
-     * yields good performance.
-     */
-    private static final int TASKS_TO_THREADS_RATIO = 20;
-
-    /**
-     * The bucket width. A bucket with index $i$ therefore stores a vertex v if and only if v is
-     * queued and tentative distance to v $\in[i\cdot\Delta,(i+1)\cdot\Delta]$
-     */
-    private double delta;
-    /**
-     * Maximum number of threads used in the computations.
-     */
-    private int parallelism;
-
-    /**
-     * Number of buckets in the bucket structure.
-     */
-    private int numOfBuckets;
-    /**
-     * Maximum edge weight in the {@link #graph}.
+     * Amount of chunks per worker thread that yields good load balancing.
      */
-    private double maxEdgeWeight;
+    private static final int CHUNKS_PER_THREAD = 4;
     /**
-     * Map to store predecessor for each vertex in the shortest path tree.
+     * Phases with fewer vertices are executed in the calling thread.
      */
-    private Map<V, Pair<Double, E>> distanceAndPredecessorMap;
+    private static final int SEQUENTIAL_THRESHOLD = 256;
     /**
-     * Buckets structure.
+     * Number of light phases of a bucket above which the bucket width is halved.
      */
-    private List<Set<V>> bucketStructure;
+    private static final int MAX_LIGHT_PHASES = 8;
     /**
-     * Comparator for vertices in the graph which is used to create {@code ConcurrentSkipListSet}
-     * instances for the {@code bucketStructure}.
+     * Number of vertices per thread in a bucket below which the bucket width is doubled.
      */
-    private Comparator<V> vertexComparator;
+    private static final int MIN_VERTICES_PER_THREAD = 64;
     /**
-     * Supplier of the buckets for the {@code bucketStructure}.
+     * Maximum number of buckets, which bounds how much the bucket width can be decreased.
      */
-    private Supplier<Set<V>> bucketsSupplier;
+    private static final int MAX_BUCKETS = 1 << 20;
 
     /**
-     * Decorator for {@link ThreadPoolExecutor} supplied to this algorithm that enables to keep
-     * track of when all submitted tasks are finished.
-     */
-    private ExecutorCompletionService<Void> completionService;
-    /**
-     * Queue of vertices which edges should be relaxed on current iteration.
-     */
-    private Queue<V> verticesQueue;
-    /**
-     * Task for light edges relaxation.
+     * The bucket width provided by the user, or $0$ if it should be computed.
      */
-    private Runnable lightRelaxTask;
+    private final double delta;
     /**
-     * Task for light edges relaxation.
+     * Maximum number of threads used in the computations.
      */
-    private Runnable heavyRelaxTask;
+    private final int parallelism;
     /**
-     * Indicates when all the vertices are been added to the {@link #verticesQueue} on each
-     * iteration.
+     * Executor used for parallelization.
      */
-    private volatile boolean allVerticesAdded;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Constructs a new instance of the algorithm for a given graph and {@code executor}. It is up
@@ -171,15 +158,15 @@ public class DeltaSteppingShortestPath<V, E>
      * Constructs a new instance of the algorithm for a given {@code graph}, {@code executor} and
      * {@code vertexComparator}. It is up to a user of this algorithm to handle the creation and
      * termination of the provided {@code executor}. For utility methods to manage a
-     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}. {@code vertexComparator} provided via
-     * this constructor is used to create instances of {@code ConcurrentSkipListSet} for the
-     * individual buckets. This gives a gives a small performance benefit for shortest paths
-     * computation.
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
      *
      * @param graph graph
      * @param executor executor which will be used for parallelization
-     * @param vertexComparator comparator for vertices of the {@code graph}
+     * @param vertexComparator comparator for vertices of the {@code graph}, no longer used
+     * @deprecated buckets store vertex indices, use
+     *             {@link #DeltaSteppingShortestPath(Graph, ThreadPoolExecutor)}
      */
+    @Deprecated
     public DeltaSteppingShortestPath(
         Graph<V, E> graph, ThreadPoolExecutor executor, Comparator<V> vertexComparator)
     {
@@ -207,38 +194,41 @@ public class DeltaSteppingShortestPath<V, E>
      * {@link ConcurrencyUtil}.
      *
      * @param graph the graph
-     * @param delta bucket width
+     * @param delta bucket width, or $0$ if it should be computed and tuned during the execution
      * @param executor executor which will be used for parallelization
      */
     public DeltaSteppingShortestPath(Graph<V, E> graph, double delta, ThreadPoolExecutor executor)
     {
         super(graph);
         Objects.requireNonNull(executor, "executor must not be null!");
-        init(graph, delta, executor, null);
+        if (delta < 0) {
+            throw new IllegalArgumentException(DELTA_MUST_BE_NON_NEGATIVE);
+        }
+        this.delta = delta;
+        this.executor = executor;
+        this.parallelism = executor.getMaximumPoolSize();
     }
 
     /**
      * Constructs a new instance of the algorithm for a given graph, delta, {@code executor} and
      * {@code vertexComparator}. It is up to a user of this algorithm to handle the creation and
      * termination of the provided {@code executor}. For utility methods to manage a
-     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}. {@code vertexComparator} provided via
-     * this constructor is used to create instances of {@code ConcurrentSkipListSet} for the
-     * individual buckets. This gives a gives a small performance benefit for shortest paths
-     * computation.
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
      *
      * @param graph the graph
      * @param delta bucket width
      * @param executor executor which will be used for parallelization
-     * @param vertexComparator comparator for vertices of the {@code graph}
+     * @param vertexComparator comparator for vertices of the {@code graph}, no longer used
+     * @deprecated buckets store vertex indices, use
+     *             {@link #DeltaSteppingShortestPath(Graph, double, ThreadPoolExecutor)}
      */
+    @Deprecated
     public DeltaSteppingShortestPath(
         Graph<V, E> graph, double delta, ThreadPoolExecutor executor,
         Comparator<V> vertexComparator)
     {
-        super(graph);
-        Objects.requireNonNull(executor, "executor must not be null!");
-        Objects.requireNonNull(executor, "vertexComparator must not be null!");
-        init(graph, delta, executor, vertexComparator);
+        this(graph, delta, executor);
+        Objects.requireNonNull(vertexComparator, "vertexComparator must not be null!");
     }
 
     /**
@@ -270,107 +260,7 @@ public class DeltaSteppingShortestPath<V, E>
     @Deprecated
     public DeltaSteppingShortestPath(Graph<V, E> graph, double delta, int parallelism)
     {
-        super(graph);
-        init(graph, delta, ConcurrencyUtil.createThreadPoolExecutor(parallelism), null);
-    }
-
-    /**
-     * Initializes {@code delta}, {@code parallelism}, {@code distanceAndPredecessorMap},
-     * {@code completionService}, {@code verticesQueue}, {@code lightRelaxTask} and
-     * {@code heavyRelaxTask} fields.
-     *
-     * @param graph a graph
-     * @param delta bucket width
-     * @param executor executor which will be used for parallelization
-     */
-    private void init(
-        Graph<V, E> graph, double delta, ThreadPoolExecutor executor,
-        Comparator<V> vertexComparator)
-    {
-        if (delta < 0) {
-            throw new IllegalArgumentException(DELTA_MUST_BE_NON_NEGATIVE);
-        }
-        this.delta = delta;
-        this.parallelism = executor.getMaximumPoolSize();
-        this.vertexComparator = vertexComparator;
-        distanceAndPredecessorMap = new ConcurrentHashMap<>(graph.vertexSet().size());
-        completionService = new ExecutorCompletionService<>(executor);
-        verticesQueue = new ConcurrentLinkedQueue<>();
-        lightRelaxTask = new LightRelaxTask(verticesQueue);
-        heavyRelaxTask = new HeavyRelaxTask(verticesQueue);
-    }
-
-    /**
-     * Calculates max edge weight in the {@link #graph}.
-     *
-     * @return max edge weight
-     */
-    private double getMaxEdgeWeight()
-    {
-        ForkJoinTask<Double> task = ForkJoinPool.commonPool().submit(
-            new MaxEdgeWeightTask(
-                graph.edgeSet().spliterator(),
-                graph.edgeSet().size() / (TASKS_TO_THREADS_RATIO * parallelism) + 1));
-        return task.join();
-    }
-
-    /**
-     * Is used during the algorithm to compute maximum edge weight of the {@link #graph}. Apart from
-     * computing the maximal edge weight in the graph the task also checks if there exist edges with
-     * negative weights.
-     */
-    class MaxEdgeWeightTask
-        extends RecursiveTask<Double>
-    {
-        /**
-         * Is used to split a collection and create new recursive tasks during the computation.
-         */
-        Spliterator<E> spliterator;
-        /**
-         * Amount of edges which are processed in parallel.
-         */
-        long loadBalancing;
-
-        /**
-         * Constructs a new instance for the given spliterator and loadBalancing
-         *
-         * @param spliterator spliterator
-         * @param loadBalancing loadBalancing
-         */
-        MaxEdgeWeightTask(Spliterator<E> spliterator, long loadBalancing)
-        {
-            this.spliterator = spliterator;
-            this.loadBalancing = loadBalancing;
-        }
-
-        /**
-         * Computes maximum edge weight. If amount of edges in {@link #spliterator} is less than
-         * {@link #loadBalancing}, then computation is performed sequentially. If not, the
-         * {@link #spliterator} is used to split the collection and then two new child tasks are
-         * created.
-         *
-         * @return max edge weight
-         */
-        @Override
-        protected Double compute()
-        {
-            if (spliterator.estimateSize() <= loadBalancing) {
-                double[] max = { 0 };
-                spliterator.forEachRemaining(e -> {
-                    double weight = graph.getEdgeWeight(e);
-                    if (weight < 0) {
-                        throw new IllegalArgumentException(NEGATIVE_EDGE_WEIGHT_NOT_ALLOWED);
-                    }
-                    max[0] = Math.max(weight, max[0]);
-                });
-                return max[0];
-            } else {
-                MaxEdgeWeightTask t1 = new MaxEdgeWeightTask(spliterator.trySplit(), loadBalancing);
-                t1.fork();
-                MaxEdgeWeightTask t2 = new MaxEdgeWeightTask(spliterator, loadBalancing);
-                return Math.max(t2.compute(), t1.join());
-            }
-        }
+        this(graph, delta, ConcurrencyUtil.createThreadPoolExecutor(parallelism));
     }
 
     /**
@@ -397,407 +287,443 @@ public class DeltaSteppingShortestPath<V, E>
         if (!graph.containsVertex(source)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
-        maxEdgeWeight = getMaxEdgeWeight();
-        if (delta == 0.0) { // the value should be computed
-            delta = findDelta();
-        }
-        numOfBuckets = (int) (Math.ceil(maxEdgeWeight / delta) + 1);
-        bucketStructure = new ArrayList<>(numOfBuckets);
-        bucketsSupplier = getBucketsSupplier(source);
-        for (int i = 0; i < numOfBuckets; i++) {
-            bucketStructure.add(bucketsSupplier.get());
-        }
-        fillDistanceAndPredecessorMap();
-
-        computeShortestPaths(source);
-
-        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
-    }
+        Computation computation = new Computation();
+        computation.run(computation.vertexIndices.get(source));
 
-    /**
-     * Creates a supplier of sets for the {@code bucketStructure}.
-     *
-     * @param vertex a vertex in the graph
-     * @return supplier of buckets
-     */
-    private Supplier<Set<V>> getBucketsSupplier(V vertex)
-    {
-        if (vertexComparator != null) {
-            return () -> new ConcurrentSkipListSet<>(vertexComparator);
-        } else if (vertex instanceof Comparable) {
-            return () -> new ConcurrentSkipListSet<>();
-        } else {
-            return () -> Collections.newSetFromMap(new ConcurrentHashMap<>());
+        /*
+         * Transform result
+         */
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap =
+            CollectionUtil.newHashMapWithExpectedSize(computation.n);
+        for (int v = 0; v < computation.n; v++) {
+            int p = computation.pred[v];
+            distanceAndPredecessorMap.put(
+                computation.vertices.get(v),
+                Pair.of(computation.getDistance(v), p == -1 ? null : computation.edges[p]));
         }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
     }
 
     /**
-     * Calculates value of {@link #delta}. The value is calculated as the maximal edge weight
-     * divided by maximal out-degree in the {@link #graph} or $1.0$ if edge set of the
-     * {@link #graph} is empty.
-     *
-     * @return bucket width
+     * The state of a single shortest path computation.
      */
-    private double findDelta()
+    private class Computation
     {
-        if (maxEdgeWeight == 0) {
-            return 1.0;
-        } else {
-            int maxOutDegree =
-                graph.vertexSet().parallelStream().mapToInt(graph::outDegreeOf).max().orElse(0);
-            return maxEdgeWeight / maxOutDegree;
-        }
-    }
+        final int n;
+        final List<V> vertices;
+        final Map<V, Integer> vertexIndices;
 
-    /**
-     * Fills {@link #distanceAndPredecessorMap} concurrently.
-     */
-    private void fillDistanceAndPredecessorMap()
-    {
-        graph.vertexSet().parallelStream().forEach(
-            v -> distanceAndPredecessorMap.put(v, Pair.of(Double.POSITIVE_INFINITY, null)));
-    }
+        /*
+         * Outgoing edges in compressed sparse row format. The edges of vertex v are stored in
+         * positions [start[v], start[v+1]).
+         */
+        final int[] start;
+        final int[] target;
+        final double[] weight;
+        final E[] edges;
+        double maxEdgeWeight;
+        int maxOutDegree;
+
+        final AtomicLongArray distance;
+        final int[] pred;
+        // last phase in which a vertex was updated, processed or removed from a bucket
+        final AtomicIntegerArray updatedPhase;
+        final int[] processedPhase;
+        final int[] removedBucket;
+        int phase;
+
+        double currentDelta;
+        int numOfBuckets;
+        IntList[] buckets;
+
+        final List<Chunk> chunks;
+
+        Computation()
+        {
+            this.n = graph.vertexSet().size();
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            this.vertexIndices = CollectionUtil.newHashMapWithExpectedSize(n);
+            for (int i = 0; i < n; i++) {
+                vertexIndices.put(vertices.get(i), i);
+            }
 
-    /**
-     * Performs shortest path computations.
-     *
-     * @param source the source vertex
-     */
-    private void computeShortestPaths(V source)
-    {
-        relax(source, null, 0.0);
-
-        List<Set<V>> removed = new ArrayList<>();
-        while (true) {
-            int firstNonEmptyBucket = 0;
-            while (firstNonEmptyBucket < numOfBuckets
-                && bucketStructure.get(firstNonEmptyBucket).isEmpty())
-            { // skip empty buckets
-                ++firstNonEmptyBucket;
+            int m = 0;
+            for (V v : vertices) {
+                int outDegree = graph.outDegreeOf(v);
+                m += outDegree;
+                maxOutDegree = Math.max(maxOutDegree, outDegree);
+            }
+            this.start = new int[n + 1];
+            this.target = new int[m];
+            this.weight = new double[m];
+            this.edges = TypeUtil.uncheckedCast(new Object[m]);
+            int pos = 0;
+            for (int i = 0; i < n; i++) {
+                V v = vertices.get(i);
+                start[i] = pos;
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    double w = graph.getEdgeWeight(e);
+                    if (w < 0) {
+                        throw new IllegalArgumentException(NEGATIVE_EDGE_WEIGHT_NOT_ALLOWED);
+                    }
+                    maxEdgeWeight = Math.max(maxEdgeWeight, w);
+                    target[pos] = vertexIndices.get(Graphs.getOppositeVertex(graph, e, v));
+                    weight[pos] = w;
+                    edges[pos] = e;
+                    pos++;
+                }
             }
-            if (firstNonEmptyBucket == numOfBuckets) { // terminate if all buckets are empty
-                break;
+            start[n] = pos;
+
+            this.distance = new AtomicLongArray(n);
+            long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+            for (int v = 0; v < n; v++) {
+                distance.set(v, infinity);
             }
-            // the content of a bucket is replaced
-            // in order not to handle the same vertices
-            // multiple times
-            Set<V> bucketElements = getContentAndReplace(firstNonEmptyBucket);
-
-            while (!bucketElements.isEmpty()) { // reinsertions may occur
-                removed.add(bucketElements);
-                findAndRelaxLightRequests(bucketElements);
-                bucketElements = getContentAndReplace(firstNonEmptyBucket);
+            this.pred = new int[n];
+            Arrays.fill(pred, -1);
+            this.updatedPhase = new AtomicIntegerArray(n);
+            this.processedPhase = new int[n];
+            this.removedBucket = new int[n];
+            Arrays.fill(removedBucket, -1);
+
+            this.chunks = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, parallelism * CHUNKS_PER_THREAD); i++) {
+                chunks.add(new Chunk());
             }
+        }
 
-            findAndRelaxHeavyRequests(removed);
-            removed.clear();
+        double getDistance(int v)
+        {
+            return Double.longBitsToDouble(distance.get(v));
         }
-    }
 
-    /**
-     * Manages edge relaxations. Adds all elements from {@code vertices} to the
-     * {@link #verticesQueue} and submits as many {@link #lightRelaxTask} to the
-     * {@link #completionService} as needed.
-     *
-     * @param vertices vertices
-     */
-    private void findAndRelaxLightRequests(Set<V> vertices)
-    {
-        allVerticesAdded = false;
-        int numOfVertices = vertices.size();
-        int numOfTasks;
-        if (numOfVertices >= parallelism) {
-            // use as available tasks
-            numOfTasks = parallelism;
-            Iterator<V> iterator = vertices.iterator();
-            // provide some work to the workers
-            addSetVertices(iterator, parallelism);
-            submitTasks(lightRelaxTask, parallelism - 1); // one thread should
-            // submit rest of vertices
-            addSetRemaining(iterator);
-            submitTasks(lightRelaxTask, 1); // use remaining thread for relaxation
-        } else {
-            // only several relaxation tasks are needed
-            numOfTasks = numOfVertices;
-            addSetRemaining(vertices.iterator());
-            submitTasks(lightRelaxTask, numOfVertices);
+        /**
+         * Absolute index of the bucket of a distance.
+         */
+        long bucketIndex(double d)
+        {
+            return (long) Math.floor(d / currentDelta);
         }
 
-        allVerticesAdded = true;
-        waitForTasksCompletion(numOfTasks);
-    }
+        void run(int source)
+        {
+            if (delta > 0.0) {
+                currentDelta = delta;
+            } else if (maxEdgeWeight == 0.0) {
+                currentDelta = 1.0;
+            } else {
+                currentDelta = maxEdgeWeight / maxOutDegree;
+            }
+            createBuckets();
 
-    /**
-     * Manages execution of edges relaxation. Adds all elements from {@code vertices} to the
-     * {@link #verticesQueue} and submits as many {@link #heavyRelaxTask} to the
-     * {@link #completionService} as needed.
-     *
-     * @param verticesSets set of sets of vertices
-     */
-    private void findAndRelaxHeavyRequests(List<Set<V>> verticesSets)
-    {
-        allVerticesAdded = false;
-        int numOfVertices = verticesSets.stream().mapToInt(Set::size).sum();
-        int numOfTasks;
-        if (numOfVertices >= parallelism) {
-            // use as available tasks
-            numOfTasks = parallelism;
-            Iterator<Set<V>> setIterator = verticesSets.iterator();
-            // provide some work to the workers
-            Iterator<V> iterator = addSetsVertices(setIterator, parallelism);
-            submitTasks(heavyRelaxTask, parallelism - 1);// one thread should
-            // submit rest of vertices
-            addSetRemaining(iterator);
-            addSetsRemaining(setIterator);
-            submitTasks(heavyRelaxTask, 1); // use remaining thread for relaxation
-        } else {
-            // only several relaxation tasks are needed
-            numOfTasks = numOfVertices;
-            addSetsRemaining(verticesSets.iterator());
-            submitTasks(heavyRelaxTask, numOfVertices);
-        }
+            distance.set(source, Double.doubleToLongBits(0d));
+            buckets[0].add(source);
 
-        allVerticesAdded = true;
-        waitForTasksCompletion(numOfTasks);
-    }
+            long current = 0;
+            IntList removed = new IntList();
+            while (true) {
+                // find the first non-empty bucket
+                int empty = 0;
+                while (empty < numOfBuckets && buckets[slot(current)].size == 0) {
+                    current++;
+                    empty++;
+                }
+                if (empty == numOfBuckets) {
+                    break;
+                }
 
-    /**
-     * Adds {@code numOfVertices} vertices to the {@link #verticesQueue} provided by the
-     * {@code iterator}.
-     *
-     * @param iterator vertices iterator
-     * @param numOfVertices vertices amount
-     */
-    private void addSetVertices(Iterator<V> iterator, int numOfVertices)
-    {
-        for (int i = 0; i < numOfVertices && iterator.hasNext(); i++) {
-            verticesQueue.add(iterator.next());
-        }
-    }
+                // light phases until the bucket remains empty
+                int lightPhases = 0;
+                removed.clear();
+                while (true) {
+                    IntList bucket = buckets[slot(current)];
+                    buckets[slot(current)] = new IntList();
+                    int[] frontier = extract(bucket, current, removed);
+                    if (frontier.length == 0) {
+                        break;
+                    }
+                    lightPhases++;
+                    relax(frontier, frontier.length, true);
+                }
 
-    /**
-     * Adds all remaining vertices to the {@link #verticesQueue} provided by the {@code iterator}.
-     *
-     * @param iterator vertices iterator
-     */
-    private void addSetRemaining(Iterator<V> iterator)
-    {
-        while (iterator.hasNext()) {
-            verticesQueue.add(iterator.next());
-        }
-    }
+                // one heavy phase for all removed vertices
+                relax(removed.values, removed.size, false);
 
-    /**
-     * Adds {@code numOfVertices} vertices to the {@link #verticesQueue} that are contained in the
-     * sets provided by the {@code setIterator}. Returns iterator of the set which vertex was added
-     * last.
-     *
-     * @param setIterator sets of vertices iterator
-     * @param numOfVertices vertices amount
-     * @return iterator of the last set
-     */
-    private Iterator<V> addSetsVertices(Iterator<Set<V>> setIterator, int numOfVertices)
-    {
-        int i = 0;
-        Iterator<V> iterator = null;
-        while (setIterator.hasNext() && i < numOfVertices) {
-            iterator = setIterator.next().iterator();
-            while (iterator.hasNext() && i < numOfVertices) {
-                verticesQueue.add(iterator.next());
-                i++;
+                long boundary = current + 1;
+                current = boundary;
+                if (delta == 0.0 && maxEdgeWeight > 0.0) {
+                    current = tuneDelta(boundary, lightPhases, removed.size);
+                }
             }
         }
-        return iterator;
-    }
-
-    /**
-     * Adds all remaining vertices to the {@link #verticesQueue} that are contained in the sets
-     * provided by the {@code setIterator}.
-     *
-     * @param setIterator sets of vertices iterator
-     */
-    private void addSetsRemaining(Iterator<Set<V>> setIterator)
-    {
-        while (setIterator.hasNext()) {
-            verticesQueue.addAll(setIterator.next());
-        }
-    }
 
-    /**
-     * Submits the {@code task} {@code numOfTasks} times to the {@link #completionService}.
-     *
-     * @param task task to be submitted
-     * @param numOfTasks amount of times task should be submitted
-     */
-    private void submitTasks(Runnable task, int numOfTasks)
-    {
-        for (int i = 0; i < numOfTasks; i++) {
-            completionService.submit(task, null);
+        /**
+         * Remove the vertices which still belong to a bucket. Entries of vertices which moved to
+         * another bucket, or which appear more than once, are discarded.
+         */
+        private int[] extract(IntList bucket, long index, IntList removed)
+        {
+            phase++;
+            int size = 0;
+            int[] values = bucket.values;
+            for (int i = 0; i < bucket.size; i++) {
+                int v = values[i];
+                if (processedPhase[v] != phase && bucketIndex(getDistance(v)) == index) {
+                    processedPhase[v] = phase;
+                    values[size++] = v;
+                    if (removedBucket[v] != (int) index) {
+                        removedBucket[v] = (int) index;
+                        removed.add(v);
+                    }
+                }
+            }
+            return Arrays.copyOf(values, size);
         }
-    }
 
-    /**
-     * Takes {@code numOfTasks} tasks from the {@link #completionService}.
-     *
-     * @param numOfTasks amount of tasks
-     */
-    private void waitForTasksCompletion(int numOfTasks)
-    {
-        for (int i = 0; i < numOfTasks; i++) {
-            try {
-                completionService.take();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+        /**
+         * Change the bucket width if needed and redistribute the vertices in the buckets.
+         *
+         * @param next the absolute index of the next bucket using the current width
+         * @param lightPhases number of light phases of the last bucket
+         * @param bucketSize number of vertices removed from the last bucket
+         * @return the absolute index of the next bucket using the new width
+         */
+        private long tuneDelta(long next, int lightPhases, int bucketSize)
+        {
+            double newDelta = currentDelta;
+            if (lightPhases > MAX_LIGHT_PHASES && maxEdgeWeight / currentDelta < MAX_BUCKETS / 2) {
+                newDelta = currentDelta / 2;
+            } else if (bucketSize < parallelism * MIN_VERTICES_PER_THREAD
+                && lightPhases <= 2 && currentDelta < maxEdgeWeight)
+            {
+                newDelta = currentDelta * 2;
+            }
+            if (newDelta == currentDelta) {
+                return next;
             }
-        }
-    }
 
-    /**
-     * Performs relaxation in parallel-safe fashion. Synchronises by {@code vertex}, then if new
-     * tentative distance is less then removes {@code v} from the old bucket, adds is to the new
-     * bucket and updates {@link #distanceAndPredecessorMap} value for {@code v}.
-     *
-     * @param v vertex
-     * @param e edge to predecessor
-     * @param distance distance
-     */
-    private void relax(V v, E e, double distance)
-    {
-        int updatedBucket = bucketIndex(distance);
-        synchronized (v) { // to make relaxation updates thread-safe
-            Pair<Double, E> oldData = distanceAndPredecessorMap.get(v);
-            if (distance < oldData.getFirst()) {
-                if (!oldData.getFirst().equals(Double.POSITIVE_INFINITY)) {
-                    bucketStructure.get(bucketIndex(oldData.getFirst())).remove(v);
+            // all remaining vertices have distance at least the lower end of the next bucket
+            double lowerEnd = next * currentDelta;
+            List<Integer> pending = new ArrayList<>();
+            for (int s = 0; s < numOfBuckets; s++) {
+                IntList bucket = buckets[s];
+                for (int i = 0; i < bucket.size; i++) {
+                    pending.add(bucket.values[i]);
                 }
-                bucketStructure.get(updatedBucket).add(v);
-                distanceAndPredecessorMap.put(v, Pair.of(distance, e));
             }
+            currentDelta = newDelta;
+            createBuckets();
+            // vertices are reinserted once, processed stamps discard duplicates later
+            phase++;
+            for (int v : pending) {
+                double d = getDistance(v);
+                if (d >= lowerEnd && processedPhase[v] != phase) {
+                    processedPhase[v] = phase;
+                    buckets[slot(bucketIndex(d))].add(v);
+                }
+            }
+            Arrays.fill(removedBucket, -1);
+            return bucketIndex(lowerEnd);
         }
-    }
 
-    /**
-     * Calculates bucket index for a given {@code distance}.
-     *
-     * @param distance distance
-     * @return bucket index
-     */
-    private int bucketIndex(double distance)
-    {
-        return (int) Math.round(distance / delta) % numOfBuckets;
-    }
+        private void createBuckets()
+        {
+            numOfBuckets = (int) Math.ceil(maxEdgeWeight / currentDelta) + 2;
+            buckets = new IntList[numOfBuckets];
+            for (int i = 0; i < numOfBuckets; i++) {
+                buckets[i] = new IntList();
+            }
+        }
 
-    /**
-     * Replaces the bucket at the {@code bucketIndex} with a new instance of the concurrent set.
-     * Return the reference to the set that was previously in the bucket.
-     *
-     * @param bucketIndex bucket index
-     * @return content of the bucket
-     */
-    private Set<V> getContentAndReplace(int bucketIndex)
-    {
-        Set<V> result = bucketStructure.get(bucketIndex);
-        bucketStructure.set(bucketIndex, bucketsSupplier.get());
-        return result;
-    }
+        private int slot(long index)
+        {
+            return (int) (index % numOfBuckets);
+        }
 
-    /**
-     * Task that is submitted to the {@link #completionService} during shortest path computation for
-     * light relax requests relaxation.
-     */
-    class LightRelaxTask
-        implements Runnable
-    {
         /**
-         * Vertices which edges will be relaxed.
+         * Relax the light or heavy edges of some vertices and insert the updated vertices into
+         * their buckets.
          */
-        private Queue<V> vertices;
+        private void relax(int[] frontier, int size, boolean light)
+        {
+            if (size == 0) {
+                return;
+            }
+            phase++;
+
+            int numOfChunks = size < SEQUENTIAL_THRESHOLD ? 1 : chunks.size();
+            int chunkSize = (size + numOfChunks - 1) / numOfChunks;
+            List<Chunk> active = new ArrayList<>();
+            for (int i = 0; i < numOfChunks && i * chunkSize < size; i++) {
+                Chunk chunk = chunks.get(i);
+                chunk.reset(frontier, i * chunkSize, Math.min(size, (i + 1) * chunkSize), light);
+                active.add(chunk);
+            }
+
+            int p = phase;
+            execute(active, Chunk::relax);
+            execute(active, chunk -> chunk.resolve(p));
+
+            // merge the per chunk buffers into the buckets
+            for (Chunk chunk : active) {
+                for (int i = 0; i < chunk.updatedSize; i++) {
+                    int v = chunk.updated[i];
+                    buckets[slot(bucketIndex(getDistance(v)))].add(v);
+                }
+            }
+        }
 
         /**
-         * Constructs instance of a new task.
-         *
-         * @param vertices vertices
+         * Execute a step for all chunks, in parallel if more than one.
          */
-        LightRelaxTask(Queue<V> vertices)
+        private void execute(List<Chunk> active, Consumer<Chunk> step)
         {
-            this.vertices = vertices;
+            if (active.size() == 1) {
+                step.accept(active.get(0));
+                return;
+            }
+
+            ExecutorCompletionService<Void> completionService =
+                new ExecutorCompletionService<>(executor);
+            for (Chunk chunk : active) {
+                completionService.submit(() -> {
+                    step.accept(chunk);
+                    return null;
+                });
+            }
+
+            RuntimeException failure = null;
+            for (int i = 0; i < active.size(); i++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RuntimeException)) {
+                        e.printStackTrace();
+                    } else if (failure == null) {
+                        failure = (RuntimeException) e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
         }
 
         /**
-         * Performs relaxation of edges emanating from {@link #vertices}.
+         * A chunk of the vertices of a phase together with the updates performed while relaxing
+         * their edges.
          */
-        @Override
-        public void run()
+        private class Chunk
         {
+            private int[] frontier;
+            private int from;
+            private int to;
+            private boolean light;
+
+            // successful updates: vertex, edge and distance
+            private int updates;
+            private int[] updateVertex = new int[16];
+            private int[] updateEdge = new int[16];
+            private double[] updateDistance = new double[16];
+
+            // vertices whose update survived, to be inserted into the buckets
+            int[] updated = new int[16];
+            int updatedSize;
+
+            void reset(int[] frontier, int from, int to, boolean light)
+            {
+                this.frontier = frontier;
+                this.from = from;
+                this.to = to;
+                this.light = light;
+                this.updates = 0;
+                this.updatedSize = 0;
+            }
 
-            while (true) {
-                V v = vertices.poll();
-                if (v == null) { // we might have a termination situation
-                    if (allVerticesAdded && vertices.isEmpty()) { // need to check
-                        // is the queue is empty, because some vertices might have been added
-                        // while passing from first if condition to the second
-                        break;
+            void relax()
+            {
+                double delta = currentDelta;
+                for (int i = from; i < to; i++) {
+                    int v = frontier[i];
+                    double d = getDistance(v);
+                    for (int j = start[v], end = start[v + 1]; j < end; j++) {
+                        double w = weight[j];
+                        if ((w <= delta) != light) {
+                            continue;
+                        }
+                        int u = target[j];
+                        double newDist = d + w;
+                        while (true) {
+                            long bits = distance.get(u);
+                            if (!(newDist < Double.longBitsToDouble(bits))) {
+                                break;
+                            }
+                            if (distance.compareAndSet(u, bits, Double.doubleToLongBits(newDist))) {
+                                addUpdate(u, j, newDist);
+                                break;
+                            }
+                        }
                     }
-                } else {
-                    for (E e : graph.outgoingEdgesOf(v)) {
-                        if (graph.getEdgeWeight(e) <= delta) {
-                            relax(
-                                Graphs.getOppositeVertex(graph, e, v), e,
-                                distanceAndPredecessorMap.get(v).getFirst()
-                                    + graph.getEdgeWeight(e));
+                }
+            }
+
+            void resolve(int phase)
+            {
+                for (int i = 0; i < updates; i++) {
+                    int u = updateVertex[i];
+                    if (updateDistance[i] != getDistance(u)) {
+                        // overwritten by a later update
+                        continue;
+                    }
+                    int q = updatedPhase.get(u);
+                    if (q != phase && updatedPhase.compareAndSet(u, q, phase)) {
+                        pred[u] = updateEdge[i];
+                        if (updatedSize == updated.length) {
+                            updated = Arrays.copyOf(updated, 2 * updatedSize);
                         }
+                        updated[updatedSize++] = u;
                     }
                 }
             }
+
+            private void addUpdate(int u, int e, double d)
+            {
+                if (updates == updateVertex.length) {
+                    int capacity = 2 * updates;
+                    updateVertex = Arrays.copyOf(updateVertex, capacity);
+                    updateEdge = Arrays.copyOf(updateEdge, capacity);
+                    updateDistance = Arrays.copyOf(updateDistance, capacity);
+                }
+                updateVertex[updates] = u;
+                updateEdge[updates] = e;
+                updateDistance[updates] = d;
+                updates++;
+            }
         }
     }
 
     /**
-     * Task that is submitted to the {@link #completionService} during shortest path computation for
-     * heavy relax requests relaxation.
+     * A growable array of vertex indices.
      */
-    class HeavyRelaxTask
-        implements Runnable
+    private static class IntList
     {
-        /**
-         * Vertices which edges will be relaxed.
-         */
-        private Queue<V> vertices;
+        int[] values = new int[4];
+        int size;
 
-        /**
-         * Constructs instance of a new task.
-         *
-         * @param vertices vertices
-         */
-        HeavyRelaxTask(Queue<V> vertices)
+        void add(int v)
         {
-            this.vertices = vertices;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = v;
         }
 
-        /**
-         * Performs relaxation of edges emanating from {@link #vertices}.
-         */
-        @Override
-        public void run()
+        void clear()
         {
-
-            while (true) {
-                V v = vertices.poll();
-                if (v == null) {
-                    if (allVerticesAdded && vertices.isEmpty()) {
-                        break;
-                    }
-                } else {
-                    for (E e : graph.outgoingEdgesOf(v)) {
-                        if (graph.getEdgeWeight(e) > delta) {
-                            relax(
-                                Graphs.getOppositeVertex(graph, e, v), e,
-                                distanceAndPredecessorMap.get(v).getFirst()
-                                    + graph.getEdgeWeight(e));
-                        }
-                    }
-                }
-            }
+            size = 0;
         }
     }
 }
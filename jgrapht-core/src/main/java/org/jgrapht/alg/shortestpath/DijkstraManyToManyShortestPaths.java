@@ -45,6 +45,12 @@ import java.util.*;
  * case of this algorithm are small graphs or large graphs with small total number of source and
  * target vertices.
  *
+ * <p>
+ * When many queries are executed against the same graph, a {@link DijkstraWorkspace} can be
+ * provided during construction. The searches then reuse the arrays and the heap of the workspace,
+ * and for each search only the shortest paths to the target vertices are stored instead of the
+ * whole shortest paths tree. Such an instance is not thread-safe.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -54,6 +60,7 @@ import java.util.*;
 public class DijkstraManyToManyShortestPaths<V, E>
     extends BaseManyToManyShortestPaths<V, E>
 {
+    private final DijkstraWorkspace<V, E> workspace;
 
     /**
      * Constructs an instance of the algorithm for a given {@code graph}.
@@ -63,6 +70,24 @@ public class DijkstraManyToManyShortestPaths<V, E>
     public DijkstraManyToManyShortestPaths(Graph<V, E> graph)
     {
         super(graph);
+        this.workspace = null;
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code graph} which performs all
+     * searches using a reusable workspace. The workspace must have been created for the same graph.
+     *
+     * @param graph underlying graph
+     * @param workspace the workspace
+     */
+    public DijkstraManyToManyShortestPaths(Graph<V, E> graph, DijkstraWorkspace<V, E> workspace)
+    {
+        super(graph);
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+        if (workspace.getGraph() != graph) {
+            throw new IllegalArgumentException("Workspace must be created for the same graph");
+        }
+        this.workspace = workspace;
     }
 
     /**
@@ -78,18 +103,37 @@ public class DijkstraManyToManyShortestPaths<V, E>
 
         if (sources.size() >= targets.size()) {
             for (V source : sources) {
-                searchSpaces.put(source, getShortestPathsTree(graph, source, targets));
+                searchSpaces.put(source, computeSearchSpace(graph, source, targets));
             }
             return new DijkstraManyToManyShortestPathsImpl(sources, targets, false, searchSpaces);
         } else {
             Graph<V, E> edgeReversedGraph = new EdgeReversedGraph<>(graph);
             for (V target : targets) {
-                searchSpaces.put(target, getShortestPathsTree(edgeReversedGraph, target, sources));
+                searchSpaces.put(target, computeSearchSpace(edgeReversedGraph, target, sources));
             }
             return new DijkstraManyToManyShortestPathsImpl(sources, targets, true, searchSpaces);
         }
     }
 
+    private ShortestPathAlgorithm.SingleSourcePaths<V, E> computeSearchSpace(
+        Graph<V, E> g, V source, Set<V> targets)
+    {
+        if (workspace == null) {
+            return getShortestPathsTree(g, source, targets);
+        }
+
+        DijkstraWorkspace<V, E>.SearchSpace space = workspace.forward();
+        space.start(source);
+        int reachedTargets = 0;
+        while (space.hasNext(Double.POSITIVE_INFINITY) && reachedTargets < targets.size()) {
+            if (targets.contains(space.next(g))) {
+                ++reachedTargets;
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(
+            g, source, space.getDistanceAndPredecessorMap(g, targets));
+    }
+
     /**
      * Implementation of the
      * {@link org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths}.
@@ -22,6 +22,7 @@ import org.jgrapht.alg.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -29,6 +30,11 @@ import java.util.function.*;
  * shortest path algorithm</a> using a pairing heap by default. A custom heap implementation can by
  * specified during the construction time.
  *
+ * <p>
+ * When many queries are executed against the same graph, a {@link DijkstraWorkspace} can be
+ * provided during construction. All queries then reuse the arrays and the heap of the workspace
+ * instead of allocating new ones. Such an instance is not thread-safe.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author John V. Sichi
@@ -38,6 +44,7 @@ public final class DijkstraShortestPath<V, E>
 {
     private final double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
+    private final DijkstraWorkspace<V, E> workspace;
 
     /**
      * Constructs a new instance of the algorithm for a given graph. The constructed algorithm will
@@ -92,6 +99,30 @@ public final class DijkstraShortestPath<V, E>
         }
         this.heapSupplier = heapSupplier;
         this.radius = radius;
+        this.workspace = null;
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph which performs all queries
+     * using a reusable workspace. The workspace must have been created for the same graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param workspace the workspace
+     */
+    public DijkstraShortestPath(Graph<V, E> graph, double radius, DijkstraWorkspace<V, E> workspace)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+        if (workspace.getGraph() != graph) {
+            throw new IllegalArgumentException("Workspace must be created for the same graph");
+        }
+        this.heapSupplier = null;
+        this.radius = radius;
+        this.workspace = workspace;
     }
 
     /**
@@ -126,6 +157,17 @@ public final class DijkstraShortestPath<V, E>
             return createEmptyPath(source, sink);
         }
 
+        if (workspace != null) {
+            DijkstraWorkspace<V, E>.SearchSpace space = workspace.forward();
+            space.start(source);
+            while (space.hasNext(radius)) {
+                if (space.next(graph).equals(sink)) {
+                    break;
+                }
+            }
+            return space.createPath(graph, source, sink, radius);
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
@@ -153,6 +195,16 @@ public final class DijkstraShortestPath<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        if (workspace != null) {
+            DijkstraWorkspace<V, E>.SearchSpace space = workspace.forward();
+            space.start(source);
+            while (space.hasNext(radius)) {
+                space.next(graph);
+            }
+            return new TreeSingleSourcePathsImpl<>(
+                graph, source, space.getDistanceAndPredecessorMap(radius));
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
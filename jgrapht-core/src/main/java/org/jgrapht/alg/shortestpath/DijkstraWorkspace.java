@@ -0,0 +1,376 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * A reusable workspace for Dijkstra based shortest path queries on a static graph.
+ *
+ * <p>
+ * Each query of {@link DijkstraShortestPath}, {@link BidirectionalDijkstraShortestPath} or
+ * {@link DijkstraManyToManyShortestPaths} normally allocates a new heap together with a hash map of
+ * the vertices seen during the search. When many queries are executed against the same graph this
+ * creates a lot of garbage. A workspace instead maps the vertices of the graph once to the integers
+ * $0$ to $n-1$ and keeps the tentative distances, the predecessor edges and an indexed binary heap
+ * in arrays which are reused by all queries. The arrays are not cleared between queries. Instead,
+ * each entry is tagged with the version of the query which last wrote it and a new query simply
+ * increments the version, thus starting a query costs constant time instead of $O(n)$.
+ *
+ * <p>
+ * The vertex set of the graph must not change after the workspace is created. Edge weights may
+ * change between queries. A workspace is not thread-safe; in a multi-threaded setting each thread
+ * should use its own workspace and its own algorithm instance.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public final class DijkstraWorkspace<V, E>
+{
+    private final Graph<V, E> graph;
+    private final Map<V, Integer> vertexIndex;
+    private final List<V> vertices;
+
+    private SearchSpace forward;
+    private SearchSpace backward;
+
+    /**
+     * Create a new workspace.
+     *
+     * @param graph the graph
+     */
+    public DijkstraWorkspace(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+    }
+
+    /**
+     * Get the graph of the workspace.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the search space used for forward searches.
+     *
+     * @return the forward search space
+     */
+    SearchSpace forward()
+    {
+        if (forward == null) {
+            forward = new SearchSpace();
+        }
+        return forward;
+    }
+
+    /**
+     * Get the search space used for the backward search of bidirectional algorithms.
+     *
+     * @return the backward search space
+     */
+    SearchSpace backward()
+    {
+        if (backward == null) {
+            backward = new SearchSpace();
+        }
+        return backward;
+    }
+
+    private int indexOf(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Workspace does not contain vertex: " + v);
+        }
+        return index;
+    }
+
+    /**
+     * The state of a single Dijkstra search. Entries of the arrays are valid only if their version
+     * matches the current version.
+     */
+    final class SearchSpace
+    {
+        private final double[] distance;
+        private final Object[] predecessor;
+        private final int[] version;
+        private int currentVersion;
+
+        /*
+         * Vertices written by the current search.
+         */
+        private final int[] touched;
+        private int touchedCount;
+
+        /*
+         * Indexed binary heap keyed by distance. The position of a vertex not in the heap is -1.
+         */
+        private final int[] heap;
+        private final int[] position;
+        private int size;
+
+        SearchSpace()
+        {
+            int n = vertices.size();
+            this.distance = new double[n];
+            this.predecessor = new Object[n];
+            this.version = new int[n];
+            this.currentVersion = 0;
+            this.touched = new int[n];
+            this.touchedCount = 0;
+            this.heap = new int[n];
+            this.position = new int[n];
+            Arrays.fill(position, -1);
+            this.size = 0;
+        }
+
+        /**
+         * Start a new search from a source vertex.
+         *
+         * @param source the source vertex
+         */
+        void start(V source)
+        {
+            for (int i = 0; i < size; i++) {
+                position[heap[i]] = -1;
+            }
+            size = 0;
+            touchedCount = 0;
+            if (currentVersion == Integer.MAX_VALUE) {
+                Arrays.fill(version, 0);
+                currentVersion = 0;
+            }
+            currentVersion++;
+            updateDistance(source, null, 0d);
+        }
+
+        /**
+         * Whether the search has more vertices to settle inside the radius.
+         *
+         * @param radius the radius
+         * @return true if there are more vertices to settle, false otherwise
+         */
+        boolean hasNext(double radius)
+        {
+            return size > 0 && distance[heap[0]] <= radius;
+        }
+
+        /**
+         * Settle the vertex with minimum distance and relax its outgoing edges.
+         *
+         * @param g the graph to traverse, which must have the same vertex set as the workspace
+         * @return the settled vertex
+         */
+        V next(Graph<V, E> g)
+        {
+            double vDistance = minDistance();
+            V v = deleteMin();
+            for (E e : g.outgoingEdgesOf(v)) {
+                double eWeight = g.getEdgeWeight(e);
+                if (eWeight < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                updateDistance(Graphs.getOppositeVertex(g, e, v), e, vDistance + eWeight);
+            }
+            return v;
+        }
+
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        double minDistance()
+        {
+            return distance[heap[0]];
+        }
+
+        V deleteMin()
+        {
+            int min = heap[0];
+            position[min] = -1;
+            int last = heap[--size];
+            if (size > 0) {
+                heap[0] = last;
+                position[last] = 0;
+                siftDown(0);
+            }
+            return vertices.get(min);
+        }
+
+        void updateDistance(V v, E e, double d)
+        {
+            int i = indexOf(v);
+            if (version[i] != currentVersion) {
+                version[i] = currentVersion;
+                touched[touchedCount++] = i;
+                distance[i] = d;
+                predecessor[i] = e;
+                heap[size] = i;
+                position[i] = size;
+                siftUp(size++);
+            } else if (d < distance[i] && position[i] != -1) {
+                distance[i] = d;
+                predecessor[i] = e;
+                siftUp(position[i]);
+            }
+        }
+
+        double getDistance(V v)
+        {
+            int i = indexOf(v);
+            return version[i] == currentVersion ? distance[i] : Double.POSITIVE_INFINITY;
+        }
+
+        @SuppressWarnings("unchecked")
+        E getTreeEdge(V v)
+        {
+            int i = indexOf(v);
+            return version[i] == currentVersion ? (E) predecessor[i] : null;
+        }
+
+        /**
+         * Create the path from the source of the search to a vertex.
+         *
+         * @param g the graph traversed by the search
+         * @param source the source of the search
+         * @param sink the sink
+         * @param radius the radius of the search
+         * @return the path or null if the sink was not reached inside the radius
+         */
+        GraphPath<V, E> createPath(Graph<V, E> g, V source, V sink, double radius)
+        {
+            double weight = getDistance(sink);
+            if (weight == Double.POSITIVE_INFINITY || radius < weight) {
+                return null;
+            }
+            LinkedList<E> edgeList = new LinkedList<>();
+            V cur = sink;
+            E e;
+            while ((e = getTreeEdge(cur)) != null) {
+                edgeList.addFirst(e);
+                cur = Graphs.getOppositeVertex(g, e, cur);
+            }
+            return new GraphWalk<>(g, source, sink, null, edgeList, weight);
+        }
+
+        /**
+         * Copy the distance and predecessor of all vertices reached inside the radius.
+         *
+         * @param radius the radius of the search
+         * @return a distance and predecessor map
+         */
+        @SuppressWarnings("unchecked")
+        Map<V, Pair<Double, E>> getDistanceAndPredecessorMap(double radius)
+        {
+            Map<V, Pair<Double, E>> map = new HashMap<>();
+            for (int j = 0; j < touchedCount; j++) {
+                int i = touched[j];
+                if (distance[i] <= radius) {
+                    map.put(vertices.get(i), Pair.of(distance[i], (E) predecessor[i]));
+                }
+            }
+            return map;
+        }
+
+        /**
+         * Copy the distance and predecessor of the vertices on the paths to the given targets.
+         *
+         * @param g the graph traversed by the search
+         * @param targets the targets
+         * @return a distance and predecessor map
+         */
+        @SuppressWarnings("unchecked")
+        Map<V, Pair<Double, E>> getDistanceAndPredecessorMap(Graph<V, E> g, Set<V> targets)
+        {
+            Map<V, Pair<Double, E>> map = new HashMap<>();
+            for (V t : targets) {
+                V cur = t;
+                int i = indexOf(cur);
+                while (version[i] == currentVersion && !map.containsKey(cur)) {
+                    E e = (E) predecessor[i];
+                    map.put(cur, Pair.of(distance[i], e));
+                    if (e == null) {
+                        break;
+                    }
+                    cur = Graphs.getOppositeVertex(g, e, cur);
+                    i = indexOf(cur);
+                }
+            }
+            return map;
+        }
+
+        private void siftUp(int i)
+        {
+            int v = heap[i];
+            double k = distance[v];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = heap[parent];
+                if (distance[p] <= k) {
+                    break;
+                }
+                heap[i] = p;
+                position[p] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        private void siftDown(int i)
+        {
+            int v = heap[i];
+            double k = distance[v];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                int c = heap[child];
+                int right = child + 1;
+                if (right < size && distance[heap[right]] < distance[c]) {
+                    child = right;
+                    c = heap[child];
+                }
+                if (k <= distance[c]) {
+                    break;
+                }
+                heap[i] = c;
+                position[c] = i;
+                i = child;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+    }
+
+}
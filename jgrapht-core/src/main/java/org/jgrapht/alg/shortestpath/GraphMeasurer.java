@@ -28,6 +28,19 @@ import java.util.*;
  * distance metrics can be found
  * <a href="https://en.wikipedia.org/wiki/Distance_(graph_theory)">here</a>.
  *
+ * <p>
+ * If no shortest path algorithm is provided and the graph is unweighted, the eccentricities are
+ * computed using a bit-parallel {@link MultiSourceBFS} instead of an all-pairs shortest path
+ * algorithm.
+ *
+ * <p>
+ * For large sparse graphs, where all-pairs shortest paths are not an option, the measurer can be
+ * constructed in bounding mode, see {@link #GraphMeasurer(Graph, boolean)}. In this mode the
+ * diameter, the radius, the center and the periphery are computed exactly by maintaining bounds on
+ * the eccentricities of the vertices, which on real-world graphs usually requires only a handful of
+ * breadth-first searches or Dijkstra runs. The number of traversals performed can be queried using
+ * {@link #getNumberOfTraversals()}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -40,6 +53,10 @@ public class GraphMeasurer<V, E>
     private final Graph<V, E> graph;
     /* All-pairs shortest path algorithm */
     private final ShortestPathAlgorithm<V, E> shortestPathAlgorithm;
+    /* Whether to use a multi-source breadth-first search instead of shortestPathAlgorithm */
+    private final boolean useMultiSourceBFS;
+    /* Eccentricity bounds, non-null in bounding mode */
+    private final BoundingEccentricities<V, E> bounds;
 
     /* Vertex eccentricity map */
     private Map<V, Double> eccentricityMap = null;
@@ -50,13 +67,58 @@ public class GraphMeasurer<V, E>
 
     /**
      * Constructs a new instance of GraphMeasurer. {@link FloydWarshallShortestPaths} is used as the
-     * default shortest path algorithm.
+     * default shortest path algorithm for weighted graphs. For unweighted graphs a
+     * {@link MultiSourceBFS} is used.
      * 
      * @param graph input graph
      */
     public GraphMeasurer(Graph<V, E> graph)
     {
-        this(graph, new FloydWarshallShortestPaths<V, E>(graph));
+        this.graph = graph;
+        this.useMultiSourceBFS = !graph.getType().isWeighted();
+        this.shortestPathAlgorithm =
+            useMultiSourceBFS ? null : new FloydWarshallShortestPaths<V, E>(graph);
+        this.bounds = null;
+    }
+
+    /**
+     * Constructs a new instance of GraphMeasurer which optionally operates in bounding mode.
+     *
+     * <p>
+     * In bounding mode no all-pairs shortest path computation is performed. Instead the
+     * eccentricity of each vertex is bounded from below and from above, and single-source
+     * traversals are performed from carefully selected vertices until the bounds suffice, see the
+     * Takes–Kosters algorithm in: Frank W. Takes and Walter A. Kosters. Determining the diameter of
+     * small world networks. Proceedings of the 20th ACM International Conference on Information and
+     * Knowledge Management, 1191–1196, 2011. Unweighted graphs are traversed using breadth-first
+     * search and weighted graphs using Dijkstra, thus edge weights must be non-negative.
+     *
+     * <p>
+     * The methods {@link #getDiameter()}, {@link #getRadius()}, {@link #getGraphCenter()} and
+     * {@link #getGraphPeriphery()} stop as soon as these values are known, while
+     * {@link #getVertexEccentricityMap()} continues until all eccentricities are known. The
+     * pseudo-periphery requires one additional traversal per vertex. The worst case running time
+     * is the same as performing a traversal from every vertex.
+     *
+     * @param graph input graph
+     * @param useBounds if true the measurer operates in bounding mode, otherwise it behaves like
+     *        {@link #GraphMeasurer(Graph)}
+     * @throws IllegalArgumentException if bounding mode is used and the graph contains an edge with
+     *         negative weight
+     */
+    public GraphMeasurer(Graph<V, E> graph, boolean useBounds)
+    {
+        this.graph = graph;
+        if (useBounds) {
+            this.bounds = new BoundingEccentricities<>(graph);
+            this.useMultiSourceBFS = false;
+            this.shortestPathAlgorithm = null;
+        } else {
+            this.bounds = null;
+            this.useMultiSourceBFS = !graph.getType().isWeighted();
+            this.shortestPathAlgorithm =
+                useMultiSourceBFS ? null : new FloydWarshallShortestPaths<V, E>(graph);
+        }
     }
 
     /**
@@ -74,6 +136,8 @@ public class GraphMeasurer<V, E>
     {
         this.graph = graph;
         this.shortestPathAlgorithm = shortestPathAlgorithm;
+        this.useMultiSourceBFS = false;
+        this.bounds = null;
     }
 
     /**
@@ -87,6 +151,10 @@ public class GraphMeasurer<V, E>
      */
     public double getDiameter()
     {
+        if (bounds != null && eccentricityMap == null) {
+            bounds.computeExtremal();
+            return bounds.getDiameter();
+        }
         computeEccentricityMap();
         return diameter;
     }
@@ -101,6 +169,10 @@ public class GraphMeasurer<V, E>
      */
     public double getRadius()
     {
+        if (bounds != null && eccentricityMap == null) {
+            bounds.computeExtremal();
+            return bounds.getRadius();
+        }
         computeEccentricityMap();
         return radius;
     }
@@ -129,6 +201,10 @@ public class GraphMeasurer<V, E>
      */
     public Set<V> getGraphCenter()
     {
+        if (bounds != null) {
+            bounds.computeExtremal();
+            return bounds.getCenter();
+        }
         computeEccentricityMap();
         Set<V> graphCenter = new LinkedHashSet<>();
         ToleranceDoubleComparator comp = new ToleranceDoubleComparator();
@@ -148,6 +224,10 @@ public class GraphMeasurer<V, E>
      */
     public Set<V> getGraphPeriphery()
     {
+        if (bounds != null) {
+            bounds.computeExtremal();
+            return bounds.getPeriphery();
+        }
         computeEccentricityMap();
         Set<V> graphPeriphery = new LinkedHashSet<>();
         ToleranceDoubleComparator comp = new ToleranceDoubleComparator();
@@ -171,6 +251,16 @@ public class GraphMeasurer<V, E>
     public Set<V> getGraphPseudoPeriphery()
     {
         computeEccentricityMap();
+        if (useMultiSourceBFS) {
+            return computeGraphPseudoPeripheryBFS();
+        }
+        if (bounds != null) {
+            Set<V> graphPseudoPeriphery = new LinkedHashSet<>();
+            for (V v : graph.vertexSet())
+                if (bounds.isPseudoPeripheral(v))
+                    graphPseudoPeriphery.add(v);
+            return graphPseudoPeriphery;
+        }
         Set<V> graphPseudoPeriphery = new LinkedHashSet<>();
         ToleranceDoubleComparator comp = new ToleranceDoubleComparator();
 
@@ -186,6 +276,19 @@ public class GraphMeasurer<V, E>
         return graphPseudoPeriphery;
     }
 
+    /**
+     * Get the number of single-source shortest path computations (breadth-first searches or
+     * Dijkstra runs) performed so far in bounding mode. Directed graphs require two traversals per
+     * selected vertex, one for each direction. Returns zero if the measurer does not operate in
+     * bounding mode.
+     *
+     * @return the number of traversals performed in bounding mode
+     */
+    public int getNumberOfTraversals()
+    {
+        return bounds == null ? 0 : bounds.getNumberOfTraversals();
+    }
+
     /**
      * Lazy method which computes the eccentricity of each vertex
      */
@@ -196,7 +299,16 @@ public class GraphMeasurer<V, E>
 
         // Compute the eccentricity map
         eccentricityMap = new LinkedHashMap<>();
-        if (graph.getType().isUndirected()) {
+        if (bounds != null) {
+            bounds.computeAll();
+            for (V v : graph.vertexSet())
+                eccentricityMap.put(v, bounds.getEccentricity(v));
+        } else if (useMultiSourceBFS) {
+            MultiSourceBFS<V, E>.DistanceStatistics statistics =
+                new MultiSourceBFS<>(graph).getDistanceStatistics();
+            for (V v : graph.vertexSet())
+                eccentricityMap.put(v, statistics.getEccentricity(v));
+        } else if (graph.getType().isUndirected()) {
             List<V> vertices = new ArrayList<>(graph.vertexSet());
             double[] eccentricityVector = new double[vertices.size()];
             for (int i = 0; i < vertices.size() - 1; i++) {
@@ -230,4 +342,53 @@ public class GraphMeasurer<V, E>
             }
         }
     }
+
+    /**
+     * Computes the pseudo-periphery using a multi-source breadth-first search. A source $u$ is
+     * pseudo-peripheral if some vertex at distance $\epsilon(u)$ has eccentricity $\epsilon(u)$.
+     * If $\epsilon(u)$ is infinite, this is the case if some vertex which is not reachable from $u$
+     * has infinite eccentricity.
+     *
+     * @return the graph pseudo-periphery
+     */
+    private Set<V> computeGraphPseudoPeripheryBFS()
+    {
+        MultiSourceBFS<V, E> bfs = new MultiSourceBFS<>(graph);
+        int n = bfs.getVertexCount();
+        double[] eccentricity = new double[n];
+        int[] sources = new int[n];
+        int infinite = 0;
+        for (int i = 0; i < n; i++) {
+            sources[i] = i;
+            eccentricity[i] = eccentricityMap.get(bfs.getVertex(i));
+            if (eccentricity[i] == Double.POSITIVE_INFINITY) {
+                infinite++;
+            }
+        }
+
+        boolean[] isPseudoPeripheral = new boolean[n];
+        int[] reachedInfinite = new int[n];
+        bfs.traverse(sources, (offset, vertex, distance, bits) -> {
+            while (bits != 0L) {
+                int s = offset + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (eccentricity[vertex] == Double.POSITIVE_INFINITY) {
+                    reachedInfinite[s]++;
+                } else if (distance == eccentricity[s] && eccentricity[s] == eccentricity[vertex]) {
+                    isPseudoPeripheral[s] = true;
+                }
+            }
+        });
+
+        Set<V> graphPseudoPeriphery = new LinkedHashSet<>();
+        for (V v : eccentricityMap.keySet()) {
+            int i = bfs.getVertexIndex(v);
+            if (isPseudoPeripheral[i] || (eccentricity[i] == Double.POSITIVE_INFINITY
+                && reachedInfinite[i] < infinite))
+            {
+                graphPseudoPeriphery.add(v);
+            }
+        }
+        return graphPseudoPeriphery;
+    }
 }
@@ -24,6 +24,7 @@ import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -45,6 +46,20 @@ import java.util.*;
  * In case the algorithm detects a negative weight cycle it will throw an exception of type
  * {@link NegativeCycleDetectedException} which will contain the detected negative weight cycle.
  *
+ * <p>
+ * By default all shortest paths are computed the first time a member method is invoked. The
+ * Dijkstra executions, one per vertex, can run in parallel on a {@link ThreadPoolExecutor}.
+ * Alternatively, in lazy mode, only the reweighting is performed in advance and the shortest paths
+ * from a source are computed the first time they are requested. The results of the most recently
+ * used sources are kept in a cache of bounded size. The lazy mode is useful when the paths from
+ * only a few sources are needed, since it avoids both the $O(n^2)$ space and the $n$ executions of
+ * Dijkstra's algorithm.
+ *
+ * <p>
+ * An instance can be queried from multiple threads. In lazy mode the cache and the search
+ * workspace are shared by all queries, thus looking up and computing the shortest paths from a
+ * source is synchronized and concurrent queries are serialized.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -53,11 +68,21 @@ import java.util.*;
 public class JohnsonShortestPaths<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
-    private double[][] distance;
-    private E[][] pred;
+    private final Comparator<Double> comparator;
+    private final ThreadPoolExecutor executor;
+    private final int cacheSize;
+
+    private List<V> vertices;
     private Map<V, Integer> vertexIndices;
+    // graph with non-negative edge weights and the vertex weights used for reweighting, if any
+    private Graph<V, E> nonNegativeGraph;
+    private Map<V, Double> vertexWeights;
 
-    private final Comparator<Double> comparator;
+    // results of all sources in eager mode
+    private SourceResult<E>[] results;
+    // results of the most recently used sources in lazy mode
+    private Map<Integer, SourceResult<E>> cache;
+    private DijkstraWorkspace<V, E> workspace;
 
     /**
      * Construct a new instance.
@@ -76,9 +101,49 @@ public class JohnsonShortestPaths<V, E>
      * @param epsilon tolerance when comparing floating point values
      */
     public JohnsonShortestPaths(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, null, 0);
+    }
+
+    /**
+     * Construct a new instance which computes the shortest paths from all vertices in parallel. It
+     * is up to a user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param executor executor which will be used to run Dijkstra's algorithm from all vertices
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ThreadPoolExecutor executor)
+    {
+        this(graph, epsilon, Objects.requireNonNull(executor, "Executor cannot be null"), 0);
+    }
+
+    /**
+     * Construct a new instance which computes the shortest paths from a source lazily, the first
+     * time they are requested.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param cacheSize the maximum number of sources whose shortest paths are kept
+     * @throws IllegalArgumentException if the cache size is not positive
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, int cacheSize)
+    {
+        this(graph, epsilon, null, cacheSize);
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+    }
+
+    private JohnsonShortestPaths(
+        Graph<V, E> graph, double epsilon, ThreadPoolExecutor executor, int cacheSize)
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.executor = executor;
+        this.cacheSize = cacheSize;
     }
 
     /**
@@ -104,11 +169,11 @@ public class JohnsonShortestPaths<V, E>
             return GraphWalk.singletonWalk(graph, source, 0d);
         }
 
-        int vSource = vertexIndices.get(source);
+        SourceResult<E> result = getResult(vertexIndices.get(source));
         int vSink = vertexIndices.get(sink);
 
         V cur = sink;
-        E e = pred[vSource][vSink];
+        E e = result.pred[vSink];
         if (e == null) {
             return null;
         }
@@ -117,10 +182,10 @@ public class JohnsonShortestPaths<V, E>
         while (e != null) {
             edgeList.addFirst(e);
             cur = Graphs.getOppositeVertex(graph, e, cur);
-            e = pred[vSource][vertexIndices.get(cur)];
+            e = result.pred[vertexIndices.get(cur)];
         }
 
-        return new GraphWalk<>(graph, source, sink, null, edgeList, distance[vSource][vSink]);
+        return new GraphWalk<>(graph, source, sink, null, edgeList, result.distance[vSink]);
     }
 
     /**
@@ -139,7 +204,7 @@ public class JohnsonShortestPaths<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
         run();
-        return distance[vertexIndices.get(source)][vertexIndices.get(sink)];
+        return getResult(vertexIndices.get(source)).distance[vertexIndices.get(sink)];
     }
 
     /**
@@ -157,11 +222,11 @@ public class JohnsonShortestPaths<V, E>
     }
 
     /**
-     * Executes the actual algorithm.
+     * Executes the actual algorithm. In lazy mode only the reweighting is performed.
      */
-    private void run()
+    private synchronized void run()
     {
-        if (pred != null) {
+        if (results != null || cache != null) {
             return;
         }
         GraphTests.requireDirectedOrUndirected(graph);
@@ -185,61 +250,46 @@ public class JohnsonShortestPaths<V, E>
                 throw new NegativeCycleDetectedException(
                     GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, cycle);
             }
-            runWithNegativeEdgeWeights(graph);
+            reweight(graph);
         } else {
-            runWithPositiveEdgeWeights(graph);
+            nonNegativeGraph = graph;
         }
-    }
 
-    /**
-     * Graph has no edges with negative weights. Only perform the last step of Johnson's algorithm:
-     * run Dijkstra's algorithm from every vertex.
-     *
-     * @param g the input graph
-     */
-    private void runWithPositiveEdgeWeights(Graph<V, E> g)
-    {
         /*
          * Create vertex numbering for array representation of results.
          */
-        vertexIndices = computeVertexIndices(g);
-        final int n = g.vertexSet().size();
-        distance = new double[n][n];
-        pred = TypeUtil.uncheckedCast(new Object[n][n]);
-
-        /*
-         * Execute Dijkstra multiple times
-         */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it =
-                new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform result
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> pair = distanceAndPredecessorMap
-                    .getOrDefault(u, Pair.of(Double.POSITIVE_INFINITY, null));
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getSecond();
-            }
+        vertexIndices = computeVertexIndices(graph);
+        vertices = new ArrayList<>(graph.vertexSet());
+
+        if (cacheSize > 0) {
+            workspace = new DijkstraWorkspace<>(nonNegativeGraph);
+            cache = new LinkedHashMap<Integer, SourceResult<E>>(16, 0.75f, true)
+            {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, SourceResult<E>> eldest)
+                {
+                    return size() > cacheSize;
+                }
+            };
+        } else {
+            computeAllResults();
         }
     }
 
     /**
      * Graph contains edges with negative weights. Transform the input graph, thereby ensuring that
-     * there are no edges with negative weights. Then run Dijkstra's algorithm for all vertices.
+     * there are no edges with negative weights.
      *
      * @param g the input graph
      */
-    private void runWithNegativeEdgeWeights(Graph<V, E> g)
+    private void reweight(Graph<V, E> g)
     {
         /*
          * Compute vertex weights using Bellman-Ford
          */
-        Map<V, Double> vertexWeights = computeVertexWeights(g);
+        vertexWeights = computeVertexWeights(g);
 
         /*
          * Compute new non-negative edge weights
@@ -255,45 +305,108 @@ public class JohnsonShortestPaths<V, E>
         /*
          * Create graph with new edge weights
          */
-        Graph<V, E> newEdgeWeightsGraph = new AsWeightedGraph<>(g, newEdgeWeights);
+        nonNegativeGraph = new AsWeightedGraph<>(g, newEdgeWeights);
+    }
 
-        /*
-         * Create vertex numbering, for array representation of results
-         */
-        vertexIndices = computeVertexIndices(g);
-        final int n = g.vertexSet().size();
-        distance = new double[n][n];
-        pred = TypeUtil.uncheckedCast(new Object[n][n]);
+    /**
+     * Run Dijkstra's algorithm from all vertices, in parallel if an executor is available.
+     */
+    private void computeAllResults()
+    {
+        final int n = vertices.size();
+        results = TypeUtil.uncheckedCast(new SourceResult<?>[n]);
 
-        /*
-         * Run Dijkstra using new weights for all vertices
-         */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it = new DijkstraClosestFirstIterator<>(
-                newEdgeWeightsGraph, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
+        if (executor == null) {
+            DijkstraWorkspace<V, E> workspace = new DijkstraWorkspace<>(nonNegativeGraph);
+            for (int i = 0; i < n; i++) {
+                results[i] = computeResult(i, workspace);
             }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform distances to original weights
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> oldPair = distanceAndPredecessorMap.get(u);
-
-                Pair<Double, E> newPair;
-                if (oldPair != null) {
-                    newPair = Pair.of(
-                        oldPair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u),
-                        oldPair.getSecond());
-                } else {
-                    newPair = Pair.of(Double.POSITIVE_INFINITY, null);
+            return;
+        }
+
+        int numOfTasks = Math.max(1, Math.min(executor.getMaximumPoolSize(), n));
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+        for (int t = 0; t < numOfTasks; t++) {
+            final int taskId = t;
+            completionService.submit(() -> {
+                DijkstraWorkspace<V, E> workspace = new DijkstraWorkspace<>(nonNegativeGraph);
+                for (int i = taskId; i < n; i += numOfTasks) {
+                    results[i] = computeResult(i, workspace);
                 }
+                return null;
+            });
+        }
 
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getSecond();
+        RuntimeException failure = null;
+        for (int t = 0; t < numOfTasks; t++) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof RuntimeException)) {
+                    e.printStackTrace();
+                } else if (failure == null) {
+                    failure = (RuntimeException) e.getCause();
+                }
             }
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
+    /**
+     * Get the shortest paths from a source, computing them if needed in lazy mode.
+     *
+     * @param source the index of the source
+     * @return the shortest paths from the source
+     */
+    private SourceResult<E> getResult(int source)
+    {
+        if (results != null) {
+            return results[source];
+        }
+        synchronized (cache) {
+            SourceResult<E> result = cache.get(source);
+            if (result == null) {
+                result = computeResult(source, workspace);
+                cache.put(source, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Run Dijkstra's algorithm on the graph with non-negative weights and transform the distances
+     * to the original weights.
+     *
+     * @param source the index of the source
+     * @param workspace the workspace of the search
+     * @return the shortest paths from the source
+     */
+    private SourceResult<E> computeResult(int source, DijkstraWorkspace<V, E> workspace)
+    {
+        V v = vertices.get(source);
+        DijkstraWorkspace<V, E>.SearchSpace space = workspace.forward();
+        space.start(v);
+        while (space.hasNext(Double.POSITIVE_INFINITY)) {
+            space.next(nonNegativeGraph);
+        }
+
+        final int n = vertices.size();
+        SourceResult<E> result = new SourceResult<>(n);
+        for (int i = 0; i < n; i++) {
+            V u = vertices.get(i);
+            double d = space.getDistance(u);
+            if (vertexWeights != null && d != Double.POSITIVE_INFINITY) {
+                d = d - vertexWeights.get(v) + vertexWeights.get(u);
+            }
+            result.distance[i] = d;
+            result.pred[i] = space.getTreeEdge(u);
+        }
+        return result;
     }
 
     /**
@@ -360,6 +473,21 @@ public class JohnsonShortestPaths<V, E>
         return numbering;
     }
 
+    /**
+     * Distances and predecessor edges of the shortest paths from a source.
+     */
+    private static class SourceResult<E>
+    {
+        final double[] distance;
+        final E[] pred;
+
+        SourceResult(int n)
+        {
+            this.distance = new double[n];
+            this.pred = TypeUtil.uncheckedCast(new Object[n]);
+        }
+    }
+
     class JohnsonSingleSourcePaths
         implements SingleSourcePaths<V, E>
     {
@@ -0,0 +1,1117 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.drawing.model.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Distance tables from and to a set of landmarks, as used by the {@link ALTAdmissibleHeuristic}.
+ *
+ * <p>
+ * The distances are stored in packed arrays indexed by the position of a vertex in the iteration
+ * order of the vertex set of the graph. All distances of a vertex are stored contiguously, which
+ * makes computing a heuristic estimate cache friendly. The distances can be stored either in double
+ * or in single precision. Single precision halves the space requirement to $4 k n$ bytes per
+ * direction, where $k$ is the number of landmarks. Estimates computed from single precision
+ * distances are reduced by the rounding error and thus remain admissible. For undirected graphs
+ * only the distances from the landmarks are stored.
+ *
+ * <p>
+ * Tables are created by a {@link Builder}, which either uses a given set of landmarks or selects
+ * them automatically using one of the strategies in {@link Selection}. The shortest path
+ * computations of the builder use a compressed sparse row copy of the graph and can run in parallel
+ * on a {@link ThreadPoolExecutor}. Tables can be saved to a file and loaded later for the same
+ * graph. The file stores a checksum of the structure of the graph which is validated on loading.
+ *
+ * @param <V> the graph vertex type
+ *
+ * @author Dimitrios Michail
+ */
+public final class LandmarkTables<V>
+{
+    private static final int MAGIC = 0x4A47414C;
+    private static final int VERSION = 1;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final List<V> landmarks;
+    private final Map<V, Integer> landmarkIndex;
+    private final boolean directed;
+    private final long checksum;
+
+    /*
+     * Distances in single or double precision. The distance between the landmark at position i and
+     * the vertex at position v is stored at position v * k + i. For undirected graphs the arrays to
+     * the landmarks are the same as the arrays from the landmarks.
+     */
+    private final float[] fromFloat;
+    private final float[] toFloat;
+    private final double[] fromDouble;
+    private final double[] toDouble;
+
+    private LandmarkTables(
+        List<V> vertices, Map<V, Integer> vertexIndex, List<V> landmarks, boolean directed,
+        long checksum, float[] fromFloat, float[] toFloat, double[] fromDouble, double[] toDouble)
+    {
+        this.vertices = vertices;
+        this.vertexIndex = vertexIndex;
+        this.landmarks = landmarks;
+        this.landmarkIndex = new HashMap<>();
+        for (int i = 0; i < landmarks.size(); i++) {
+            landmarkIndex.put(landmarks.get(i), i);
+        }
+        this.directed = directed;
+        this.checksum = checksum;
+        this.fromFloat = fromFloat;
+        this.toFloat = directed ? toFloat : fromFloat;
+        this.fromDouble = fromDouble;
+        this.toDouble = directed ? toDouble : fromDouble;
+    }
+
+    /**
+     * Get the landmarks.
+     *
+     * @return the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        return Collections.unmodifiableList(landmarks);
+    }
+
+    /**
+     * Whether the tables have been computed for a directed graph.
+     *
+     * @return true if the tables have been computed for a directed graph, false otherwise
+     */
+    public boolean isDirected()
+    {
+        return directed;
+    }
+
+    /**
+     * Whether the distances are stored in single precision.
+     *
+     * @return true if the distances are stored in single precision, false otherwise
+     */
+    public boolean isSinglePrecision()
+    {
+        return fromFloat != null;
+    }
+
+    /**
+     * Get the distance from a landmark to a vertex.
+     *
+     * @param landmark the landmark
+     * @param v the vertex
+     * @return the distance from the landmark to the vertex
+     * @throws IllegalArgumentException if {@code landmark} is not a landmark or {@code v} is not a
+     *         vertex of the graph
+     */
+    public double getDistanceFromLandmark(V landmark, V v)
+    {
+        return distance(fromFloat, fromDouble, landmark, v);
+    }
+
+    /**
+     * Get the distance from a vertex to a landmark.
+     *
+     * @param landmark the landmark
+     * @param v the vertex
+     * @return the distance from the vertex to the landmark
+     * @throws IllegalArgumentException if {@code landmark} is not a landmark or {@code v} is not a
+     *         vertex of the graph
+     */
+    public double getDistanceToLandmark(V landmark, V v)
+    {
+        return distance(toFloat, toDouble, landmark, v);
+    }
+
+    private double distance(float[] floats, double[] doubles, V landmark, V v)
+    {
+        Integer l = landmarkIndex.get(landmark);
+        if (l == null) {
+            throw new IllegalArgumentException("Not a landmark: " + landmark);
+        }
+        int pos = indexOf(v) * landmarks.size() + l;
+        return floats != null ? floats[pos] : doubles[pos];
+    }
+
+    private int indexOf(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex!");
+        }
+        return index;
+    }
+
+    /**
+     * Compute an admissible estimate of the distance from a vertex to another vertex.
+     *
+     * @param u the source vertex
+     * @param t the target vertex
+     * @return an admissible heuristic estimate
+     */
+    double getCostEstimate(V u, V t)
+    {
+        if (u.equals(t)) {
+            return 0d;
+        }
+        int k = landmarks.size();
+        int ui = indexOf(u);
+        int ti = indexOf(t);
+
+        /*
+         * Special case, source or target is landmark
+         */
+        Integer l = landmarkIndex.get(u);
+        if (l != null) {
+            return fromFloat != null ? lower(fromFloat[ti * k + l]) : fromDouble[ti * k + l];
+        }
+        l = landmarkIndex.get(t);
+        if (l != null) {
+            return toFloat != null ? lower(toFloat[ui * k + l]) : toDouble[ui * k + l];
+        }
+
+        /*
+         * Compute from landmarks
+         */
+        double maxEstimate = 0d;
+        int uo = ui * k;
+        int to = ti * k;
+        for (int i = 0; i < k; i++) {
+            double estimate;
+            if (fromFloat != null) {
+                estimate = Math.max(
+                    difference(toFloat[uo + i], toFloat[to + i]),
+                    difference(fromFloat[to + i], fromFloat[uo + i]));
+            } else {
+                estimate = Math.max(
+                    toDouble[uo + i] - toDouble[to + i], fromDouble[to + i] - fromDouble[uo + i]);
+            }
+
+            // max over all landmarks
+            if (Double.isFinite(estimate)) {
+                maxEstimate = Math.max(maxEstimate, estimate);
+            }
+        }
+        return maxEstimate;
+    }
+
+    /**
+     * Difference of two single precision distances, reduced by their maximum rounding error.
+     */
+    private static double difference(float a, float b)
+    {
+        return (double) a - b - Math.ulp(a) - Math.ulp(b);
+    }
+
+    /**
+     * A single precision distance, reduced by its maximum rounding error.
+     */
+    private static double lower(float a)
+    {
+        return Double.isFinite(a) ? Math.max(0d, a - Math.ulp(a)) : a;
+    }
+
+    /**
+     * Write the tables to a file.
+     *
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     */
+    public void write(Path file)
+        throws IOException
+    {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Write the tables to an output stream. The stream is not closed.
+     *
+     * @param out the output stream
+     * @throws IOException in case of an I/O error
+     */
+    public void write(OutputStream out)
+        throws IOException
+    {
+        DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(out));
+        dout.writeInt(MAGIC);
+        dout.writeInt(VERSION);
+        dout.writeBoolean(directed);
+        dout.writeBoolean(isSinglePrecision());
+        dout.writeInt(vertices.size());
+        dout.writeLong(checksum);
+        dout.writeInt(landmarks.size());
+        for (V l : landmarks) {
+            dout.writeInt(vertexIndex.get(l));
+        }
+        writeTable(dout, fromFloat, fromDouble);
+        if (directed) {
+            writeTable(dout, toFloat, toDouble);
+        }
+        dout.flush();
+    }
+
+    private static void writeTable(DataOutputStream out, float[] floats, double[] doubles)
+        throws IOException
+    {
+        if (floats != null) {
+            for (float f : floats) {
+                out.writeFloat(f);
+            }
+        } else {
+            for (double d : doubles) {
+                out.writeDouble(d);
+            }
+        }
+    }
+
+    /**
+     * Read tables from a file. The tables must have been written for the same graph, whose vertices
+     * and edges are iterated in the same order.
+     *
+     * @param graph the graph
+     * @param file the file
+     * @return the tables
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error or if the file does not contain valid tables
+     * @throws IllegalArgumentException if the tables were not written for the graph
+     */
+    public static <V, E> LandmarkTables<V> read(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        try (ReadableByteChannel channel = Files.newByteChannel(file)) {
+            return read(graph, channel);
+        }
+    }
+
+    /**
+     * Read tables from an input stream. The tables must have been written for the same graph,
+     * whose vertices and edges are iterated in the same order. The stream is not closed.
+     *
+     * @param graph the graph
+     * @param in the input stream
+     * @return the tables
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error or if the stream does not contain valid tables
+     * @throws IllegalArgumentException if the tables were not written for the graph
+     */
+    public static <V, E> LandmarkTables<V> read(Graph<V, E> graph, InputStream in)
+        throws IOException
+    {
+        return read(graph, Channels.newChannel(in));
+    }
+
+    private static <V, E> LandmarkTables<V> read(Graph<V, E> graph, ReadableByteChannel channel)
+        throws IOException
+    {
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> vertexIndex = createVertexIndex(vertices);
+        int n = vertices.size();
+
+        ByteBuffer header = ByteBuffer.allocate(4 + 4 + 1 + 1 + 4 + 8 + 4);
+        readFully(channel, header);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a landmark tables file");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        boolean directed = header.get() != 0;
+        boolean singlePrecision = header.get() != 0;
+        if (header.getInt() != n || header.getLong() != ContractionHierarchySerializer
+            .computeChecksum(graph, vertexIndex) || directed != graph.getType().isDirected())
+        {
+            throw new IllegalArgumentException("Tables were not computed for this graph");
+        }
+        int k = header.getInt();
+        if (k <= 0 || k > n || (long) k * n > Integer.MAX_VALUE) {
+            throw new IOException("Invalid number of landmarks " + k);
+        }
+
+        ByteBuffer landmarksBuffer = ByteBuffer.allocate(k * Integer.BYTES);
+        readFully(channel, landmarksBuffer);
+        List<V> landmarks = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            int index = landmarksBuffer.getInt();
+            if (index < 0 || index >= n) {
+                throw new IOException("Invalid landmark " + index);
+            }
+            landmarks.add(vertices.get(index));
+        }
+
+        int size = k * n;
+        float[] fromFloat = null, toFloat = null;
+        double[] fromDouble = null, toDouble = null;
+        if (singlePrecision) {
+            fromFloat = readFloats(channel, size);
+            toFloat = directed ? readFloats(channel, size) : null;
+        } else {
+            fromDouble = readDoubles(channel, size);
+            toDouble = directed ? readDoubles(channel, size) : null;
+        }
+        return new LandmarkTables<>(
+            vertices, vertexIndex, landmarks, directed,
+            ContractionHierarchySerializer.computeChecksum(graph, vertexIndex), fromFloat, toFloat,
+            fromDouble, toDouble);
+    }
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private static float[] readFloats(ReadableByteChannel channel, int size)
+        throws IOException
+    {
+        float[] values = new float[size];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE * Float.BYTES);
+        for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+            int count = Math.min(CHUNK_SIZE, size - offset);
+            buffer.clear().limit(count * Float.BYTES);
+            readFully(channel, buffer);
+            buffer.asFloatBuffer().get(values, offset, count);
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(ReadableByteChannel channel, int size)
+        throws IOException
+    {
+        double[] values = new double[size];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE * Double.BYTES);
+        for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+            int count = Math.min(CHUNK_SIZE, size - offset);
+            buffer.clear().limit(count * Double.BYTES);
+            readFully(channel, buffer);
+            buffer.asDoubleBuffer().get(values, offset, count);
+        }
+        return values;
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer)
+        throws IOException
+    {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of data");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static <V> Map<V, Integer> createVertexIndex(List<V> vertices)
+    {
+        Map<V, Integer> vertexIndex = CollectionUtil.newHashMapWithExpectedSize(vertices.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        return vertexIndex;
+    }
+
+    /**
+     * Landmark selection strategies, as described in: Andrew Goldberg and Chris Harrelson.
+     * Computing the shortest path: A* Search Meets Graph Theory. In Proceedings of the sixteenth
+     * annual ACM-SIAM symposium on Discrete algorithms (SODA' 05), 156--165, 2005, and Andrew
+     * Goldberg and Renato Werneck. Computing Point-to-Point Shortest Paths from External Memory. In
+     * Proceedings of the Seventh Workshop on Algorithm Engineering and Experiments (ALENEX'05),
+     * 26--40, 2005.
+     */
+    public enum Selection
+    {
+        /**
+         * Start from a random vertex and repeatedly select the vertex whose distance from the
+         * already selected landmarks is maximum.
+         */
+        FARTHEST,
+        /**
+         * Repeatedly grow a shortest path tree from a random vertex and select a leaf of the
+         * subtree whose vertices have the worst lower bounds with the already selected landmarks.
+         */
+        AVOID,
+        /**
+         * Split the plane into sectors around the vertex closest to the center of the layout and
+         * select the vertex farthest from the center in each sector. Requires vertex coordinates.
+         */
+        PLANAR
+    }
+
+    /**
+     * A builder of {@link LandmarkTables}.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static class Builder<V, E>
+    {
+        private final Graph<V, E> graph;
+        private List<V> landmarks;
+        private Selection selection;
+        private int numberOfLandmarks;
+        private Function<V, Point2D> coordinates;
+        private Random random;
+        private boolean singlePrecision;
+        private ThreadPoolExecutor executor;
+
+        /**
+         * Create a new builder.
+         *
+         * @param graph the graph
+         */
+        public Builder(Graph<V, E> graph)
+        {
+            this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+            this.random = new Random();
+        }
+
+        /**
+         * Use the given landmarks.
+         *
+         * @param landmarks the landmarks
+         * @return the builder
+         */
+        public Builder<V, E> landmarks(Collection<V> landmarks)
+        {
+            this.landmarks = new ArrayList<>(new LinkedHashSet<>(landmarks));
+            this.selection = null;
+            return this;
+        }
+
+        /**
+         * Select the landmarks automatically.
+         *
+         * @param selection the selection strategy
+         * @param numberOfLandmarks the number of landmarks
+         * @return the builder
+         */
+        public Builder<V, E> selection(Selection selection, int numberOfLandmarks)
+        {
+            this.selection = Objects.requireNonNull(selection);
+            this.numberOfLandmarks = numberOfLandmarks;
+            this.landmarks = null;
+            return this;
+        }
+
+        /**
+         * Set the vertex coordinates used by the {@link Selection#PLANAR} strategy.
+         *
+         * @param coordinates the vertex coordinates
+         * @return the builder
+         */
+        public Builder<V, E> coordinates(Function<V, Point2D> coordinates)
+        {
+            this.coordinates = coordinates;
+            return this;
+        }
+
+        /**
+         * Set the random number generator used by the selection strategies.
+         *
+         * @param random the random number generator
+         * @return the builder
+         */
+        public Builder<V, E> random(Random random)
+        {
+            this.random = Objects.requireNonNull(random);
+            return this;
+        }
+
+        /**
+         * Set whether the distances are stored in single precision.
+         *
+         * @param singlePrecision whether to store distances in single precision
+         * @return the builder
+         */
+        public Builder<V, E> singlePrecision(boolean singlePrecision)
+        {
+            this.singlePrecision = singlePrecision;
+            return this;
+        }
+
+        /**
+         * Set the executor used for computing the distances in parallel. It is up to a user of
+         * this builder to handle the creation and termination of the provided {@code executor}.
+         * For utility methods to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+         *
+         * @param executor the executor
+         * @return the builder
+         */
+        public Builder<V, E> executor(ThreadPoolExecutor executor)
+        {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Compute the tables.
+         *
+         * @return the tables
+         * @throws IllegalArgumentException if no landmarks are provided or selected
+         * @throws IllegalArgumentException if the graph contains edges with negative weights
+         */
+        public LandmarkTables<V> build()
+        {
+            return new TablesComputation<>(this).compute();
+        }
+    }
+
+    /**
+     * Computation of the tables.
+     */
+    private static class TablesComputation<V, E>
+    {
+        private final Builder<V, E> builder;
+        private final Graph<V, E> graph;
+        private final boolean directed;
+        private final int n;
+        private final List<V> vertices;
+        private final Map<V, Integer> vertexIndex;
+
+        /*
+         * Compressed sparse row representation of the outgoing edges, and for directed graphs of
+         * the incoming edges.
+         */
+        private final int[] outStart;
+        private final int[] outTarget;
+        private final double[] outWeight;
+        private final int[] inStart;
+        private final int[] inTarget;
+        private final double[] inWeight;
+
+        private final List<Integer> landmarks;
+        private int k;
+        private float[] fromFloat, toFloat;
+        private double[] fromDouble, toDouble;
+
+        /*
+         * Rows which have already been computed, two per landmark
+         */
+        private final BitSet computed;
+
+        TablesComputation(Builder<V, E> builder)
+        {
+            this.builder = builder;
+            this.graph = builder.graph;
+            if (graph.getType().isDirected()) {
+                this.directed = true;
+            } else if (graph.getType().isUndirected()) {
+                this.directed = false;
+            } else {
+                throw new IllegalArgumentException("Graph must be directed or undirected");
+            }
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            this.vertexIndex = createVertexIndex(vertices);
+            this.n = vertices.size();
+
+            Comparator<Double> comparator = new ToleranceDoubleComparator();
+            int m = 0;
+            for (E e : graph.edgeSet()) {
+                if (comparator.compare(graph.getEdgeWeight(e), 0d) < 0) {
+                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
+                }
+                m += directed ? 1 : 2;
+            }
+            this.outStart = new int[n + 1];
+            this.outTarget = new int[m];
+            this.outWeight = new double[m];
+            fill(outStart, outTarget, outWeight, false);
+            if (directed) {
+                this.inStart = new int[n + 1];
+                this.inTarget = new int[m];
+                this.inWeight = new double[m];
+                fill(inStart, inTarget, inWeight, true);
+            } else {
+                this.inStart = outStart;
+                this.inTarget = outTarget;
+                this.inWeight = outWeight;
+            }
+
+            this.landmarks = new ArrayList<>();
+            this.computed = new BitSet();
+        }
+
+        private void fill(int[] start, int[] target, double[] weight, boolean incoming)
+        {
+            int pos = 0;
+            for (int i = 0; i < n; i++) {
+                V v = vertices.get(i);
+                start[i] = pos;
+                for (E e : incoming ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v)) {
+                    target[pos] = vertexIndex.get(Graphs.getOppositeVertex(graph, e, v));
+                    weight[pos] = graph.getEdgeWeight(e);
+                    pos++;
+                }
+            }
+            start[n] = pos;
+        }
+
+        LandmarkTables<V> compute()
+        {
+            if (builder.selection == null) {
+                if (builder.landmarks == null || builder.landmarks.isEmpty()) {
+                    throw new IllegalArgumentException("At least one landmark must be provided");
+                }
+                for (V l : builder.landmarks) {
+                    Integer index = vertexIndex.get(l);
+                    if (index == null) {
+                        throw new IllegalArgumentException("Graph must contain the landmark!");
+                    }
+                    landmarks.add(index);
+                }
+                allocate(landmarks.size());
+            } else {
+                if (builder.numberOfLandmarks <= 0) {
+                    throw new IllegalArgumentException("At least one landmark must be selected");
+                }
+                if (n == 0) {
+                    throw new IllegalArgumentException("Graph must contain at least one vertex");
+                }
+                allocate(Math.min(builder.numberOfLandmarks, n));
+                switch (builder.selection) {
+                case FARTHEST:
+                    selectFarthest(new Search());
+                    break;
+                case AVOID:
+                    selectAvoid(new Search());
+                    break;
+                case PLANAR:
+                    selectPlanar(new Search());
+                    break;
+                }
+            }
+
+            computeRemainingRows();
+
+            List<V> landmarkVertices = new ArrayList<>(k);
+            for (int l : landmarks) {
+                landmarkVertices.add(vertices.get(l));
+            }
+            return new LandmarkTables<>(
+                vertices, vertexIndex, landmarkVertices, directed,
+                ContractionHierarchySerializer.computeChecksum(graph, vertexIndex), fromFloat,
+                toFloat, fromDouble, toDouble);
+        }
+
+        private void allocate(int k)
+        {
+            this.k = k;
+            if ((long) k * n > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many landmarks for the graph size");
+            }
+            if (builder.singlePrecision) {
+                fromFloat = new float[k * n];
+                toFloat = directed ? new float[k * n] : fromFloat;
+            } else {
+                fromDouble = new double[k * n];
+                toDouble = directed ? new double[k * n] : fromDouble;
+            }
+        }
+
+        /**
+         * Compute a row of the tables. Row $2i$ contains the distances from landmark $i$ and row
+         * $2i+1$ the distances to landmark $i$.
+         */
+        private void computeRow(int row, Search search)
+        {
+            if (!computed.get(row)) {
+                storeRow(row, search);
+                computed.set(row);
+            }
+        }
+
+        /**
+         * Same as {@link #computeRow(int, Search)} without checking or updating the computed
+         * rows. Different rows are stored in disjoint positions of the tables, thus this method can
+         * be called concurrently for different rows.
+         */
+        private void storeRow(int row, Search search)
+        {
+            int l = row / 2;
+            boolean incoming = row % 2 == 1;
+            search.run(landmarks.get(l), incoming);
+            float[] floats = incoming ? toFloat : fromFloat;
+            double[] doubles = incoming ? toDouble : fromDouble;
+            for (int v = 0, pos = l; v < n; v++, pos += k) {
+                if (floats != null) {
+                    floats[pos] = (float) search.dist[v];
+                } else {
+                    doubles[pos] = search.dist[v];
+                }
+            }
+        }
+
+        private double distance(float[] floats, double[] doubles, int l, int v)
+        {
+            return floats != null ? floats[v * k + l] : doubles[v * k + l];
+        }
+
+        private void computeRemainingRows()
+        {
+            List<Integer> rows = new ArrayList<>();
+            for (int row = 0; row < 2 * landmarks.size(); row++) {
+                if (!computed.get(row) && (directed || row % 2 == 0)) {
+                    rows.add(row);
+                }
+            }
+            if (builder.executor == null || rows.size() <= 1) {
+                Search search = new Search();
+                rows.forEach(row -> computeRow(row, search));
+                return;
+            }
+
+            int parallelism = Math.min(builder.executor.getMaximumPoolSize(), rows.size());
+            ExecutorCompletionService<Void> completionService =
+                new ExecutorCompletionService<>(builder.executor);
+            for (int taskId = 0; taskId < parallelism; taskId++) {
+                int id = taskId;
+                completionService.submit(() -> {
+                    Search search = new Search();
+                    for (int i = id; i < rows.size(); i += parallelism) {
+                        storeRow(rows.get(i), search);
+                    }
+                    return null;
+                });
+            }
+            RuntimeException failure = null;
+            for (int i = 0; i < parallelism; i++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RuntimeException)) {
+                        e.printStackTrace();
+                    } else if (failure == null) {
+                        failure = (RuntimeException) e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void selectFarthest(Search search)
+        {
+            // the vertex farthest from a random vertex is the first landmark
+            search.run(builder.random.nextInt(n), false);
+            double[] minDistance = new double[n];
+            Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+            addFarthest(search.dist, minDistance);
+
+            while (landmarks.size() < k) {
+                int l = landmarks.size() - 1;
+                computeRow(2 * l, search);
+                for (int v = 0; v < n; v++) {
+                    minDistance[v] =
+                        Math.min(minDistance[v], distance(fromFloat, fromDouble, l, v));
+                }
+                addFarthest(minDistance, minDistance);
+            }
+        }
+
+        /**
+         * Add as landmark the vertex with the maximum distance, preferring unreachable vertices.
+         */
+        private void addFarthest(double[] distance, double[] minDistance)
+        {
+            int best = -1;
+            for (int v = 0; v < n; v++) {
+                if (minDistance[v] > 0d && (best == -1 || distance[v] > distance[best])) {
+                    best = v;
+                }
+            }
+            if (best == -1) {
+                best = randomNonLandmark();
+            }
+            minDistance[best] = 0d;
+            landmarks.add(best);
+        }
+
+        private void selectAvoid(Search search)
+        {
+            Set<Integer> selected = new HashSet<>();
+            double[] size = new double[n];
+            int[] bestChild = new int[n];
+            boolean[] containsLandmark = new boolean[n];
+
+            while (landmarks.size() < k) {
+                int root = randomNonLandmark();
+                search.run(root, false);
+
+                // compute the sizes of the subtrees in reverse settle order
+                Arrays.fill(size, 0d);
+                Arrays.fill(bestChild, -1);
+                Arrays.fill(containsLandmark, false);
+                for (int i = search.settled - 1; i >= 0; i--) {
+                    int v = search.order[i];
+                    containsLandmark[v] |= selected.contains(v);
+                    if (containsLandmark[v]) {
+                        size[v] = 0d;
+                    } else {
+                        size[v] += search.dist[v] - lowerBound(root, v);
+                    }
+                    int p = search.pred[v];
+                    if (p != -1) {
+                        containsLandmark[p] |= containsLandmark[v];
+                        size[p] += size[v];
+                        if (bestChild[p] == -1 || size[v] > size[bestChild[p]]) {
+                            bestChild[p] = v;
+                        }
+                    }
+                }
+
+                // descend from the vertex with the maximum size to a leaf
+                int w = -1;
+                for (int i = 0; i < search.settled; i++) {
+                    int v = search.order[i];
+                    if (size[v] > 0d && (w == -1 || size[v] > size[w])) {
+                        w = v;
+                    }
+                }
+                if (w == -1) {
+                    w = randomNonLandmark();
+                } else {
+                    while (bestChild[w] != -1 && size[bestChild[w]] > 0d) {
+                        w = bestChild[w];
+                    }
+                }
+
+                int l = landmarks.size();
+                landmarks.add(w);
+                selected.add(w);
+                computeRow(2 * l, search);
+                if (directed) {
+                    computeRow(2 * l + 1, search);
+                }
+            }
+        }
+
+        /**
+         * Lower bound on the distance from vertex u to vertex v using the selected landmarks.
+         */
+        private double lowerBound(int u, int v)
+        {
+            double bound = 0d;
+            for (int l = 0; l < landmarks.size(); l++) {
+                double estimate = Math.max(
+                    distance(toFloat, toDouble, l, u) - distance(toFloat, toDouble, l, v),
+                    distance(fromFloat, fromDouble, l, v)
+                        - distance(fromFloat, fromDouble, l, u));
+                if (Double.isFinite(estimate)) {
+                    bound = Math.max(bound, estimate);
+                }
+            }
+            return bound;
+        }
+
+        private void selectPlanar(Search search)
+        {
+            Function<V, Point2D> coordinates = builder.coordinates;
+            if (coordinates == null) {
+                throw new IllegalArgumentException("Planar selection requires vertex coordinates");
+            }
+            double[] x = new double[n];
+            double[] y = new double[n];
+            double cx = 0d, cy = 0d;
+            for (int v = 0; v < n; v++) {
+                Point2D p = coordinates.apply(vertices.get(v));
+                x[v] = p.getX();
+                y[v] = p.getY();
+                cx += x[v] / n;
+                cy += y[v] / n;
+            }
+
+            // the vertex closest to the center
+            int center = 0;
+            for (int v = 1; v < n; v++) {
+                if (Math.hypot(x[v] - cx, y[v] - cy) < Math
+                    .hypot(x[center] - cx, y[center] - cy))
+                {
+                    center = v;
+                }
+            }
+            search.run(center, false);
+
+            // the farthest vertex in each sector
+            int[] farthest = new int[k];
+            Arrays.fill(farthest, -1);
+            for (int v = 0; v < n; v++) {
+                if (v == center || !Double.isFinite(search.dist[v])) {
+                    continue;
+                }
+                double angle = Math.atan2(y[v] - y[center], x[v] - x[center]) + Math.PI;
+                int sector = Math.min(k - 1, (int) (angle / (2 * Math.PI) * k));
+                if (farthest[sector] == -1 || search.dist[v] > search.dist[farthest[sector]]) {
+                    farthest[sector] = v;
+                }
+            }
+            for (int v : farthest) {
+                if (v != -1) {
+                    landmarks.add(v);
+                }
+            }
+
+            // fill empty sectors
+            while (landmarks.size() < k) {
+                landmarks.add(randomNonLandmark());
+            }
+        }
+
+        private int randomNonLandmark()
+        {
+            Set<Integer> selected = new HashSet<>(landmarks);
+            if (selected.size() >= n) {
+                throw new IllegalStateException("All vertices are landmarks");
+            }
+            int v;
+            do {
+                v = builder.random.nextInt(n);
+            } while (selected.contains(v));
+            return v;
+        }
+
+        /**
+         * Dijkstra search over the compressed sparse row representation with an indexed binary
+         * heap.
+         */
+        private class Search
+        {
+            final double[] dist = new double[n];
+            final int[] pred = new int[n];
+            final int[] order = new int[n];
+            int settled;
+
+            private final int[] heap = new int[n];
+            private final int[] position = new int[n];
+            private int heapSize;
+
+            void run(int source, boolean incoming)
+            {
+                int[] start = incoming ? inStart : outStart;
+                int[] target = incoming ? inTarget : outTarget;
+                double[] weight = incoming ? inWeight : outWeight;
+
+                Arrays.fill(dist, Double.POSITIVE_INFINITY);
+                Arrays.fill(pred, -1);
+                Arrays.fill(position, -1);
+                settled = 0;
+                heapSize = 0;
+
+                dist[source] = 0d;
+                insert(source);
+                while (heapSize > 0) {
+                    int v = deleteMin();
+                    order[settled++] = v;
+                    double d = dist[v];
+                    for (int j = start[v], end = start[v + 1]; j < end; j++) {
+                        int w = target[j];
+                        double nd = d + weight[j];
+                        if (nd < dist[w]) {
+                            if (position[w] == -2) {
+                                // zero weight edges between settled vertices
+                                continue;
+                            }
+                            dist[w] = nd;
+                            pred[w] = v;
+                            if (position[w] == -1) {
+                                insert(w);
+                            } else {
+                                siftUp(position[w]);
+                            }
+                        }
+                    }
+                }
+            }
+
+            private void insert(int v)
+            {
+                heap[heapSize] = v;
+                position[v] = heapSize;
+                siftUp(heapSize++);
+            }
+
+            private int deleteMin()
+            {
+                int min = heap[0];
+                position[min] = -2;
+                int last = heap[--heapSize];
+                if (heapSize > 0) {
+                    heap[0] = last;
+                    position[last] = 0;
+                    siftDown(0);
+                }
+                return min;
+            }
+
+            private void siftUp(int i)
+            {
+                int v = heap[i];
+                double d = dist[v];
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    int p = heap[parent];
+                    if (dist[p] <= d) {
+                        break;
+                    }
+                    heap[i] = p;
+                    position[p] = i;
+                    i = parent;
+                }
+                heap[i] = v;
+                position[v] = i;
+            }
+
+            private void siftDown(int i)
+            {
+                int v = heap[i];
+                double d = dist[v];
+                int half = heapSize >>> 1;
+                while (i < half) {
+                    int child = 2 * i + 1;
+                    int right = child + 1;
+                    if (right < heapSize && dist[heap[right]] < dist[heap[child]]) {
+                        child = right;
+                    }
+                    if (d <= dist[heap[child]]) {
+                        break;
+                    }
+                    heap[i] = heap[child];
+                    position[heap[i]] = i;
+                    i = child;
+                }
+                heap[i] = v;
+                position[v] = i;
+            }
+        }
+    }
+}
@@ -0,0 +1,762 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Lazy variant of Yen's algorithm which is used by {@link YenShortestPathIterator} when an executor
+ * is supplied.
+ *
+ * <p>
+ * The graph is copied into an int-indexed compressed sparse row representation and the distance of
+ * every vertex to the sink is computed once. When a path is added to the result list, its spur
+ * paths are not computed right away. Instead, each spur vertex is inserted into the candidates heap
+ * with a lower bound on the weight of its spur candidate: the weight of the root path plus the
+ * minimum, over the outgoing edges which are not blocked, of the edge weight and the distance of
+ * its target to the sink. A spur path is computed only when its lower bound reaches the top of the
+ * heap. Spur vertices whose candidates would never be returned are therefore never searched. Up to
+ * one spur vertex per thread is taken from the top of the heap and searched concurrently.
+ *
+ * <p>
+ * Each spur search is an A* search towards the sink using the exact distances to the sink in the
+ * whole graph as a consistent heuristic. The vertices of the root path and the edges of the paths
+ * sharing the root path are blocked using bitsets of a per-thread workspace, instead of a masked
+ * view of the graph.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+class LazyYenShortestPathIterator<V, E>
+    implements Iterator<GraphPath<V, E>>
+{
+    private final Graph<V, E> graph;
+    private final V source;
+    private final V sink;
+    private final PathValidator<V, E> pathValidator;
+    private final ThreadPoolExecutor executor;
+    private final int parallelism;
+
+    private List<V> vertices;
+    private List<E> edges;
+    private double[] weights;
+    private int sinkIndex;
+
+    /*
+     * Outgoing adjacency in compressed sparse row format. The edges leaving vertex v are stored in
+     * positions [outStart[v], outStart[v+1]).
+     */
+    private int[] outStart;
+    private int[] outEdge;
+    private int[] outTarget;
+
+    /*
+     * Distance of each vertex to the sink and the first edge and vertex of a shortest path to the
+     * sink.
+     */
+    private double[] toSink;
+    private int[] toSinkEdge;
+    private int[] toSinkVertex;
+
+    private final List<PathRecord> resultList;
+    private final PriorityQueue<Candidate> candidates;
+    private long nextSequence;
+    private List<Workspace> workspaces;
+    private boolean initialized;
+
+    /**
+     * Constructs a new iterator.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param pathValidator validator for computed paths, can be null
+     * @param executor executor for the spur searches, can be null
+     */
+    LazyYenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink, PathValidator<V, E> pathValidator,
+        ThreadPoolExecutor executor)
+    {
+        this.graph = graph;
+        this.source = source;
+        this.sink = sink;
+        this.pathValidator = pathValidator;
+        this.executor = executor;
+        this.parallelism = executor == null ? 1 : Math.max(1, executor.getMaximumPoolSize());
+        this.resultList = new ArrayList<>();
+        this.candidates = new PriorityQueue<>(
+            Comparator.<Candidate> comparingDouble(c -> c.key).thenComparingLong(c -> c.sequence));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext()
+    {
+        lazyInitialize();
+
+        while (!candidates.isEmpty()) {
+            Candidate top = candidates.peek();
+            if (top.path == null) {
+                List<Candidate> batch = new ArrayList<>(parallelism);
+                while (batch.size() < parallelism && !candidates.isEmpty()
+                    && candidates.peek().path == null)
+                {
+                    batch.add(candidates.poll());
+                }
+                resolve(batch);
+            } else if (top.path.valid) {
+                return true;
+            } else {
+                // invalid paths are kept since valid paths can deviate from them
+                candidates.poll();
+                addResult(top.path);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PathRecord path = candidates.poll().path;
+        addResult(path);
+        return path.graphPath;
+    }
+
+    /**
+     * Copy the graph, compute the distances to the sink and insert the shortest path.
+     */
+    private void lazyInitialize()
+    {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        int n = graph.vertexSet().size();
+        vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        edges = new ArrayList<>(graph.edgeSet());
+        int m = edges.size();
+        weights = new double[m];
+        Map<E, Integer> edgeIndex = new HashMap<>();
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            edgeIndex.put(e, i);
+            weights[i] = graph.getEdgeWeight(e);
+        }
+        sinkIndex = vertexIndex.get(sink);
+
+        // self-loops never belong to a loopless path
+        outStart = new int[n + 1];
+        int[] inStart = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            outStart[v + 1] = outStart[v];
+            for (E e : graph.outgoingEdgesOf(vertex)) {
+                if (!Graphs.getOppositeVertex(graph, e, vertex).equals(vertex)) {
+                    outStart[v + 1]++;
+                }
+            }
+            inStart[v + 1] = inStart[v];
+            for (E e : graph.incomingEdgesOf(vertex)) {
+                if (!Graphs.getOppositeVertex(graph, e, vertex).equals(vertex)) {
+                    inStart[v + 1]++;
+                }
+            }
+        }
+        outEdge = new int[outStart[n]];
+        outTarget = new int[outStart[n]];
+        int[] inEdge = new int[inStart[n]];
+        int[] inSource = new int[inStart[n]];
+        for (int v = 0; v < n; v++) {
+            V vertex = vertices.get(v);
+            int pos = outStart[v];
+            for (E e : graph.outgoingEdgesOf(vertex)) {
+                V target = Graphs.getOppositeVertex(graph, e, vertex);
+                if (!target.equals(vertex)) {
+                    outEdge[pos] = edgeIndex.get(e);
+                    outTarget[pos++] = vertexIndex.get(target);
+                }
+            }
+            pos = inStart[v];
+            for (E e : graph.incomingEdgesOf(vertex)) {
+                V other = Graphs.getOppositeVertex(graph, e, vertex);
+                if (!other.equals(vertex)) {
+                    inEdge[pos] = edgeIndex.get(e);
+                    inSource[pos++] = vertexIndex.get(other);
+                }
+            }
+        }
+
+        workspaces = new ArrayList<>(parallelism);
+        workspaces.add(new Workspace());
+        computeDistancesToSink(inStart, inEdge, inSource);
+
+        int s = vertexIndex.get(source);
+        if (toSink[s] == Double.POSITIVE_INFINITY) {
+            return;
+        }
+        IntArray pathVertices = new IntArray();
+        IntArray pathEdges = new IntArray();
+        pathVertices.add(s);
+        for (int v = s; v != sinkIndex;) {
+            pathEdges.add(toSinkEdge[v]);
+            v = toSinkVertex[v];
+            pathVertices.add(v);
+        }
+        insertComplete(createPath(pathVertices.toArray(), pathEdges.toArray(), toSink[s], 0));
+    }
+
+    /**
+     * Run Dijkstra from the sink on the reversed graph.
+     */
+    private void computeDistancesToSink(int[] inStart, int[] inEdge, int[] inSource)
+    {
+        int n = vertices.size();
+        toSink = new double[n];
+        toSinkEdge = new int[n];
+        toSinkVertex = new int[n];
+        Arrays.fill(toSink, Double.POSITIVE_INFINITY);
+
+        IndexedHeap heap = workspaces.get(0).heap;
+        toSink[sinkIndex] = 0d;
+        heap.insert(sinkIndex, 0d);
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            double d = toSink[v];
+            for (int j = inStart[v], end = inStart[v + 1]; j < end; j++) {
+                int u = inSource[j];
+                double nd = d + weights[inEdge[j]];
+                if (nd < toSink[u]) {
+                    toSink[u] = nd;
+                    toSinkEdge[u] = inEdge[j];
+                    toSinkVertex[u] = v;
+                    heap.insertOrDecrease(u, nd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a path to the result list and insert a lazy candidate for each of its spur vertices.
+     */
+    private void addResult(PathRecord path)
+    {
+        resultList.add(path);
+        int resultCount = resultList.size();
+        int last = Math.min(path.lastDeviation, path.vertices.length - 2);
+        if (path.deviation > last) {
+            return;
+        }
+
+        Workspace ws = workspaces.get(0);
+        double rootWeight = 0d;
+        for (int i = 0; i < path.deviation; i++) {
+            rootWeight += weights[path.edges[i]];
+        }
+        for (int i = path.deviation; i <= last; i++) {
+            ws.block(path, i, resultCount);
+
+            // lower bound using the first edge of the spur path
+            int u = path.vertices[i];
+            double bound = Double.POSITIVE_INFINITY;
+            for (int j = outStart[u], end = outStart[u + 1]; j < end; j++) {
+                int w = outTarget[j];
+                if (!ws.isBlockedVertex(w) && !ws.isBlockedEdge(outEdge[j])) {
+                    bound = Math.min(bound, weights[outEdge[j]] + toSink[w]);
+                }
+            }
+            ws.unblock(path, i, resultCount);
+
+            if (bound < Double.POSITIVE_INFINITY) {
+                candidates.add(new Candidate(
+                    rootWeight + bound, nextSequence++, path, i, rootWeight, resultCount, null));
+            }
+            rootWeight += weights[path.edges[i]];
+        }
+    }
+
+    /**
+     * Compute the spur paths of a batch of lazy candidates and insert the complete candidates.
+     */
+    private void resolve(List<Candidate> batch)
+    {
+        int size = batch.size();
+        AtomicReferenceArray<PathRecord> paths = new AtomicReferenceArray<>(size);
+
+        int tasks = executor == null ? 1 : Math.min(size, parallelism);
+        if (tasks == 1) {
+            for (int i = 0; i < size; i++) {
+                paths.set(i, computeSpurPath(workspaces.get(0), batch.get(i)));
+            }
+        } else {
+            AtomicInteger next = new AtomicInteger();
+            ExecutorCompletionService<Void> completionService =
+                new ExecutorCompletionService<>(executor);
+            for (int t = 0; t < tasks; t++) {
+                if (workspaces.size() == t) {
+                    workspaces.add(new Workspace());
+                }
+                Workspace ws = workspaces.get(t);
+                completionService.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < size) {
+                        paths.set(i, computeSpurPath(ws, batch.get(i)));
+                    }
+                    return null;
+                });
+            }
+
+            RuntimeException failure = null;
+            for (int t = 0; t < tasks; t++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RuntimeException)) {
+                        e.printStackTrace();
+                    } else if (failure == null) {
+                        failure = (RuntimeException) e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        // validation happens in the calling thread
+        for (int i = 0; i < size; i++) {
+            PathRecord path = paths.get(i);
+            if (path != null) {
+                validate(path);
+                insertComplete(path);
+            }
+        }
+    }
+
+    /**
+     * Compute the spur path of a lazy candidate and build the candidate path.
+     *
+     * @return the candidate path or null if there is no spur path
+     */
+    private PathRecord computeSpurPath(Workspace ws, Candidate candidate)
+    {
+        PathRecord parent = candidate.parent;
+        int i = candidate.spurIndex;
+
+        ws.block(parent, i, candidate.resultCount);
+        double spurWeight = ws.search(parent.vertices[i]);
+        ws.unblock(parent, i, candidate.resultCount);
+        if (spurWeight == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+
+        int spurLength = 0;
+        for (int v = sinkIndex; v != parent.vertices[i]; v = ws.predVertex[v]) {
+            spurLength++;
+        }
+        int[] pathVertices = Arrays.copyOf(parent.vertices, i + 1 + spurLength);
+        int[] pathEdges = Arrays.copyOf(parent.edges, i + spurLength);
+        int pos = i + spurLength;
+        for (int v = sinkIndex; v != parent.vertices[i]; v = ws.predVertex[v]) {
+            pathVertices[pos] = v;
+            pathEdges[--pos] = ws.predEdge[v];
+        }
+        return new PathRecord(pathVertices, pathEdges, candidate.rootWeight + spurWeight, i);
+    }
+
+    /**
+     * Create a path and validate it.
+     */
+    private PathRecord createPath(int[] pathVertices, int[] pathEdges, double weight, int deviation)
+    {
+        PathRecord path = new PathRecord(pathVertices, pathEdges, weight, deviation);
+        validate(path);
+        return path;
+    }
+
+    /**
+     * Create the graph path of a candidate and find the first edge, starting at the deviation
+     * vertex, which fails the validation.
+     */
+    private void validate(PathRecord path)
+    {
+        List<V> vertexList = new ArrayList<>(path.vertices.length);
+        for (int v : path.vertices) {
+            vertexList.add(vertices.get(v));
+        }
+        List<E> edgeList = new ArrayList<>(path.edges.length);
+        for (int e : path.edges) {
+            edgeList.add(edges.get(e));
+        }
+        path.graphPath = new GraphWalk<>(graph, source, sink, vertexList, edgeList, path.weight);
+
+        path.lastDeviation = Integer.MAX_VALUE;
+        path.valid = true;
+        if (pathValidator == null) {
+            return;
+        }
+        double partialPathWeight = 0d;
+        for (int i = 0; i < path.deviation; i++) {
+            partialPathWeight += weights[path.edges[i]];
+        }
+        for (int i = path.deviation; i < edgeList.size(); i++) {
+            GraphPath<V, E> partialPath = new GraphWalk<>(
+                graph, source, vertexList.get(i), vertexList.subList(0, i + 1),
+                edgeList.subList(0, i), partialPathWeight);
+            E edge = edgeList.get(i);
+            if (!pathValidator.isValidPath(partialPath, edge)) {
+                path.lastDeviation = i;
+                path.valid = false;
+                return;
+            }
+            partialPathWeight += weights[path.edges[i]];
+        }
+    }
+
+    private void insertComplete(PathRecord path)
+    {
+        candidates.add(new Candidate(path.weight, nextSequence++, null, -1, 0d, 0, path));
+    }
+
+    /**
+     * A path of the result list or a complete candidate.
+     */
+    private class PathRecord
+    {
+        final int[] vertices;
+        final int[] edges;
+        final double weight;
+        // index of the vertex where the path deviates from its parent
+        final int deviation;
+        // index of the last vertex from which deviations can produce valid paths
+        int lastDeviation;
+        boolean valid;
+        GraphPath<V, E> graphPath;
+
+        PathRecord(int[] vertices, int[] edges, double weight, int deviation)
+        {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.weight = weight;
+            this.deviation = deviation;
+        }
+    }
+
+    /**
+     * An entry of the candidates heap. A lazy candidate has no path and its key is a lower bound on
+     * the weight of the path which deviates from its parent at the spur index.
+     */
+    private class Candidate
+    {
+        final double key;
+        final long sequence;
+        final PathRecord parent;
+        final int spurIndex;
+        final double rootWeight;
+        // number of paths in the result list when the parent was added
+        final int resultCount;
+        final PathRecord path;
+
+        Candidate(
+            double key, long sequence, PathRecord parent, int spurIndex, double rootWeight,
+            int resultCount, PathRecord path)
+        {
+            this.key = key;
+            this.sequence = sequence;
+            this.parent = parent;
+            this.spurIndex = spurIndex;
+            this.rootWeight = rootWeight;
+            this.resultCount = resultCount;
+            this.path = path;
+        }
+    }
+
+    /**
+     * Per-thread state of the spur searches.
+     */
+    private class Workspace
+    {
+        final long[] blockedVertices;
+        final long[] blockedEdges;
+        final double[] dist;
+        final int[] predVertex;
+        final int[] predEdge;
+        final int[] stamp;
+        int epoch;
+        final IndexedHeap heap;
+
+        Workspace()
+        {
+            int n = vertices.size();
+            blockedVertices = new long[(n + 63) >>> 6];
+            blockedEdges = new long[(edges.size() + 63) >>> 6];
+            dist = new double[n];
+            predVertex = new int[n];
+            predEdge = new int[n];
+            stamp = new int[n];
+            heap = new IndexedHeap(n);
+        }
+
+        boolean isBlockedVertex(int v)
+        {
+            return (blockedVertices[v >>> 6] & (1L << v)) != 0L;
+        }
+
+        boolean isBlockedEdge(int e)
+        {
+            return (blockedEdges[e >>> 6] & (1L << e)) != 0L;
+        }
+
+        /**
+         * Block the root path before the spur index and the edges leaving the spur vertex which
+         * belong to paths of the result list sharing the same root path.
+         */
+        void block(PathRecord path, int spurIndex, int resultCount)
+        {
+            setBits(path, spurIndex, resultCount, true);
+        }
+
+        void unblock(PathRecord path, int spurIndex, int resultCount)
+        {
+            setBits(path, spurIndex, resultCount, false);
+        }
+
+        private void setBits(PathRecord path, int spurIndex, int resultCount, boolean value)
+        {
+            for (int i = 0; i < spurIndex; i++) {
+                int v = path.vertices[i];
+                if (value) {
+                    blockedVertices[v >>> 6] |= 1L << v;
+                } else {
+                    blockedVertices[v >>> 6] &= ~(1L << v);
+                }
+            }
+            for (int r = 0; r < resultCount; r++) {
+                PathRecord other = resultList.get(r);
+                if (other.edges.length > spurIndex && Arrays.equals(
+                    path.vertices, 0, spurIndex + 1, other.vertices, 0, spurIndex + 1))
+                {
+                    int e = other.edges[spurIndex];
+                    if (value) {
+                        blockedEdges[e >>> 6] |= 1L << e;
+                    } else {
+                        blockedEdges[e >>> 6] &= ~(1L << e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * A* search from a spur vertex to the sink avoiding the blocked vertices and edges.
+         *
+         * @return the distance to the sink
+         */
+        double search(int spur)
+        {
+            if (++epoch == 0) {
+                Arrays.fill(stamp, 0);
+                epoch = 1;
+            }
+            heap.clear();
+            stamp[spur] = epoch;
+            dist[spur] = 0d;
+            heap.insert(spur, toSink[spur]);
+
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin();
+                if (v == sinkIndex) {
+                    return dist[v];
+                }
+                double d = dist[v];
+                for (int j = outStart[v], end = outStart[v + 1]; j < end; j++) {
+                    int w = outTarget[j];
+                    int e = outEdge[j];
+                    if (toSink[w] == Double.POSITIVE_INFINITY || isBlockedVertex(w)
+                        || isBlockedEdge(e))
+                    {
+                        continue;
+                    }
+                    double nd = d + weights[e];
+                    if (stamp[w] != epoch) {
+                        stamp[w] = epoch;
+                    } else if (nd >= dist[w]) {
+                        // also covers settled vertices since the heuristic is consistent
+                        continue;
+                    }
+                    dist[w] = nd;
+                    predVertex[w] = v;
+                    predEdge[w] = e;
+                    heap.insertOrDecrease(w, nd + toSink[w]);
+                }
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * A binary min-heap of vertices with double keys supporting decrease-key.
+     */
+    private static class IndexedHeap
+    {
+        private final int[] heap;
+        private final double[] keys;
+        // position of each vertex in the heap, -1 if not contained
+        private final int[] position;
+        private int size;
+
+        IndexedHeap(int n)
+        {
+            heap = new int[n];
+            keys = new double[n];
+            position = new int[n];
+            Arrays.fill(position, -1);
+        }
+
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        void clear()
+        {
+            for (int i = 0; i < size; i++) {
+                position[heap[i]] = -1;
+            }
+            size = 0;
+        }
+
+        void insert(int v, double key)
+        {
+            heap[size] = v;
+            position[v] = size;
+            keys[size] = key;
+            siftUp(size++);
+        }
+
+        void insertOrDecrease(int v, double key)
+        {
+            int i = position[v];
+            if (i < 0) {
+                insert(v, key);
+            } else if (key < keys[i]) {
+                keys[i] = key;
+                siftUp(i);
+            }
+        }
+
+        int deleteMin()
+        {
+            int min = heap[0];
+            position[min] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                keys[0] = keys[size];
+                position[heap[0]] = 0;
+                siftDown(0);
+            }
+            return min;
+        }
+
+        private void siftUp(int i)
+        {
+            int v = heap[i];
+            double key = keys[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                keys[i] = keys[parent];
+                position[heap[i]] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            keys[i] = key;
+            position[v] = i;
+        }
+
+        private void siftDown(int i)
+        {
+            int v = heap[i];
+            double key = keys[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                keys[i] = keys[child];
+                position[heap[i]] = i;
+                i = child;
+            }
+            heap[i] = v;
+            keys[i] = key;
+            position[v] = i;
+        }
+    }
+
+    /**
+     * A growable array of ints.
+     */
+    private static class IntArray
+    {
+        private int[] data = new int[16];
+        private int size;
+
+        void add(int value)
+        {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, 2 * size);
+            }
+            data[size++] = value;
+        }
+
+        int[] toArray()
+        {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
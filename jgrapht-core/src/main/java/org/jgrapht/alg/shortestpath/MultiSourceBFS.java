@@ -0,0 +1,362 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Multi-source breadth-first search which computes hop distances from up to 64 sources at once.
+ *
+ * <p>
+ * The algorithm is described in the paper: Manuel Then, Moritz Kaufmann, Fernando Chirigati,
+ * Tuan-Anh Hoang-Vu, Kien Pham, Alfons Kemper, Thomas Neumann and Huy T. Vo. The More the Merrier:
+ * Efficient Multi-Source Graph Traversal. Proceedings of the VLDB Endowment, 8(4):449–460, 2014.
+ *
+ * <p>
+ * The sources are processed in batches of {@link #BATCH_SIZE}. Each vertex keeps two {@code long}
+ * bitsets, one with the sources of the batch which have already reached it and one with the
+ * sources which reached it in the current level. A level is expanded by propagating the second
+ * bitset of each frontier vertex to its neighbors using a bitwise or. Thus each edge is scanned
+ * once per level for all the sources of the batch, instead of once per source. All-pairs hop
+ * distances are computed in $O(\lceil n/64 \rceil (n + m) D)$ time in the worst case, where $D$ is
+ * the diameter, but usually much faster since each edge is scanned only when its source is part of
+ * the frontier.
+ *
+ * <p>
+ * The graph is copied during construction into an int-indexed compressed sparse row
+ * representation, thus later modifications of the graph are not reflected. Edge weights are
+ * ignored and every edge counts as one hop. Self-loops and multiple edges are allowed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public final class MultiSourceBFS<V, E>
+{
+    /**
+     * The number of sources which are traversed at once.
+     */
+    public static final int BATCH_SIZE = Long.SIZE;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+
+    /*
+     * Adjacency in compressed sparse row format. The neighbors of vertex v are stored in positions
+     * [start[v], start[v+1]).
+     */
+    private final int[] start;
+    private final int[] adjacent;
+
+    /**
+     * Create a new instance which traverses the outgoing edges of the graph.
+     *
+     * @param graph the input graph
+     */
+    public MultiSourceBFS(Graph<V, E> graph)
+    {
+        this(graph, false);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param incoming if true the incoming edges of directed graphs are traversed (distances are
+     *        computed towards the sources), otherwise the outgoing edges
+     */
+    public MultiSourceBFS(Graph<V, E> graph, boolean incoming)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        boolean reverse = incoming && graph.getType().isDirected();
+
+        int n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        int m = 0;
+        for (V v : vertices) {
+            m += reverse ? graph.inDegreeOf(v) : graph.outDegreeOf(v);
+        }
+        this.start = new int[n + 1];
+        int[] neighbors = new int[m];
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            start[i] = pos;
+            for (E e : reverse ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v)) {
+                neighbors[pos++] = vertexIndex.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+        }
+        start[n] = pos;
+        this.adjacent = pos == m ? neighbors : Arrays.copyOf(neighbors, pos);
+    }
+
+    /**
+     * Get the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVertexCount()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Get the index of a vertex. Indices are in the range $[0, n)$.
+     *
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not part of the graph
+     */
+    public int getVertexIndex(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex!");
+        }
+        return index;
+    }
+
+    /**
+     * Get the vertex with a given index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Traverse the graph from the given sources. For each source $s$ and each vertex $v$ reachable
+     * from $s$ the visitor is notified exactly once, when $v$ is reached for the first time. Sources
+     * of the same batch which reach a vertex in the same level are reported together in one call.
+     * The calls for a batch happen in order of non-decreasing distance.
+     *
+     * @param sources the indices of the sources
+     * @param visitor the visitor
+     */
+    public void traverse(int[] sources, Visitor visitor)
+    {
+        int n = vertices.size();
+        long[] seen = new long[n];
+        long[] visit = new long[n];
+        long[] visitNext = new long[n];
+        int[] frontier = new int[n];
+        int[] nextFrontier = new int[n];
+
+        for (int offset = 0; offset < sources.length; offset += BATCH_SIZE) {
+            int batchEnd = Math.min(sources.length, offset + BATCH_SIZE);
+
+            int frontierSize = 0;
+            for (int i = offset; i < batchEnd; i++) {
+                int s = sources[i];
+                long bit = 1L << (i - offset);
+                if (visit[s] == 0L) {
+                    frontier[frontierSize++] = s;
+                }
+                seen[s] |= bit;
+                visit[s] |= bit;
+            }
+            for (int i = 0; i < frontierSize; i++) {
+                int s = frontier[i];
+                visitor.visit(offset, s, 0, visit[s]);
+            }
+
+            int distance = 0;
+            while (frontierSize > 0) {
+                distance++;
+
+                // propagate the sources of each frontier vertex to its neighbors
+                int nextFrontierSize = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    int v = frontier[i];
+                    long bits = visit[v];
+                    visit[v] = 0L;
+                    for (int j = start[v], end = start[v + 1]; j < end; j++) {
+                        int w = adjacent[j];
+                        long newBits = bits & ~seen[w];
+                        if (newBits != 0L) {
+                            if (visitNext[w] == 0L) {
+                                nextFrontier[nextFrontierSize++] = w;
+                            }
+                            visitNext[w] |= newBits;
+                        }
+                    }
+                }
+
+                // mark as seen and report
+                for (int i = 0; i < nextFrontierSize; i++) {
+                    int w = nextFrontier[i];
+                    long newBits = visitNext[w];
+                    seen[w] |= newBits;
+                    visit[w] = newBits;
+                    visitNext[w] = 0L;
+                    visitor.visit(offset, w, distance, newBits);
+                }
+
+                int[] tmp = frontier;
+                frontier = nextFrontier;
+                nextFrontier = tmp;
+                frontierSize = nextFrontierSize;
+            }
+
+            Arrays.fill(seen, 0L);
+        }
+    }
+
+    /**
+     * Compute distance statistics using all vertices as sources.
+     *
+     * @return the distance statistics
+     */
+    public DistanceStatistics getDistanceStatistics()
+    {
+        int n = vertices.size();
+        int[] sources = new int[n];
+        for (int i = 0; i < n; i++) {
+            sources[i] = i;
+        }
+
+        int[] eccentricity = new int[n];
+        long[] distanceSum = new long[n];
+        double[] inverseDistanceSum = new double[n];
+        int[] reached = new int[n];
+
+        traverse(sources, (offset, vertex, distance, bits) -> {
+            double inverse = distance == 0 ? 0d : 1d / distance;
+            while (bits != 0L) {
+                int s = offset + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                eccentricity[s] = distance;
+                distanceSum[s] += distance;
+                inverseDistanceSum[s] += inverse;
+                reached[s]++;
+            }
+        });
+
+        return new DistanceStatistics(eccentricity, distanceSum, inverseDistanceSum, reached);
+    }
+
+    /**
+     * A visitor of a multi-source breadth-first search.
+     */
+    @FunctionalInterface
+    public interface Visitor
+    {
+        /**
+         * Called when a vertex is reached for the first time by some sources of a batch.
+         *
+         * @param offset the position of the first source of the batch in the sources array. Bit
+         *        $i$ of {@code sources} corresponds to the source at position $offset + i$.
+         * @param vertex the index of the vertex
+         * @param distance the distance of the vertex from the sources
+         * @param sources the sources of the batch reaching the vertex
+         */
+        void visit(int offset, int vertex, int distance, long sources);
+    }
+
+    /**
+     * Distance statistics of each vertex as a source.
+     */
+    public final class DistanceStatistics
+    {
+        private final int[] eccentricity;
+        private final long[] distanceSum;
+        private final double[] inverseDistanceSum;
+        private final int[] reached;
+
+        private DistanceStatistics(
+            int[] eccentricity, long[] distanceSum, double[] inverseDistanceSum, int[] reached)
+        {
+            this.eccentricity = eccentricity;
+            this.distanceSum = distanceSum;
+            this.inverseDistanceSum = inverseDistanceSum;
+            this.reached = reached;
+        }
+
+        /**
+         * Get the maximum distance from a vertex, or {@link Double#POSITIVE_INFINITY} if some
+         * vertex is not reachable.
+         *
+         * @param v the vertex
+         * @return the eccentricity of the vertex
+         */
+        public double getEccentricity(V v)
+        {
+            int i = getVertexIndex(v);
+            return reached[i] < vertices.size() ? Double.POSITIVE_INFINITY : eccentricity[i];
+        }
+
+        /**
+         * Get the maximum distance from a vertex to the vertices reachable from it.
+         *
+         * @param v the vertex
+         * @return the maximum distance to a reachable vertex
+         */
+        public int getReachableEccentricity(V v)
+        {
+            return eccentricity[getVertexIndex(v)];
+        }
+
+        /**
+         * Get the sum of the distances from a vertex, or {@link Double#POSITIVE_INFINITY} if some
+         * vertex is not reachable.
+         *
+         * @param v the vertex
+         * @return the sum of distances
+         */
+        public double getDistanceSum(V v)
+        {
+            int i = getVertexIndex(v);
+            return reached[i] < vertices.size() ? Double.POSITIVE_INFINITY : distanceSum[i];
+        }
+
+        /**
+         * Get the sum of the inverse distances from a vertex to all other vertices. Unreachable
+         * vertices contribute zero.
+         *
+         * @param v the vertex
+         * @return the sum of inverse distances
+         */
+        public double getInverseDistanceSum(V v)
+        {
+            return inverseDistanceSum[getVertexIndex(v)];
+        }
+
+        /**
+         * Get the number of vertices reachable from a vertex, including the vertex itself.
+         *
+         * @param v the vertex
+         * @return the number of reachable vertices
+         */
+        public int getReachableCount(V v)
+        {
+            return reached[getVertexIndex(v)];
+        }
+    }
+
+}
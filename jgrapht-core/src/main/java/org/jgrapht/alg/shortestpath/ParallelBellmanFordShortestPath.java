@@ -0,0 +1,462 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * A parallel variant of the Bellman-Ford algorithm.
+ *
+ * <p>
+ * Computes shortest paths from a single source vertex to all other vertices in a weighted graph
+ * which may contain negative edge weights. The algorithm proceeds in rounds. Each round relaxes
+ * only the outgoing edges of the vertices whose distance changed in the previous round (the
+ * frontier), similarly to the queue based variant of the algorithm known as SPFA. The frontier is
+ * split into chunks which are relaxed in parallel using a {@link ThreadPoolExecutor}. Distances are
+ * kept in a primitive array and updated using atomic compare-and-set operations. Each successful
+ * update is recorded by the thread which performed it, and at the end of a round the updates which
+ * survived determine the predecessor edges and the frontier of the next round.
+ *
+ * <p>
+ * Negative weight cycles are not allowed and will be reported by throwing an exception of type
+ * {@link NegativeCycleDetectedException} which contains the detected cycle. Instead of waiting for
+ * $n-1$ rounds, the algorithm walks the predecessor graph whenever the number of edges relaxed
+ * since the previous walk exceeds the number of vertices, keeping the cost of the walks
+ * proportional to the cost of the relaxations. A cycle in the predecessor graph is always a
+ * negative weight cycle, see the following paper:
+ * <ul>
+ * <li>Boris V. Cherkassky and Andrew V. Goldberg. Negative-cycle detection algorithms. Mathematical
+ * Programming, 85(2):277--311, 1999.</li>
+ * </ul>
+ * As in {@link BellmanFordShortestPath}, negative edge weights are not allowed in undirected graphs
+ * and negative weight cycles which are not reachable from the source are not reported.
+ *
+ * <p>
+ * The graph is copied into a compressed sparse row representation the first time a query is
+ * executed, thus the graph should not be modified afterwards. The running time is $O(nm/p)$ in
+ * the worst case, where $p$ is the number of threads, but usually much smaller since only edges
+ * leaving the frontier are relaxed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ParallelBellmanFordShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Frontiers smaller than this are relaxed in the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /**
+     * Number of chunks of the frontier per thread, for load balancing.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final double epsilon;
+    private final ThreadPoolExecutor executor;
+    private final int parallelism;
+
+    private List<V> vertices;
+    private Map<V, Integer> vertexIndices;
+    private int[] start;
+    private int[] target;
+    private double[] weight;
+    private E[] edges;
+
+    /**
+     * Construct a new instance. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization
+     */
+    public ParallelBellmanFordShortestPath(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON, executor);
+    }
+
+    /**
+     * Construct a new instance. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param executor executor which will be used for parallelization
+     */
+    public ParallelBellmanFordShortestPath(
+        Graph<V, E> graph, double epsilon, ThreadPoolExecutor executor)
+    {
+        super(graph);
+        this.epsilon = epsilon;
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.parallelism = executor.getMaximumPoolSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (vertices == null) {
+            buildAdjacency();
+        }
+
+        Search search = new Search(vertexIndices.get(source));
+        search.run();
+
+        /*
+         * Transform result
+         */
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap =
+            CollectionUtil.newHashMapWithExpectedSize(vertices.size());
+        for (int v = 0; v < vertices.size(); v++) {
+            int p = search.predEdge[v];
+            distanceAndPredecessorMap.put(
+                vertices.get(v), Pair.of(search.getDistance(v), p == -1 ? null : edges[p]));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Copy the graph into a compressed sparse row representation of the outgoing edges.
+     */
+    private void buildAdjacency()
+    {
+        int n = graph.vertexSet().size();
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> vertexIndices = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            vertexIndices.put(vertices.get(i), i);
+        }
+
+        int m = 0;
+        for (V v : vertices) {
+            m += graph.outDegreeOf(v);
+        }
+        this.start = new int[n + 1];
+        this.target = new int[m];
+        this.weight = new double[m];
+        this.edges = TypeUtil.uncheckedCast(new Object[m]);
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            start[i] = pos;
+            for (E e : graph.outgoingEdgesOf(v)) {
+                target[pos] = vertexIndices.get(Graphs.getOppositeVertex(graph, e, v));
+                weight[pos] = graph.getEdgeWeight(e);
+                edges[pos] = e;
+                pos++;
+            }
+        }
+        start[n] = pos;
+
+        this.vertexIndices = vertexIndices;
+        this.vertices = vertices;
+    }
+
+    /**
+     * The state of a single source computation.
+     */
+    private class Search
+    {
+        private final int n;
+        private final int source;
+        private final AtomicLongArray distance;
+        private final int[] predEdge;
+        private final int[] predVertex;
+        // round in which a vertex was last added to the frontier
+        private final AtomicIntegerArray queued;
+
+        private int[] frontier;
+        private int frontierSize;
+        private final List<Chunk> chunks;
+
+        Search(int source)
+        {
+            this.n = vertices.size();
+            this.source = source;
+            this.distance = new AtomicLongArray(n);
+            long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+            for (int v = 0; v < n; v++) {
+                distance.set(v, infinity);
+            }
+            distance.set(source, Double.doubleToLongBits(0d));
+            this.predEdge = new int[n];
+            this.predVertex = new int[n];
+            Arrays.fill(predEdge, -1);
+            Arrays.fill(predVertex, -1);
+            this.queued = new AtomicIntegerArray(n);
+            this.frontier = new int[] { source };
+            this.frontierSize = 1;
+            this.chunks = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, parallelism * CHUNKS_PER_THREAD); i++) {
+                chunks.add(new Chunk());
+            }
+        }
+
+        double getDistance(int v)
+        {
+            return Double.longBitsToDouble(distance.get(v));
+        }
+
+        void run()
+        {
+            long relaxedSinceCheck = 0;
+            int round = 0;
+            while (frontierSize > 0) {
+                round++;
+
+                // split the frontier
+                int numOfChunks = frontierSize < SEQUENTIAL_THRESHOLD ? 1 : chunks.size();
+                int chunkSize = (frontierSize + numOfChunks - 1) / numOfChunks;
+                List<Chunk> active = new ArrayList<>();
+                for (int i = 0; i < numOfChunks && i * chunkSize < frontierSize; i++) {
+                    Chunk chunk = chunks.get(i);
+                    chunk.reset(i * chunkSize, Math.min(frontierSize, (i + 1) * chunkSize));
+                    active.add(chunk);
+                }
+
+                // relax the edges of the frontier and then keep the surviving updates
+                execute(active, Chunk::relax);
+                int r = round;
+                execute(active, chunk -> chunk.resolve(r));
+
+                // collect the next frontier
+                int nextSize = 0;
+                for (Chunk chunk : active) {
+                    nextSize += chunk.nextSize;
+                    relaxedSinceCheck += chunk.relaxed;
+                }
+                int[] next = new int[nextSize];
+                int pos = 0;
+                for (Chunk chunk : active) {
+                    System.arraycopy(chunk.next, 0, next, pos, chunk.nextSize);
+                    pos += chunk.nextSize;
+                }
+                frontier = next;
+                frontierSize = nextSize;
+
+                // walk the predecessor graph
+                if (frontierSize > 0 && (relaxedSinceCheck >= n || round >= n - 1)) {
+                    relaxedSinceCheck = 0;
+                    checkNegativeCycle();
+                }
+            }
+        }
+
+        /**
+         * Execute a step for all chunks, in parallel if more than one.
+         */
+        private void execute(List<Chunk> active, Consumer<Chunk> step)
+        {
+            if (active.size() == 1) {
+                step.accept(active.get(0));
+                return;
+            }
+
+            ExecutorCompletionService<Void> completionService =
+                new ExecutorCompletionService<>(executor);
+            for (Chunk chunk : active) {
+                completionService.submit(() -> {
+                    step.accept(chunk);
+                    return null;
+                });
+            }
+
+            RuntimeException failure = null;
+            for (int i = 0; i < active.size(); i++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RuntimeException)) {
+                        e.printStackTrace();
+                    } else if (failure == null) {
+                        failure = (RuntimeException) e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Walk the predecessor graph and throw an exception if it contains a cycle.
+         */
+        private void checkNegativeCycle()
+        {
+            int[] walk = new int[n];
+            for (int s = 0; s < n; s++) {
+                int v = s;
+                while (v != -1 && walk[v] == 0) {
+                    walk[v] = s + 1;
+                    v = predVertex[v];
+                }
+                if (v != -1 && walk[v] == s + 1) {
+                    throw new NegativeCycleDetectedException(
+                        GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, createCycle(v));
+                }
+            }
+        }
+
+        /**
+         * Create the cycle of the predecessor graph containing a vertex.
+         */
+        private GraphPath<V, E> createCycle(int v)
+        {
+            List<E> cycle = new ArrayList<>();
+            double cycleWeight = 0d;
+            int cur = v;
+            do {
+                int e = predEdge[cur];
+                cycle.add(edges[e]);
+                cycleWeight += weight[e];
+                cur = predVertex[cur];
+            } while (cur != v);
+            Collections.reverse(cycle);
+
+            V start = vertices.get(v);
+            return new GraphWalk<>(graph, start, start, cycle, cycleWeight);
+        }
+
+        /**
+         * A chunk of the frontier together with the updates performed while relaxing it.
+         */
+        private class Chunk
+        {
+            private int from;
+            private int to;
+            long relaxed;
+
+            // successful updates: vertex, predecessor, edge and distance
+            private int updates;
+            private int[] updateVertex = new int[16];
+            private int[] updatePred = new int[16];
+            private int[] updateEdge = new int[16];
+            private double[] updateDistance = new double[16];
+
+            int[] next = new int[16];
+            int nextSize;
+
+            void reset(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+                this.relaxed = 0;
+                this.updates = 0;
+                this.nextSize = 0;
+            }
+
+            void relax()
+            {
+                for (int i = from; i < to; i++) {
+                    int v = frontier[i];
+                    double d = getDistance(v);
+                    relaxed += start[v + 1] - start[v];
+                    for (int j = start[v], end = start[v + 1]; j < end; j++) {
+                        int u = target[j];
+                        double newDist = d + weight[j];
+                        while (true) {
+                            long bits = distance.get(u);
+                            double uDist = Double.longBitsToDouble(bits);
+                            if (!(newDist < uDist) || Math.abs(newDist - uDist) < epsilon) {
+                                break;
+                            }
+                            if (distance.compareAndSet(u, bits, Double.doubleToLongBits(newDist))) {
+                                addUpdate(u, v, j, newDist);
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+
+            void resolve(int round)
+            {
+                for (int i = 0; i < updates; i++) {
+                    int u = updateVertex[i];
+                    if (updateDistance[i] != getDistance(u)) {
+                        // overwritten by a later update
+                        continue;
+                    }
+                    int q = queued.get(u);
+                    if (q != round && queued.compareAndSet(u, q, round)) {
+                        predEdge[u] = updateEdge[i];
+                        predVertex[u] = updatePred[i];
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, 2 * nextSize);
+                        }
+                        next[nextSize++] = u;
+                    }
+                }
+            }
+
+            private void addUpdate(int u, int v, int e, double d)
+            {
+                if (updates == updateVertex.length) {
+                    int capacity = 2 * updates;
+                    updateVertex = Arrays.copyOf(updateVertex, capacity);
+                    updatePred = Arrays.copyOf(updatePred, capacity);
+                    updateEdge = Arrays.copyOf(updateEdge, capacity);
+                    updateDistance = Arrays.copyOf(updateDistance, capacity);
+                }
+                updateVertex[updates] = u;
+                updatePred[updates] = v;
+                updateEdge[updates] = e;
+                updateDistance[updates] = d;
+                updates++;
+            }
+        }
+    }
+
+}
@@ -23,6 +23,10 @@ import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.graph.GraphWalk;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -67,6 +71,11 @@ import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.Tran
  * directly calling the {@code #performPrecomputation()} method. Otherwise, this method is called
  * during the first call to either the {@code #getPath()} or {@code #getPathWeight()} methods.
  *
+ * <p>
+ * The result of the precomputation can be written using {@link #save(Path)} and loaded later for
+ * the same graph using {@link #load(Graph, Path)}, which avoids repeating the precomputation. See
+ * {@link ContractionHierarchySerializer} for the details of the format.
+ *
  * @param <V> graph vertex type
  * @param <E> graph edge type
  * @author Semen Chudakov
@@ -82,6 +91,11 @@ public class TransitNodeRoutingShortestPath<V, E>
      */
     private ThreadPoolExecutor executor;
 
+    /**
+     * The result of the precomputation.
+     */
+    private TransitNodeRouting<V, E> transitNodeRouting;
+
     /**
      * Contraction hierarchy which is used to compute shortest paths.
      */
@@ -149,6 +163,78 @@ public class TransitNodeRoutingShortestPath<V, E>
         initialize(routing);
     }
 
+    /**
+     * Writes the result of the precomputation to a file. The precomputation is performed first if
+     * it has not been performed yet.
+     *
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     */
+    public void save(Path file)
+        throws IOException
+    {
+        performPrecomputation();
+        new ContractionHierarchySerializer<>(graph)
+            .writeTransitNodeRouting(transitNodeRouting, file);
+    }
+
+    /**
+     * Writes the result of the precomputation to an output stream. The stream is not closed. The
+     * precomputation is performed first if it has not been performed yet.
+     *
+     * @param out the output stream
+     * @throws IOException in case of an I/O error
+     */
+    public void save(OutputStream out)
+        throws IOException
+    {
+        performPrecomputation();
+        new ContractionHierarchySerializer<>(graph)
+            .writeTransitNodeRouting(transitNodeRouting, out);
+    }
+
+    /**
+     * Constructs a new instance from a precomputation previously written using
+     * {@link #save(Path)}. The file is memory-mapped.
+     *
+     * @param graph the graph, which must have the same vertices and edges, in the same iteration
+     *        order, as the graph of the saved instance
+     * @param file the file
+     * @param <V> graph vertex type
+     * @param <E> graph edge type
+     * @return the shortest path algorithm
+     * @throws IOException in case of an I/O error or if the file is not a valid transit node
+     *         routing
+     * @throws IllegalArgumentException if the file was not written for the graph
+     */
+    public static <V, E> TransitNodeRoutingShortestPath<V, E> load(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        return new TransitNodeRoutingShortestPath<>(
+            new ContractionHierarchySerializer<>(graph).readTransitNodeRouting(file));
+    }
+
+    /**
+     * Constructs a new instance from a precomputation previously written using
+     * {@link #save(OutputStream)}, reading from a buffer starting at its current position.
+     *
+     * @param graph the graph, which must have the same vertices and edges, in the same iteration
+     *        order, as the graph of the saved instance
+     * @param buffer the buffer
+     * @param <V> graph vertex type
+     * @param <E> graph edge type
+     * @return the shortest path algorithm
+     * @throws IOException if the buffer does not contain a valid transit node routing
+     * @throws IllegalArgumentException if the data was not written for the graph
+     */
+    public static <V, E> TransitNodeRoutingShortestPath<V, E> load(
+        Graph<V, E> graph, ByteBuffer buffer)
+        throws IOException
+    {
+        return new TransitNodeRoutingShortestPath<>(
+            new ContractionHierarchySerializer<>(graph).readTransitNodeRouting(buffer));
+    }
+
     /**
      * Initializes fields {@code contractionHierarchy}, {@code localityFilter},
      * {@code accessVertices}, {@code manyToManyShortestPaths} and {@code localQueriesAlgorithm}.
@@ -157,6 +243,7 @@ public class TransitNodeRoutingShortestPath<V, E>
      */
     private void initialize(TransitNodeRouting<V, E> transitNodeRouting)
     {
+        this.transitNodeRouting = transitNodeRouting;
         this.contractionHierarchy = transitNodeRouting.getContractionHierarchy();
         this.localityFilter = transitNodeRouting.getLocalityFilter();
         this.accessVertices = transitNodeRouting.getAccessVertices();
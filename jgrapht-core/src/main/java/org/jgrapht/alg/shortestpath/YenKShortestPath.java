@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Implementation of Yen`s algorithm for finding $k$ shortest loopless paths.
@@ -39,6 +40,10 @@ import java.util.*;
  * {@code sink} and forms the resulting list. It is possible to provide a {@link PathValidator} to
  * filter the resulting path list
  *
+ * <p>
+ * When constructed with an executor, the spur paths are computed lazily and in parallel, see
+ * {@link YenShortestPathIterator}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -59,6 +64,16 @@ public class YenKShortestPath<V, E>
      */
     private PathValidator<V, E> pathValidator;
 
+    /**
+     * Whether the spur paths are computed lazily.
+     */
+    private final boolean lazy;
+
+    /**
+     * Executor for the spur path computations, can be {@code null}.
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * Constructs an instance of the algorithm for the given {@code graph}.
      *
@@ -80,6 +95,31 @@ public class YenKShortestPath<V, E>
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         this.pathValidator = pathValidator;
+        this.lazy = false;
+        this.executor = null;
+    }
+
+    /**
+     * Constructs an instance of the algorithm for the given {@code graph}, {@code pathValidator}
+     * and {@code executor}. The spur paths are computed lazily, in parallel using the executor.
+     * The {@code executor} can be {@code null}, in which case the spur paths are computed in the
+     * calling thread.
+     *
+     * <p>
+     * For more information on how to allocate a {@code ThreadPoolExecutor} see
+     * {@link org.jgrapht.util.ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param pathValidator validator for computed paths
+     * @param executor executor which is used to compute the spur paths
+     */
+    public YenKShortestPath(
+        Graph<V, E> graph, PathValidator<V, E> pathValidator, ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
+        this.pathValidator = pathValidator;
+        this.lazy = true;
+        this.executor = executor;
     }
 
     /**
@@ -99,8 +139,9 @@ public class YenKShortestPath<V, E>
             throw new IllegalArgumentException("k should be positive");
         }
         List<GraphPath<V, E>> result = new ArrayList<>();
-        YenShortestPathIterator<V, E> iterator =
-            new YenShortestPathIterator<>(graph, source, sink, pathValidator);
+        YenShortestPathIterator<V, E> iterator = lazy
+            ? new YenShortestPathIterator<>(graph, source, sink, pathValidator, executor)
+            : new YenShortestPathIterator<>(graph, source, sink, pathValidator);
         for (int i = 0; i < k && iterator.hasNext(); i++) {
             result.add(iterator.next());
         }
@@ -24,6 +24,7 @@ import org.jheaps.*;
 import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -53,6 +54,16 @@ import java.util.function.*;
  * <p>
  * Additionally, the algorithm supports path validation by means of {@link PathValidator}.
  *
+ * <p>
+ * When constructed with an executor, the spur paths are computed lazily on an int-indexed copy of
+ * the graph. Each spur vertex is first inserted in the candidates heap keyed by a lower bound on
+ * the weight of its spur candidate, computed from the distances of all vertices to the sink. Its
+ * spur path is searched only when this bound reaches the top of the heap, which prunes the spur
+ * searches that cannot produce any of the next paths. Spur searches block vertices and edges using
+ * bitsets instead of a {@link MaskSubgraph}, and the spur vertices at the top of the heap are
+ * searched in parallel. In this mode the graph is copied at the first call to {@link #hasNext()} or
+ * {@link #next()}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -125,6 +136,12 @@ public class YenShortestPathIterator<V, E>
      */
     private boolean shortestPathComputed;
 
+    /**
+     * Iterator computing the spur paths lazily, or {@code null} if the default implementation is
+     * used.
+     */
+    private LazyYenShortestPathIterator<V, E> lazyIterator;
+
     /**
      * Constructs an instance of the algorithm for given {@code graph}, {@code source} and
      * {@code sink}.
@@ -203,6 +220,32 @@ public class YenShortestPathIterator<V, E>
         this.lastDeviations = new HashMap<>();
     }
 
+    /**
+     * Constructs an instance of the algorithm for given {@code graph}, {@code source},
+     * {@code sink}, {@code pathValidator} and {@code executor}. The instance computes the spur
+     * paths lazily, in parallel using the executor. The {@code pathValidator} can be {@code null},
+     * which will indicate that all paths are valid. The {@code executor} can be {@code null}, in
+     * which case the spur paths are computed in the calling thread.
+     *
+     * <p>
+     * For more information on how to allocate a {@code ThreadPoolExecutor} see
+     * {@link org.jgrapht.util.ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param source source vertex
+     * @param sink sink vertex
+     * @param pathValidator validator for computed paths
+     * @param executor executor which is used to compute the spur paths
+     */
+    public YenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink, PathValidator<V, E> pathValidator,
+        ThreadPoolExecutor executor)
+    {
+        this(graph, source, sink, PairingHeap::new, pathValidator);
+        this.lazyIterator =
+            new LazyYenShortestPathIterator<>(graph, source, sink, pathValidator, executor);
+    }
+
     /**
      * Lazily initializes the path heap by computing the shortest path between the {@code source}
      * and the {@code sink} and building a necessary amount of paths until at least one valid path
@@ -294,6 +337,9 @@ public class YenShortestPathIterator<V, E>
     @Override
     public boolean hasNext()
     {
+        if (lazyIterator != null) {
+            return lazyIterator.hasNext();
+        }
         lazyInitializePathHeap();
         return !candidatePaths.isEmpty();
     }
@@ -304,6 +350,9 @@ public class YenShortestPathIterator<V, E>
     @Override
     public GraphPath<V, E> next()
     {
+        if (lazyIterator != null) {
+            return lazyIterator.next();
+        }
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
@@ -27,7 +27,8 @@ import java.util.*;
  * An implementation of <a href="http://en.wikipedia.org/wiki/Kruskal's_algorithm">Kruskal's minimum
  * spanning tree algorithm</a>. If the given graph is connected it computes the minimum spanning
  * tree, otherwise it computes the minimum spanning forest. The algorithm runs in time $O(E \log
- * E)$. This implementation uses the hashCode and equals method of the vertices.
+ * E)$. This implementation uses the hashCode and equals method of the vertices. The vertices are
+ * mapped to consecutive integers and the forest is maintained using an {@link IntUnionFind}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -55,7 +56,8 @@ public class KruskalMinimumSpanningTree<V, E>
     @Override
     public SpanningTree<E> getSpanningTree()
     {
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
+        Map<V, Integer> vertexMap = Graphs.getVertexToIntegerMapping(graph).getVertexMap();
+        IntUnionFind forest = new IntUnionFind(vertexMap.size());
         ArrayList<E> allEdges = new ArrayList<>(graph.edgeSet());
         allEdges.sort(Comparator.comparingDouble(graph::getEdgeWeight));
 
@@ -63,13 +65,16 @@ public class KruskalMinimumSpanningTree<V, E>
         Set<E> edgeList = new HashSet<>();
 
         for (E edge : allEdges) {
-            V source = graph.getEdgeSource(edge);
-            V target = graph.getEdgeTarget(edge);
-            if (forest.find(source).equals(forest.find(target))) {
+            if (forest.numberOfSets() <= 1) {
+                // the tree is complete
+                break;
+            }
+            int source = vertexMap.get(graph.getEdgeSource(edge));
+            int target = vertexMap.get(graph.getEdgeTarget(edge));
+            if (!forest.union(source, target)) {
                 continue;
             }
 
-            forest.union(source, target);
             edgeList.add(edge);
             spanningTreeCost += graph.getEdgeWeight(edge);
         }
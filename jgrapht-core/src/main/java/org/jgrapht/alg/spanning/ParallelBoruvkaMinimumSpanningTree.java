@@ -0,0 +1,322 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.spanning;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * A parallel version of Borůvka's algorithm for the computation of a minimum spanning tree.
+ *
+ * <p>
+ * The parallelization follows the approach described in the paper: Sun Chung and Anne Condon.
+ * Parallel implementation of Borůvka's minimum spanning tree algorithm. Proceedings of the 10th
+ * International Parallel Processing Symposium, pages 302–308, 1996.
+ *
+ * <p>
+ * The graph is copied during the computation into primitive arrays of edge endpoints and weights,
+ * and the components are tracked using a {@link ConcurrentIntUnionFind} on vertex indices. Each
+ * round consists of two parallel steps. First, the remaining edges are split into chunks and each
+ * edge is offered to the two components it connects, which keep the lightest offered edge using
+ * atomic compare-and-set operations. Edges whose endpoints already belong to the same component are
+ * discarded at the same time, thus later rounds scan fewer and fewer edges. Second, the selected
+ * edges are added to the forest by performing concurrent unions. Ties between equal weights are
+ * broken using the edge order, which makes the minimum spanning tree unique and the result
+ * independent of the parallelism. Since the number of components is at least halved in each
+ * round, at most $O(\log V)$ rounds are executed.
+ *
+ * <p>
+ * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
+ * supplied to this algorithm from outside. For utility methods to manage a
+ * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ParallelBoruvkaMinimumSpanningTree<V, E>
+    implements SpanningTreeAlgorithm<E>
+{
+    /**
+     * Amount of chunks per worker thread that yields good load balancing.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * Steps with fewer elements are executed in the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private final Graph<V, E> graph;
+    private final ThreadPoolExecutor executor;
+    private final int parallelism;
+
+    /**
+     * Construct a new instance of the algorithm. The provided {@code executor} is used for the
+     * parallel steps and the caller is responsible for its termination.
+     *
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization
+     */
+    public ParallelBoruvkaMinimumSpanningTree(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.parallelism = executor.getMaximumPoolSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpanningTree<E> getSpanningTree()
+    {
+        // snapshot of the graph, self-loops are never part of the tree
+        Map<V, Integer> vertexIndices = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            vertexIndices.put(v, vertexIndices.size());
+        }
+        int n = vertexIndices.size();
+
+        int m = graph.edgeSet().size();
+        List<E> edges = new ArrayList<>(m);
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = new double[m];
+        for (E e : graph.edgeSet()) {
+            int s = vertexIndices.get(graph.getEdgeSource(e));
+            int t = vertexIndices.get(graph.getEdgeTarget(e));
+            if (s == t) {
+                continue;
+            }
+            int i = edges.size();
+            edges.add(e);
+            source[i] = s;
+            target[i] = t;
+            weight[i] = graph.getEdgeWeight(e);
+        }
+
+        boolean[] inTree = new Engine(n, edges.size(), source, target, weight).run();
+
+        Set<E> mstEdges = new LinkedHashSet<>();
+        double mstWeight = 0d;
+        for (int i = 0; i < edges.size(); i++) {
+            if (inTree[i]) {
+                mstEdges.add(edges.get(i));
+                mstWeight += weight[i];
+            }
+        }
+        return new SpanningTreeImpl<>(mstEdges, mstWeight);
+    }
+
+    /**
+     * The rounds of the algorithm on the snapshot of the graph.
+     */
+    private class Engine
+    {
+        private final int[] source;
+        private final int[] target;
+        private final double[] weight;
+        private final ConcurrentIntUnionFind forest;
+        private final boolean[] inTree;
+
+        /*
+         * The lightest edge leaving each component, indexed by the root of the component, or -1.
+         */
+        private final AtomicIntegerArray best;
+
+        /*
+         * The remaining edges and the roots of the components.
+         */
+        private int[] alive;
+        private int[] nextAlive;
+        private int aliveSize;
+        private int[] roots;
+        private int rootsSize;
+
+        Engine(int n, int m, int[] source, int[] target, double[] weight)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.forest = new ConcurrentIntUnionFind(n);
+            this.inTree = new boolean[m];
+            this.best = new AtomicIntegerArray(n);
+            for (int v = 0; v < n; v++) {
+                best.set(v, -1);
+            }
+            this.alive = new int[m];
+            this.nextAlive = new int[m];
+            for (int i = 0; i < m; i++) {
+                alive[i] = i;
+            }
+            this.aliveSize = m;
+            this.roots = new int[n];
+            for (int v = 0; v < n; v++) {
+                roots[v] = v;
+            }
+            this.rootsSize = n;
+        }
+
+        /**
+         * Execute the rounds.
+         *
+         * @return which edges belong to the minimum spanning tree
+         */
+        boolean[] run()
+        {
+            while (aliveSize > 0) {
+                // select the lightest edge of each component and discard internal edges
+                int[] sizes = new int[numberOfChunks(aliveSize)];
+                int chunkSize = (aliveSize + sizes.length - 1) / sizes.length;
+                execute(sizes.length, c -> {
+                    int from = c * chunkSize;
+                    int to = Math.min(aliveSize, from + chunkSize);
+                    int pos = from;
+                    for (int i = from; i < to; i++) {
+                        int e = alive[i];
+                        int s = forest.find(source[e]);
+                        int t = forest.find(target[e]);
+                        if (s != t) {
+                            nextAlive[pos++] = e;
+                            offer(s, e);
+                            offer(t, e);
+                        }
+                    }
+                    sizes[c] = pos - from;
+                });
+
+                int newAliveSize = 0;
+                for (int c = 0; c < sizes.length; c++) {
+                    System.arraycopy(nextAlive, c * chunkSize, nextAlive, newAliveSize, sizes[c]);
+                    newAliveSize += sizes[c];
+                }
+                int[] tmp = alive;
+                alive = nextAlive;
+                nextAlive = tmp;
+                aliveSize = newAliveSize;
+                if (aliveSize == 0) {
+                    break;
+                }
+
+                // hook the components, an edge selected by both its components is added once
+                int rootsChunks = numberOfChunks(rootsSize);
+                int rootsChunkSize = (rootsSize + rootsChunks - 1) / rootsChunks;
+                execute(rootsChunks, c -> {
+                    int to = Math.min(rootsSize, (c + 1) * rootsChunkSize);
+                    for (int i = c * rootsChunkSize; i < to; i++) {
+                        int r = roots[i];
+                        int e = best.get(r);
+                        if (e != -1) {
+                            best.set(r, -1);
+                            if (forest.union(source[e], target[e])) {
+                                inTree[e] = true;
+                            }
+                        }
+                    }
+                });
+
+                int newRootsSize = 0;
+                for (int i = 0; i < rootsSize; i++) {
+                    int r = roots[i];
+                    if (forest.find(r) == r) {
+                        roots[newRootsSize++] = r;
+                    }
+                }
+                rootsSize = newRootsSize;
+            }
+            return inTree;
+        }
+
+        /**
+         * Offer an edge to a component and keep it if it is lighter than the current selection.
+         */
+        private void offer(int root, int e)
+        {
+            while (true) {
+                int current = best.get(root);
+                if (current != -1 && !lighter(e, current)) {
+                    return;
+                }
+                if (best.compareAndSet(root, current, e)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Total order of the edges by weight and ties broken by index.
+         */
+        private boolean lighter(int e, int f)
+        {
+            int c = Double.compare(weight[e], weight[f]);
+            return c < 0 || (c == 0 && e < f);
+        }
+
+        private int numberOfChunks(int size)
+        {
+            return size < SEQUENTIAL_THRESHOLD ? 1 : Math.max(1, parallelism * CHUNKS_PER_THREAD);
+        }
+
+        /**
+         * Execute a step for all chunks, in parallel if more than one.
+         */
+        private void execute(int chunks, IntConsumer step)
+        {
+            if (chunks == 1) {
+                step.accept(0);
+                return;
+            }
+
+            ExecutorCompletionService<Void> completionService =
+                new ExecutorCompletionService<>(executor);
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c;
+                completionService.submit(() -> {
+                    step.accept(chunk);
+                    return null;
+                });
+            }
+
+            RuntimeException failure = null;
+            for (int i = 0; i < chunks; i++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RuntimeException)) {
+                        e.printStackTrace();
+                    } else if (failure == null) {
+                        failure = (RuntimeException) e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
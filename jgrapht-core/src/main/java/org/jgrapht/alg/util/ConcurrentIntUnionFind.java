@@ -0,0 +1,209 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A lock-free concurrent <a href="http://en.wikipedia.org/wiki/Disjoint-set_data_structure">Union
+ * Find</a> data structure for the integer elements $0, 1, \dots, n-1$.
+ *
+ * <p>
+ * The algorithm follows the linking by rank of the paper: Richard J. Anderson and Heather Woll.
+ * Wait-free parallel algorithms for the union-find problem. Proceedings of the 23rd Annual ACM
+ * Symposium on Theory of Computing, pages 370–380, 1991.
+ *
+ * <p>
+ * The parent and the rank of each element are packed into a single {@code long} which is updated
+ * using compare-and-set operations, without any locking. A root is linked below the root with
+ * higher rank, and ties are broken using the element order. Since the rank of a root only grows,
+ * links always point towards larger (rank, element) pairs and no cycles can be created by
+ * concurrent unions. Finding uses path halving, which may fail harmlessly when another thread
+ * changes the same parent first. Any number of threads may call {@link #find(int)},
+ * {@link #union(int, int)} and {@link #inSameSet(int, int)} at the same time.
+ *
+ * <p>
+ * The implementation does not include the helping scheme of the paper, and is therefore lock-free
+ * but not wait-free. A failed compare-and-set means that another thread made progress, but
+ * {@link #union(int, int)} and {@link #inSameSet(int, int)} retry without a bound on the number of
+ * steps of a single call.
+ *
+ * @author Dimitrios Michail
+ */
+public class ConcurrentIntUnionFind
+{
+    private static final long PARENT_MASK = 0xFFFFFFFFL;
+
+    private final AtomicLongArray nodes;
+    private final AtomicInteger count; // number of components
+
+    /**
+     * Creates an instance with the elements $0, 1, \dots, n-1$ in separate sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public ConcurrentIntUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        nodes = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) {
+            nodes.set(i, i);
+        }
+        count = new AtomicInteger(n);
+    }
+
+    /**
+     * Returns the representative element of the set that element is in. If other threads perform
+     * unions concurrently, the representative may change right after the call returns.
+     *
+     * @param element the element to find
+     * @return the element representing the set the element is in
+     */
+    public int find(int element)
+    {
+        int x = element;
+        while (true) {
+            long node = nodes.get(x);
+            int p = parent(node);
+            if (p == x) {
+                return x;
+            }
+            int gp = parent(nodes.get(p));
+            if (p != gp) {
+                nodes.compareAndSet(x, node, withParent(node, gp));
+            }
+            x = gp;
+        }
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2. No guarantees are given as to which
+     * element becomes the representative of the resulting (merged) set.
+     *
+     * @param element1 the first element to union
+     * @param element2 the second element to union
+     * @return true if this call merged two different sets, false if the elements were already in
+     *         the same set
+     */
+    public boolean union(int element1, int element2)
+    {
+        int x = element1;
+        int y = element2;
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return false;
+            }
+            long nodeX = nodes.get(x);
+            long nodeY = nodes.get(y);
+            if (parent(nodeX) != x || parent(nodeY) != y) {
+                // not roots anymore
+                continue;
+            }
+            int rankX = rank(nodeX);
+            int rankY = rank(nodeY);
+            if (rankX > rankY || (rankX == rankY && x > y)) {
+                int tmp = x;
+                x = y;
+                y = tmp;
+                long tmpNode = nodeX;
+                nodeX = nodeY;
+                nodeY = tmpNode;
+            }
+
+            // link x below y
+            if (!nodes.compareAndSet(x, nodeX, withParent(nodeX, y))) {
+                continue;
+            }
+            if (rankX == rankY) {
+                // failure means that y changed meanwhile, which is harmless
+                nodes.compareAndSet(y, nodeY, pack(y, rank(nodeY) + 1));
+            }
+            count.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set. The answer is linearizable with
+     * respect to concurrent unions.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        int x = element1;
+        int y = element2;
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return true;
+            }
+            if (parent(nodes.get(x)) == x) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sets. Initially, all items are in their own set.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return count.get();
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure
+     */
+    public int size()
+    {
+        return nodes.length();
+    }
+
+    private static int parent(long node)
+    {
+        return (int) (node & PARENT_MASK);
+    }
+
+    private static int rank(long node)
+    {
+        return (int) (node >>> 32);
+    }
+
+    private static long pack(int parent, int rank)
+    {
+        return ((long) rank << 32) | (parent & PARENT_MASK);
+    }
+
+    private static long withParent(long node, int parent)
+    {
+        return (node & ~PARENT_MASK) | (parent & PARENT_MASK);
+    }
+}
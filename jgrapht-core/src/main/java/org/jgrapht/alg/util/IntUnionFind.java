@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An implementation of <a href="http://en.wikipedia.org/wiki/Disjoint-set_data_structure">Union
+ * Find</a> data structure specialized for the integer elements $0, 1, \dots, n-1$.
+ *
+ * <p>
+ * The parents and the ranks are stored in primitive arrays. The implementation uses union by rank
+ * and path halving, which achieves an amortized cost of $O(\alpha(n))$ per operation where
+ * $\alpha$ is the inverse Ackermann function, while requiring a single pass over the path. This
+ * class is a much faster alternative to {@link UnionFind} when the elements can be mapped to
+ * consecutive integers. It is not thread-safe, see {@link ConcurrentIntUnionFind} for a variant
+ * which supports concurrent operations.
+ *
+ * @author Dimitrios Michail
+ */
+public class IntUnionFind
+{
+    private final int[] parent;
+    private final byte[] rank;
+    private int count; // number of components
+
+    /**
+     * Creates an instance with the elements $0, 1, \dots, n-1$ in separate sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public IntUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        parent = new int[n];
+        rank = new byte[n];
+        reset();
+    }
+
+    /**
+     * Returns the representative element of the set that element is in.
+     *
+     * @param element the element to find
+     * @return the element representing the set the element is in
+     */
+    public int find(int element)
+    {
+        int x = element;
+        while (true) {
+            int p = parent[x];
+            if (p == x) {
+                return x;
+            }
+            int gp = parent[p];
+            parent[x] = gp;
+            x = gp;
+        }
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2. No guarantees are given as to which
+     * element becomes the representative of the resulting (merged) set.
+     *
+     * @param element1 the first element to union
+     * @param element2 the second element to union
+     * @return true if the two elements were in different sets, false otherwise
+     */
+    public boolean union(int element1, int element2)
+    {
+        int root1 = find(element1);
+        int root2 = find(element2);
+
+        // check if the elements are already in the same set
+        if (root1 == root2) {
+            return false;
+        }
+
+        if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of sets. Initially, all items are in their own set.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure
+     */
+    public int size()
+    {
+        return parent.length;
+    }
+
+    /**
+     * Resets the data structure: each element is placed in its own singleton set.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Arrays.fill(rank, (byte) 0);
+        count = parent.length;
+    }
+}
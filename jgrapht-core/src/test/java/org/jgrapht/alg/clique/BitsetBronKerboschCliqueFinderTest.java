@@ -0,0 +1,132 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link BitsetBronKerboschCliqueFinder}
+ *
+ * @author Dimitrios Michail
+ */
+public class BitsetBronKerboschCliqueFinderTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testFindAll()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+        Set<Set<String>> expected = new HashSet<>();
+        new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+        assertEquals(5, expected.size());
+
+        Set<Set<String>> actual = new HashSet<>();
+        new BitsetBronKerboschCliqueFinder<>(g).iterator().forEachRemaining(actual::add);
+        assertEquals(expected, actual);
+
+        Set<Set<String>> parallel = ConcurrentHashMap.newKeySet();
+        new BitsetBronKerboschCliqueFinder<>(g, pool).forEach(parallel::add);
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    public void testEmptyAndIsolated()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        assertFalse(new BitsetBronKerboschCliqueFinder<>(g).iterator().hasNext());
+
+        Graphs.addAllVertices(g, List.of(1, 2, 3));
+        g.addEdge(1, 2);
+        Set<Set<Integer>> actual = new HashSet<>();
+        new BitsetBronKerboschCliqueFinder<>(g).forEach(actual::add);
+        assertEquals(Set.of(Set.of(1, 2), Set.of(3)), actual);
+    }
+
+    @Test
+    public void testComplete()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(70).generateGraph(g);
+
+        List<Set<Integer>> cliques = new ArrayList<>();
+        new BitsetBronKerboschCliqueFinder<>(g).forEach(cliques::add);
+        assertEquals(List.of(g.vertexSet()), cliques);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        int[] sizes = { 10, 40, 70, 150 };
+        double[] densities = { 0.1, 0.5, 0.8, 0.05 };
+        for (int i = 0; i < sizes.length; i++) {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnpRandomGraphGenerator<Integer, DefaultEdge>(sizes[i], densities[i], 17 + i)
+                .generateGraph(g);
+
+            Set<Set<Integer>> expected = new HashSet<>();
+            new PivotBronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+            List<Set<Integer>> actual = new ArrayList<>();
+            new BitsetBronKerboschCliqueFinder<>(g).forEach(actual::add);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+
+            Set<Set<Integer>> parallel = ConcurrentHashMap.newKeySet();
+            new BitsetBronKerboschCliqueFinder<>(g, pool).forEach(parallel::add);
+            assertEquals(expected, parallel);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonSimple()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addEdge("1", "2");
+        g.addEdge("1", "2");
+
+        new BitsetBronKerboschCliqueFinder<>(g).iterator();
+    }
+
+}
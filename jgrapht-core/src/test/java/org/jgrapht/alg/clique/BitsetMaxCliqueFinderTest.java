@@ -0,0 +1,116 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.CliqueAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link BitsetMaxCliqueFinder}
+ *
+ * @author Dimitrios Michail
+ */
+public class BitsetMaxCliqueFinderTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Clique<Integer> clique = new BitsetMaxCliqueFinder<>(g).getClique();
+        assertTrue(clique.isEmpty());
+        assertEquals(0d, clique.getWeight(), 0d);
+
+        g.addVertex(1);
+        g.addVertex(2);
+        assertEquals(1, new BitsetMaxCliqueFinder<>(g).getClique().size());
+    }
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+
+        Clique<String> clique = new BitsetMaxCliqueFinder<>(g).getClique();
+        assertEquals(4, clique.size());
+        assertEquals(4d, clique.getWeight(), 0d);
+        assertClique(g, clique);
+    }
+
+    @Test
+    public void testComplete()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(130).generateGraph(g);
+
+        assertEquals(g.vertexSet(), new BitsetMaxCliqueFinder<>(g).getClique());
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        int[] sizes = { 10, 40, 70, 60, 300 };
+        double[] densities = { 0.3, 0.5, 0.8, 0.9, 0.05 };
+        for (int i = 0; i < sizes.length; i++) {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnpRandomGraphGenerator<Integer, DefaultEdge>(sizes[i], densities[i], 5 + i)
+                .generateGraph(g);
+
+            int[] expected = new int[1];
+            new BitsetBronKerboschCliqueFinder<>(g)
+                .forEach(c -> expected[0] = Math.max(expected[0], c.size()));
+
+            Clique<Integer> clique = new BitsetMaxCliqueFinder<>(g).getClique();
+            assertEquals(expected[0], clique.size());
+            assertClique(g, clique);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonSimple()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        g.addEdge("1", "1");
+
+        new BitsetMaxCliqueFinder<>(g).getClique();
+    }
+
+    private static <V, E> void assertClique(Graph<V, E> g, Set<V> clique)
+    {
+        for (V u : clique) {
+            for (V v : clique) {
+                if (!u.equals(v)) {
+                    assertTrue(g.containsEdge(u, v));
+                }
+            }
+        }
+    }
+
+}
@@ -20,12 +20,22 @@ package org.jgrapht.alg.flow;
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.MaximumFlowAlgorithm;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
 import org.jgrapht.graph.DefaultDirectedWeightedGraph;
 import org.jgrapht.graph.DefaultUndirectedWeightedGraph;
 import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.util.SupplierUtil;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
 
 /**
  * Tests for {@link BoykovKolmogorovMFImpl}.
@@ -416,6 +426,116 @@ public class BoykovKolmogorovMFImplTest
         testDirectedUndirected(edges, 101, 102, 906, 1081);
     }
 
+    @Test
+    public void testUpdateDirected()
+    {
+        testUpdate(
+            new DefaultDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testUpdateUndirected()
+    {
+        testUpdate(
+            new DefaultUndirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testUpdateSingleEdge()
+    {
+        Graph<Integer, DefaultWeightedEdge> network = constructDirected(
+            new int[][] { { 0, 1, 5 }, { 1, 2, 3 }, { 0, 3, 2 }, { 3, 2, 4 }, { 1, 3, 4 } });
+        BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver =
+            new BoykovKolmogorovMFImpl<>(network);
+        assertEquals(7d, solver.getMaximumFlowValue(0, 2), EPS);
+
+        DefaultWeightedEdge e = network.getEdge(1, 2);
+        network.setEdgeWeight(e, 1d);
+        MaximumFlowAlgorithm.MaximumFlow<DefaultWeightedEdge> flow =
+            solver.updateMaximumFlow(Collections.singletonList(e));
+        verifyDirected(0, 2, 5d, network, flow);
+        assertEquals(5d, solver.getMaximumFlowValue(), EPS);
+
+        network.setEdgeWeight(e, 10d);
+        flow = solver.updateMaximumFlow(Collections.singletonList(e));
+        verifyDirected(0, 2, 7d, network, flow);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUpdateWithoutFlow()
+    {
+        Graph<Integer, DefaultWeightedEdge> network =
+            constructDirected(new int[][] { { 0, 1, 5 } });
+        new BoykovKolmogorovMFImpl<>(network).updateMaximumFlow(network.edgeSet());
+    }
+
+    private void testUpdate(Graph<Integer, DefaultWeightedEdge> network)
+    {
+        Random rng = new Random(7);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(150, 900, rng, false, false)
+            .generateGraph(network);
+        network.edgeSet().forEach(e -> network.setEdgeWeight(e, rng.nextInt(50)));
+        List<DefaultWeightedEdge> edges = new ArrayList<>(network.edgeSet());
+
+        for (int test = 0; test < 5; test++) {
+            int source = rng.nextInt(150);
+            int sink = rng.nextInt(150);
+            if (source == sink) {
+                continue;
+            }
+            BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver =
+                new BoykovKolmogorovMFImpl<>(network);
+            solver.getMaximumFlow(source, sink);
+
+            for (int round = 0; round < 10; round++) {
+                List<DefaultWeightedEdge> changed = new ArrayList<>();
+                for (int i = 0; i < 1 + rng.nextInt(30); i++) {
+                    DefaultWeightedEdge e = edges.get(rng.nextInt(edges.size()));
+                    network.setEdgeWeight(e, rng.nextInt(4) == 0 ? 0 : rng.nextInt(50));
+                    changed.add(e);
+                }
+                MaximumFlowAlgorithm.MaximumFlow<DefaultWeightedEdge> flow =
+                    solver.updateMaximumFlow(changed);
+
+                double expected =
+                    new PushRelabelMFImpl<>(network).getMaximumFlowValue(source, sink);
+                assertEquals(expected, flow.getValue(), EPS);
+                verifyFlow(network, source, sink, solver, flow);
+                assertEquals(
+                    expected,
+                    solver.getCutEdges().stream().mapToDouble(network::getEdgeWeight).sum(), EPS);
+            }
+        }
+    }
+
+    private void verifyFlow(
+        Graph<Integer, DefaultWeightedEdge> network, int source, int sink,
+        BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver,
+        MaximumFlowAlgorithm.MaximumFlow<DefaultWeightedEdge> flow)
+    {
+        Map<Integer, Double> balance = new HashMap<>();
+        for (DefaultWeightedEdge e : network.edgeSet()) {
+            double f = flow.getFlowMap().get(e);
+            assertTrue(f >= -EPS && f <= network.getEdgeWeight(e) + EPS);
+            Integer target = solver.getFlowDirection(e);
+            Integer from = Graphs.getOppositeVertex(network, e, target);
+            balance.merge(from, -f, Double::sum);
+            balance.merge(target, f, Double::sum);
+        }
+        for (Integer v : network.vertexSet()) {
+            double b = balance.getOrDefault(v, 0d);
+            if (v == source) {
+                assertEquals(-flow.getValue(), b, EPS);
+            } else if (v == sink) {
+                assertEquals(flow.getValue(), b, EPS);
+            } else {
+                assertEquals(0d, b, EPS);
+            }
+        }
+    }
+
     @Override
     MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
         Graph<Integer, DefaultWeightedEdge> network)
@@ -21,11 +21,16 @@ import org.jgrapht.*;
 import org.jgrapht.alg.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -109,4 +114,49 @@ public class GusfieldGomoryHuCutTreeTest
             }
         }
     }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Random rand = new Random(11);
+            for (int test = 0; test < 5; test++) {
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> network =
+                    new SimpleWeightedGraph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    80, 400, rand, false, false).generateGraph(network);
+                for (DefaultWeightedEdge e : network.edgeSet())
+                    network.setEdgeWeight(e, rand.nextInt(100));
+
+                GusfieldGomoryHuCutTree<Integer, DefaultWeightedEdge> sequential =
+                    new GusfieldGomoryHuCutTree<>(network);
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> expected =
+                    sequential.getGomoryHuTree();
+                GusfieldGomoryHuCutTree<Integer, DefaultWeightedEdge> alg =
+                    new GusfieldGomoryHuCutTree<>(
+                        network, () -> new PushRelabelMFImpl<>(network), executor);
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> tree = alg.getGomoryHuTree();
+
+                // the tree is identical to the one of the sequential algorithm
+                assertEquals(expected.edgeSet().size(), tree.edgeSet().size());
+                for (DefaultWeightedEdge e : expected.edgeSet()) {
+                    DefaultWeightedEdge f =
+                        tree.getEdge(expected.getEdgeSource(e), expected.getEdgeTarget(e));
+                    assertNotNull(f);
+                    assertEquals(expected.getEdgeWeight(e), tree.getEdgeWeight(f), 0);
+                }
+                for (int i = 0; i < 80; i += 7)
+                    for (int j = i + 1; j < 80; j += 5)
+                        assertEquals(
+                            sequential.getMaximumFlowValue(i, j), alg.getMaximumFlowValue(i, j),
+                            0);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
 }
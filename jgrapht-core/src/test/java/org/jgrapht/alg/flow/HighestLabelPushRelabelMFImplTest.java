@@ -0,0 +1,92 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link HighestLabelPushRelabelMFImpl}.
+ *
+ * @author Dimitrios Michail
+ */
+public class HighestLabelPushRelabelMFImplTest
+    extends MaximumFlowAlgorithmTest
+{
+    @Override
+    MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new HighestLabelPushRelabelMFImpl<>(network);
+    }
+
+    @Test
+    public void testMultigraphWithSelfLoops()
+    {
+        Graph<Integer, DefaultWeightedEdge> network =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(network, Arrays.asList(0, 1, 2));
+        Graphs.addEdge(network, 0, 1, 2d);
+        Graphs.addEdge(network, 0, 1, 3d);
+        Graphs.addEdge(network, 1, 1, 10d);
+        Graphs.addEdge(network, 1, 2, 4d);
+        Graphs.addEdge(network, 2, 1, 7d);
+
+        MaximumFlowAlgorithm.MaximumFlow<DefaultWeightedEdge> flow =
+            createSolver(network).getMaximumFlow(0, 2);
+        verifyDirected(0, 2, 4d, network, flow);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (int test = 0; test < 20; test++) {
+            Graph<Integer, DefaultWeightedEdge> network = new DirectedWeightedMultigraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 3000, rng, false, true)
+                .generateGraph(network);
+            network.edgeSet().forEach(e -> network.setEdgeWeight(e, rng.nextDouble() * 100));
+
+            HighestLabelPushRelabelMFImpl<Integer, DefaultWeightedEdge> solver =
+                new HighestLabelPushRelabelMFImpl<>(network);
+            for (int i = 0; i < 5; i++) {
+                int source = rng.nextInt(300);
+                int sink = rng.nextInt(300);
+                if (source == sink) {
+                    continue;
+                }
+                double expected =
+                    new PushRelabelMFImpl<>(network).getMaximumFlowValue(source, sink);
+                verifyDirected(
+                    source, sink, expected, network, solver.getMaximumFlow(source, sink));
+                assertEquals(
+                    expected,
+                    solver.getCutEdges().stream().mapToDouble(network::getEdgeWeight).sum(), 1e-6);
+            }
+        }
+    }
+}
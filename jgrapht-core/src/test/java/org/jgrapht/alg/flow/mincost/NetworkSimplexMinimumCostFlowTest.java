@@ -0,0 +1,304 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MinimumCostFlowAlgorithm.*;
+import org.jgrapht.generate.netgen.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link NetworkSimplexMinimumCostFlow}
+ *
+ * @author Dimitrios Michail
+ */
+public class NetworkSimplexMinimumCostFlowTest
+{
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void testSimple()
+    {
+        // supply, then edges as source, target, lower, upper, cost
+        int[][] testCase = new int[][] { { 1, 4 }, { 4, -4 }, { 1, 2, 0, 4, 2 }, { 1, 3, 0, 1, 3 },
+            { 2, 3, 0, 1, 1 }, { 2, 4, 0, 5, 6 }, { 3, 4, 0, 4, 2 } };
+        test(testCase, 26);
+    }
+
+    @Test
+    public void testLowerBoundsAndNegativeCosts()
+    {
+        int[][] testCase = new int[][] { { 1, 2731 }, { 2, 414 }, { 3, -1264 }, { 4, 216 },
+            { 5, -1785 }, { 6, -312 }, { 1, 4, 910, 2147483647, 10 }, { 1, 5, 957, 2147483647, 1 },
+            { 1, 3, 863, 2147483647, 3 }, { 3, 5, 1, 1, -5 }, { 3, 6, 1, 1, 10 }, { 3, 4, 1, 9, 2 },
+            { 4, 3, 1, 1, 8 }, { 4, 5, 820, 2147483647, 4 }, { 4, 6, 306, 2147483647, 7 },
+            { 2, 5, 1, 9, 7 }, { 2, 6, 1, 9, 10 }, { 2, 3, 403, 2147483647, 6 }, };
+        test(testCase, 20594);
+    }
+
+    @Test
+    public void testNegativeCycle()
+    {
+        // a negative cost cycle 2 -> 3 -> 2 with finite capacities
+        int[][] testCase = new int[][] { { 1, 2 }, { 4, -2 }, { 1, 2, 0, 2, 1 }, { 2, 3, 0, 5, -3 },
+            { 3, 2, 0, 4, 1 }, { 2, 4, 0, 2, 1 }, { 3, 3, 0, 3, -1 } };
+        test(testCase, 2 + 4 * -3 + 4 + 2 - 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnbounded()
+    {
+        int[][] testCase =
+            new int[][] { { 1, 0 }, { 1, 2, 0, 2147483647, -1 }, { 2, 1, 0, 2147483647, 0 } };
+        test(testCase, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfeasible()
+    {
+        int[][] testCase = new int[][] { { 1, 3 }, { 2, -3 }, { 1, 2, 0, 2, 1 } };
+        test(testCase, 0);
+    }
+
+    @Test
+    public void testRandomNetworks()
+    {
+        for (long seed = 0; seed < 20; seed++) {
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem = generate(seed, 60, 300);
+            MinimumCostFlow<DefaultWeightedEdge> expected =
+                new CapacityScalingMinimumCostFlow<Integer, DefaultWeightedEdge>()
+                    .getMinimumCostFlow(problem);
+
+            NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> alg =
+                new NetworkSimplexMinimumCostFlow<>();
+            MinimumCostFlow<DefaultWeightedEdge> flow = alg.getMinimumCostFlow(problem);
+            assertEquals(expected.getCost(), flow.getCost(), EPS);
+            assertTrue(alg.testOptimality(EPS));
+            checkFlowAndDualSolution(alg.getDualSolution(), flow, problem);
+        }
+    }
+
+    @Test
+    public void testWarmStart()
+    {
+        Random rng = new Random(3);
+        for (long seed = 0; seed < 10; seed++) {
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem = generate(seed, 80, 400);
+            NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> alg =
+                new NetworkSimplexMinimumCostFlow<>();
+            MinimumCostFlow<DefaultWeightedEdge> flow = alg.getMinimumCostFlow(problem);
+            Map<Integer, Double> potentials = alg.getDualSolution();
+
+            // change some capacities and costs
+            Graph<Integer, DefaultWeightedEdge> graph = problem.getGraph();
+            Map<DefaultWeightedEdge, Integer> capacities = new HashMap<>();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                int capacity = problem.getArcCapacityUpperBounds().apply(e);
+                if (rng.nextInt(10) == 0 && capacity < CapacityScalingMinimumCostFlow.CAP_INF) {
+                    capacity = rng.nextInt(capacity + 1);
+                }
+                if (rng.nextInt(10) == 0) {
+                    graph.setEdgeWeight(e, 1 + rng.nextInt(50));
+                }
+                capacities.put(e, capacity);
+            }
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> changed =
+                new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                    graph, problem.getNodeSupply(), capacities::get);
+
+            double expected;
+            try {
+                expected = new CapacityScalingMinimumCostFlow<Integer, DefaultWeightedEdge>()
+                    .getMinimumCostFlow(changed).getCost();
+            } catch (IllegalArgumentException ex) {
+                // infeasible after the change
+                continue;
+            }
+
+            List<NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge>> algs =
+                new ArrayList<>();
+            List<MinimumCostFlow<DefaultWeightedEdge>> flows = new ArrayList<>();
+            for (int mode = 0; mode < 3; mode++) {
+                NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> warm =
+                    new NetworkSimplexMinimumCostFlow<>();
+                flows.add(
+                    warm.getMinimumCostFlow(
+                        changed, mode == 1 ? null : flow.getFlowMap(),
+                        mode == 0 ? null : potentials));
+                algs.add(warm);
+            }
+            for (int mode = 0; mode < 3; mode++) {
+                assertEquals(expected, flows.get(mode).getCost(), EPS);
+                assertTrue(algs.get(mode).testOptimality(EPS));
+                checkFlowAndDualSolution(
+                    algs.get(mode).getDualSolution(), flows.get(mode), changed);
+            }
+        }
+    }
+
+    @Test
+    public void testDegenerateWarmStart()
+    {
+        // costs in {0,1} create many arcs at a bound with zero reduced cost
+        Random rng = new Random(11);
+        for (long seed = 0; seed < 10; seed++) {
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem = generate(seed, 60, 300);
+            Graph<Integer, DefaultWeightedEdge> graph = problem.getGraph();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, rng.nextInt(2));
+            }
+            NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> alg =
+                new NetworkSimplexMinimumCostFlow<>();
+            MinimumCostFlow<DefaultWeightedEdge> flow = alg.getMinimumCostFlow(problem);
+            Map<Integer, Double> potentials = alg.getDualSolution();
+
+            Map<DefaultWeightedEdge, Integer> capacities = new HashMap<>();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                int capacity = problem.getArcCapacityUpperBounds().apply(e);
+                if (rng.nextInt(5) == 0 && capacity < CapacityScalingMinimumCostFlow.CAP_INF) {
+                    capacity = rng.nextInt(capacity + 1);
+                }
+                capacities.put(e, capacity);
+            }
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> changed =
+                new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                    graph, problem.getNodeSupply(), capacities::get);
+
+            double expected;
+            try {
+                expected = new CapacityScalingMinimumCostFlow<Integer, DefaultWeightedEdge>()
+                    .getMinimumCostFlow(changed).getCost();
+            } catch (IllegalArgumentException ex) {
+                // infeasible after the change
+                continue;
+            }
+            for (int mode = 0; mode < 3; mode++) {
+                NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> warm =
+                    new NetworkSimplexMinimumCostFlow<>();
+                MinimumCostFlow<DefaultWeightedEdge> warmFlow = warm.getMinimumCostFlow(
+                    changed, mode == 1 ? null : flow.getFlowMap(), mode == 0 ? null : potentials);
+                assertEquals(expected, warmFlow.getCost(), EPS);
+                assertTrue(warm.testOptimality(EPS));
+                checkFlowAndDualSolution(warm.getDualSolution(), warmFlow, changed);
+            }
+        }
+    }
+
+    @Test
+    public void testWarmStartWithInfeasibleFlow()
+    {
+        MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem = generate(5, 50, 250);
+        double expected = new NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge>()
+            .getMinimumCostFlow(problem).getCost();
+
+        Random rng = new Random(7);
+        Map<DefaultWeightedEdge, Double> initialFlow = new HashMap<>();
+        for (DefaultWeightedEdge e : problem.getGraph().edgeSet()) {
+            initialFlow.put(e, (double) rng.nextInt(1000) - 100);
+        }
+        NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> alg =
+            new NetworkSimplexMinimumCostFlow<>();
+        MinimumCostFlow<DefaultWeightedEdge> flow =
+            alg.getMinimumCostFlow(problem, initialFlow, null);
+        assertEquals(expected, flow.getCost(), EPS);
+        checkFlowAndDualSolution(alg.getDualSolution(), flow, problem);
+    }
+
+    private static MinimumCostFlowProblem<Integer, DefaultWeightedEdge> generate(
+        long seed, int nodeNum, int arcNum)
+    {
+        NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+            .setParams(nodeNum, arcNum, 5, 5, 2, 2, 1000, 1, 100, 1, 50, 60, 0).build();
+        Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem =
+            new NetworkGenerator<Integer, DefaultWeightedEdge>(config, seed)
+                .generateMinimumCostFlowProblem(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, problem.getArcCosts().apply(e));
+        }
+        return new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+            graph, problem.getNodeSupply(), problem.getArcCapacityUpperBounds());
+    }
+
+    private void test(int[][] testCase, double cost)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Map<Integer, Integer> supplyMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> lowerMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> upperMap = new HashMap<>();
+        for (int[] data : testCase) {
+            if (data.length == 2) {
+                graph.addVertex(data[0]);
+                supplyMap.put(data[0], data[1]);
+            } else {
+                DefaultWeightedEdge edge =
+                    Graphs.addEdgeWithVertices(graph, data[0], data[1], data[4]);
+                lowerMap.put(edge, data[2]);
+                upperMap.put(edge, data[3]);
+            }
+        }
+        MinimumCostFlowProblem<Integer,
+            DefaultWeightedEdge> problem = new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                graph, v -> supplyMap.getOrDefault(v, 0), upperMap::get,
+                e -> lowerMap.getOrDefault(e, 0));
+        NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> alg =
+            new NetworkSimplexMinimumCostFlow<>();
+        MinimumCostFlow<DefaultWeightedEdge> flow = alg.getMinimumCostFlow(problem);
+        assertEquals(cost, flow.getCost(), EPS);
+        assertTrue(alg.testOptimality(EPS));
+        checkFlowAndDualSolution(alg.getDualSolution(), flow, problem);
+    }
+
+    private static <V, E> void checkFlowAndDualSolution(
+        Map<V, Double> dualVariables, MinimumCostFlow<E> flow, MinimumCostFlowProblem<V, E> problem)
+    {
+        Graph<V, E> graph = problem.getGraph();
+        for (V vertex : graph.vertexSet()) {
+            double balance = 0;
+            for (E edge : graph.outgoingEdgesOf(vertex)) {
+                balance += flow.getFlow(edge);
+            }
+            for (E edge : graph.incomingEdgesOf(vertex)) {
+                balance -= flow.getFlow(edge);
+            }
+            assertEquals(problem.getNodeSupply().apply(vertex), balance, EPS);
+        }
+        for (E edge : graph.edgeSet()) {
+            double f = flow.getFlow(edge);
+            assertTrue(f >= problem.getArcCapacityLowerBounds().apply(edge));
+            assertTrue(f <= problem.getArcCapacityUpperBounds().apply(edge));
+            double reducedCost = problem.getArcCosts().apply(edge)
+                + dualVariables.get(graph.getEdgeTarget(edge))
+                - dualVariables.get(graph.getEdgeSource(edge));
+            if (f < problem.getArcCapacityUpperBounds().apply(edge)) {
+                assertTrue(reducedCost >= -EPS);
+            }
+            if (f > problem.getArcCapacityLowerBounds().apply(edge)) {
+                assertTrue(reducedCost <= EPS);
+            }
+        }
+    }
+}
@@ -18,13 +18,16 @@
 package org.jgrapht.alg.isomorphism;
 
 import org.jgrapht.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Testing the class GraphOrdering
@@ -269,4 +272,28 @@ public class GraphOrderingTest
         assertEquals(false, g1Ordering.hasEdge(v5o, v4o));
         assertEquals(false, g1Ordering.hasEdge(v5o, v5o));
     }
+
+    @Test
+    public void testSparseCache()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultEdge> g = directed
+                ? new DirectedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+                : new Pseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(60, 400, 3, true, false)
+                .generateGraph(g);
+
+            GraphOrdering<Integer, DefaultEdge> sparse = new GraphOrdering<>(g, true, true, true);
+            GraphOrdering<Integer, DefaultEdge> uncached = new GraphOrdering<>(g, true, false);
+            for (int i = 0; i < g.vertexSet().size(); i++) {
+                for (int j = 0; j < g.vertexSet().size(); j++) {
+                    assertEquals(uncached.hasEdge(i, j), sparse.hasEdge(i, j));
+                    assertSame(uncached.getEdge(i, j), sparse.getEdge(i, j));
+                }
+            }
+        }
+    }
 }
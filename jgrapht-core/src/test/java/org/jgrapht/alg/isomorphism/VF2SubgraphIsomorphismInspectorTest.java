@@ -22,6 +22,9 @@ import org.jgrapht.graph.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
 
 import static org.junit.Assert.*;
 
@@ -923,4 +926,125 @@ public class VF2SubgraphIsomorphismInspectorTest
                 + (System.currentTimeMillis() - time) + "ms");
     }
 
+    @Test
+    public void testLargeTargetGraph()
+    {
+        int n = GraphOrdering.DENSE_CACHE_MAX_VERTICES + 1000;
+        Graph<Integer, DefaultEdge> g1 =
+            SubgraphIsomorphismTestUtils.randomGraph(n, 8 * n, 4242);
+
+        // directed triangle
+        Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g2, List.of(0, 1, 2));
+        g2.addEdge(0, 1);
+        g2.addEdge(1, 2);
+        g2.addEdge(2, 0);
+
+        VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> cached =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2, true);
+        VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> uncached =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2, false);
+
+        int count = 0;
+        Iterator<GraphMapping<Integer, DefaultEdge>> it = cached.getMappings();
+        while (it.hasNext()) {
+            GraphMapping<Integer, DefaultEdge> mapping = it.next();
+            for (DefaultEdge e : g2.edgeSet()) {
+                assertNotNull(mapping.getEdgeCorrespondence(e, false));
+            }
+            count++;
+        }
+        int expected = 0;
+        it = uncached.getMappings();
+        while (it.hasNext()) {
+            it.next();
+            expected++;
+        }
+        assertTrue(expected > 0);
+        assertEquals(expected, count);
+    }
+
+    @Test
+    public void testParallelEnumeration()
+    {
+        Graph<Integer, DefaultEdge> g1 = SubgraphIsomorphismTestUtils.randomGraph(300, 1500, 77);
+
+        // directed path with a back edge
+        Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g2, List.of(0, 1, 2, 3));
+        g2.addEdge(0, 1);
+        g2.addEdge(1, 2);
+        g2.addEdge(2, 3);
+        g2.addEdge(3, 1);
+
+        for (boolean cacheEdges : new boolean[] { true, false }) {
+            VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+                new VF2SubgraphIsomorphismInspector<>(g1, g2, cacheEdges);
+
+            List<Map<Integer, Integer>> expected = new ArrayList<>();
+            vf2.getMappings().forEachRemaining(m -> expected.add(toMap(m, g2)));
+            assertFalse(expected.isEmpty());
+
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                Queue<Map<Integer, Integer>> parallel = new ConcurrentLinkedQueue<>();
+                long count = vf2.forEachMapping(pool, Long.MAX_VALUE, m -> {
+                    parallel.add(toMap(m, g2));
+                    return true;
+                });
+                assertEquals(expected.size(), count);
+                assertEquals(new HashSet<>(expected), new HashSet<>(parallel));
+                assertEquals(expected.size(), parallel.size());
+
+                // cap on the number of mappings
+                AtomicInteger capped = new AtomicInteger();
+                assertEquals(5, vf2.forEachMapping(pool, 5, m -> capped.incrementAndGet() > 0));
+                assertEquals(5, capped.get());
+
+                // early termination
+                AtomicInteger calls = new AtomicInteger();
+                long stopped = vf2.forEachMapping(pool, Long.MAX_VALUE, m -> {
+                    calls.incrementAndGet();
+                    return false;
+                });
+                assertEquals(calls.get(), stopped);
+                assertTrue(stopped >= 1 && stopped <= 4);
+            } finally {
+                pool.shutdown();
+            }
+
+            // parallel stream keeps the encounter order
+            List<Map<Integer, Integer>> streamed =
+                StreamSupport.stream(vf2.getMappingsSpliterator(), true).map(m -> toMap(m, g2))
+                    .collect(Collectors.toList());
+            assertEquals(expected, streamed);
+            assertEquals(
+                expected.subList(0, 3),
+                StreamSupport.stream(vf2.getMappingsSpliterator(), true).limit(3)
+                    .map(m -> toMap(m, g2)).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testParallelEnumerationEmptyPattern()
+    {
+        Graph<Integer, DefaultEdge> g1 = SubgraphIsomorphismTestUtils.randomGraph(50, 100, 1);
+        Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+
+        VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2);
+        assertEquals(1, vf2.forEachMapping(ForkJoinPool.commonPool(), 10, m -> true));
+        assertEquals(1, StreamSupport.stream(vf2.getMappingsSpliterator(), true).count());
+    }
+
+    private static Map<Integer, Integer> toMap(
+        GraphMapping<Integer, DefaultEdge> mapping, Graph<Integer, DefaultEdge> g2)
+    {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (Integer v : g2.vertexSet()) {
+            map.put(v, mapping.getVertexCorrespondence(v, false));
+        }
+        return map;
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ApproximateBetweennessCentrality}
+ *
+ * @author Dimitrios Michail
+ */
+public class ApproximateBetweennessCentralityTest
+{
+    private static final double EPSILON = 0.02;
+    private static final double DELTA = 0.1;
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        ApproximateBetweennessCentrality<Integer, DefaultEdge> bc =
+            new ApproximateBetweennessCentrality<>(g, EPSILON, DELTA);
+        assertTrue(bc.getScores().isEmpty());
+        assertEquals(0, bc.getNumberOfSamples());
+    }
+
+    @Test
+    public void testStar()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2, 3, 4, 5));
+        for (int i = 1; i < 6; i++) {
+            g.addEdge(0, i);
+        }
+
+        ApproximateBetweennessCentrality<Integer, DefaultEdge> bc =
+            new ApproximateBetweennessCentrality<>(g, EPSILON, DELTA, true, 1);
+        // all paths between two leaves pass through the center
+        double exact = new BetweennessCentrality<>(g, true).getVertexScore(0);
+        assertEquals(exact, bc.getVertexScore(0), EPSILON);
+        for (int i = 1; i < 6; i++) {
+            assertEquals(0d, bc.getVertexScore(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testUndirectedUnweighted()
+    {
+        assertApproximation(createGraph(false, false), null);
+    }
+
+    @Test
+    public void testDirectedUnweighted()
+    {
+        assertApproximation(createGraph(true, false), null);
+    }
+
+    @Test
+    public void testUndirectedWeighted()
+    {
+        assertApproximation(createGraph(false, true), null);
+    }
+
+    @Test
+    public void testDirectedWeighted()
+    {
+        assertApproximation(createGraph(true, true), null);
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Graph<Integer, DefaultWeightedEdge> g = createGraph(false, false);
+            assertApproximation(g, executor);
+
+            // same seed and parallelism give the same estimation
+            Map<Integer, Double> first = new ApproximateBetweennessCentrality<>(
+                g, EPSILON, DELTA, false, 5, executor).getScores();
+            Map<Integer, Double> second = new ApproximateBetweennessCentrality<>(
+                g, EPSILON, DELTA, false, 5, executor).getScores();
+            assertEquals(first, second);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEpsilon()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new ApproximateBetweennessCentrality<>(g, 0d, DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDelta()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new ApproximateBetweennessCentrality<>(g, EPSILON, 1d);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        boolean directed, boolean weighted)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = (directed
+            ? GraphTypeBuilder.<Integer, DefaultWeightedEdge> directed()
+            : GraphTypeBuilder.<Integer, DefaultWeightedEdge> undirected())
+            .allowingMultipleEdges(true).allowingSelfLoops(true).weighted(weighted)
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, directed ? 240 : 120, 3)
+            .generateGraph(g);
+        if (weighted) {
+            Random rng = new Random(3);
+            g.edgeSet().forEach(e -> g.setEdgeWeight(e, 1 + rng.nextInt(3)));
+        }
+        return g;
+    }
+
+    private static void assertApproximation(
+        Graph<Integer, DefaultWeightedEdge> g, ThreadPoolExecutor executor)
+    {
+        int n = g.vertexSet().size();
+        Map<Integer, Double> exact = new BetweennessCentrality<>(g).getScores();
+        ApproximateBetweennessCentrality<Integer, DefaultWeightedEdge> bc =
+            new ApproximateBetweennessCentrality<>(g, EPSILON, DELTA, false, 11, executor);
+        Map<Integer, Double> approx = bc.getScores();
+
+        // scale back to the fraction of ordered pairs
+        double factor = (g.getType().isDirected() ? 1d : 2d) / (n * (n - 1d));
+        for (Integer v : g.vertexSet()) {
+            assertEquals(exact.get(v) * factor, approx.get(v) * factor, EPSILON);
+        }
+        assertTrue(bc.getNumberOfSamples() > 0);
+    }
+
+}
@@ -22,11 +22,13 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.scoring.BetweennessCentrality.OverflowStrategy;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 import org.junit.experimental.categories.Category;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -581,4 +583,59 @@ public class BetweennessCentralityTest
         assertEquals(scores.get(3290), 0d, 1e-9);
     }
 
+    @Test(expected = ArithmeticException.class)
+    public void testOverflowParallel()
+        throws InterruptedException
+    {
+        final Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 3300; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 3290; i++)
+            for (int j = 0; j < 10; j++)
+                g.addEdge(i, i - i % 10 + 10 + j);
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            VertexScoringAlgorithm<Integer, Double> bc = new BetweennessCentrality<>(
+                g, false, OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW, executor);
+            bc.getScores();
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (boolean weighted : new boolean[] { true, false }) {
+                    Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                        .<Integer, DefaultWeightedEdge> forGraphType(
+                            directed ? DefaultGraphType.directedPseudograph()
+                                : DefaultGraphType.pseudograph())
+                        .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                        .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                        100, 400, 7, true, true).generateGraph(g);
+                    if (weighted) {
+                        Random rng = new Random(7);
+                        g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextInt(4)));
+                    }
+
+                    Map<Integer, Double> expected =
+                        new BetweennessCentrality<>(g, true).getScores();
+                    Map<Integer, Double> actual = new BetweennessCentrality<>(
+                        g, true, OverflowStrategy.IGNORE_OVERFLOW, executor).getScores();
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(expected.get(v), actual.get(v), 1e-9);
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
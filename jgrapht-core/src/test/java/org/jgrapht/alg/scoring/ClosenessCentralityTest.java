@@ -19,6 +19,7 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.graph.*;
 import org.junit.*;
 
@@ -158,6 +159,27 @@ public class ClosenessCentralityTest
         assertEquals(Double.POSITIVE_INFINITY, pr.getVertexScore("1"), 1e-9);
     }
 
+    @Test
+    public void testOverriddenShortestPathAlgorithm()
+    {
+        Graph<String, DefaultEdge> g = createInstance1();
+        VertexScoringAlgorithm<String, Double> expected =
+            new ClosenessCentrality<>(g, false, false);
+
+        // distances are doubled by the overridden shortest path algorithm
+        VertexScoringAlgorithm<String, Double> pr = new ClosenessCentrality<>(g, false, false)
+        {
+            @Override
+            protected ShortestPathAlgorithm<String, DefaultEdge> getShortestPathAlgorithm()
+            {
+                return new DijkstraShortestPath<>(new AsWeightedGraph<>(g, e -> 2d, false, false));
+            }
+        };
+        for (String v : g.vertexSet()) {
+            assertEquals(expected.getVertexScore(v) / 2, pr.getVertexScore(v), 1e-9);
+        }
+    }
+
     private Graph<String, DefaultEdge> createInstance1()
     {
         DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
@@ -20,11 +20,17 @@ package org.jgrapht.alg.scoring;
 import static org.junit.Assert.assertEquals;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.alg.scoring.EdgeBetweennessCentrality.OverflowStrategy;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
 import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jgrapht.util.SupplierUtil;
 import org.junit.Test;
 
@@ -236,4 +242,49 @@ public class EdgeBetweennessCentralityTest
         assertEquals(5.0, ebc.getEdgeScore(edgeFG), 1e-9);
     }
 
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (boolean weighted : new boolean[] { true, false }) {
+                    Graph<Integer, DefaultWeightedEdge> g = (directed
+                        ? GraphTypeBuilder.<Integer, DefaultWeightedEdge> directed()
+                        : GraphTypeBuilder.<Integer, DefaultWeightedEdge> undirected())
+                        .allowingMultipleEdges(false).allowingSelfLoops(true).weighted(weighted)
+                        .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                        .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                        100, 400, 7, true, false).generateGraph(g);
+                    if (weighted) {
+                        Random rng = new Random(7);
+                        g.edgeSet().forEach(e -> g.setEdgeWeight(e, 1 + rng.nextInt(4)));
+                    }
+
+                    Map<DefaultWeightedEdge, Double> expected =
+                        new EdgeBetweennessCentrality<>(g).getScores();
+                    Map<DefaultWeightedEdge, Double> actual = new EdgeBetweennessCentrality<>(
+                        g, OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW, null, executor)
+                            .getScores();
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        assertEquals(expected.get(e), actual.get(e), 1e-9);
+                    }
+
+                    List<Integer> subset = List.of(0, 5, 17, 42);
+                    expected = new EdgeBetweennessCentrality<>(
+                        g, OverflowStrategy.IGNORE_OVERFLOW, subset).getScores();
+                    actual = new EdgeBetweennessCentrality<>(
+                        g, OverflowStrategy.IGNORE_OVERFLOW, subset, executor).getScores();
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        assertEquals(expected.get(e), actual.get(e), 1e-9);
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
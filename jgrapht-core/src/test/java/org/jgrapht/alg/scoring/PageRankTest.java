@@ -17,10 +17,16 @@
  */
 package org.jgrapht.alg.scoring;
 
+import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.junit.Assert.*;
 
 /**
@@ -301,4 +307,52 @@ public class PageRankTest
 
     }
 
+    @Test
+    public void testParallelUnweighted()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(500, 0.02, 17).generateGraph(g);
+
+        assertParallelEqualsSequential(g);
+    }
+
+    @Test
+    public void testParallelWeighted()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(500, 0.02, 17)
+            .generateGraph(g);
+        Random rng = new Random(17);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1d + rng.nextInt(10));
+        }
+
+        assertParallelEqualsSequential(g);
+    }
+
+    private <V, E> void assertParallelEqualsSequential(Graph<V, E> g)
+        throws InterruptedException
+    {
+        Map<V, Double> expected = new PageRank<>(g, 0.85, 100, 1e-9).getScores();
+
+        for (int parallelism : new int[] { 1, 3, 8 }) {
+            ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
+            try {
+                Map<V, Double> first = new PageRank<>(g, 0.85, 100, 1e-9, executor).getScores();
+                Map<V, Double> second = new PageRank<>(g, 0.85, 100, 1e-9, executor).getScores();
+                for (V v : g.vertexSet()) {
+                    assertEquals(expected.get(v), first.get(v), 1e-12);
+                    // the reduction order is fixed, thus repeated runs are identical
+                    assertEquals(first.get(v), second.get(v));
+                }
+            } finally {
+                ConcurrencyUtil.shutdownExecutionService(executor);
+            }
+        }
+    }
+
 }
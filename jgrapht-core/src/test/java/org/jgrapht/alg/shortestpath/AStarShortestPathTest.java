@@ -22,6 +22,8 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.*;
 
 /**
@@ -103,4 +105,26 @@ public class AStarShortestPathTest
         // shortest path from 3 to 2 is 3->0->1->2 with weight 0.9641320715228003
         assertEquals(0.9641320715228003, alg.getPath(3, 2).getWeight(), 1e-9);
     }
+
+    @Test
+    public void testReopenedVertexImprovedAgain()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        g.setEdgeWeight(g.addEdge(0, 1), 10d);
+        g.setEdgeWeight(g.addEdge(0, 2), 4d);
+        g.setEdgeWeight(g.addEdge(2, 1), 1d);
+        g.setEdgeWeight(g.addEdge(2, 3), 0.25);
+        g.setEdgeWeight(g.addEdge(3, 1), 0.25);
+        g.setEdgeWeight(g.addEdge(1, 4), 20d);
+
+        // admissible but inconsistent, vertex 1 is closed, reopened from 2 and then improved
+        // again from 3 while in the open list
+        AStarAdmissibleHeuristic<Integer> h = (s, t) -> s == 2 ? 7d : 0d;
+
+        GraphPath<Integer, DefaultWeightedEdge> path = new AStarShortestPath<>(g, h).getPath(0, 4);
+        assertEquals(24.5, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(0, 2, 3, 1, 4), path.getVertexList());
+    }
 }
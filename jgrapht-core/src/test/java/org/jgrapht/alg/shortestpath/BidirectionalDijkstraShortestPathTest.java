@@ -426,6 +426,47 @@ public class BidirectionalDijkstraShortestPathTest
         }
     }
 
+    @Test
+    public void testWorkspace()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 80, 5)
+                .generateGraph(g);
+            Random rng = new Random(5);
+            g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextDouble()));
+
+            DijkstraWorkspace<Integer, DefaultWeightedEdge> workspace =
+                new DijkstraWorkspace<>(g);
+            for (double radius : new double[] { Double.POSITIVE_INFINITY, 0.8 }) {
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(g, radius);
+                BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> actual =
+                    new BidirectionalDijkstraShortestPath<>(g, radius, workspace);
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        GraphPath<Integer, DefaultWeightedEdge> p1 = expected.getPath(v, u);
+                        GraphPath<Integer, DefaultWeightedEdge> p2 = actual.getPath(v, u);
+                        if (p1 == null) {
+                            assertNull(p2);
+                        } else {
+                            assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                            assertEquals(p2.getWeight(), computePathWeight(g, p2), 1e-9);
+                            assertEquals(v, p2.getStartVertex());
+                            assertEquals(u, p2.getEndVertex());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private <V, E> double computePathWeight(Graph<V, E> g, GraphPath<V, E> path)
     {
         if (path.getEdgeList().isEmpty()) {
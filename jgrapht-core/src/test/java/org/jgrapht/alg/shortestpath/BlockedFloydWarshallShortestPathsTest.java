@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BlockedFloydWarshallShortestPaths}.
+ *
+ * @author Dimitrios Michail
+ */
+public class BlockedFloydWarshallShortestPathsTest
+{
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testSingleVertex()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex(0);
+        BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> sp =
+            new BlockedFloydWarshallShortestPaths<>(g);
+        assertEquals(0d, sp.getPathWeight(0, 0), 0d);
+        assertEquals(List.of(0), sp.getPath(0, 0).getVertexList());
+    }
+
+    @Test
+    public void testSequential()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int blockSize : new int[] { 1, 4, 7, 64 }) {
+                Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, false, blockSize);
+                assertSameAsFloydWarshall(
+                    g, new BlockedFloydWarshallShortestPaths<>(g, blockSize, false, null, null),
+                    EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, true, 13);
+        assertSameAsFloydWarshall(
+            g, new BlockedFloydWarshallShortestPaths<>(g, 8, false, null, null), EPSILON);
+    }
+
+    @Test
+    public void testParallel()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, false, 3);
+                assertSameAsFloydWarshall(
+                    g, new BlockedFloydWarshallShortestPaths<>(g, 5, false, null, pool), EPSILON);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSinglePrecision()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, false, 17);
+        assertSameAsFloydWarshall(
+            g, new BlockedFloydWarshallShortestPaths<>(g, 8, true, null, null), 1e-3);
+    }
+
+    @Test
+    public void testSpillFile()
+        throws IOException
+    {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        Path file = Files.createTempFile("apsp", ".bin");
+        try {
+            for (boolean singlePrecision : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createGraph(false, false, 19);
+                assertSameAsFloydWarshall(
+                    g, new BlockedFloydWarshallShortestPaths<>(g, 6, singlePrecision, file, pool),
+                    singlePrecision ? 1e-3 : EPSILON);
+            }
+        } finally {
+            pool.shutdown();
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, false, 17);
+        new BlockedFloydWarshallShortestPaths<>(g, 0, false, null, null);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        boolean directed, boolean negative, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = (directed
+            ? GraphTypeBuilder.<Integer, DefaultWeightedEdge> directed()
+            : GraphTypeBuilder.<Integer, DefaultWeightedEdge> undirected())
+            .allowingMultipleEdges(true).allowingSelfLoops(true).weighted(true)
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 0.1, seed, true)
+            .generateGraph(g);
+        Random rng = new Random(seed);
+        Map<Integer, Double> potential = new HashMap<>();
+        for (Integer v : g.vertexSet()) {
+            potential.put(v, negative ? rng.nextInt(100) : 0d);
+        }
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            // reweighting with potentials creates negative edges but keeps cycles positive
+            g.setEdgeWeight(
+                e, 1 + rng.nextInt(100) + potential.get(g.getEdgeSource(e))
+                    - potential.get(g.getEdgeTarget(e)));
+        }
+        return g;
+    }
+
+    private static void assertSameAsFloydWarshall(
+        Graph<Integer, DefaultWeightedEdge> g,
+        BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> blocked, double epsilon)
+    {
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+            new FloydWarshallShortestPaths<>(g);
+        for (Integer u : g.vertexSet()) {
+            for (Integer v : g.vertexSet()) {
+                double expected = fw.getPathWeight(u, v);
+                assertEquals(expected, blocked.getPathWeight(u, v), epsilon);
+
+                GraphPath<Integer, DefaultWeightedEdge> path = blocked.getPath(u, v);
+                if (Double.isInfinite(expected)) {
+                    assertNull(path);
+                    assertNull(blocked.getFirstHop(u, v));
+                    continue;
+                }
+                assertEquals(u, path.getStartVertex());
+                assertEquals(v, path.getEndVertex());
+                assertEquals(expected, path.getWeight(), epsilon);
+                double weight = 0d;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    weight += g.getEdgeWeight(e);
+                }
+                assertEquals(path.getWeight(), weight, EPSILON);
+                if (!u.equals(v)) {
+                    assertEquals(path.getVertexList().get(1), blocked.getFirstHop(u, v));
+                }
+            }
+        }
+    }
+}
@@ -166,6 +166,37 @@ public class ContractionHierarchyBidirectionalDijkstraTest
         }
     }
 
+    @Test
+    public void testConcurrentQueries()
+        throws InterruptedException, ExecutionException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(200, 5 * 200, new Random(SEED));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> data =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> algorithm =
+            new ContractionHierarchyBidirectionalDijkstra<>(data);
+
+        // a single instance is shared by all threads
+        ExecutorService queryExecutor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Integer source : graph.vertexSet()) {
+                futures.add(
+                    queryExecutor.submit(
+                        () -> assertEqualPaths(
+                            new DijkstraShortestPath<>(graph).getPaths(source),
+                            algorithm.getPaths(source), graph.vertexSet())));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(queryExecutor);
+        }
+    }
+
     /**
      * Creates a connected graph with {@code size} vertices in which every vertex is connected to
      * only $2$ other vertices.
@@ -0,0 +1,223 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ContractionHierarchyCustomization}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ContractionHierarchyCustomizationTest
+{
+    private static final long SEED = 19L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testDirected()
+    {
+        testUpdates(new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        testUpdates(new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testCustomizeMatchesIncrementalUpdates()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, true, executor)
+                .computeContractionHierarchy();
+        ContractionHierarchyCustomization<Integer, DefaultWeightedEdge> customization =
+            new ContractionHierarchyCustomization<>(hierarchy, executor);
+        customization.updateEdgeWeights(randomWeights(graph, 20, random));
+
+        Map<ContractionEdge<DefaultWeightedEdge>, Double> incremental = new HashMap<>();
+        Graph<ContractionVertex<Integer>, ContractionEdge<DefaultWeightedEdge>> contractionGraph =
+            hierarchy.getContractionGraph();
+        for (ContractionEdge<DefaultWeightedEdge> e : contractionGraph.edgeSet()) {
+            incremental.put(e, contractionGraph.getEdgeWeight(e));
+        }
+
+        customization.customize();
+        for (ContractionEdge<DefaultWeightedEdge> e : contractionGraph.edgeSet()) {
+            assertEquals(incremental.get(e), contractionGraph.getEdgeWeight(e), 1e-9);
+        }
+    }
+
+    @Test
+    public void testTransitNodeRoutingRecomputedAfterCustomization()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, true, executor)
+                .computeContractionHierarchy();
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+        new ContractionHierarchyCustomization<>(hierarchy, executor).customize();
+
+        // the transit node routing is recomputed from the customized hierarchy
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> tnr =
+            new TransitNodeRoutingShortestPath<>(
+                new TransitNodeRoutingPrecomputation<>(hierarchy, executor)
+                    .computeTransitNodeRouting());
+        for (Integer source : List.of(0, 7, 21)) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(graph).getPaths(source);
+            for (Integer sink : graph.vertexSet()) {
+                assertEquals(
+                    expected.getWeight(sink), tnr.getPathWeight(source, sink), 1e-9);
+                assertEquals(
+                    expected.getWeight(sink), tnr.getPath(source, sink).getWeight(), 1e-9);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, true, executor)
+                .computeContractionHierarchy();
+        new ContractionHierarchyCustomization<>(hierarchy, executor)
+            .updateEdgeWeights(Map.of(graph.edgeSet().iterator().next(), -1d));
+    }
+
+    private void testUpdates(Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        Random random = new Random(SEED);
+        generateRandomGraph(graph);
+
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, true, executor)
+                .computeContractionHierarchy();
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> dijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+        CHManyToManyShortestPaths<Integer, DefaultWeightedEdge> manyToMany =
+            new CHManyToManyShortestPaths<>(hierarchy);
+        assertShortestPaths(graph, dijkstra, manyToMany);
+
+        ContractionHierarchyCustomization<Integer, DefaultWeightedEdge> customization =
+            new ContractionHierarchyCustomization<>(hierarchy, executor);
+        for (int i = 0; i < 5; i++) {
+            customization.updateEdgeWeights(randomWeights(graph, 1 + i * 10, random));
+            assertShortestPaths(graph, dijkstra, manyToMany);
+        }
+
+        // change all weights
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+        customization.customize();
+        assertShortestPaths(graph, dijkstra, manyToMany);
+    }
+
+    private void assertShortestPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> algorithm,
+        ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> manyToManyAlgorithm)
+    {
+        Set<Integer> sources = Set.of(0, 7, 21);
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> manyToMany =
+                manyToManyAlgorithm.getManyToManyPaths(sources, graph.vertexSet());
+        for (Integer source : sources) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(graph).getPaths(source);
+            for (Integer sink : graph.vertexSet()) {
+                GraphPath<Integer, DefaultWeightedEdge> expectedPath = expected.getPath(sink);
+                assertEquals(expectedPath, algorithm.getPath(source, sink));
+                assertEquals(expectedPath.getWeight(), manyToMany.getWeight(source, sink), 1e-9);
+                assertEquals(
+                    expectedPath.getEdgeList(), manyToMany.getPath(source, sink).getEdgeList());
+            }
+        }
+    }
+
+    private Map<DefaultWeightedEdge, Double> randomWeights(
+        Graph<Integer, DefaultWeightedEdge> graph, int count, Random random)
+    {
+        List<DefaultWeightedEdge> edges = new ArrayList<>(graph.edgeSet());
+        Map<DefaultWeightedEdge, Double> weights = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            DefaultWeightedEdge e = edges.get(random.nextInt(edges.size()));
+            // both increases and decreases
+            weights.put(e, graph.getEdgeWeight(e) * 4 * random.nextDouble());
+        }
+        return weights;
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        int numOfVertices = 60;
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(numOfVertices, 150, SEED)
+            .generateGraph(graph);
+        for (int i = 0; i < numOfVertices - 1; ++i) {
+            graph.addEdge(i, i + 1);
+            graph.addEdge(i + 1, i);
+        }
+        Random random = new Random(SEED);
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ContractionHierarchySerializer}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ContractionHierarchySerializerTest
+{
+    private static final long SEED = 19L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testContractionHierarchyFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+
+        ContractionHierarchySerializer<Integer, DefaultWeightedEdge> serializer =
+            new ContractionHierarchySerializer<>(graph);
+        Path file = Files.createTempFile("jgrapht", ".ch");
+        try {
+            serializer.writeContractionHierarchy(hierarchy, file);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> loaded =
+                new ContractionHierarchySerializer<>(graph).readContractionHierarchy(file);
+
+            assertSame(graph, loaded.getGraph());
+            assertEquals(
+                hierarchy.getContractionGraph().vertexSet().size(),
+                loaded.getContractionGraph().vertexSet().size());
+            assertEquals(
+                hierarchy.getContractionGraph().edgeSet().size(),
+                loaded.getContractionGraph().edgeSet().size());
+            for (Integer v : graph.vertexSet()) {
+                assertEquals(
+                    hierarchy.getContractionMapping().get(v).contractionLevel,
+                    loaded.getContractionMapping().get(v).contractionLevel);
+            }
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+                new ContractionHierarchyBidirectionalDijkstra<>(loaded);
+            for (Integer source : List.of(0, 17, 42)) {
+                assertEqualPaths(dijkstra.getPaths(source), ch.getPaths(source), graph);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testTransitNodeRouting()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+        TransitNodeRouting<Integer, DefaultWeightedEdge> routing =
+            new TransitNodeRoutingPrecomputation<>(hierarchy, executor).computeTransitNodeRouting();
+
+        ContractionHierarchySerializer<Integer, DefaultWeightedEdge> serializer =
+            new ContractionHierarchySerializer<>(graph);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.writeTransitNodeRouting(routing, out);
+        TransitNodeRouting<Integer, DefaultWeightedEdge> loaded =
+            serializer.readTransitNodeRouting(ByteBuffer.wrap(out.toByteArray()));
+
+        assertEquals(routing.getTransitVertices(), loaded.getTransitVertices());
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> tnr =
+            new TransitNodeRoutingShortestPath<>(loaded);
+        for (Integer source : List.of(0, 17, 42)) {
+            assertEqualPaths(dijkstra.getPaths(source), tnr.getPaths(source), graph);
+        }
+
+        // a transit node routing is not a contraction hierarchy
+        try {
+            serializer.readContractionHierarchy(ByteBuffer.wrap(out.toByteArray()));
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTransitNodeRoutingShortestPathFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500);
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> tnr =
+            new TransitNodeRoutingShortestPath<>(graph, executor);
+
+        Path file = Files.createTempFile("jgrapht", ".tnr");
+        try {
+            tnr.save(file);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> loaded =
+                TransitNodeRoutingShortestPath.load(graph, file);
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            for (Integer source : List.of(0, 17, 42)) {
+                assertEqualPaths(dijkstra.getPaths(source), loaded.getPaths(source), graph);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentGraph()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ContractionHierarchySerializer<>(graph).writeContractionHierarchy(hierarchy, out);
+
+        graph.setEdgeWeight(graph.edgeSet().iterator().next(), 100d);
+        new ContractionHierarchySerializer<>(graph)
+            .readContractionHierarchy(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedData()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+        ContractionHierarchySerializer<Integer, DefaultWeightedEdge> serializer =
+            new ContractionHierarchySerializer<>(graph);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.writeContractionHierarchy(hierarchy, out);
+
+        byte[] data = out.toByteArray();
+        serializer.readContractionHierarchy(ByteBuffer.wrap(data, 0, data.length / 2));
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        int numOfVertices, int numOfEdges)
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            numOfVertices, numOfEdges - numOfVertices + 1, SEED).generateGraph(graph);
+        for (int i = 0; i < numOfVertices - 1; ++i) {
+            graph.addEdge(i, i + 1);
+            graph.addEdge(i + 1, i);
+        }
+        Random random = new Random(SEED);
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+
+    private void assertEqualPaths(
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected,
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> actual,
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        for (Integer sink : graph.vertexSet()) {
+            assertEquals(expected.getPath(sink), actual.getPath(sink));
+        }
+    }
+}
@@ -256,6 +256,36 @@ public class DeltaSteppingShortestPathTest
         }
     }
 
+    @Test
+    public void testLargeGraphs()
+    {
+        Random random = new Random(SEED);
+
+        // road like graph with many buckets
+        Graph<Integer, DefaultWeightedEdge> grid = new DefaultDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(120, 120).generateGraph(grid);
+        addEdgeWeights(grid, random);
+        test(grid, 0);
+
+        // scale free graph with weights spanning several orders of magnitude
+        Graph<Integer, DefaultWeightedEdge> scaleFree = new DefaultDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultWeightedEdge>(5, 3, 20000, SEED)
+            .generateGraph(scaleFree);
+        for (DefaultWeightedEdge edge : scaleFree.edgeSet()) {
+            scaleFree.setEdgeWeight(edge, Math.pow(10, 6 * random.nextDouble() - 3));
+        }
+        test(scaleFree, 0);
+
+        // fixed bucket width
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(grid).getPaths(0);
+        assertEqualPaths(
+            expected, new DeltaSteppingShortestPath<>(grid, 0.05, executor).getPaths(0),
+            grid.vertexSet());
+    }
+
     private void test(Graph<Integer, DefaultWeightedEdge> graph, Integer source)
     {
         ShortestPathAlgorithm.SingleSourcePaths<Integer,
@@ -0,0 +1,39 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Tests for {@link DijkstraManyToManyShortestPaths} using a {@link DijkstraWorkspace}.
+ *
+ * @author Dimitrios Michail
+ */
+public class DijkstraManyToManyShortestPathsWorkspaceTest
+    extends DijkstraManyToManyShortestPathsTest
+{
+
+    @Override
+    protected ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> getAlgorithm(
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        return new DijkstraManyToManyShortestPaths<>(graph, new DijkstraWorkspace<>(graph));
+    }
+}
@@ -19,7 +19,9 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
@@ -161,4 +163,48 @@ public class DijkstraShortestPathTest
         }
     }
 
+    @Test
+    public void testWorkspace()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 120, 3).generateGraph(g);
+        Random rng = new Random(3);
+        g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextDouble()));
+
+        DijkstraWorkspace<Integer, DefaultWeightedEdge> workspace = new DijkstraWorkspace<>(g);
+        for (double radius : new double[] { Double.POSITIVE_INFINITY, 0.5 }) {
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(g, radius);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> actual =
+                new DijkstraShortestPath<>(g, radius, workspace);
+
+            for (Integer v : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                    expected.getPaths(v);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> actualPaths = actual.getPaths(v);
+                for (Integer u : g.vertexSet()) {
+                    GraphPath<Integer, DefaultWeightedEdge> p1 = expected.getPath(v, u);
+                    GraphPath<Integer, DefaultWeightedEdge> p2 = actual.getPath(v, u);
+                    if (p1 == null) {
+                        assertNull(p2);
+                    } else {
+                        assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                        assertEquals(p1.getVertexList(), p2.getVertexList());
+                    }
+                    assertEquals(expectedPaths.getWeight(u), actualPaths.getWeight(u), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWorkspaceOfOtherGraph()
+    {
+        Graph<String, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        Graph<String, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+        new DijkstraShortestPath<>(g1, Double.POSITIVE_INFINITY, new DijkstraWorkspace<>(g2));
+    }
+
 }
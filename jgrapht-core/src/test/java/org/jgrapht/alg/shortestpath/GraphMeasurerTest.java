@@ -19,7 +19,9 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
@@ -265,4 +267,122 @@ public class GraphMeasurerTest
                 64, 66, 67, 69, 70, 71, 83, 89, 90, 95, 98),
             graphPseudoPeriphery3);
     }
+
+    @Test
+    public void testMultiSourceBFSMatchesFloydWarshall()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int m : new int[] { 60, 150, 400 }) {
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new DirectedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new Pseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(80, m, 13).generateGraph(g);
+
+                GraphMeasurer<Integer, DefaultEdge> expected =
+                    new GraphMeasurer<>(g, new FloydWarshallShortestPaths<>(g));
+                GraphMeasurer<Integer, DefaultEdge> actual = new GraphMeasurer<>(g);
+
+                assertEquals(expected.getVertexEccentricityMap(), actual.getVertexEccentricityMap());
+                assertEquals(expected.getDiameter(), actual.getDiameter(), EPSILON);
+                assertEquals(expected.getRadius(), actual.getRadius(), EPSILON);
+                assertEquals(expected.getGraphCenter(), actual.getGraphCenter());
+                assertEquals(expected.getGraphPeriphery(), actual.getGraphPeriphery());
+                assertEquals(expected.getGraphPseudoPeriphery(), actual.getGraphPseudoPeriphery());
+            }
+        }
+    }
+
+    @Test
+    public void testBoundingMatchesFloydWarshall()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean weighted : new boolean[] { true, false }) {
+                for (int m : new int[] { 40, 80, 150, 400 }) {
+                    Graph<Integer, DefaultWeightedEdge> g = (directed
+                        ? GraphTypeBuilder.<Integer, DefaultWeightedEdge> directed()
+                        : GraphTypeBuilder.<Integer, DefaultWeightedEdge> undirected())
+                        .allowingMultipleEdges(true).allowingSelfLoops(true).weighted(weighted)
+                        .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                        .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, m, 5)
+                        .generateGraph(g);
+                    if (weighted) {
+                        g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextInt(4) + 0.5));
+                    }
+
+                    GraphMeasurer<Integer, DefaultWeightedEdge> expected =
+                        new GraphMeasurer<>(g, new FloydWarshallShortestPaths<>(g));
+
+                    GraphMeasurer<Integer, DefaultWeightedEdge> bounding =
+                        new GraphMeasurer<>(g, true);
+                    assertEquals(expected.getDiameter(), bounding.getDiameter(), EPSILON);
+                    assertEquals(expected.getRadius(), bounding.getRadius(), EPSILON);
+                    assertEquals(expected.getGraphCenter(), bounding.getGraphCenter());
+                    assertEquals(expected.getGraphPeriphery(), bounding.getGraphPeriphery());
+                    assertTrue(bounding.getNumberOfTraversals() > 0);
+
+                    bounding = new GraphMeasurer<>(g, true);
+                    Map<Integer, Double> eccentricity = bounding.getVertexEccentricityMap();
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(
+                            expected.getVertexEccentricityMap().get(v), eccentricity.get(v),
+                            EPSILON);
+                    }
+                    assertEquals(expected.getDiameter(), bounding.getDiameter(), EPSILON);
+                    assertEquals(expected.getRadius(), bounding.getRadius(), EPSILON);
+                    assertEquals(
+                        expected.getGraphPseudoPeriphery(), bounding.getGraphPseudoPeriphery());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBoundingFewTraversals()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(5, 3, 2000, 7).generateGraph(g);
+
+        GraphMeasurer<Integer, DefaultEdge> bounding = new GraphMeasurer<>(g, true);
+        GraphMeasurer<Integer, DefaultEdge> expected = new GraphMeasurer<>(g);
+        assertEquals(expected.getDiameter(), bounding.getDiameter(), EPSILON);
+        assertEquals(expected.getRadius(), bounding.getRadius(), EPSILON);
+        assertEquals(expected.getGraphPeriphery(), bounding.getGraphPeriphery());
+        assertEquals(expected.getGraphCenter(), bounding.getGraphCenter());
+        assertTrue(bounding.getNumberOfTraversals() < g.vertexSet().size() / 2);
+    }
+
+    @Test
+    public void testBoundingEmptyAndDisconnected()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        GraphMeasurer<Integer, DefaultEdge> bounding = new GraphMeasurer<>(g, true);
+        assertEquals(0d, bounding.getDiameter(), EPSILON);
+        assertEquals(0d, bounding.getRadius(), EPSILON);
+        assertTrue(bounding.getGraphCenter().isEmpty());
+
+        Graphs.addAllVertices(g, List.of(0, 1, 2));
+        g.addEdge(0, 1);
+        bounding = new GraphMeasurer<>(g, true);
+        assertEquals(Double.POSITIVE_INFINITY, bounding.getDiameter(), EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, bounding.getRadius(), EPSILON);
+        assertEquals(g.vertexSet(), bounding.getGraphCenter());
+        assertEquals(g.vertexSet(), bounding.getGraphPeriphery());
+        assertEquals(1, bounding.getNumberOfTraversals());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundingNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, -1d);
+        new GraphMeasurer<>(g, true);
+    }
 }
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
@@ -25,9 +26,11 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -156,4 +159,118 @@ public class JohnsonShortestPathsTest
 
     }
 
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean negative : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(negative, 17);
+                assertSameAsFloydWarshall(
+                    g, new JohnsonShortestPaths<>(
+                        g, ToleranceDoubleComparator.DEFAULT_EPSILON, executor));
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testLazy()
+    {
+        for (boolean negative : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(negative, 23);
+            // a cache smaller than the number of sources forces recomputations
+            assertSameAsFloydWarshall(
+                g, new JohnsonShortestPaths<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, 3));
+        }
+    }
+
+    @Test
+    public void testLazyConcurrentQueries()
+        throws InterruptedException, ExecutionException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(true, 29);
+        JohnsonShortestPaths<Integer, DefaultWeightedEdge> sp =
+            new JohnsonShortestPaths<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, 3);
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+            new FloydWarshallShortestPaths<>(g);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 5; round++) {
+                        for (Integer v : g.vertexSet()) {
+                            for (Integer u : g.vertexSet()) {
+                                assertEquals(
+                                    fw.getPathWeight(v, u), sp.getPathWeight(v, u), 1e-9);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLazyInvalidCacheSize()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(false, 23);
+        new JohnsonShortestPaths<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, 0);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createRandomGraph(
+        boolean negative, long seed)
+    {
+        final int n = 30;
+        Random rng = new Random(seed);
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeClass(DefaultWeightedEdge.class).weighted(true).allowingMultipleEdges(true)
+            .allowingSelfLoops(true).buildGraph();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 0.2, rng, false)
+            .generateGraph(g);
+
+        // every cycle contains a heavy edge, thus there are no negative cycles
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            double rWeight;
+            if (g.getEdgeSource(e) >= g.getEdgeTarget(e)) {
+                rWeight = (n + 1) + 2 * (n + 1) * rng.nextDouble();
+            } else {
+                rWeight = negative ? rng.nextDouble() - 0.5 : rng.nextDouble();
+            }
+            g.setEdgeWeight(e, rWeight);
+        }
+        return g;
+    }
+
+    private static void assertSameAsFloydWarshall(
+        Graph<Integer, DefaultWeightedEdge> g,
+        JohnsonShortestPaths<Integer, DefaultWeightedEdge> sp)
+    {
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+            new FloydWarshallShortestPaths<>(g);
+        for (Integer v : g.vertexSet()) {
+            for (Integer u : g.vertexSet()) {
+                GraphPath<Integer, DefaultWeightedEdge> expected = fw.getPath(v, u);
+                GraphPath<Integer, DefaultWeightedEdge> actual = sp.getPaths(v).getPath(u);
+                if (expected == null) {
+                    assertNull(actual);
+                    assertTrue(Double.isInfinite(sp.getPathWeight(v, u)));
+                } else {
+                    assertEquals(expected.getWeight(), actual.getWeight(), 1e-9);
+                    assertEquals(expected.getWeight(), sp.getPathWeight(v, u), 1e-9);
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,211 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.drawing.model.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link LandmarkTables}.
+ *
+ * @author Dimitrios Michail
+ */
+public class LandmarkTablesTest
+{
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testGivenLandmarks()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, 17);
+            LandmarkTables<Integer> tables =
+                new LandmarkTables.Builder<>(g).landmarks(List.of(3, 11)).build();
+            assertEquals(List.of(3, 11), tables.getLandmarks());
+            assertEquals(directed, tables.isDirected());
+            assertFalse(tables.isSinglePrecision());
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(
+                    dijkstra.getPathWeight(3, v), tables.getDistanceFromLandmark(3, v), EPSILON);
+                assertEquals(
+                    dijkstra.getPathWeight(v, 11), tables.getDistanceToLandmark(11, v), EPSILON);
+            }
+            assertAdmissible(g, tables);
+        }
+    }
+
+    @Test
+    public void testSelection()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, 5);
+            for (LandmarkTables.Selection selection : LandmarkTables.Selection.values()) {
+                LandmarkTables<Integer> tables = new LandmarkTables.Builder<>(g)
+                    .selection(selection, 6).coordinates(v -> Point2D.of(v % 8, v / 8))
+                    .random(new Random(7)).build();
+                assertEquals(6, new HashSet<>(tables.getLandmarks()).size());
+                assertAdmissible(g, tables);
+            }
+        }
+    }
+
+    @Test
+    public void testSinglePrecisionParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, 23);
+                LandmarkTables<Integer> tables = new LandmarkTables.Builder<>(g)
+                    .selection(LandmarkTables.Selection.AVOID, 8).random(new Random(3))
+                    .singlePrecision(true).executor(executor).build();
+                assertTrue(tables.isSinglePrecision());
+                assertAdmissible(g, tables);
+
+                LandmarkTables<Integer> sequential = new LandmarkTables.Builder<>(g)
+                    .landmarks(tables.getLandmarks()).singlePrecision(true).build();
+                for (Integer l : tables.getLandmarks()) {
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(
+                            sequential.getDistanceToLandmark(l, v),
+                            tables.getDistanceToLandmark(l, v), 0d);
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testWriteRead()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, 31);
+        for (boolean singlePrecision : new boolean[] { true, false }) {
+            LandmarkTables<Integer> tables = new LandmarkTables.Builder<>(g)
+                .selection(LandmarkTables.Selection.FARTHEST, 4).random(new Random(1))
+                .singlePrecision(singlePrecision).build();
+
+            Path file = Files.createTempFile("landmarks", ".bin");
+            try {
+                tables.write(file);
+                LandmarkTables<Integer> read = LandmarkTables.read(g, file);
+                assertEquals(tables.getLandmarks(), read.getLandmarks());
+                assertEquals(singlePrecision, read.isSinglePrecision());
+                for (Integer u : g.vertexSet()) {
+                    for (Integer t : g.vertexSet()) {
+                        assertEquals(
+                            tables.getCostEstimate(u, t), read.getCostEstimate(u, t), 0d);
+                    }
+                }
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadOtherGraph()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, 31);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new LandmarkTables.Builder<>(g).landmarks(List.of(0)).build().write(out);
+
+        DefaultWeightedEdge e = g.edgeSet().iterator().next();
+        g.setEdgeWeight(e, g.getEdgeWeight(e) + 1d);
+        LandmarkTables.read(g, new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadTruncated()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(false, 31);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new LandmarkTables.Builder<>(g).landmarks(List.of(0)).build().write(out);
+        byte[] data = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        LandmarkTables.read(g, new ByteArrayInputStream(data));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, 31);
+        g.setEdgeWeight(g.edgeSet().iterator().next(), -1d);
+        new LandmarkTables.Builder<>(g).landmarks(List.of(0)).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlanarWithoutCoordinates()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(false, 31);
+        new LandmarkTables.Builder<>(g).selection(LandmarkTables.Selection.PLANAR, 2).build();
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(boolean directed, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = (directed
+            ? GraphTypeBuilder.<Integer, DefaultWeightedEdge> directed()
+            : GraphTypeBuilder.<Integer, DefaultWeightedEdge> undirected())
+            .allowingMultipleEdges(true).allowingSelfLoops(true).weighted(true)
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(40, 0.1, seed, true)
+            .generateGraph(g);
+        Random rng = new Random(seed);
+        g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextDouble() * 100));
+        return g;
+    }
+
+    private static void assertAdmissible(
+        Graph<Integer, DefaultWeightedEdge> g, LandmarkTables<Integer> tables)
+    {
+        AStarAdmissibleHeuristic<Integer> h = new ALTAdmissibleHeuristic<>(tables);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(g);
+        AStarShortestPath<Integer, DefaultWeightedEdge> astar = new AStarShortestPath<>(g, h);
+        for (Integer u : g.vertexSet()) {
+            for (Integer t : g.vertexSet()) {
+                double estimate = h.getCostEstimate(u, t);
+                double distance = dijkstra.getPathWeight(u, t);
+                assertTrue(estimate >= 0d);
+                assertTrue(estimate <= distance + EPSILON);
+                assertEquals(distance, astar.getPathWeight(u, t), EPSILON);
+            }
+        }
+    }
+}
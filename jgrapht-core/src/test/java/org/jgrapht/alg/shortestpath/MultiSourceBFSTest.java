@@ -0,0 +1,176 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MultiSourceBFS}
+ *
+ * @author Dimitrios Michail
+ */
+public class MultiSourceBFSTest
+{
+
+    @Test
+    public void testDistancesUndirected()
+    {
+        assertDistances(createGraph(false, 150, 200), false);
+    }
+
+    @Test
+    public void testDistancesDirected()
+    {
+        assertDistances(createGraph(true, 150, 400), false);
+    }
+
+    @Test
+    public void testDistancesDirectedIncoming()
+    {
+        assertDistances(createGraph(true, 150, 400), true);
+    }
+
+    @Test
+    public void testDistanceStatistics()
+    {
+        Graph<Integer, DefaultEdge> g = createGraph(true, 100, 500);
+        MultiSourceBFS<Integer, DefaultEdge>.DistanceStatistics statistics =
+            new MultiSourceBFS<>(g).getDistanceStatistics();
+
+        BFSShortestPath<Integer, DefaultEdge> bfs = new BFSShortestPath<>(g);
+        for (Integer v : g.vertexSet()) {
+            SingleSourcePaths<Integer, DefaultEdge> paths = bfs.getPaths(v);
+            double eccentricity = 0d;
+            double sum = 0d;
+            double inverseSum = 0d;
+            int reached = 0;
+            for (Integer u : g.vertexSet()) {
+                double d = paths.getWeight(u);
+                eccentricity = Math.max(eccentricity, d);
+                sum += d;
+                if (d != Double.POSITIVE_INFINITY) {
+                    reached++;
+                    if (d > 0d) {
+                        inverseSum += 1d / d;
+                    }
+                }
+            }
+            assertEquals(eccentricity, statistics.getEccentricity(v), 0d);
+            assertEquals(sum, statistics.getDistanceSum(v), 0d);
+            assertEquals(inverseSum, statistics.getInverseDistanceSum(v), 1e-9);
+            assertEquals(reached, statistics.getReachableCount(v));
+        }
+    }
+
+    @Test
+    public void testDuplicateSources()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+
+        MultiSourceBFS<Integer, DefaultEdge> bfs = new MultiSourceBFS<>(g);
+        int[] sources = { 0, 0, 2 };
+        int[][] dist = new int[sources.length][3];
+        for (int[] row : dist) {
+            Arrays.fill(row, -1);
+        }
+        bfs.traverse(sources, (offset, vertex, distance, bits) -> {
+            while (bits != 0L) {
+                int s = offset + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                dist[s][vertex] = distance;
+            }
+        });
+
+        int a = bfs.getVertexIndex(0);
+        int b = bfs.getVertexIndex(1);
+        int c = bfs.getVertexIndex(2);
+        assertEquals(0, dist[0][a]);
+        assertEquals(1, dist[0][b]);
+        assertEquals(2, dist[1][c]);
+        assertEquals(-1, dist[2][a]);
+        assertEquals(0, dist[2][c]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new MultiSourceBFS<>(g).getVertexIndex(1);
+    }
+
+    private static Graph<Integer, DefaultEdge> createGraph(boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultEdge> g = directed
+            ? new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+            : new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, 7, true, true).generateGraph(g);
+        return g;
+    }
+
+    private static void assertDistances(Graph<Integer, DefaultEdge> g, boolean incoming)
+    {
+        MultiSourceBFS<Integer, DefaultEdge> msbfs = new MultiSourceBFS<>(g, incoming);
+        int n = msbfs.getVertexCount();
+        int[] sources = new int[n];
+        for (int i = 0; i < n; i++) {
+            sources[i] = i;
+        }
+        int[][] dist = new int[n][n];
+        for (int[] row : dist) {
+            Arrays.fill(row, -1);
+        }
+        msbfs.traverse(sources, (offset, vertex, distance, bits) -> {
+            while (bits != 0L) {
+                int s = offset + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                assertEquals(-1, dist[s][vertex]);
+                dist[s][vertex] = distance;
+            }
+        });
+
+        Graph<Integer, DefaultEdge> h = incoming ? new EdgeReversedGraph<>(g) : g;
+        BFSShortestPath<Integer, DefaultEdge> bfs = new BFSShortestPath<>(h);
+        for (int i = 0; i < n; i++) {
+            SingleSourcePaths<Integer, DefaultEdge> paths = bfs.getPaths(msbfs.getVertex(i));
+            for (int j = 0; j < n; j++) {
+                double expected = paths.getWeight(msbfs.getVertex(j));
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertEquals(-1, dist[i][j]);
+                } else {
+                    assertEquals((int) expected, dist[i][j]);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelBellmanFordShortestPath}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ParallelBellmanFordShortestPathTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testCompareWithBellmanFord()
+    {
+        // large enough for the frontier to be relaxed in parallel
+        for (int n : new int[] { 50, 5000 }) {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, n, 7);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new BellmanFordShortestPath<>(g).getPaths(0);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+                    new ParallelBellmanFordShortestPath<>(g, executor).getPaths(0);
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(v);
+                    if (path == null) {
+                        assertNull(expected.getPath(v));
+                        continue;
+                    }
+                    double weight = 0d;
+                    for (DefaultWeightedEdge e : path.getEdgeList()) {
+                        weight += g.getEdgeWeight(e);
+                    }
+                    assertEquals(actual.getWeight(v), weight, 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeEdges()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, 3000, 11);
+
+        // reweighting with potentials creates negative edges but keeps cycles positive
+        Random rng = new Random(11);
+        Map<Integer, Double> potential = new HashMap<>();
+        for (Integer v : g.vertexSet()) {
+            potential.put(v, 100 * rng.nextDouble());
+        }
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(
+                e, g.getEdgeWeight(e) + potential.get(g.getEdgeSource(e))
+                    - potential.get(g.getEdgeTarget(e)));
+        }
+
+        SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new BellmanFordShortestPath<>(g).getPaths(0);
+        SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+            new ParallelBellmanFordShortestPath<>(g, executor).getPaths(0);
+        for (Integer v : g.vertexSet()) {
+            assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-6);
+        }
+    }
+
+    @Test
+    public void testNegativeCycle()
+    {
+        for (int n : new int[] { 50, 5000 }) {
+            Graph<Integer, DefaultWeightedEdge> g = createGraph(true, n, 13);
+            Graphs.addEdgeWithVertices(g, n / 2, n / 2 + 1, 1d);
+            Graphs.addEdgeWithVertices(g, n / 2 + 1, n / 2 + 2, -2d);
+            Graphs.addEdgeWithVertices(g, n / 2 + 2, n / 2, -2d);
+            Graphs.addEdgeWithVertices(g, 0, n / 2, 1d);
+            try {
+                new ParallelBellmanFordShortestPath<>(g, executor).getPaths(0);
+                fail("Negative cycle not detected");
+            } catch (NegativeCycleDetectedException e) {
+                GraphPath<Integer, DefaultWeightedEdge> cycle =
+                    TypeUtil.uncheckedCast(e.getCycle());
+                assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+                assertTrue(cycle.getWeight() < 0d);
+                double weight = 0d;
+                for (DefaultWeightedEdge edge : cycle.getEdgeList()) {
+                    weight += g.getEdgeWeight(edge);
+                }
+                assertEquals(cycle.getWeight(), weight, 1e-9);
+                // the edges form a walk
+                new GraphWalk<>(g, cycle.getStartVertex(), cycle.getEndVertex(),
+                    cycle.getEdgeList(), weight).verify();
+            }
+        }
+    }
+
+    @Test(expected = NegativeCycleDetectedException.class)
+    public void testUndirectedNegativeEdge()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(false, 20, 17);
+        Graphs.addEdgeWithVertices(g, 0, 1, -1d);
+        new ParallelBellmanFordShortestPath<>(g, executor).getPaths(0);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        boolean directed, int n, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = (directed
+            ? GraphTypeBuilder.<Integer, DefaultWeightedEdge> directed()
+            : GraphTypeBuilder.<Integer, DefaultWeightedEdge> undirected())
+            .allowingMultipleEdges(true).allowingSelfLoops(true).weighted(true)
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 4 * n, seed, true, true)
+            .generateGraph(g);
+        Random rng = new Random(seed);
+        g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextDouble()));
+        return g;
+    }
+}
@@ -24,6 +24,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.assertEquals;
 
@@ -134,6 +135,45 @@ public class YenKShortestPathTest
         }
     }
 
+    @Test
+    public void testLazyOnRandomGraphs()
+        throws InterruptedException
+    {
+        Random random = new Random(SEED);
+        int n = 25;
+        double p = 0.1;
+        int numberOfRandomEdges = 5;
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (int i = 0; i < 40; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = i % 2 == 0
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                getRandomGraph(graph, n, p, random);
+                Integer source = (int) (random.nextDouble() * n);
+                Integer target = (int) (random.nextDouble() * n);
+                Set<DefaultWeightedEdge> randomEdges = getRandomEdges(graph, numberOfRandomEdges);
+                PathValidator<Integer, DefaultWeightedEdge> pathValidator =
+                    i % 4 < 2 ? null : (path, edge) -> !randomEdges.contains(edge);
+
+                List<GraphPath<Integer, DefaultWeightedEdge>> expected =
+                    new YenKShortestPath<>(graph, pathValidator).getPaths(source, target, 100);
+                assertEquals(
+                    expected, new YenKShortestPath<>(graph, pathValidator, null)
+                        .getPaths(source, target, 100));
+                assertEquals(
+                    expected, new YenKShortestPath<>(graph, pathValidator, executor)
+                        .getPaths(source, target, 100));
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     /**
      * Computes all simple shortest paths between {@code source} and {@code target} without
      * {@code pathValidator}. Then computes all shortest paths between {@code source} and
@@ -20,9 +20,11 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
@@ -407,6 +409,58 @@ public class YenShortestPathIteratorTest
         verifyNextPath(iterator, 8.0, false);
     }
 
+    @Test
+    public void testLazySourceEqualsTarget()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        graph.addVertex(1);
+        YenShortestPathIterator<Integer, DefaultWeightedEdge> it =
+            new YenShortestPathIterator<>(graph, 1, 1, null, (ThreadPoolExecutor) null);
+        assertTrue(it.hasNext());
+        verifyNextPath(it, 0.0, false);
+    }
+
+    @Test
+    public void testLazySimpleGraph1()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        readGraph(graph, simpleGraph1);
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            YenShortestPathIterator<Integer, DefaultWeightedEdge> it =
+                new YenShortestPathIterator<>(graph, 1, 12, null, executor);
+
+            assertTrue(it.hasNext());
+            verifyNextPath(it, 55.0, true);
+            verifyNextPath(it, 58.0, true);
+            verifyNextPath(it, 59.0, true);
+            verifyNextPath(it, 61.0, true);
+            verifyNextPath(it, 62.0, true);
+            verifyNextPath(it, 64.0, true);
+            verifyNextPath(it, 65.0, true);
+            verifyNextPath(it, 68.0, true);
+            verifyNextPath(it, 68.0, true);
+            verifyNextPath(it, 71.0, false);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testLazyForbidAll()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        readGraph(graph, pseudograph1);
+        YenShortestPathIterator<Integer, DefaultWeightedEdge> iterator =
+            new YenShortestPathIterator<>(
+                graph, 1, 5, (partialPath, edge) -> false, (ThreadPoolExecutor) null);
+        assertFalse(iterator.hasNext());
+    }
+
     /**
      * Performs assertions to check correctness of the next path which the {@code it} is expected to
      * return.
@@ -0,0 +1,87 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.spanning;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBoruvkaMinimumSpanningTreeTest
+    extends MinimumSpanningTreeTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Override
+    SpanningTreeAlgorithm<DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new ParallelBoruvkaMinimumSpanningTree<>(network, executor);
+    }
+
+    @Test
+    public void testEqualWeightsAndSelfLoops()
+        throws InterruptedException
+    {
+        Random rng = new Random(7);
+        Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(3000, 20000, 7, true, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(5));
+        }
+
+        SpanningTreeAlgorithm.SpanningTree<DefaultWeightedEdge> tree =
+            createSolver(g).getSpanningTree();
+        SpanningTreeAlgorithm.SpanningTree<DefaultWeightedEdge> expected =
+            new KruskalMinimumSpanningTree<>(g).getSpanningTree();
+        assertEquals(expected.getWeight(), tree.getWeight(), 1e-9);
+        assertEquals(expected.getEdges().size(), tree.getEdges().size());
+
+        // the tree does not depend on the parallelism
+        ThreadPoolExecutor single = ConcurrencyUtil.createThreadPoolExecutor(1);
+        try {
+            assertEquals(
+                tree.getEdges(),
+                new ParallelBoruvkaMinimumSpanningTree<>(g, single).getSpanningTree().getEdges());
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(single);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentIntUnionFind}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ConcurrentIntUnionFindTest
+{
+
+    @Test
+    public void testUnionFind()
+    {
+        ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(5);
+        assertEquals(5, uf.size());
+        assertEquals(5, uf.numberOfSets());
+
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.inSameSet(0, 1));
+        assertFalse(uf.inSameSet(1, 2));
+        assertTrue(uf.union(2, 3));
+        assertTrue(uf.union(4, 2));
+        assertFalse(uf.union(3, 4));
+        assertEquals(2, uf.numberOfSets());
+        assertEquals(uf.find(3), uf.find(4));
+        assertTrue(uf.union(0, 4));
+        assertEquals(1, uf.numberOfSets());
+    }
+
+    @Test
+    public void testConcurrentUnions()
+        throws InterruptedException, ExecutionException
+    {
+        int n = 20000;
+        int threads = 4;
+        Random rng = new Random(31);
+        int[][] pairs = new int[3 * n][2];
+        for (int[] pair : pairs) {
+            pair[0] = rng.nextInt(n);
+            pair[1] = rng.nextInt(n);
+        }
+
+        IntUnionFind expected = new IntUnionFind(n);
+        int expectedUnions = 0;
+        for (int[] pair : pairs) {
+            if (expected.union(pair[0], pair[1])) {
+                expectedUnions++;
+            }
+        }
+
+        ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(n);
+        AtomicInteger successfulUnions = new AtomicInteger();
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int first = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = first; i < pairs.length; i += threads) {
+                        if (uf.union(pairs[i][0], pairs[i][1])) {
+                            successfulUnions.incrementAndGet();
+                        }
+                        uf.find(pairs[(i + 1) % pairs.length][0]);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+
+        // every merge is reported exactly once
+        assertEquals(expectedUnions, successfulUnions.get());
+        assertEquals(expected.numberOfSets(), uf.numberOfSets());
+        for (int i = 0; i < n; i++) {
+            int j = rng.nextInt(n);
+            assertEquals(expected.inSameSet(i, j), uf.inSameSet(i, j));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize()
+    {
+        new ConcurrentIntUnionFind(-1);
+    }
+}
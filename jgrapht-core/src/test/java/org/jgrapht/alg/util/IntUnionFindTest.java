@@ -0,0 +1,93 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntUnionFind}.
+ *
+ * @author Dimitrios Michail
+ */
+public class IntUnionFindTest
+{
+
+    @Test
+    public void testUnionFind()
+    {
+        IntUnionFind uf = new IntUnionFind(5);
+        assertEquals(5, uf.size());
+        assertEquals(5, uf.numberOfSets());
+
+        assertTrue(uf.union(0, 1));
+        assertEquals(4, uf.numberOfSets());
+        assertTrue(uf.inSameSet(0, 1));
+        assertFalse(uf.inSameSet(1, 2));
+
+        assertTrue(uf.union(2, 3));
+        assertTrue(uf.union(2, 4));
+        assertEquals(2, uf.numberOfSets());
+        assertFalse(uf.union(3, 4));
+        assertEquals(2, uf.numberOfSets());
+        assertEquals(uf.find(3), uf.find(4));
+
+        assertTrue(uf.union(0, 4));
+        assertEquals(1, uf.numberOfSets());
+
+        uf.reset();
+        assertEquals(5, uf.numberOfSets());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, uf.find(i));
+        }
+    }
+
+    @Test
+    public void testRandomAgainstUnionFind()
+    {
+        int n = 500;
+        Random rng = new Random(17);
+        Set<Integer> elements = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            elements.add(i);
+        }
+        UnionFind<Integer> expected = new UnionFind<>(elements);
+        IntUnionFind uf = new IntUnionFind(n);
+
+        for (int k = 0; k < 2 * n; k++) {
+            int a = rng.nextInt(n);
+            int b = rng.nextInt(n);
+            assertEquals(!expected.inSameSet(a, b), uf.union(a, b));
+            expected.union(a, b);
+            assertEquals(expected.numberOfSets(), uf.numberOfSets());
+
+            int c = rng.nextInt(n);
+            int d = rng.nextInt(n);
+            assertEquals(expected.inSameSet(c, d), uf.inSameSet(c, d));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize()
+    {
+        new IntUnionFind(-1);
+    }
+}
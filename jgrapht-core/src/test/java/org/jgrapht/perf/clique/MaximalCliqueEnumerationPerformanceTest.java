@@ -24,6 +24,7 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
 import org.openjdk.jmh.runner.*;
 import org.openjdk.jmh.runner.options.*;
 
@@ -31,7 +32,7 @@ import java.util.*;
 import java.util.concurrent.*;
 
 /**
- * A small benchmark comparing maximal clique enumeration algorithms.
+ * A small benchmark comparing maximal clique enumeration and maximum clique algorithms.
  * 
  * @author Dimitrios Michail
  */
@@ -42,14 +43,12 @@ public class MaximalCliqueEnumerationPerformanceTest
     public static final double PERF_BENCHMARK_EDGES_PROP = 0.8;
 
     @State(Scope.Benchmark)
-    private static abstract class RandomGraphBenchmarkBase
+    private static abstract class RandomGraphBase
     {
         public static final long SEED = 13l;
 
         private GraphGenerator<Integer, DefaultEdge, Integer> generator = null;
-        private Graph<Integer, DefaultEdge> graph;
-
-        abstract Iterable<Set<Integer>> createSolver(Graph<Integer, DefaultEdge> graph);
+        protected Graph<Integer, DefaultEdge> graph;
 
         @Setup(Level.Iteration)
         public void setup()
@@ -65,14 +64,29 @@ public class MaximalCliqueEnumerationPerformanceTest
 
             generator.generateGraph(graph);
         }
+    }
+
+    private static abstract class RandomGraphBenchmarkBase
+        extends RandomGraphBase
+    {
+        abstract Iterable<Set<Integer>> createSolver(Graph<Integer, DefaultEdge> graph);
 
         @Benchmark
-        public void run()
+        public void run(Blackhole blackhole)
         {
-            Iterator<Set<Integer>> it = createSolver(graph).iterator();
-            while (it.hasNext()) {
-                it.next();
-            }
+            createSolver(graph).forEach(blackhole::consume);
+        }
+    }
+
+    private static abstract class MaximumCliqueBenchmarkBase
+        extends RandomGraphBase
+    {
+        abstract Set<Integer> findMaximumClique(Graph<Integer, DefaultEdge> graph);
+
+        @Benchmark
+        public Set<Integer> run()
+        {
+            return findMaximumClique(graph);
         }
     }
 
@@ -106,6 +120,46 @@ public class MaximalCliqueEnumerationPerformanceTest
         }
     }
 
+    public static class BitsetBronKerboschRandomGraphBenchmark
+        extends RandomGraphBenchmarkBase
+    {
+        @Override
+        Iterable<Set<Integer>> createSolver(Graph<Integer, DefaultEdge> graph)
+        {
+            return new BitsetBronKerboschCliqueFinder<>(graph);
+        }
+    }
+
+    public static class ParallelBitsetBronKerboschRandomGraphBenchmark
+        extends RandomGraphBenchmarkBase
+    {
+        @Override
+        Iterable<Set<Integer>> createSolver(Graph<Integer, DefaultEdge> graph)
+        {
+            return new BitsetBronKerboschCliqueFinder<>(graph, ForkJoinPool.commonPool());
+        }
+    }
+
+    public static class DegeneracyBronKerboschMaximumCliqueBenchmark
+        extends MaximumCliqueBenchmarkBase
+    {
+        @Override
+        Set<Integer> findMaximumClique(Graph<Integer, DefaultEdge> graph)
+        {
+            return new DegeneracyBronKerboschCliqueFinder<>(graph).maximumIterator().next();
+        }
+    }
+
+    public static class BitsetMaxCliqueBenchmark
+        extends MaximumCliqueBenchmarkBase
+    {
+        @Override
+        Set<Integer> findMaximumClique(Graph<Integer, DefaultEdge> graph)
+        {
+            return new BitsetMaxCliqueFinder<>(graph).getClique();
+        }
+    }
+
     @Test
     public void testMaximalCliqueRandomGraphBenchmark()
         throws RunnerException
@@ -114,6 +168,23 @@ public class MaximalCliqueEnumerationPerformanceTest
             .include(".*" + BronKerboschRandomGraphBenchmark.class.getSimpleName() + ".*")
             .include(".*" + PivotBronKerboschRandomGraphBenchmark.class.getSimpleName() + ".*")
             .include(".*" + DegeneracyBronKerboschRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + BitsetBronKerboschRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .include(
+                ".*" + ParallelBitsetBronKerboschRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.SingleShotTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(5)
+            .measurementIterations(10).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+    @Test
+    public void testMaximumCliqueRandomGraphBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(
+                ".*" + DegeneracyBronKerboschMaximumCliqueBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + BitsetMaxCliqueBenchmark.class.getSimpleName() + ".*")
             .mode(Mode.SingleShotTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(5)
             .measurementIterations(10).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
 
@@ -100,6 +100,17 @@ public class MaximumFlowAlgorithmPerformanceTest
         }
     }
 
+    public static class HighestLabelPushRelabelMaximumFlowRandomGraphBenchmark
+        extends RandomGraphBenchmarkBase
+    {
+        @Override
+        MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> network)
+        {
+            return new HighestLabelPushRelabelMFImpl<>(network);
+        }
+    }
+
     public static class DinicMaximumFlowRandomGraphBenchmark
         extends RandomGraphBenchmarkBase
     {
@@ -120,6 +131,9 @@ public class MaximumFlowAlgorithmPerformanceTest
             .include(".*" + EdmondsKarpMaximumFlowRandomGraphBenchmark.class.getSimpleName() + ".*")
             .include(".*" + PushRelabelMaximumFlowRandomGraphBenchmark.class.getSimpleName() + ".*")
             .include(".*" + DinicMaximumFlowRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .include(
+                ".*" + HighestLabelPushRelabelMaximumFlowRandomGraphBenchmark.class.getSimpleName()
+                    + ".*")
 
             .mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).warmupTime(TimeValue.seconds(1))
             .warmupIterations(3).measurementTime(TimeValue.seconds(1)).measurementIterations(5)
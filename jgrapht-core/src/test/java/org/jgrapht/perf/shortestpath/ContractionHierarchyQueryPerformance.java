@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A benchmark measuring the query throughput of a single
+ * {@link ContractionHierarchyBidirectionalDijkstra} instance which is shared by a growing number
+ * of threads. Each invocation answers a fixed batch of random queries, split evenly among the
+ * threads.
+ *
+ * @author Dimitrios Michail
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 8, time = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContractionHierarchyQueryPerformance
+{
+    private static final long SEED = 17;
+
+    @Benchmark
+    public double testConcurrentQueries(QueryState data)
+        throws InterruptedException, ExecutionException
+    {
+        ExecutorCompletionService<Double> completionService =
+            new ExecutorCompletionService<>(data.executor);
+        int numOfQueries = data.sources.length;
+        for (int t = 0; t < data.threads; t++) {
+            int start = t * numOfQueries / data.threads;
+            int end = (t + 1) * numOfQueries / data.threads;
+            completionService.submit(() -> {
+                double sum = 0d;
+                for (int i = start; i < end; i++) {
+                    sum += data.algorithm.getPathWeight(data.sources[i], data.sinks[i]);
+                }
+                return sum;
+            });
+        }
+        double sum = 0d;
+        for (int t = 0; t < data.threads; t++) {
+            sum += completionService.take().get();
+        }
+        return sum;
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueryState
+    {
+        @Param({ "10000" })
+        int numOfVertices;
+        @Param({ "3" })
+        int edgeDegree;
+        @Param({ "1000" })
+        int numOfQueries;
+        @Param({ "1", "2", "4", "8", "16" })
+        int threads;
+
+        ThreadPoolExecutor executor;
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> algorithm;
+        Integer[] sources;
+        Integer[] sinks;
+
+        @Setup(Level.Trial)
+        public void setup()
+            throws InterruptedException
+        {
+            DefaultUndirectedWeightedGraph<Integer, DefaultWeightedEdge> graph =
+                new DefaultUndirectedWeightedGraph<>(DefaultWeightedEdge.class);
+            graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                numOfVertices, numOfVertices * edgeDegree, SEED).generateGraph(graph);
+            Random random = new Random(SEED);
+            for (int i = 0; i < numOfVertices - 1; i++) {
+                graph.addEdge(i, i + 1);
+            }
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, random.nextDouble());
+            }
+
+            ThreadPoolExecutor precomputationExecutor = ConcurrencyUtil
+                .createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchyPrecomputation<>(graph, precomputationExecutor)
+                    .computeContractionHierarchy();
+            ConcurrencyUtil.shutdownExecutionService(precomputationExecutor);
+            algorithm = new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+
+            sources = new Integer[numOfQueries];
+            sinks = new Integer[numOfQueries];
+            for (int i = 0; i < numOfQueries; i++) {
+                sources[i] = random.nextInt(numOfVertices);
+                sinks[i] = random.nextInt(numOfVertices);
+            }
+
+            executor = ConcurrencyUtil.createThreadPoolExecutor(threads);
+        }
+
+        @TearDown(Level.Trial)
+        public void shutdownExecutor()
+            throws InterruptedException
+        {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A benchmark measuring how {@link DeltaSteppingShortestPath} scales with the number of threads,
+ * compared to {@link DijkstraShortestPath}, on a road like grid graph and on a scale free graph.
+ *
+ * @author Dimitrios Michail
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 8, time = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeltaSteppingScalabilityPerformance
+{
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testDeltaStepping(
+        ParallelGraphState data)
+    {
+        return new DeltaSteppingShortestPath<>(data.graph, data.executor).getPaths(0);
+    }
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testDijkstra(
+        GraphState data)
+    {
+        return new DijkstraShortestPath<>(data.graph).getPaths(0);
+    }
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "road", "scalefree" })
+        String type;
+        @Param({ "250000" })
+        int numOfVertices;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup
+        public void setup()
+        {
+            graph = new DefaultUndirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            Random rng = new Random(17);
+            if (type.equals("road")) {
+                // a grid with travel times proportional to random segment lengths
+                int side = (int) Math.sqrt(numOfVertices);
+                new GridGraphGenerator<Integer, DefaultWeightedEdge>(side, side)
+                    .generateGraph(graph);
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, 1 + 99 * rng.nextDouble());
+                }
+            } else {
+                new BarabasiAlbertGraphGenerator<Integer, DefaultWeightedEdge>(
+                    4, 4, numOfVertices, rng).generateGraph(graph);
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, rng.nextDouble());
+                }
+            }
+        }
+    }
+
+    /**
+     * The graph together with an executor, for the parallel algorithm. The sequential baseline
+     * uses {@link GraphState} so that it is not measured once per number of threads.
+     */
+    @State(Scope.Benchmark)
+    public static class ParallelGraphState
+        extends GraphState
+    {
+        @Param({ "1", "2", "4", "8", "16", "32" })
+        int threads;
+
+        ThreadPoolExecutor executor;
+
+        @Setup
+        public void createExecutor()
+        {
+            executor = ConcurrencyUtil.createThreadPoolExecutor(threads);
+        }
+
+        @TearDown
+        public void shutdownExecutor()
+            throws InterruptedException
+        {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+}
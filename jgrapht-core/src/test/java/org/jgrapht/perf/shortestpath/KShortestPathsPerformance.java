@@ -45,6 +45,15 @@ public class KShortestPathsPerformance
         return computeResult(new YenKShortestPath<>(state.graph, state.pathValidator), state);
     }
 
+    @Benchmark
+    public List<List<GraphPath<Integer, DefaultWeightedEdge>>> testLazyYenKShortestPaths(
+        YenState state, ExecutorState executorState)
+    {
+        return computeResult(
+            new YenKShortestPath<>(state.graph, state.pathValidator, executorState.executor),
+            state);
+    }
+
     @Benchmark
     public List<List<GraphPath<Integer, DefaultWeightedEdge>>> testEppsteinKShortestPaths(
         RandomGraphState state)
@@ -185,4 +194,26 @@ public class KShortestPathsPerformance
             return result;
         }
     }
+
+    @State(Scope.Benchmark)
+    public static class ExecutorState
+    {
+        @Param({ "1", "4", "8" })
+        int threads;
+
+        ThreadPoolExecutor executor;
+
+        @Setup
+        public void createExecutor()
+        {
+            executor = ConcurrencyUtil.createThreadPoolExecutor(threads);
+        }
+
+        @TearDown
+        public void shutdownExecutor()
+            throws InterruptedException
+        {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
 }
@@ -47,6 +47,22 @@ public class MinimumSpanningTreePerformanceTest
     private static final int REPEAT = 10;
     private static final long SEED = 13L;
 
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
     private static abstract class BenchmarkBase
     {
         protected Random rng = new Random(SEED);
@@ -167,6 +183,23 @@ public class MinimumSpanningTreePerformanceTest
         }
     }
 
+    public static class ParallelBoruvkaBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        SpanningTreeAlgorithm<DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return new ParallelBoruvkaMinimumSpanningTree<>(graph, executor);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Parallel Boruvka";
+        }
+    }
+
     @Test
     public void testBenchmarkDenseGraphs()
     {
@@ -182,6 +215,7 @@ public class MinimumSpanningTreePerformanceTest
         algFactory.add(PrimBenchmark::new);
         algFactory.add(KruskalBenchmark::new);
         algFactory.add(BoruvkaBenchmark::new);
+        algFactory.add(ParallelBoruvkaBenchmark::new);
 
         for (Supplier<BenchmarkBase> alg : algFactory) {
 
@@ -231,6 +265,7 @@ public class MinimumSpanningTreePerformanceTest
         algFactory.add(PrimBenchmark::new);
         algFactory.add(KruskalBenchmark::new);
         algFactory.add(BoruvkaBenchmark::new);
+        algFactory.add(ParallelBoruvkaBenchmark::new);
 
         for (Supplier<BenchmarkBase> alg : algFactory) {
 
@@ -1,5 +1,6 @@
 module org.jgrapht.opt
 {
+    exports org.jgrapht.opt.alg.shortestpath;
     exports org.jgrapht.opt.graph.fastutil;
     exports org.jgrapht.opt.graph.sparse;
 
@@ -0,0 +1,138 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * An indexed binary heap. The position of each element in the heap is kept in an array and thus
+ * decreasing a key requires no auxiliary objects.
+ *
+ * @author Dimitrios Michail
+ */
+class IndexedBinaryHeap
+    implements
+    IndexedHeap
+{
+    private final int[] heap;
+    private final int[] position;
+    private final double[] key;
+    private int size;
+
+    /**
+     * Create a new heap.
+     *
+     * @param n the number of possible elements
+     */
+    IndexedBinaryHeap(int n)
+    {
+        this.heap = new int[n];
+        this.position = new int[n];
+        Arrays.fill(position, -1);
+        this.key = new double[n];
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public void insert(int v, double k)
+    {
+        key[v] = k;
+        heap[size] = v;
+        position[v] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public void decreaseKey(int v, double k)
+    {
+        key[v] = k;
+        siftUp(position[v]);
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        int min = heap[0];
+        position[min] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int v = heap[i];
+        double k = key[v];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if (key[p] <= k) {
+                break;
+            }
+            heap[i] = p;
+            position[p] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int v = heap[i];
+        double k = key[v];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int c = heap[child];
+            int right = child + 1;
+            if (right < size && key[heap[right]] < key[c]) {
+                child = right;
+                c = heap[child];
+            }
+            if (k <= key[c]) {
+                break;
+            }
+            heap[i] = c;
+            position[c] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+/**
+ * An addressable min-heap over the integers $0$ to $n-1$ with {@code double} keys.
+ *
+ * <p>
+ * Implementations allocate all their memory during construction and can be reused after calling
+ * {@link #clear()}.
+ *
+ * @author Dimitrios Michail
+ */
+interface IndexedHeap
+{
+    /**
+     * Whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Insert an element which is not already in the heap.
+     *
+     * @param v the element
+     * @param key the key
+     */
+    void insert(int v, double key);
+
+    /**
+     * Decrease the key of an element which is in the heap.
+     *
+     * @param v the element
+     * @param key the new key
+     */
+    void decreaseKey(int v, double key);
+
+    /**
+     * Remove and return an element with minimum key.
+     *
+     * @return an element with minimum key
+     */
+    int deleteMin();
+
+    /**
+     * Remove all elements. Runs in time proportional to the number of elements in the heap.
+     */
+    void clear();
+
+}
@@ -0,0 +1,172 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * An indexed radix heap for non-negative integer keys.
+ *
+ * <p>
+ * The heap is monotone, meaning that a key smaller than the last key returned by
+ * {@link #deleteMin()} must never be inserted. This is the case in Dijkstra's algorithm with
+ * non-negative edge weights. For more details see: Ravindra K. Ahuja, Kurt Mehlhorn, James Orlin,
+ * and Robert E. Tarjan. Faster algorithms for the shortest path problem. Journal of the ACM,
+ * 37(2):213–223, 1990.
+ *
+ * <p>
+ * Elements are kept in $65$ buckets. Bucket $0$ contains the elements whose key equals the last
+ * deleted minimum and bucket $i &gt; 0$ the elements whose key differs from it in bit $i-1$ as the
+ * most significant bit. Buckets are doubly linked lists stored in arrays indexed by the element,
+ * thus decreasing a key is a constant time operation and the heap allocates no memory after its
+ * construction.
+ *
+ * @author Dimitrios Michail
+ */
+class IndexedRadixHeap
+    implements
+    IndexedHeap
+{
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] bucketOf;
+    private final long[] key;
+    private long last;
+    private int size;
+
+    /**
+     * Create a new heap.
+     *
+     * @param n the number of possible elements
+     */
+    IndexedRadixHeap(int n)
+    {
+        this.head = new int[BUCKETS];
+        Arrays.fill(head, -1);
+        this.next = new int[n];
+        this.prev = new int[n];
+        this.bucketOf = new int[n];
+        Arrays.fill(bucketOf, -1);
+        this.key = new long[n];
+        this.last = 0L;
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public void insert(int v, double k)
+    {
+        key[v] = (long) k;
+        add(v, bucket(key[v]));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int v, double k)
+    {
+        remove(v);
+        key[v] = (long) k;
+        add(v, bucket(key[v]));
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (head[0] == -1) {
+            int i = 1;
+            while (head[i] == -1) {
+                i++;
+            }
+
+            // find new minimum
+            long min = Long.MAX_VALUE;
+            for (int v = head[i]; v != -1; v = next[v]) {
+                min = Math.min(min, key[v]);
+            }
+            last = min;
+
+            // redistribute to smaller buckets
+            int v = head[i];
+            head[i] = -1;
+            while (v != -1) {
+                int w = next[v];
+                add(v, bucket(key[v]));
+                v = w;
+            }
+        }
+
+        int min = head[0];
+        remove(min);
+        bucketOf[min] = -1;
+        size--;
+        return min;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < BUCKETS; i++) {
+            for (int v = head[i]; v != -1; v = next[v]) {
+                bucketOf[v] = -1;
+            }
+            head[i] = -1;
+        }
+        last = 0L;
+        size = 0;
+    }
+
+    private int bucket(long k)
+    {
+        return k == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(k ^ last);
+    }
+
+    private void add(int v, int b)
+    {
+        int h = head[b];
+        next[v] = h;
+        prev[v] = -1;
+        if (h != -1) {
+            prev[h] = v;
+        }
+        head[b] = v;
+        bucketOf[v] = b;
+    }
+
+    private void remove(int v)
+    {
+        int p = prev[v];
+        int n = next[v];
+        if (p == -1) {
+            head[bucketOf[v]] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != -1) {
+            prev[n] = p;
+        }
+    }
+
+}
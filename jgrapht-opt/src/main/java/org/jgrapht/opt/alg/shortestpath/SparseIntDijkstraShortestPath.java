@@ -0,0 +1,396 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.graph.sparse.*;
+
+import java.util.*;
+
+/**
+ * Dijkstra shortest path implementation which operates directly on the Compressed Sparse Rows
+ * representation of {@link SparseIntDirectedWeightedGraph} and
+ * {@link SparseIntUndirectedWeightedGraph}.
+ *
+ * <p>
+ * Vertices are never boxed during a search. Distances are kept in a {@code double[]} array,
+ * predecessor edges in an {@code int[]} array, and the priority queue is either an indexed binary
+ * heap or, for graphs whose edge weights are non-negative integers, a radix heap. All auxiliary
+ * arrays are allocated once during construction and reused by all subsequent searches. Resetting
+ * them costs time proportional to the number of vertices touched by the previous search, thus
+ * repeated point-to-point queries do not allocate memory and do not pay $O(n)$ per query.
+ *
+ * <p>
+ * Besides the {@link ShortestPathAlgorithm} interface, the class provides a primitive interface.
+ * Method {@link #search(int, int)} or {@link #search(int)} performs a search and the results can be
+ * read using {@link #getDistance(int)} and {@link #getPredecessorEdge(int)} until the next search.
+ *
+ * <p>
+ * The current edge weights of the graph are read on every search, so the weights can be changed
+ * between searches. Edge weights must be non-negative, otherwise an
+ * {@link IllegalArgumentException} is thrown when a negative weight edge is scanned.
+ *
+ * <p>
+ * This class is not thread-safe since all searches share the same auxiliary arrays. Use a separate
+ * instance per thread.
+ *
+ * @author Dimitrios Michail
+ */
+public class SparseIntDijkstraShortestPath
+    implements
+    ShortestPathAlgorithm<Integer, Integer>
+{
+    /**
+     * The type of heap used by the algorithm.
+     */
+    public enum HeapType
+    {
+        /**
+         * An indexed binary heap. Supports any non-negative edge weights.
+         */
+        BINARY,
+        /**
+         * A radix heap. Requires edge weights which are non-negative integers and is usually
+         * faster when the range of the weights is small.
+         */
+        RADIX
+    }
+
+    private static final String GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX =
+        "Graph must contain the source vertex!";
+    private static final String GRAPH_MUST_CONTAIN_THE_SINK_VERTEX =
+        "Graph must contain the sink vertex!";
+
+    private final Graph<Integer, Integer> graph;
+    private final int n;
+    private final int[] offsets;
+    private final int[] edges;
+    private final int[] heads;
+    private final double[] weights;
+    private final boolean integerWeights;
+
+    private final double[] distance;
+    private final int[] predecessor;
+    private final int[] touched;
+    private int touchedCount;
+    private final IndexedHeap heap;
+
+    /**
+     * Create a new instance using a binary heap.
+     *
+     * @param graph the input graph
+     */
+    public SparseIntDijkstraShortestPath(SparseIntDirectedWeightedGraph graph)
+    {
+        this(graph, graph, HeapType.BINARY);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param heapType the type of heap
+     */
+    public SparseIntDijkstraShortestPath(SparseIntDirectedWeightedGraph graph, HeapType heapType)
+    {
+        this(graph, graph, heapType);
+    }
+
+    /**
+     * Create a new instance using a binary heap.
+     *
+     * @param graph the input graph
+     */
+    public SparseIntDijkstraShortestPath(SparseIntUndirectedWeightedGraph graph)
+    {
+        this(graph, graph, HeapType.BINARY);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param heapType the type of heap
+     */
+    public SparseIntDijkstraShortestPath(
+        SparseIntUndirectedWeightedGraph graph, HeapType heapType)
+    {
+        this(graph, graph, heapType);
+    }
+
+    private SparseIntDijkstraShortestPath(
+        Graph<Integer, Integer> graph, CSRWeightedGraph csr, HeapType heapType)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(heapType, "Heap type cannot be null");
+        this.n = graph.vertexSet().size();
+        this.offsets = csr.getOutgoingEdgesOffsets();
+        this.edges = csr.getOutgoingEdgesArray();
+        this.weights = csr.getEdgeWeightsArray();
+
+        /*
+         * The structure of the graph is immutable, thus the opposite endpoint of each entry is
+         * computed once and the inner loop of the search does not touch the edge endpoints.
+         */
+        int[] source = csr.getEdgeSourcesArray();
+        int[] target = csr.getEdgeTargetsArray();
+        this.heads = new int[edges.length];
+        for (int v = 0; v < n; v++) {
+            for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                int e = edges[j];
+                heads[j] = source[e] == v ? target[e] : source[e];
+            }
+        }
+
+        this.distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        this.predecessor = new int[n];
+        Arrays.fill(predecessor, -1);
+        this.touched = new int[n];
+        this.touchedCount = 0;
+
+        switch (heapType) {
+        case RADIX:
+            this.heap = new IndexedRadixHeap(n);
+            this.integerWeights = true;
+            break;
+        case BINARY:
+        default:
+            this.heap = new IndexedBinaryHeap(n);
+            this.integerWeights = false;
+            break;
+        }
+    }
+
+    /**
+     * Compute the shortest paths from a source vertex to all vertices.
+     *
+     * @param source the source vertex
+     * @throws IllegalArgumentException if the source vertex does not exist or a negative edge
+     *         weight is encountered
+     */
+    public void search(int source)
+    {
+        assertVertex(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        run(source, -1);
+    }
+
+    /**
+     * Compute the shortest path from a source vertex to a target vertex. The search stops as soon
+     * as the target is settled, thus afterwards only the distances of the vertices on the shortest
+     * path (and of vertices closer to the source) are final.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @throws IllegalArgumentException if the source or target vertex does not exist or a negative
+     *         edge weight is encountered
+     */
+    public void search(int source, int target)
+    {
+        assertVertex(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        assertVertex(target, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        run(source, target);
+    }
+
+    /**
+     * Get the distance of a vertex from the source of the last search.
+     *
+     * @param v the vertex
+     * @return the distance, or {@link Double#POSITIVE_INFINITY} if the vertex was not reached
+     */
+    public double getDistance(int v)
+    {
+        return distance[v];
+    }
+
+    /**
+     * Get the last edge of the shortest path from the source of the last search to a vertex.
+     *
+     * @param v the vertex
+     * @return the predecessor edge, or $-1$ if the vertex is the source or was not reached
+     */
+    public int getPredecessorEdge(int v)
+    {
+        return predecessor[v];
+    }
+
+    @Override
+    public GraphPath<Integer, Integer> getPath(Integer source, Integer sink)
+    {
+        assertVertex(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        assertVertex(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        run(source, sink);
+        return buildPath(source, sink, distance, predecessor);
+    }
+
+    @Override
+    public double getPathWeight(Integer source, Integer sink)
+    {
+        assertVertex(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        assertVertex(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        run(source, sink);
+        return distance[sink];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned paths own a copy of the distance and predecessor arrays, thus they remain valid
+     * after subsequent searches.
+     */
+    @Override
+    public SingleSourcePaths<Integer, Integer> getPaths(Integer source)
+    {
+        search(source);
+        return new ArraySingleSourcePaths(
+            source, Arrays.copyOf(distance, n), Arrays.copyOf(predecessor, n));
+    }
+
+    private void assertVertex(int v, String message)
+    {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void run(int source, int target)
+    {
+        reset();
+
+        distance[source] = 0d;
+        touched[touchedCount++] = source;
+        heap.insert(source, 0d);
+
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            if (v == target) {
+                break;
+            }
+            double vDistance = distance[v];
+            for (int j = offsets[v], end = offsets[v + 1]; j < end; j++) {
+                int e = edges[j];
+                double w = weights[e];
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                if (integerWeights && w != Math.rint(w)) {
+                    throw new IllegalArgumentException("Radix heap requires integer edge weights");
+                }
+                int u = heads[j];
+                double uDistance = vDistance + w;
+                double old = distance[u];
+                if (uDistance < old) {
+                    distance[u] = uDistance;
+                    predecessor[u] = e;
+                    if (old == Double.POSITIVE_INFINITY) {
+                        touched[touchedCount++] = u;
+                        heap.insert(u, uDistance);
+                    } else {
+                        heap.decreaseKey(u, uDistance);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reset the arrays touched by the last search.
+     */
+    private void reset()
+    {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            distance[v] = Double.POSITIVE_INFINITY;
+            predecessor[v] = -1;
+        }
+        touchedCount = 0;
+        heap.clear();
+    }
+
+    private GraphPath<Integer, Integer> buildPath(
+        int source, int sink, double[] distance, int[] predecessor)
+    {
+        if (source == sink) {
+            return GraphWalk.singletonWalk(graph, source, 0d);
+        }
+        if (predecessor[sink] == -1) {
+            return null;
+        }
+        Deque<Integer> edgeList = new ArrayDeque<>();
+        int cur = sink;
+        while (cur != source) {
+            int e = predecessor[cur];
+            edgeList.addFirst(e);
+            cur = opposite(e, cur);
+        }
+        return new GraphWalk<>(
+            graph, source, sink, null, new ArrayList<>(edgeList), distance[sink]);
+    }
+
+    private int opposite(int e, int v)
+    {
+        int s = graph.getEdgeSource(e);
+        return s == v ? graph.getEdgeTarget(e) : s;
+    }
+
+    private class ArraySingleSourcePaths
+        implements
+        SingleSourcePaths<Integer, Integer>
+    {
+        private final int source;
+        private final double[] distance;
+        private final int[] predecessor;
+
+        ArraySingleSourcePaths(int source, double[] distance, int[] predecessor)
+        {
+            this.source = source;
+            this.distance = distance;
+            this.predecessor = predecessor;
+        }
+
+        @Override
+        public Graph<Integer, Integer> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public Integer getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(Integer sink)
+        {
+            assertVertex(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            return distance[sink];
+        }
+
+        @Override
+        public GraphPath<Integer, Integer> getPath(Integer sink)
+        {
+            assertVertex(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            return buildPath(source, sink, distance, predecessor);
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Shortest path algorithms specialized for the graph representations of this module.
+ */
+package org.jgrapht.opt.alg.shortestpath;
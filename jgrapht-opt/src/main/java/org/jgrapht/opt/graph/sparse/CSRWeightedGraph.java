@@ -0,0 +1,76 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+/**
+ * A weighted sparse graph which provides direct access to its Compressed Sparse Rows (CSR)
+ * representation.
+ *
+ * <p>
+ * This interface is meant for algorithms which need to traverse the graph without boxing vertices
+ * and edges. Vertices are numbered from $0$ to $n-1$ and edges from $0$ to $m-1$. The outgoing
+ * edges of vertex $v$ are stored in positions $[offsets[v], offsets[v+1])$ of
+ * {@link #getOutgoingEdgesArray()}. For undirected graphs the outgoing edges of a vertex are all its
+ * incident edges.
+ *
+ * <p>
+ * All returned arrays are part of the internal representation of the graph. They must not be
+ * modified, except for the weights array which reflects the current edge weights.
+ *
+ * @author Dimitrios Michail
+ */
+public interface CSRWeightedGraph
+{
+    /**
+     * Get the offsets of each vertex in the array returned by {@link #getOutgoingEdgesArray()}.
+     * The array has length $n+1$.
+     *
+     * @return the offsets of the outgoing edges of each vertex
+     */
+    int[] getOutgoingEdgesOffsets();
+
+    /**
+     * Get the outgoing edges of all vertices, grouped by vertex.
+     *
+     * @return the outgoing edges of all vertices
+     */
+    int[] getOutgoingEdgesArray();
+
+    /**
+     * Get the source vertex of each edge, indexed by the edge identifier.
+     *
+     * @return the source vertex of each edge
+     */
+    int[] getEdgeSourcesArray();
+
+    /**
+     * Get the target vertex of each edge, indexed by the edge identifier.
+     *
+     * @return the target vertex of each edge
+     */
+    int[] getEdgeTargetsArray();
+
+    /**
+     * Get the weight of each edge, indexed by the edge identifier. Changing the weight of an edge
+     * using the graph is reflected in this array.
+     *
+     * @return the weight of each edge
+     */
+    double[] getEdgeWeightsArray();
+
+}
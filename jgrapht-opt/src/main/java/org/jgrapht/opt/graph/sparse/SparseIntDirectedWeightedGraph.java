@@ -67,6 +67,7 @@ public class SparseIntDirectedWeightedGraph
     extends
     SparseIntDirectedGraph
     implements
+    CSRWeightedGraph,
     Serializable
 {
     private static final long serialVersionUID = -7601401110000642281L;
@@ -149,4 +150,34 @@ public class SparseIntDirectedWeightedGraph
         weights[e] = weight;
     }
 
+    @Override
+    public int[] getOutgoingEdgesOffsets()
+    {
+        return specifics.getOutgoingEdgesOffsets();
+    }
+
+    @Override
+    public int[] getOutgoingEdgesArray()
+    {
+        return specifics.getOutgoingEdgesArray();
+    }
+
+    @Override
+    public int[] getEdgeSourcesArray()
+    {
+        return specifics.getEdgeSourcesArray();
+    }
+
+    @Override
+    public int[] getEdgeTargetsArray()
+    {
+        return specifics.getEdgeTargetsArray();
+    }
+
+    @Override
+    public double[] getEdgeWeightsArray()
+    {
+        return weights;
+    }
+
 }
@@ -65,6 +65,7 @@ public class SparseIntUndirectedWeightedGraph
     extends
     SparseIntUndirectedGraph
     implements
+    CSRWeightedGraph,
     Serializable
 {
     private static final long serialVersionUID = -5410680356868181247L;
@@ -129,4 +130,34 @@ public class SparseIntUndirectedWeightedGraph
         weights[e] = weight;
     }
 
+    @Override
+    public int[] getOutgoingEdgesOffsets()
+    {
+        return specifics.getOutgoingEdgesOffsets();
+    }
+
+    @Override
+    public int[] getOutgoingEdgesArray()
+    {
+        return specifics.getOutgoingEdgesArray();
+    }
+
+    @Override
+    public int[] getEdgeSourcesArray()
+    {
+        return specifics.getEdgeSourcesArray();
+    }
+
+    @Override
+    public int[] getEdgeTargetsArray()
+    {
+        return specifics.getEdgeTargetsArray();
+    }
+
+    @Override
+    public double[] getEdgeWeightsArray()
+    {
+        return weights;
+    }
+
 }
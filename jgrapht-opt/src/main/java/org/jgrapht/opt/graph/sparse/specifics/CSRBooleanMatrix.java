@@ -133,6 +133,29 @@ class CSRBooleanMatrix
         return rowOffsets[row + 1] - rowOffsets[row];
     }
 
+    /**
+     * Get the row offsets. The non-zero entries of row $i$ are stored in positions $[offsets[i],
+     * offsets[i+1])$ of the column indices array. The returned array is the internal
+     * representation of the matrix and must not be modified.
+     * 
+     * @return the row offsets
+     */
+    public int[] getRowOffsets()
+    {
+        return rowOffsets;
+    }
+
+    /**
+     * Get the column indices of the non-zero entries, sorted by row. The returned array is the
+     * internal representation of the matrix and must not be modified.
+     * 
+     * @return the column indices of the non-zero entries
+     */
+    public int[] getColumnIndices()
+    {
+        return columnIndices;
+    }
+
     /**
      * Get an iterator over the non-zero entries of a row.
      * 
@@ -210,4 +210,28 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         return result;
     }
 
+    @Override
+    public int[] getOutgoingEdgesOffsets()
+    {
+        return incidenceMatrix.getRowOffsets();
+    }
+
+    @Override
+    public int[] getOutgoingEdgesArray()
+    {
+        return incidenceMatrix.getColumnIndices();
+    }
+
+    @Override
+    public int[] getEdgeSourcesArray()
+    {
+        return source;
+    }
+
+    @Override
+    public int[] getEdgeTargetsArray()
+    {
+        return target;
+    }
+
 }
@@ -210,4 +210,28 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
         return result;
     }
 
+    @Override
+    public int[] getOutgoingEdgesOffsets()
+    {
+        return outIncidenceMatrix.getRowOffsets();
+    }
+
+    @Override
+    public int[] getOutgoingEdgesArray()
+    {
+        return outIncidenceMatrix.getColumnIndices();
+    }
+
+    @Override
+    public int[] getEdgeSourcesArray()
+    {
+        return source;
+    }
+
+    @Override
+    public int[] getEdgeTargetsArray()
+    {
+        return target;
+    }
+
 }
@@ -310,6 +310,90 @@ public interface SparseGraphSpecifics
      */
     Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex);
 
+    /**
+     * Get the offsets of each vertex in the array returned by {@link #getOutgoingEdgesArray()}.
+     * The outgoing edges of vertex $v$ are stored in positions $[offsets[v], offsets[v+1])$. For
+     * undirected graphs the outgoing edges of a vertex are all its incident edges.
+     *
+     * <p>
+     * The returned array may be part of the internal representation and must not be modified. The
+     * default implementation builds a new array from {@link #outgoingEdgesOf(Integer)}.
+     * Implementations which store a compressed sparse rows representation should override it and
+     * return their internal array.
+     *
+     * @return the offsets of the outgoing edges of each vertex
+     */
+    default int[] getOutgoingEdgesOffsets()
+    {
+        int n = (int) verticesCount();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + outgoingEdgesOf(v).size();
+        }
+        return offsets;
+    }
+
+    /**
+     * Get the outgoing edges of all vertices, grouped by vertex. See
+     * {@link #getOutgoingEdgesOffsets()}.
+     *
+     * <p>
+     * The returned array may be part of the internal representation and must not be modified. The
+     * default implementation builds a new array from {@link #outgoingEdgesOf(Integer)}.
+     *
+     * @return the outgoing edges of all vertices
+     */
+    default int[] getOutgoingEdgesArray()
+    {
+        int n = (int) verticesCount();
+        int[] edges = new int[getOutgoingEdgesOffsets()[n]];
+        int i = 0;
+        for (int v = 0; v < n; v++) {
+            for (Integer e : outgoingEdgesOf(v)) {
+                edges[i++] = e;
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Get the source vertex of each edge, indexed by the edge identifier.
+     *
+     * <p>
+     * The returned array may be part of the internal representation and must not be modified. The
+     * default implementation builds a new array from {@link #getEdgeSource(Integer)}.
+     *
+     * @return the source vertex of each edge
+     */
+    default int[] getEdgeSourcesArray()
+    {
+        int m = (int) edgesCount();
+        int[] sources = new int[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = getEdgeSource(e);
+        }
+        return sources;
+    }
+
+    /**
+     * Get the target vertex of each edge, indexed by the edge identifier.
+     *
+     * <p>
+     * The returned array may be part of the internal representation and must not be modified. The
+     * default implementation builds a new array from {@link #getEdgeTarget(Integer)}.
+     *
+     * @return the target vertex of each edge
+     */
+    default int[] getEdgeTargetsArray()
+    {
+        int m = (int) edgesCount();
+        int[] targets = new int[m];
+        for (int e = 0; e < m; e++) {
+            targets[e] = getEdgeTarget(e);
+        }
+        return targets;
+    }
+
     /**
      * Ensures that the specified vertex exists in this graph, or else throws exception.
      *
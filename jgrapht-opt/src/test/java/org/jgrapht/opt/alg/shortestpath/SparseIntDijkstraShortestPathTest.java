@@ -0,0 +1,170 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.opt.alg.shortestpath.SparseIntDijkstraShortestPath.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntDijkstraShortestPath}
+ *
+ * @author Dimitrios Michail
+ */
+public class SparseIntDijkstraShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testDirectedBinary()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(200, createEdges(200, 1000, false, 1));
+        assertSameAsDijkstra(g, new SparseIntDijkstraShortestPath(g));
+    }
+
+    @Test
+    public void testUndirectedBinary()
+    {
+        SparseIntUndirectedWeightedGraph g =
+            new SparseIntUndirectedWeightedGraph(200, createEdges(200, 500, false, 2));
+        assertSameAsDijkstra(g, new SparseIntDijkstraShortestPath(g));
+    }
+
+    @Test
+    public void testDirectedRadix()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(200, createEdges(200, 1000, true, 3));
+        assertSameAsDijkstra(g, new SparseIntDijkstraShortestPath(g, HeapType.RADIX));
+    }
+
+    @Test
+    public void testUndirectedRadix()
+    {
+        SparseIntUndirectedWeightedGraph g =
+            new SparseIntUndirectedWeightedGraph(200, createEdges(200, 500, true, 4));
+        assertSameAsDijkstra(g, new SparseIntDijkstraShortestPath(g, HeapType.RADIX));
+    }
+
+    @Test
+    public void testPathsAndReuse()
+    {
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        edges.add(Triple.of(0, 1, 1d));
+        edges.add(Triple.of(1, 2, 1d));
+        edges.add(Triple.of(0, 2, 5d));
+        edges.add(Triple.of(2, 3, 1d));
+        SparseIntDirectedWeightedGraph g = new SparseIntDirectedWeightedGraph(5, edges);
+        SparseIntDijkstraShortestPath sp = new SparseIntDijkstraShortestPath(g);
+
+        GraphPath<Integer, Integer> path = sp.getPath(0, 3);
+        assertEquals(List.of(0, 1, 3), path.getEdgeList());
+        assertEquals(List.of(0, 1, 2, 3), path.getVertexList());
+        assertEquals(3d, path.getWeight(), EPSILON);
+        assertNull(sp.getPath(0, 4));
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight(3, 0), EPSILON);
+        assertEquals(0d, sp.getPath(2, 2).getWeight(), EPSILON);
+
+        // weight changes are visible in the next search
+        g.setEdgeWeight(1, 10d);
+        assertEquals(List.of(2, 3), sp.getPath(0, 3).getEdgeList());
+
+        SingleSourcePaths<Integer, Integer> paths = sp.getPaths(0);
+        sp.search(3);
+        assertEquals(0d, sp.getDistance(3), EPSILON);
+        assertEquals(-1, sp.getPredecessorEdge(3));
+        assertEquals(Double.POSITIVE_INFINITY, sp.getDistance(0), EPSILON);
+
+        // paths are independent of later searches
+        assertEquals(6d, paths.getWeight(3), EPSILON);
+        assertEquals(List.of(2, 3), paths.getPath(3).getEdgeList());
+        assertNull(paths.getPath(4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(2, List.of(Triple.of(0, 1, -1d)));
+        new SparseIntDijkstraShortestPath(g).getPathWeight(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRadixFractionalWeight()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(2, List.of(Triple.of(0, 1, 0.5d)));
+        new SparseIntDijkstraShortestPath(g, HeapType.RADIX).getPathWeight(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSource()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(2, List.of(Triple.of(0, 1, 1d)));
+        new SparseIntDijkstraShortestPath(g).search(2);
+    }
+
+    private static List<Triple<Integer, Integer, Double>> createEdges(
+        int n, int m, boolean integer, long seed)
+    {
+        Random rng = new Random(seed);
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            double w = integer ? rng.nextInt(1000) : rng.nextDouble() * 100d;
+            edges.add(Triple.of(rng.nextInt(n), rng.nextInt(n), w));
+        }
+        return edges;
+    }
+
+    private static void assertSameAsDijkstra(
+        Graph<Integer, Integer> g, SparseIntDijkstraShortestPath sp)
+    {
+        DijkstraShortestPath<Integer, Integer> expected = new DijkstraShortestPath<>(g);
+        Random rng = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            int s = rng.nextInt(g.vertexSet().size());
+            int t = rng.nextInt(g.vertexSet().size());
+            assertEquals(expected.getPathWeight(s, t), sp.getPathWeight(s, t), EPSILON);
+            GraphPath<Integer, Integer> path = sp.getPath(s, t);
+            if (path != null) {
+                assertEquals(expected.getPathWeight(s, t), path.getWeight(), EPSILON);
+                assertEquals(
+                    path.getWeight(),
+                    path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(), EPSILON);
+            }
+        }
+        for (int s = 0; s < 10; s++) {
+            SingleSourcePaths<Integer, Integer> paths = expected.getPaths(s);
+            sp.search(s);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(paths.getWeight(v), sp.getDistance(v), EPSILON);
+            }
+        }
+    }
+
+}
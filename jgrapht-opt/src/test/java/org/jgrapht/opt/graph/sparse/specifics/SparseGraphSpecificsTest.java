@@ -0,0 +1,160 @@
+/*
+ * (C) Copyright 2019-2023, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse.specifics;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseGraphSpecifics}.
+ *
+ * @author Dimitrios Michail
+ */
+public class SparseGraphSpecificsTest
+{
+
+    private static final List<Pair<Integer, Integer>> EDGES = List.of(
+        Pair.of(0, 1), Pair.of(1, 2), Pair.of(2, 0), Pair.of(0, 3), Pair.of(3, 4), Pair.of(4, 0),
+        Pair.of(2, 4));
+
+    @Test
+    public void testDefaultCSRArraysDirected()
+    {
+        SparseGraphSpecifics specifics =
+            new NoIncomingNoReindexSparseDirectedSpecifics(5, EDGES.size(), () -> EDGES.stream());
+        assertDefaultCSRArrays(specifics);
+    }
+
+    @Test
+    public void testDefaultCSRArraysUndirected()
+    {
+        SparseGraphSpecifics specifics =
+            new IncidenceMatrixSparseUndirectedSpecifics(5, EDGES.size(), () -> EDGES.stream());
+        assertDefaultCSRArrays(specifics);
+    }
+
+    private static void assertDefaultCSRArrays(SparseGraphSpecifics specifics)
+    {
+        SparseGraphSpecifics defaults = new DelegatingSpecifics(specifics);
+        assertArrayEquals(
+            specifics.getOutgoingEdgesOffsets(), defaults.getOutgoingEdgesOffsets());
+        assertArrayEquals(specifics.getOutgoingEdgesArray(), defaults.getOutgoingEdgesArray());
+        assertArrayEquals(specifics.getEdgeSourcesArray(), defaults.getEdgeSourcesArray());
+        assertArrayEquals(specifics.getEdgeTargetsArray(), defaults.getEdgeTargetsArray());
+    }
+
+    /**
+     * Specifics which implement only the abstract methods of the interface and thus use the default
+     * implementations of the compressed sparse rows accessors.
+     */
+    private static class DelegatingSpecifics
+        implements
+        SparseGraphSpecifics
+    {
+        private final SparseGraphSpecifics delegate;
+
+        DelegatingSpecifics(SparseGraphSpecifics delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long edgesCount()
+        {
+            return delegate.edgesCount();
+        }
+
+        @Override
+        public long verticesCount()
+        {
+            return delegate.verticesCount();
+        }
+
+        @Override
+        public long degreeOf(Integer vertex)
+        {
+            return delegate.degreeOf(vertex);
+        }
+
+        @Override
+        public Set<Integer> edgesOf(Integer vertex)
+        {
+            return delegate.edgesOf(vertex);
+        }
+
+        @Override
+        public long inDegreeOf(Integer vertex)
+        {
+            return delegate.inDegreeOf(vertex);
+        }
+
+        @Override
+        public Set<Integer> incomingEdgesOf(Integer vertex)
+        {
+            return delegate.incomingEdgesOf(vertex);
+        }
+
+        @Override
+        public long outDegreeOf(Integer vertex)
+        {
+            return delegate.outDegreeOf(vertex);
+        }
+
+        @Override
+        public Set<Integer> outgoingEdgesOf(Integer vertex)
+        {
+            return delegate.outgoingEdgesOf(vertex);
+        }
+
+        @Override
+        public Integer getEdgeSource(Integer e)
+        {
+            return delegate.getEdgeSource(e);
+        }
+
+        @Override
+        public Integer getEdgeTarget(Integer e)
+        {
+            return delegate.getEdgeTarget(e);
+        }
+
+        @Override
+        public GraphType getType()
+        {
+            return delegate.getType();
+        }
+
+        @Override
+        public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+        {
+            return delegate.getEdge(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+        {
+            return delegate.getAllEdges(sourceVertex, targetVertex);
+        }
+    }
+
+}